@@ -0,0 +1,12 @@
+-- JournalRepository.findSummariesByAuthorEmailAfter (커서 첫 페이지 이후, 최근 한 달 내 커서)
+-- created_at < 커서 조건으로 커서보다 새로운 파티션은 제외, 남은 파티션은 인덱스 역순 Merge Append + LIMIT
+\set author random(0, 9999)
+\set days random(0, 30)
+\set cursor_id random(1, 50000000)
+SELECT journal_id, market, symbol, trade_type, quantity, entry_price, realized_pnl, created_at
+FROM journal
+WHERE author_email = 'user' || :author || '@example.com'
+  AND (created_at < now() - make_interval(days => :days)
+       OR (created_at = now() - make_interval(days => :days) AND journal_id < :cursor_id))
+ORDER BY created_at DESC, journal_id DESC
+LIMIT 20;
@@ -0,0 +1,11 @@
+-- JournalRepository.findByAuthorEmailAndDateRange (최근 1~30일, 첫 페이지 20건)
+-- 시작/종료 시각이 바인드 파라미터여도 실행 시점 파티션 제외(runtime pruning)로 최근 1~2개 파티션만 조회
+\set author random(0, 9999)
+\set days random(1, 30)
+SELECT journal_id, author_email, market, symbol, trade_type, quantity, entry_price,
+       stop_loss_price, realized_pnl, created_at, updated_at
+FROM journal
+WHERE author_email = 'user' || :author || '@example.com'
+  AND created_at BETWEEN now() - make_interval(days => :days) AND now()
+ORDER BY created_at DESC
+LIMIT 20;
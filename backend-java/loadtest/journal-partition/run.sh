@@ -0,0 +1,45 @@
+#!/usr/bin/env bash
+# 매매일지 파티셔닝 부하 테스트: 최근 데이터 조회 지연시간 (파티션 vs 일반 테이블)
+# 사용법: PGHOST=... PGUSER=... PGDATABASE=... ./run.sh [rows] [duration_seconds] [clients]
+#   최초 1회 데이터 생성 (50M 행 기준 수십 분 소요): SEED=1 ./run.sh
+set -euo pipefail
+
+ROWS=${1:-50000000}
+DURATION=${2:-60}
+CLIENTS=${3:-16}
+DIR=$(cd "$(dirname "$0")" && pwd)
+OUT=${OUT:-$DIR/results}
+mkdir -p "$OUT"
+
+if [[ "${SEED:-0}" == "1" ]]; then
+    psql -v rows="$ROWS" -f "$DIR/seed.sql"
+fi
+
+for schema in loadtest_partitioned loadtest_flat; do
+    echo "=== $schema: 실행 계획 (파티션 제외 확인: Subplans Removed) ==="
+    PGOPTIONS="-c search_path=$schema" psql -X -q <<'SQL'
+PREPARE recent(text, int) AS
+    SELECT journal_id FROM journal
+    WHERE author_email = $1 AND created_at BETWEEN now() - make_interval(days => $2) AND now()
+    ORDER BY created_at DESC LIMIT 20;
+SET plan_cache_mode = force_generic_plan;
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF) EXECUTE recent('user42@example.com', 7);
+SQL
+
+    echo "=== $schema: pgbench (${CLIENTS} clients, ${DURATION}s, prepared) ==="
+    # -M prepared: JDBC 서버 측 Prepared Statement 와 같은 generic plan 경로 측정
+    PGOPTIONS="-c search_path=$schema" pgbench -n -M prepared -c "$CLIENTS" -j "$CLIENTS" -T "$DURATION" \
+        -r -f "$DIR/recent-range.sql@3" -f "$DIR/recent-cursor.sql@1" \
+        -l --log-prefix="$OUT/$schema-log" \
+        | tee "$OUT/$schema.txt"
+
+    # 트랜잭션 로그(3번째 컬럼: 지연 us)로 p50/p95/p99 계산
+    cat "$OUT/$schema-log".* 2>/dev/null | awk '{print $3}' | sort -n | awk '
+        { v[NR] = $1 }
+        END {
+            if (NR == 0) exit;
+            printf "p50=%.2fms p95=%.2fms p99=%.2fms (n=%d)\n",
+                v[int(NR*0.50)]/1000, v[int(NR*0.95)]/1000, v[int(NR*0.99)]/1000, NR
+        }' | tee -a "$OUT/$schema.txt"
+    rm -f "$OUT/$schema-log".*
+done
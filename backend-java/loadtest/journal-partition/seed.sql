@@ -0,0 +1,69 @@
+-- ========================================
+-- 매매일지 파티셔닝 부하 테스트 데이터 (psql -v rows=50000000 -f seed.sql)
+-- - loadtest_partitioned.journal : 운영과 같은 월별 Range 파티션 + 인덱스 (schema-postgresql.sql 기준)
+-- - loadtest_flat.journal        : 같은 데이터/인덱스의 일반 테이블 (비교 기준)
+-- - 최근 60개월에 걸쳐 균등 분포, 작성자 10,000명, 약 절반은 종료 거래(realized_pnl NOT NULL)
+-- ========================================
+\set ON_ERROR_STOP on
+\if :{?rows}
+\else
+    \set rows 50000000
+\endif
+\set authors 10000
+\set months 60
+
+DROP SCHEMA IF EXISTS loadtest_partitioned CASCADE;
+DROP SCHEMA IF EXISTS loadtest_flat CASCADE;
+CREATE SCHEMA loadtest_partitioned;
+CREATE SCHEMA loadtest_flat;
+
+CREATE TABLE loadtest_partitioned.journal (
+    journal_id      BIGINT        NOT NULL,
+    author_email    VARCHAR(255)  NOT NULL,
+    market          VARCHAR(255)  NOT NULL,
+    symbol          VARCHAR(255)  NOT NULL,
+    trade_type      VARCHAR(255)  NOT NULL,
+    quantity        NUMERIC(38,2) NOT NULL,
+    entry_price     NUMERIC(38,2) NOT NULL,
+    stop_loss_price NUMERIC(38,2),
+    realized_pnl    NUMERIC(38,2),
+    created_at      TIMESTAMP     NOT NULL,
+    updated_at      TIMESTAMP,
+    CONSTRAINT pk_journal PRIMARY KEY (journal_id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE loadtest_partitioned.journal_pdefault PARTITION OF loadtest_partitioned.journal DEFAULT;
+
+SELECT format('CREATE TABLE loadtest_partitioned.%I PARTITION OF loadtest_partitioned.journal FOR VALUES FROM (%L) TO (%L)',
+              'journal_p' || to_char(m, 'YYYYMM'), m::date, (m + interval '1 month')::date)
+FROM generate_series(date_trunc('month', now()) - (:months || ' months')::interval,
+                     date_trunc('month', now()) + interval '3 months',
+                     interval '1 month') AS m
+\gexec
+
+INSERT INTO loadtest_partitioned.journal
+SELECT i,
+       'user' || (i % :authors) || '@example.com',
+       CASE WHEN i % 2 = 0 THEN 'STOCK' ELSE 'CRYPTO' END,
+       'SYM' || (i % 200),
+       CASE WHEN i % 3 = 0 THEN 'SHORT' ELSE 'LONG' END,
+       (i % 100) + 1,
+       100 + (i % 1000) / 10.0,
+       NULL,
+       CASE WHEN i % 2 = 0 THEN ((i % 401) - 200) / 10.0 END,
+       now() - ((:rows - i)::double precision / :rows) * (:months || ' months')::interval,
+       now()
+FROM generate_series(1, :rows) AS i;
+
+CREATE TABLE loadtest_flat.journal AS TABLE loadtest_partitioned.journal;
+ALTER TABLE loadtest_flat.journal ADD CONSTRAINT pk_journal_flat PRIMARY KEY (journal_id);
+
+-- 두 테이블 공통 인덱스 (엔티티 @Index + schema-postgresql.sql 부분 인덱스)
+SELECT format('CREATE INDEX ON %s.journal (author_email, created_at DESC, journal_id DESC)', s),
+       format('CREATE INDEX ON %s.journal (author_email, created_at DESC, journal_id DESC) WHERE realized_pnl IS NULL', s),
+       format('CREATE INDEX ON %s.journal (author_email, created_at DESC, journal_id DESC) WHERE realized_pnl IS NOT NULL', s)
+FROM unnest(ARRAY['loadtest_partitioned', 'loadtest_flat']) AS s
+\gexec
+
+VACUUM ANALYZE loadtest_partitioned.journal;
+VACUUM ANALYZE loadtest_flat.journal;
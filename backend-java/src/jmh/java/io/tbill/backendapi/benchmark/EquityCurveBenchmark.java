@@ -0,0 +1,52 @@
+package io.tbill.backendapi.benchmark;
+
+import io.tbill.backendapi.domain.journal.dto.JournalDto;
+import io.tbill.backendapi.domain.journal.service.EquityCurveCalculator;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 손익 곡선 계산 비용 (DB 조회 제외, 순수 계산 + 다운샘플링)
+ * - 5만 / 50만 종료 거래를 한 번의 순회로 누적하고 500 포인트로 다운샘플링
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=EquityCurveBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EquityCurveBenchmark {
+
+    @Param({"50000", "500000"})
+    private int trades;
+
+    private long[] createdAt;
+    private double[] realizedPnL;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        long start = LocalDateTime.of(2020, 1, 1, 0, 0).toInstant(ZoneOffset.UTC).toEpochMilli();
+        createdAt = new long[trades];
+        realizedPnL = new double[trades];
+        for (int i = 0; i < trades; i++) {
+            createdAt[i] = start + i * 60_000L;
+            realizedPnL[i] = random.nextGaussian() * 100 + 2;
+        }
+    }
+
+    @Benchmark
+    public JournalDto.EquityCurve equityCurve() {
+        EquityCurveCalculator calculator = new EquityCurveCalculator();
+        for (int i = 0; i < trades; i++) {
+            calculator.add(createdAt[i], realizedPnL[i]);
+        }
+        return calculator.result(500);
+    }
+}
@@ -0,0 +1,140 @@
+package io.tbill.backendapi.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.tbill.backendapi.domain.journal.entity.JournalReasoning;
+import io.tbill.backendapi.domain.journal.repository.JournalExportRepository;
+import io.tbill.backendapi.presentation.journal.exporter.JournalExportFormat;
+import io.tbill.backendapi.presentation.journal.exporter.JournalExportWriter;
+import io.tbill.backendapi.presentation.journal.exporter.JournalExportWriterFactory;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 매매일지 내보내기 힙 사용량 벤치마크
+ * - 힙을 64MB로 제한한 채 1천 / 10만 / 100만 행을 CSV(gzip)로 내보냄
+ *   (행을 메모리에 모으는 구현이면 100만 행에서 OutOfMemoryError)
+ * - -prof gc 결과의 gc.alloc.rate.norm은 행 수에 비례하지만(단기 객체) 힙 점유량은 행 수와 무관해야 함
+ * - DB는 H2 파일 모드(PostgreSQL 호환)를 사용하여 데이터 자체는 힙 밖에 둠
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=JournalExportBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx64m", "-XX:+HeapDumpOnOutOfMemoryError"})
+public class JournalExportBenchmark {
+
+    private static final String AUTHOR_EMAIL = "bench@example.com";
+    private static final int INSERT_BATCH_SIZE = 5_000;
+
+    @Param({"1000", "100000", "1000000"})
+    private int rows;
+
+    private JournalExportRepository journalExportRepository;
+    private JournalExportWriterFactory journalExportWriterFactory;
+    private TransactionTemplate transactionTemplate;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SimpleDriverDataSource dataSource = new SimpleDriverDataSource(new org.h2.Driver(),
+                "jdbc:h2:file:./build/jmh-h2/journal-export-v2-" + rows +
+                        ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;LAZY_QUERY_EXECUTION=TRUE",
+                "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        createAndFill(jdbcTemplate);
+
+        journalExportRepository = new JournalExportRepository(jdbcTemplate);
+        journalExportWriterFactory = new JournalExportWriterFactory(
+                new ObjectMapper().registerModule(new JavaTimeModule()));
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transactionTemplate.setReadOnly(true);
+    }
+
+    @Benchmark
+    public long exportCsvGzip(Blackhole blackhole) throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        try (JournalExportWriter writer =
+                     journalExportWriterFactory.create(JournalExportFormat.CSV, out, true)) {
+            transactionTemplate.executeWithoutResult(status ->
+                    journalExportRepository.streamByAuthorEmail(AUTHOR_EMAIL, writer));
+        }
+        blackhole.consume(out.count);
+        return out.count;
+    }
+
+    private void createAndFill(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS journal (" +
+                "journal_id BIGINT PRIMARY KEY, author_email VARCHAR(255) NOT NULL, " +
+                "market VARCHAR(20) NOT NULL, symbol VARCHAR(20) NOT NULL, trade_type VARCHAR(10) NOT NULL, " +
+                "quantity NUMERIC(38, 8) NOT NULL, entry_price NUMERIC(38, 8) NOT NULL, " +
+                "stop_loss_price NUMERIC(38, 8), realized_pnl NUMERIC(38, 8), " +
+                "created_at TIMESTAMP, updated_at TIMESTAMP)");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS journal_reasoning (" +
+                "journal_id BIGINT PRIMARY KEY, encoding VARCHAR(10) NOT NULL, content BYTEA NOT NULL, " +
+                "original_size INTEGER NOT NULL, content_hash VARCHAR(64) NOT NULL)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_journal_author_created " +
+                "ON journal (author_email, created_at, journal_id)");
+
+        Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM journal", Long.class);
+        if (existing != null && existing == rows) {
+            return; // 이전 실행에서 만든 데이터 재사용
+        }
+        jdbcTemplate.execute("TRUNCATE TABLE journal");
+        jdbcTemplate.execute("TRUNCATE TABLE journal_reasoning");
+
+        LocalDateTime start = LocalDateTime.of(2020, 1, 1, 9, 0);
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+        List<Object[]> reasoningBatch = new ArrayList<>(INSERT_BATCH_SIZE);
+        for (int i = 1; i <= rows; i++) {
+            Timestamp createdAt = Timestamp.valueOf(start.plusMinutes(i));
+            batch.add(new Object[]{
+                    (long) i, AUTHOR_EMAIL, i % 2 == 0 ? "STOCK" : "CRYPTO", "SYM" + (i % 50),
+                    i % 3 == 0 ? "SHORT" : "LONG", BigDecimal.valueOf(i % 100 + 1),
+                    BigDecimal.valueOf(10_000 + i % 1_000, 2), null,
+                    i % 4 == 0 ? null : BigDecimal.valueOf(i % 200 - 100, 1),
+                    createdAt, createdAt});
+            JournalReasoning reasoning = JournalReasoning.of((long) i,
+                    "{\"markdown\":\"진입 근거 #" + i + ", 추세 확인\",\"images\":[]}");
+            reasoningBatch.add(new Object[]{
+                    reasoning.getJournalId(), reasoning.getEncoding().name(), reasoning.getContent(),
+                    reasoning.getOriginalSize(), reasoning.getContentHash()});
+
+            if (batch.size() == INSERT_BATCH_SIZE || i == rows) {
+                jdbcTemplate.batchUpdate("INSERT INTO journal VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", batch);
+                jdbcTemplate.batchUpdate("INSERT INTO journal_reasoning VALUES (?, ?, ?, ?, ?)", reasoningBatch);
+                batch.clear();
+                reasoningBatch.clear();
+            }
+        }
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
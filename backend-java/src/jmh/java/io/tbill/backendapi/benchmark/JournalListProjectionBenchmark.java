@@ -0,0 +1,95 @@
+package io.tbill.backendapi.benchmark;
+
+import io.tbill.backendapi.domain.journal.dto.JournalDto;
+import io.tbill.backendapi.domain.journal.entity.Journal;
+import io.tbill.backendapi.domain.journal.entity.MarketType;
+import io.tbill.backendapi.domain.journal.entity.TradeType;
+import io.tbill.backendapi.domain.journal.repository.JournalRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 조회: 엔티티 조회 후 변환 vs 요약 컬럼 Projection
+ * - entityPage: SELECT j -> 영속성 컨텍스트 등록/스냅샷 -> JournalSummary::from
+ * - projectionPage: JournalRepository.SUMMARY_SELECT 생성자 Projection (관리 대상 아님)
+ * - 페이지당 할당량은 -prof gc 의 gc.alloc.rate.norm (B/op) 로 비교
+ * - reasoning 본문은 journal_reasoning 으로 분리되어 두 방식 모두 읽지 않음 (JournalReasoningUpdateBenchmark 참고)
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=JournalListProjectionBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JournalListProjectionBenchmark {
+
+    private static final String AUTHOR_EMAIL = "bench@example.com";
+    private static final int PAGE_SIZE = 20;
+    private static final String WHERE = "FROM Journal j WHERE j.authorEmail = :authorEmail ORDER BY j.id DESC";
+
+    private SessionFactory sessionFactory;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(Journal.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL,
+                        "jdbc:h2:mem:projection;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1")
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, "50")
+                .buildSessionFactory();
+
+        sessionFactory.inTransaction(session -> {
+            for (int i = 0; i < 1_000; i++) {
+                session.persist(Journal.builder()
+                        .authorEmail(AUTHOR_EMAIL)
+                        .market(MarketType.STOCK)
+                        .symbol("AAPL")
+                        .tradeType(TradeType.LONG)
+                        .quantity(BigDecimal.ONE)
+                        .entryPrice(new BigDecimal("100.00"))
+                        .realizedPnL(i % 3 == 0 ? null : BigDecimal.valueOf(i))
+                        .build());
+                if (i % 50 == 0) {
+                    session.flush();
+                    session.clear();
+                }
+            }
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public List<JournalDto.JournalSummary> entityPage() {
+        return sessionFactory.fromSession(session -> session
+                .createSelectionQuery("SELECT j " + WHERE, Journal.class)
+                .setParameter("authorEmail", AUTHOR_EMAIL)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList()
+                .stream()
+                .map(JournalDto.JournalSummary::from)
+                .toList());
+    }
+
+    @Benchmark
+    public List<JournalDto.JournalSummary> projectionPage() {
+        return sessionFactory.fromSession(session -> session
+                .createSelectionQuery(JournalRepository.SUMMARY_SELECT + WHERE, JournalDto.JournalSummary.class)
+                .setParameter("authorEmail", AUTHOR_EMAIL)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList());
+    }
+}
@@ -0,0 +1,111 @@
+package io.tbill.backendapi.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.tbill.backendapi.domain.journal.event.JournalChangedEvent;
+import io.tbill.backendapi.domain.journal.repository.JournalOutboxRepository;
+import io.tbill.backendapi.infrastructure.kafka.service.JournalOutboxRelay;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outbox 릴레이 지속 처리량 (events/s)
+ * - 매 호출마다 EVENTS개 이벤트를 journal_outbox에 쌓아두고 relayBatch를 비워질 때까지 반복
+ *   (잠금 조회 -> JSON 직렬화 -> 전송 -> ack 대기 -> 삭제 -> 커밋)
+ * - Kafka는 즉시 ack 하는 MockProducer로 대체하여 DB/직렬화 측 비용만 측정 (브로커 왕복 제외)
+ * - maxBatchSize: 배치가 클수록 트랜잭션/DELETE 횟수가 줄어 처리량 증가, 대신 실패 시 재전송량 증가
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=JournalOutboxRelayBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JournalOutboxRelayBenchmark {
+
+    private static final int EVENTS = 5_000;
+    private static final int AUTHORS = 50;
+
+    @Param({"50", "500"})
+    private int maxBatchSize;
+
+    private JournalOutboxRepository journalOutboxRepository;
+    private JournalOutboxRelay journalOutboxRelay;
+    private NonClosingMockProducer producer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SimpleDriverDataSource dataSource = new SimpleDriverDataSource(new org.h2.Driver(),
+                "jdbc:h2:mem:journal-outbox;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "sa", "");
+        new JdbcTemplate(dataSource).execute("CREATE TABLE IF NOT EXISTS journal_outbox (" +
+                "event_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, " +
+                "author_email VARCHAR(255) NOT NULL, change_type VARCHAR(10) NOT NULL, " +
+                "journal_ids TEXT NOT NULL, created_at TIMESTAMP NOT NULL)");
+
+        producer = new NonClosingMockProducer();
+        journalOutboxRepository = new JournalOutboxRepository(new NamedParameterJdbcTemplate(dataSource));
+        journalOutboxRelay = new JournalOutboxRelay(
+                journalOutboxRepository,
+                new KafkaTemplate<>(() -> producer),
+                new ObjectMapper().registerModule(new JavaTimeModule()),
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)),
+                new SimpleMeterRegistry(),
+                maxBatchSize,
+                Duration.ofSeconds(30));
+    }
+
+    @Setup(Level.Invocation)
+    public void fillOutbox() {
+        producer.clear();
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < EVENTS; i++) {
+            journalOutboxRepository.insert(new JournalChangedEvent("author" + (i % AUTHORS) + "@example.com",
+                    JournalChangedEvent.ChangeType.UPDATED, List.of((long) i)), now);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public int relay() {
+        int published = 0;
+        int batch;
+        while ((batch = journalOutboxRelay.relayBatch()) > 0) {
+            published += batch;
+        }
+        return published;
+    }
+
+    /**
+     * KafkaTemplate은 전송 후 프로듀서를 close 하므로 (팩토리가 래핑하지 않는 경우) close 무시
+     */
+    private static class NonClosingMockProducer extends MockProducer<String, String> {
+
+        NonClosingMockProducer() {
+            super(true, new StringSerializer(), new StringSerializer());
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public void close(Duration timeout) {
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package io.tbill.backendapi.benchmark;
+
+import io.tbill.backendapi.domain.journal.entity.Journal;
+import io.tbill.backendapi.domain.journal.entity.JournalReasoning;
+import io.tbill.backendapi.domain.journal.entity.MarketType;
+import io.tbill.backendapi.domain.journal.entity.TradeType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 매매일지 수정 지연시간: 근거(reasoning) 본문 인라인 저장 vs journal_reasoning 분리 저장
+ * - inlineUpdate: 분리 전 구조 (journal.reasoning TEXT). 조회 시 본문을 함께 읽고,
+ *   변경 감지 UPDATE가 전체 컬럼을 쓰므로 손절가만 바꿔도 본문을 다시 기록
+ * - separateUpdate: 현재 구조. journal 행만 조회/수정하고 근거는 JournalReasoningService 와 같은 순서로
+ *   요청에 포함된 경우에만 해시 비교 후 바뀐 경우에만 교체
+ * - reasoningChange: NONE(근거 미포함) / SAME(동일 본문 재전송) / CHANGED(본문 변경)
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=JournalReasoningUpdateBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JournalReasoningUpdateBenchmark {
+
+    private static final String AUTHOR_EMAIL = "bench@example.com";
+    private static final int JOURNALS = 200;
+    // 이미지 링크가 포함된 긴 마크다운 (약 100KB)
+    private static final String REASONING_A = reasoning('A');
+    private static final String REASONING_B = reasoning('B');
+
+    public enum ReasoningChange {
+        NONE, SAME, CHANGED
+    }
+
+    @Param({"NONE", "SAME", "CHANGED"})
+    private ReasoningChange reasoningChange;
+
+    private SessionFactory sessionFactory;
+    private final List<Long> inlineIds = new ArrayList<>();
+    private final List<Long> separateIds = new ArrayList<>();
+    private int counter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(Journal.class)
+                .addAnnotatedClass(JournalReasoning.class)
+                .addAnnotatedClass(InlineJournal.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL,
+                        "jdbc:h2:mem:reasoning;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1")
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, "50")
+                .buildSessionFactory();
+
+        sessionFactory.inTransaction(session -> {
+            for (long i = 1; i <= JOURNALS; i++) {
+                session.persist(new InlineJournal(i, AUTHOR_EMAIL, REASONING_A));
+                inlineIds.add(i);
+
+                Journal journal = Journal.builder()
+                        .authorEmail(AUTHOR_EMAIL)
+                        .market(MarketType.STOCK)
+                        .symbol("AAPL")
+                        .tradeType(TradeType.LONG)
+                        .quantity(BigDecimal.ONE)
+                        .entryPrice(new BigDecimal("100.00"))
+                        .build();
+                session.persist(journal); // 시퀀스 ID는 persist 시점에 할당
+                session.persist(JournalReasoning.of(journal.getId(), REASONING_A));
+                separateIds.add(journal.getId());
+            }
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public Object inlineUpdate() {
+        int n = counter++;
+        Long id = inlineIds.get(n % JOURNALS);
+        String reasoning = requestReasoning(n);
+        return sessionFactory.fromTransaction(session -> {
+            InlineJournal journal = session
+                    .createSelectionQuery("FROM InlineJournal j WHERE j.id = :id AND j.authorEmail = :authorEmail",
+                            InlineJournal.class)
+                    .setParameter("id", id)
+                    .setParameter("authorEmail", AUTHOR_EMAIL)
+                    .getSingleResult();
+            journal.stopLossPrice = BigDecimal.valueOf(90 + n % 10);
+            if (reasoning != null) {
+                journal.reasoning = reasoning;
+            }
+            return journal;
+        });
+    }
+
+    @Benchmark
+    public Object separateUpdate() {
+        int n = counter++;
+        Long id = separateIds.get(n % JOURNALS);
+        String reasoning = requestReasoning(n);
+        return sessionFactory.fromTransaction(session -> {
+            Journal journal = session
+                    .createSelectionQuery("FROM Journal j WHERE j.id = :id AND j.authorEmail = :authorEmail",
+                            Journal.class)
+                    .setParameter("id", id)
+                    .setParameter("authorEmail", AUTHOR_EMAIL)
+                    .getSingleResult();
+            journal.update(null, BigDecimal.valueOf(90 + n % 10), null, null, null);
+            replaceIfChanged(session, id, reasoning);
+            return journal;
+        });
+    }
+
+    /**
+     * JournalReasoningService.replaceIfChanged 와 같은 쿼리 순서 (해시 조회 -> 변경 시 UPDATE)
+     */
+    private void replaceIfChanged(Session session, Long journalId, String reasoning) {
+        if (reasoning == null) {
+            return;
+        }
+        String currentHash = session
+                .createSelectionQuery("SELECT r.contentHash FROM JournalReasoning r WHERE r.journalId = :journalId",
+                        String.class)
+                .setParameter("journalId", journalId)
+                .getSingleResult();
+        if (currentHash.equals(JournalReasoning.hash(reasoning))) {
+            return;
+        }
+        JournalReasoning replaced = JournalReasoning.of(journalId, reasoning);
+        session.createMutationQuery("UPDATE JournalReasoning r SET r.encoding = :encoding, r.content = :content, " +
+                        "r.originalSize = :originalSize, r.contentHash = :contentHash WHERE r.journalId = :journalId")
+                .setParameter("encoding", replaced.getEncoding())
+                .setParameter("content", replaced.getContent())
+                .setParameter("originalSize", replaced.getOriginalSize())
+                .setParameter("contentHash", replaced.getContentHash())
+                .setParameter("journalId", journalId)
+                .executeUpdate();
+    }
+
+    /**
+     * n번째 수정 요청에 포함된 근거 (CHANGED는 같은 일지에 대해 매번 A/B를 번갈아 보냄)
+     */
+    private String requestReasoning(int n) {
+        return switch (reasoningChange) {
+            case NONE -> null;
+            case SAME -> REASONING_A;
+            case CHANGED -> (n / JOURNALS) % 2 == 0 ? REASONING_B : REASONING_A;
+        };
+    }
+
+    private static String reasoning(char variant) {
+        StringBuilder markdown = new StringBuilder();
+        for (int i = 0; markdown.length() < 100_000; i++) {
+            markdown.append("## 진입 근거 ").append(variant).append(i)
+                    .append("\\n- 일봉 추세 상승, 거래량 평균 대비 ").append(150 + i % 50).append("%\\n")
+                    .append("![chart](https://cdn.example.com/charts/").append(variant).append(i).append(".png)\\n");
+        }
+        return "{\"markdown\":\"" + markdown + "\",\"images\":[]}";
+    }
+
+    /**
+     * 분리 전 journal 구조 (reasoning TEXT 컬럼 포함, 나머지 컬럼은 Journal 과 동일)
+     */
+    @Entity
+    @Table(name = "journal_inline")
+    public static class InlineJournal {
+
+        @Id
+        private Long id;
+
+        @Column(name = "author_email", nullable = false)
+        private String authorEmail;
+
+        @Enumerated(EnumType.STRING)
+        @Column(name = "market", nullable = false)
+        private MarketType market = MarketType.STOCK;
+
+        @Column(name = "symbol", nullable = false)
+        private String symbol = "AAPL";
+
+        @Enumerated(EnumType.STRING)
+        @Column(name = "trade_type", nullable = false)
+        private TradeType tradeType = TradeType.LONG;
+
+        @Column(name = "quantity", nullable = false)
+        private BigDecimal quantity = BigDecimal.ONE;
+
+        @Column(name = "entry_price", nullable = false)
+        private BigDecimal entryPrice = new BigDecimal("100.00");
+
+        @Column(name = "stop_loss_price")
+        private BigDecimal stopLossPrice;
+
+        @Column(name = "realized_pnl")
+        private BigDecimal realizedPnL;
+
+        @Column(name = "reasoning", columnDefinition = "TEXT")
+        private String reasoning;
+
+        protected InlineJournal() {
+        }
+
+        InlineJournal(Long id, String authorEmail, String reasoning) {
+            this.id = id;
+            this.authorEmail = authorEmail;
+            this.reasoning = reasoning;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package io.tbill.backendapi.benchmark;
+
+import io.tbill.backendapi.domain.journal.cache.JournalColumns;
+import io.tbill.backendapi.domain.journal.dto.JournalDto;
+import io.tbill.backendapi.domain.journal.entity.MarketType;
+import io.tbill.backendapi.domain.journal.entity.TradeType;
+import io.tbill.backendapi.domain.journal.replay.BarSeries;
+import io.tbill.backendapi.domain.journal.replay.ExitRule;
+import io.tbill.backendapi.domain.journal.replay.JournalReplayEngine;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 청산 규칙 리플레이 비용 (봉 적재/DB 조회 제외, 순수 시뮬레이션)
+ * - 종료 거래 5천 건 × 규칙 16개, 1분 봉 50만 개 위에서 진행
+ * - parallelism 1 (순차) 과 CPU 수 (ForkJoin 분할) 비교
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=JournalReplayBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JournalReplayBenchmark {
+
+    private static final int BARS = 500_000;
+    private static final int TRADES = 5_000;
+    private static final long MINUTE = 60_000L;
+
+    @Param({"1", "0"})
+    private int parallelism;
+
+    private JournalReplayEngine engine;
+    private JournalReplayEngine.Trades trades;
+    private List<ExitRule> rules;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        long start = LocalDateTime.of(2023, 1, 2, 0, 0).toInstant(ZoneOffset.UTC).toEpochMilli();
+
+        BarSeries.Builder bars = BarSeries.builder(BARS);
+        double price = 100;
+        for (int i = 0; i < BARS; i++) {
+            double open = price;
+            double close = Math.max(1, open + random.nextGaussian() * 0.2);
+            double high = Math.max(open, close) + random.nextDouble() * 0.1;
+            double low = Math.min(open, close) - random.nextDouble() * 0.1;
+            bars.add(start + i * MINUTE, open, high, low, close, 1_000);
+            price = close;
+        }
+        BarSeries series = bars.build();
+
+        JournalColumns.Builder columns = JournalColumns.builder(1L);
+        for (int i = 0; i < TRADES; i++) {
+            int bar = random.nextInt(BARS - 1_000);
+            double entry = series.open(bar);
+            boolean isLong = random.nextBoolean();
+            double stop = isLong ? entry - 1 : entry + 1;
+            // 실제 청산: 진입 후 200~1,000번째 봉 종가
+            double exit = series.close(bar + 200 + random.nextInt(800));
+            double pnl = (isLong ? 1 : -1) * (exit - entry) * 10;
+            columns.add(new JournalColumns.Row(i + 1, series.openTime(bar), MarketType.STOCK, "SPY",
+                    isLong ? TradeType.LONG : TradeType.SHORT, units(10), units(entry), units(stop), units(pnl)));
+        }
+        trades = JournalReplayEngine.Trades.of(columns.build(), (market, symbol) -> Optional.of(series));
+
+        rules = new ArrayList<>();
+        rules.add(new ExitRule("actual", false, null, 0));
+        rules.add(new ExitRule("stop", true, null, 0));
+        for (int r = 1; r <= 7; r++) {
+            rules.add(new ExitRule(r + "R", true, (double) r, 0));
+            rules.add(new ExitRule(r * 60 + "bars", true, null, r * 60));
+        }
+
+        engine = new JournalReplayEngine(parallelism);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        engine.destroy();
+    }
+
+    @Benchmark
+    public JournalDto.ReplayResult replay() {
+        return engine.replay(trades, rules);
+    }
+
+    private static long units(double value) {
+        return Math.round(value * 100_000_000L);
+    }
+}
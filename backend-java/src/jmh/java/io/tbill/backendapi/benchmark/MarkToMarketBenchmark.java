@@ -0,0 +1,67 @@
+package io.tbill.backendapi.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.tbill.backendapi.domain.journal.entity.MarketType;
+import io.tbill.backendapi.domain.journal.entity.TradeType;
+import io.tbill.backendapi.domain.journal.mark.MarkToMarketBook;
+import io.tbill.backendapi.domain.journal.mark.PriceTick;
+import io.tbill.backendapi.domain.journal.repository.JournalPositionRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 틱 반영 처리량 (HTTP/파싱 제외, MarkToMarketBook.onTick)
+ * - 심볼 500개, 사용자 1만 명 × 진행 중 거래 5건 (심볼당 평균 약 100명 보유)
+ * - 스레드 4개가 임의 심볼 틱을 동시에 반영 (목표: 단일 노드 초당 10만 틱 이상)
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=MarkToMarketBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class MarkToMarketBenchmark {
+
+    private static final int SYMBOLS = 500;
+    private static final int USERS = 10_000;
+    private static final int TRADES_PER_USER = 5;
+
+    private final AtomicLong clock = new AtomicLong();
+    private MarkToMarketBook book;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        book = new MarkToMarketBook(new SimpleMeterRegistry());
+        long id = 0;
+        for (int u = 0; u < USERS; u++) {
+            List<JournalPositionRepository.OpenTrade> trades = new ArrayList<>(TRADES_PER_USER);
+            for (int t = 0; t < TRADES_PER_USER; t++) {
+                trades.add(new JournalPositionRepository.OpenTrade(++id, MarketType.STOCK,
+                        "S" + random.nextInt(SYMBOLS), random.nextBoolean() ? TradeType.LONG : TradeType.SHORT,
+                        BigDecimal.valueOf(1 + random.nextInt(100)), BigDecimal.valueOf(50 + random.nextInt(100))));
+            }
+            book.track("user" + u + "@example.com", 1L, trades);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Feed {
+        private final Random random = new Random();
+    }
+
+    @Benchmark
+    public boolean tick(Feed feed) {
+        return book.onTick(new PriceTick(MarketType.STOCK, "S" + feed.random.nextInt(SYMBOLS),
+                50 + feed.random.nextDouble() * 100, clock.incrementAndGet()));
+    }
+}
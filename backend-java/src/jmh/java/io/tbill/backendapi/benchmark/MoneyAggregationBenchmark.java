@@ -0,0 +1,92 @@
+package io.tbill.backendapi.benchmark;
+
+import io.tbill.backendapi.domain.common.vo.Money;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 손익 집계: BigDecimal vs Money(고정 소수점 long)
+ * - 합계 / 승률 / 기대값(종료 거래당 평균 손익)을 같은 입력으로 계산
+ * - BigDecimal: JournalStatistics / Statistics.of 와 같은 방식 (거래마다 add -> 새 객체)
+ * - Money: units 배열을 long으로 누적 후 마지막에 한 번만 BigDecimal 변환
+ * - 두 결과가 문자열까지 같은지 Setup에서 확인 (API 출력 동일성)
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=MoneyAggregationBenchmark (gc 프로파일러로 할당량 비교)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MoneyAggregationBenchmark {
+
+    private static final int PNL_SCALE = 2;
+
+    @Param({"1000", "100000"})
+    private int trades;
+
+    private BigDecimal[] decimals;
+    private long[] units;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        decimals = new BigDecimal[trades];
+        units = new long[trades];
+        for (int i = 0; i < trades; i++) {
+            // journal.realized_pnl numeric(38,2)
+            BigDecimal pnl = BigDecimal.valueOf(Math.round(random.nextGaussian() * 10_000) + 200, PNL_SCALE);
+            decimals[i] = pnl;
+            units[i] = Money.units(pnl);
+        }
+
+        String expected = bigDecimal().toString();
+        String actual = money().toString();
+        if (!expected.equals(actual)) {
+            throw new IllegalStateException("결과 불일치: " + expected + " != " + actual);
+        }
+    }
+
+    @Benchmark
+    public Summary bigDecimal() {
+        BigDecimal totalPnL = BigDecimal.ZERO;
+        long winning = 0;
+        for (BigDecimal pnl : decimals) {
+            totalPnL = totalPnL.add(pnl);
+            if (pnl.signum() > 0) {
+                winning++;
+            }
+        }
+        return new Summary(totalPnL, winRate(winning), totalPnL.divide(BigDecimal.valueOf(trades), RoundingMode.HALF_UP));
+    }
+
+    @Benchmark
+    public Summary money() {
+        long totalPnL = 0;
+        long winning = 0;
+        for (long pnl : units) {
+            totalPnL = Money.add(totalPnL, pnl);
+            if (pnl > 0) {
+                winning++;
+            }
+        }
+        Money expectancy = Money.ofUnits(totalPnL).dividedBy(trades, PNL_SCALE);
+        return new Summary(Money.toBigDecimal(totalPnL, PNL_SCALE), winRate(winning),
+                expectancy.toBigDecimal(PNL_SCALE));
+    }
+
+    // Statistics.of 와 동일 (건수 연산이라 두 구현 공통)
+    private BigDecimal winRate(long winning) {
+        return BigDecimal.valueOf(winning)
+                .divide(BigDecimal.valueOf(trades), 4, RoundingMode.HALF_UP)
+                .multiply(BigDecimal.valueOf(100));
+    }
+
+    public record Summary(BigDecimal totalPnL, BigDecimal winRate, BigDecimal expectancy) {
+    }
+}
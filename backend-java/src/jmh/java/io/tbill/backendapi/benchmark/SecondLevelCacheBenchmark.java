@@ -0,0 +1,173 @@
+package io.tbill.backendapi.benchmark;
+
+import io.tbill.backendapi.domain.common.entity.CacheRegions;
+import io.tbill.backendapi.domain.content.dto.ContentDto;
+import io.tbill.backendapi.domain.content.entity.Comment;
+import io.tbill.backendapi.domain.content.entity.Content;
+import io.tbill.backendapi.domain.content.entity.ContentCategory;
+import io.tbill.backendapi.domain.journal.dto.JournalDto;
+import io.tbill.backendapi.domain.journal.entity.Journal;
+import io.tbill.backendapi.domain.journal.entity.MarketType;
+import io.tbill.backendapi.domain.journal.entity.TradeType;
+import io.tbill.backendapi.infrastructure.cache.SecondLevelCacheProperties;
+import io.tbill.backendapi.infrastructure.config.SecondLevelCacheConfig;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.*;
+
+import javax.cache.CacheManager;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상세 조회: 2차 캐시 사용 vs 미사용 (응답 시간 분포)
+ * - journalDetail: 식별자 조회 + 작성자 확인 (JournalRepository.findByIdAndAuthorEmail) -> JournalInfo
+ * - contentDetail: 댓글 Fetch Join 캐시 쿼리 (ContentRepository.findByIdNotDeleted) -> DetailResponse
+ * - 매 호출마다 새 세션 (요청 단위 영속성 컨텍스트와 동일), 대상은 무작위 -> 캐시 용량 안에서 워밍업 후 측정
+ * - p99 는 SampleTime 결과의 ·p0.99 로 비교
+ * - 인메모리 H2 라 DB 왕복 비용이 거의 없음 -> 실제 PostgreSQL(네트워크 왕복) 환경에서는 차이가 더 큼
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=SecondLevelCacheBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class SecondLevelCacheBenchmark {
+
+    private static final String AUTHOR_EMAIL = "bench@example.com";
+    private static final int JOURNALS = 5_000;
+    private static final int CONTENTS = 1_000;
+    private static final int COMMENTS_PER_CONTENT = 10;
+    private static final String CONTENT_DETAIL =
+            "SELECT c FROM Content c LEFT JOIN FETCH c.comments WHERE c.id = :id AND c.isDeleted = false";
+
+    @Param({"true", "false"})
+    private boolean secondLevelCache;
+
+    private SessionFactory sessionFactory;
+    private CacheManager cacheManager;
+    private List<Long> journalIds;
+    private List<Long> contentIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Configuration configuration = new Configuration()
+                .addAnnotatedClass(Journal.class)
+                .addAnnotatedClass(Content.class)
+                .addAnnotatedClass(Comment.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL,
+                        "jdbc:h2:mem:second-level-" + secondLevelCache
+                                + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1")
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, "50")
+                .setProperty(AvailableSettings.USE_SECOND_LEVEL_CACHE, String.valueOf(secondLevelCache))
+                .setProperty(AvailableSettings.USE_QUERY_CACHE, String.valueOf(secondLevelCache));
+
+        if (secondLevelCache) {
+            cacheManager = SecondLevelCacheConfig.createCacheManager(properties());
+            configuration.setProperty(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            configuration.setProperty(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            configuration.getProperties().put(ConfigSettings.CACHE_MANAGER, cacheManager);
+        }
+        sessionFactory = configuration.buildSessionFactory();
+
+        sessionFactory.inTransaction(session -> {
+            for (int i = 0; i < JOURNALS; i++) {
+                session.persist(Journal.builder()
+                        .authorEmail(AUTHOR_EMAIL)
+                        .market(MarketType.STOCK)
+                        .symbol("AAPL")
+                        .tradeType(TradeType.LONG)
+                        .quantity(BigDecimal.ONE)
+                        .entryPrice(new BigDecimal("100.00"))
+                        .realizedPnL(BigDecimal.valueOf(i))
+                        .build());
+                if (i % 50 == 0) {
+                    session.flush();
+                    session.clear();
+                }
+            }
+            for (int i = 0; i < CONTENTS; i++) {
+                Content content = Content.builder()
+                        .category(ContentCategory.FREE_BOARD)
+                        .title("title-" + i)
+                        .content("body-" + i)
+                        .authorEmail(AUTHOR_EMAIL)
+                        .build();
+                session.persist(content);
+                for (int c = 0; c < COMMENTS_PER_CONTENT; c++) {
+                    session.persist(Comment.builder()
+                            .content(content)
+                            .authorEmail(AUTHOR_EMAIL)
+                            .comment("comment-" + c)
+                            .build());
+                }
+                session.flush();
+                session.clear();
+            }
+        });
+
+        journalIds = sessionFactory.fromSession(session -> session
+                .createSelectionQuery("SELECT j.id FROM Journal j", Long.class).getResultList());
+        contentIds = sessionFactory.fromSession(session -> session
+                .createSelectionQuery("SELECT c.id FROM Content c", Long.class).getResultList());
+    }
+
+    private static SecondLevelCacheProperties properties() {
+        SecondLevelCacheProperties properties = new SecondLevelCacheProperties();
+        for (String region : List.of(CacheRegions.JOURNAL, CacheRegions.CONTENT, CacheRegions.CONTENT_COMMENTS,
+                CacheRegions.COMMENT, CacheRegions.CONTENT_QUERY,
+                RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME)) {
+            SecondLevelCacheProperties.Region config = new SecondLevelCacheProperties.Region();
+            config.setMaxSize(100_000);
+            properties.getRegions().put(region, config);
+        }
+        return properties;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+        if (cacheManager != null) {
+            cacheManager.close();
+        }
+    }
+
+    private static <T> T random(List<T> values) {
+        return values.get(ThreadLocalRandom.current().nextInt(values.size()));
+    }
+
+    @Benchmark
+    public JournalDto.JournalInfo journalDetail() {
+        Long id = random(journalIds);
+        return sessionFactory.fromSession(session -> {
+            Journal journal = session.find(Journal.class, id);
+            return journal != null && journal.getAuthorEmail().equals(AUTHOR_EMAIL)
+                    ? JournalDto.JournalInfo.from(journal)
+                    : null;
+        });
+    }
+
+    @Benchmark
+    public ContentDto.DetailResponse contentDetail() {
+        Long id = random(contentIds);
+        return sessionFactory.fromSession(session -> session
+                .createSelectionQuery(CONTENT_DETAIL, Content.class)
+                .setParameter("id", id)
+                .setCacheable(true)
+                .setCacheRegion(CacheRegions.CONTENT_QUERY)
+                .uniqueResultOptional()
+                .map(ContentDto.DetailResponse::from)
+                .orElse(null));
+    }
+}
@@ -0,0 +1,69 @@
+package io.tbill.backendapi.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.tbill.backendapi.domain.journal.entity.MarketType;
+import io.tbill.backendapi.domain.market.TickPipeline;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 틱 파이프라인 발행 처리량 (ticks/s) / 발행 지연 백분위
+ * - 단일 생산자가 심볼 1,000개에 1ms 간격 시각으로 틱 발행 (HTTP/파싱 제외, 이미 등록된 심볼)
+ * - 링 버퍼가 가득 차면 발행이 봉 집계를 기다리므로 지속 처리량 = 생산자 -> 봉 집계 전체 처리량
+ * - publishLatency: SampleTime 모드로 p50/p90/p99/p99.9/p99.99 출력 (역압으로 기다린 시간 포함)
+ * - aggregatorThreads: 봉 집계 소비자(심볼 파티션) 수
+ * - 발행 경로 할당 여부는 gc 프로파일러의 gc.alloc.rate.norm (B/op, 0 근처여야 함)
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=TickPipelineBenchmark
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(1)
+@Fork(1)
+public class TickPipelineBenchmark {
+
+    private static final int SYMBOLS = 1_000;
+
+    @Param({"1", "2", "4"})
+    private int aggregatorThreads;
+
+    private TickPipeline pipeline;
+    private String[] symbols;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pipeline = new TickPipeline(new SimpleMeterRegistry(), 65_536, SYMBOLS, aggregatorThreads, 500);
+        symbols = new String[SYMBOLS];
+        for (int i = 0; i < SYMBOLS; i++) {
+            symbols[i] = "S" + i;
+            pipeline.publish(MarketType.STOCK, symbols[i], 100, 1, 0);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        pipeline.destroy();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void publish() {
+        publishNext();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public void publishLatency() {
+        publishNext();
+    }
+
+    private void publishNext() {
+        long next = ++sequence;
+        pipeline.publish(MarketType.STOCK, symbols[(int) (next % SYMBOLS)], 100 + (next & 63), 1, next);
+    }
+}
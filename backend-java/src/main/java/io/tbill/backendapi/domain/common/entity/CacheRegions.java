@@ -0,0 +1,35 @@
+package io.tbill.backendapi.domain.common.entity;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Hibernate 2차 캐시 리전 이름 (cache.second-level.regions.* 설정 키와 동일해야 함)
+ * - 엔티티 리전: 식별자 -> 엔티티 상태
+ * - 쿼리 리전: 캐시 가능 쿼리(@QueryHints)의 결과, 관련 테이블이 변경되면 무효화
+ */
+public final class CacheRegions {
+
+    public static final String JOURNAL = "journal";
+
+    public static final String USER = "user";
+    public static final String USER_QUERY = "user-query";
+
+    public static final String CONTENT = "content";
+    public static final String CONTENT_COMMENTS = "content-comments";
+    public static final String COMMENT = "comment";
+    public static final String CONTENT_QUERY = "content-query";
+
+    /**
+     * 엔티티 리전 -> 해당 엔티티가 결과에 포함되는 쿼리 리전 (다른 인스턴스의 변경 통지 시 함께 비움)
+     */
+    public static final Map<String, Set<String>> QUERY_REGIONS_BY_ENTITY_REGION = Map.of(
+            JOURNAL, Set.of(),
+            USER, Set.of(USER_QUERY),
+            CONTENT, Set.of(CONTENT_QUERY),
+            COMMENT, Set.of(CONTENT_QUERY)
+    );
+
+    private CacheRegions() {
+    }
+}
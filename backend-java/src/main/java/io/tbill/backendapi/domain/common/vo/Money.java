@@ -0,0 +1,148 @@
+package io.tbill.backendapi.domain.common.vo;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 고정 소수점 금액/수량 (long, 소수 8자리)
+ * - 집계 경로에서 BigDecimal 대신 사용: 덧셈/뺄셈이 long 연산이고 중간 객체를 만들지 않음
+ * - 모든 연산은 범위 초과 시 ArithmeticException (조용히 넘치지 않음)
+ * - BigDecimal 변환은 정확해야 함: 소수 8자리를 넘거나 long 범위를 넘는 값은 ArithmeticException
+ * - 배열에 담긴 값은 units(long)로 직접 다루도록 static 메서드 제공 (박싱/객체 생성 없음)
+ */
+public final class Money implements Comparable<Money> {
+
+    public static final int SCALE = 8;
+    public static final Money ZERO = new Money(0L);
+
+    private static final double UNITS_PER_ONE = 1e8;
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L};
+
+    private final long units;
+
+    private Money(long units) {
+        this.units = units;
+    }
+
+    public static Money ofUnits(long units) {
+        return units == 0L ? ZERO : new Money(units);
+    }
+
+    public static Money of(BigDecimal value) {
+        return ofUnits(units(value));
+    }
+
+    /**
+     * BigDecimal -> units (정확 변환)
+     */
+    public static long units(BigDecimal value) {
+        return value.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+    }
+
+    public static long add(long units, long other) {
+        return Math.addExact(units, other);
+    }
+
+    public static long subtract(long units, long other) {
+        return Math.subtractExact(units, other);
+    }
+
+    /**
+     * units -> BigDecimal (표시 소수 자릿수 지정, 자릿수를 줄이다 값이 바뀌면 ArithmeticException)
+     */
+    public static BigDecimal toBigDecimal(long units, int scale) {
+        return BigDecimal.valueOf(units, SCALE).setScale(scale, RoundingMode.UNNECESSARY);
+    }
+
+    public static double toDouble(long units) {
+        return units / UNITS_PER_ONE;
+    }
+
+    public long units() {
+        return units;
+    }
+
+    public Money plus(Money other) {
+        return ofUnits(add(units, other.units));
+    }
+
+    public Money minus(Money other) {
+        return ofUnits(subtract(units, other.units));
+    }
+
+    public Money negate() {
+        return ofUnits(Math.negateExact(units));
+    }
+
+    public Money abs() {
+        return units < 0 ? negate() : this;
+    }
+
+    /**
+     * 건수로 나누기 (평균 손익 등, 소수 8자리 HALF_UP)
+     */
+    public Money dividedBy(long divisor) {
+        return dividedBy(divisor, SCALE);
+    }
+
+    /**
+     * 건수로 나누기 (소수 scale 자리 HALF_UP, BigDecimal.divide(divisor, scale, HALF_UP)과 같은 결과)
+     */
+    public Money dividedBy(long divisor, int scale) {
+        if (divisor == 0L) {
+            throw new ArithmeticException("0으로 나눌 수 없습니다.");
+        }
+        if (scale < 0 || scale > SCALE) {
+            throw new ArithmeticException("지원하지 않는 소수 자릿수입니다: " + scale);
+        }
+        long step = POWERS_OF_TEN[SCALE - scale];
+        long denominator = Math.multiplyExact(divisor, step);
+        if (units == Long.MIN_VALUE && denominator == -1L) {
+            throw new ArithmeticException("long overflow");
+        }
+        long quotient = units / denominator;
+        long remainder = units % denominator;
+        // |remainder| * 2 >= |denominator| 이면 0에서 먼 쪽으로 반올림 (곱셈 오버플로 회피)
+        if (remainder != 0 && Math.abs(remainder) >= Math.abs(denominator) - Math.abs(remainder)) {
+            quotient += (units < 0) == (denominator < 0) ? 1 : -1;
+        }
+        return ofUnits(Math.multiplyExact(quotient, step));
+    }
+
+    public int signum() {
+        return Long.signum(units);
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(units, SCALE);
+    }
+
+    public BigDecimal toBigDecimal(int scale) {
+        return toBigDecimal(units, scale);
+    }
+
+    public double toDouble() {
+        return toDouble(units);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(units, other.units);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Money other && units == other.units;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(units);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
@@ -1,16 +1,20 @@
 package io.tbill.backendapi.domain.content.entity;
 
 import io.tbill.backendapi.domain.common.entity.BaseTimeEntity;
+import io.tbill.backendapi.domain.common.entity.CacheRegions;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(name = "comment")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.COMMENT)
 public class Comment extends BaseTimeEntity {
 
     @Id
@@ -36,7 +40,7 @@ public class Comment extends BaseTimeEntity {
     public Comment(Content content, String authorEmail, String comment) {
         this.content = content;
         this.authorEmail = authorEmail;
-        this.content = content;
+        this.comment = comment;
         this.isDeleted = false; // 생성 시 기본값
     }
 
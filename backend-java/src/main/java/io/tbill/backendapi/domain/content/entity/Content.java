@@ -1,11 +1,14 @@
 package io.tbill.backendapi.domain.content.entity;
 
 import io.tbill.backendapi.domain.common.entity.BaseTimeEntity;
+import io.tbill.backendapi.domain.common.entity.CacheRegions;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -14,6 +17,7 @@ import java.util.List;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(name = "content")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.CONTENT)
 public class Content extends BaseTimeEntity {
 
     @Id
@@ -45,6 +49,7 @@ public class Content extends BaseTimeEntity {
     // orphanRemoval = true: 컬렉션에서 댓글이 제거되면 DB에서도 삭제됨
     @OneToMany(mappedBy = "content", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @OrderBy("createdAt ASC") // 댓글을 생성순으로 정렬
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.CONTENT_COMMENTS)
     private List<Comment> comments = new ArrayList<>();
 
 
@@ -71,9 +76,4 @@ public class Content extends BaseTimeEntity {
         // (선택) 게시글이 삭제되면 댓글도 모두 소프트 삭제 처리
         this.comments.forEach(Comment::softDelete);
     }
-
-    // (편의 메서드) 조회수 증가
-    public void increaseViewCount() {
-        this.viewCount += 1;
-    }
 }
\ No newline at end of file
@@ -1,10 +1,15 @@
 package io.tbill.backendapi.domain.content.repository;
 
+import io.tbill.backendapi.domain.common.entity.CacheRegions;
 import io.tbill.backendapi.domain.content.entity.Content;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -23,7 +28,22 @@ public interface ContentRepository extends JpaRepository<Content, Long> {
      * (소프트 삭제) 삭제되지 않은 특정 게시글 조회 (조회수 증가 로직을 위해)
      * (중요) @OneToMany(fetch = FetchType.LAZY)인 'comments'를
      * 같이 조회하기 위해 'LEFT JOIN FETCH' 사용 (N+1 문제 방지)
+     * (2차 캐시) content/comment 테이블이 변경되면 무효화되는 쿼리 캐시
      */
     @Query("SELECT c FROM Content c LEFT JOIN FETCH c.comments WHERE c.id = :id AND c.isDeleted = false")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.CONTENT_QUERY)
+    })
     Optional<Content> findByIdNotDeleted(@Param("id") Long id);
+
+    /**
+     * 조회수 증가 (상세 조회마다 실행)
+     * (중요) 엔티티 변경 감지로 올리면 조회할 때마다 content 엔티티/쿼리 캐시가 무효화되므로
+     * 별도 query space 로 지정한 UPDATE 로 실행 -> 캐시된 게시글의 조회수는 캐시 TTL 동안 지연 반영
+     */
+    @Modifying
+    @Query(value = "UPDATE content SET view_count = view_count + 1 WHERE content_id = :id", nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "content_view_count"))
+    int increaseViewCount(@Param("id") Long id);
 }
\ No newline at end of file
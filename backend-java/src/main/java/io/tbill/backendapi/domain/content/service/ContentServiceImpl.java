@@ -54,8 +54,8 @@ public class ContentServiceImpl implements ContentService {
         Content content = contentRepository.findByIdNotDeleted(contentId)
                 .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없거나 삭제되었습니다. ID: " + contentId));
 
-        // 2. (중요) 조회수 증가 (Dirty Checking)
-        content.increaseViewCount();
+        // 2. (중요) 조회수 증가 (변경 감지 대신 UPDATE 쿼리 - 캐시된 게시글 엔티티 유지)
+        contentRepository.increaseViewCount(contentId);
 
         // 3. DTO 변환 (댓글 목록 포함)
         return ContentDto.DetailResponse.from(content);
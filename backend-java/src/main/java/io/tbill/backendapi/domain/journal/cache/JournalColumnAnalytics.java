@@ -0,0 +1,202 @@
+package io.tbill.backendapi.domain.journal.cache;
+
+import io.tbill.backendapi.domain.common.vo.Money;
+import io.tbill.backendapi.domain.journal.dto.JournalDto;
+import io.tbill.backendapi.domain.journal.repository.JournalAnalyticsGroup;
+import io.tbill.backendapi.domain.journal.dto.JournalDto.GroupAggregate;
+import io.tbill.backendapi.domain.journal.service.EquityCurveCalculator;
+import io.tbill.backendapi.domain.journal.service.RiskMetricsCalculator;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 컬럼 스냅샷 위에서 수행하는 손익 분석 (JournalAnalyticsRepository SQL과 동일한 결과)
+ * - 필터 / 그룹 키를 정수 코드로 비교하며 배열을 한 번 순회 (행 단위 객체 생성 없음)
+ * - 손익 합계는 Money units(long)로 누적, 범위 초과 시 ArithmeticException (호출자는 SQL 집계 사용)
+ * - BigDecimal 결과는 SQL과 같은 표기: 합산 대상이 있으면 컬럼 소수 자릿수(2), 없으면 COALESCE(..., 0)의 0
+ */
+public final class JournalColumnAnalytics {
+
+    // journal.realized_pnl numeric(38,2)
+    private static final int PNL_SCALE = 2;
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+    private static final long MILLIS_PER_HOUR = 3_600_000L;
+
+    // 누적 배열 인덱스
+    private static final int TOTAL = 0;
+    private static final int CLOSED = 1;
+    private static final int WINNING = 2;
+    private static final int LOSING = 3;
+    private static final int PNL = 4;
+    private static final int PROFIT = 5;
+    private static final int LOSS = 6;
+
+    private JournalColumnAnalytics() {
+    }
+
+    public static List<GroupAggregate> aggregate(JournalColumns columns, JournalDto.SearchCondition condition,
+                                                 JournalAnalyticsGroup group) {
+        Filter filter = Filter.of(columns, condition);
+        Map<Integer, long[]> buckets = new HashMap<>();
+        if (filter != null) {
+            long lastDay = Long.MIN_VALUE;
+            int lastMonth = 0;
+            for (int row = 0; row < columns.size(); row++) {
+                if (!filter.matches(columns, row)) {
+                    continue;
+                }
+                int key;
+                long createdAt = columns.createdAt(row);
+                switch (group) {
+                    case SYMBOL -> key = columns.symbolCode(row);
+                    case MARKET -> key = columns.marketCode(row);
+                    case TRADE_TYPE -> key = columns.tradeTypeCode(row);
+                    case MONTH -> {
+                        long day = Math.floorDiv(createdAt, MILLIS_PER_DAY);
+                        if (day != lastDay) {
+                            LocalDate date = LocalDate.ofEpochDay(day);
+                            lastDay = day;
+                            lastMonth = date.getYear() * 100 + date.getMonthValue();
+                        }
+                        key = lastMonth;
+                    }
+                    // 1970-01-01 = 목요일(ISO 4)
+                    case WEEKDAY -> key = (int) Math.floorMod(Math.floorDiv(createdAt, MILLIS_PER_DAY) + 3, 7L) + 1;
+                    case HOUR -> key = (int) (Math.floorMod(createdAt, MILLIS_PER_DAY) / MILLIS_PER_HOUR);
+                    default -> throw new IllegalArgumentException("지원하지 않는 그룹 기준입니다: " + group);
+                }
+                accumulate(buckets.computeIfAbsent(key, k -> new long[7]), columns, row);
+            }
+        }
+
+        List<Map.Entry<Integer, long[]>> entries = new ArrayList<>(buckets.entrySet());
+        // SQL ORDER BY group_key: 문자열 기준은 이름순, 날짜 기준은 숫자순
+        Comparator<Map.Entry<Integer, long[]>> order = switch (group) {
+            case SYMBOL, MARKET, TRADE_TYPE -> Comparator.comparing(entry -> rawKey(columns, group, entry.getKey()));
+            default -> Map.Entry.comparingByKey();
+        };
+        entries.sort(order);
+
+        List<GroupAggregate> aggregates = new ArrayList<>(entries.size());
+        for (Map.Entry<Integer, long[]> entry : entries) {
+            long[] sums = entry.getValue();
+            aggregates.add(new GroupAggregate(
+                    group.label(rawKey(columns, group, entry.getKey())),
+                    sums[TOTAL], sums[CLOSED], sums[WINNING], sums[LOSING],
+                    sum(sums[PNL], sums[CLOSED]),
+                    sum(sums[PROFIT], sums[WINNING]),
+                    sum(sums[LOSS], sums[LOSING])));
+        }
+        return aggregates;
+    }
+
+    /**
+     * 종료 거래를 시간순으로 손익 곡선 계산기에 전달
+     */
+    public static void streamClosedTrades(JournalColumns columns, EquityCurveCalculator calculator) {
+        for (int row = 0; row < columns.size(); row++) {
+            if (columns.isClosed(row)) {
+                calculator.add(columns.createdAt(row), Money.toDouble(columns.realizedPnL(row)));
+            }
+        }
+    }
+
+    /**
+     * 종료 거래를 시간순으로 위험 지표 계산기에 전달
+     */
+    public static void streamClosedTradeRisks(JournalColumns columns, RiskMetricsCalculator calculator) {
+        for (int row = 0; row < columns.size(); row++) {
+            if (columns.isClosed(row)) {
+                long stopLossPrice = columns.stopLossPrice(row);
+                calculator.add(
+                        Money.toDouble(columns.entryPrice(row)),
+                        stopLossPrice != JournalColumns.NO_PRICE ? Money.toDouble(stopLossPrice) : Double.NaN,
+                        Money.toDouble(columns.quantity(row)),
+                        Money.toDouble(columns.realizedPnL(row)));
+            }
+        }
+    }
+
+    private static void accumulate(long[] sums, JournalColumns columns, int row) {
+        sums[TOTAL]++;
+        if (!columns.isClosed(row)) {
+            return;
+        }
+        long pnl = columns.realizedPnL(row);
+        sums[CLOSED]++;
+        sums[PNL] = Money.add(sums[PNL], pnl);
+        if (pnl > 0) {
+            sums[WINNING]++;
+            sums[PROFIT] = Money.add(sums[PROFIT], pnl);
+        } else if (pnl < 0) {
+            sums[LOSING]++;
+            sums[LOSS] = Money.subtract(sums[LOSS], pnl);
+        }
+    }
+
+    private static BigDecimal sum(long units, long count) {
+        return count > 0 ? Money.toBigDecimal(units, PNL_SCALE) : BigDecimal.ZERO;
+    }
+
+    /**
+     * SQL group_key 컬럼과 같은 문자열 (라벨 변환 전)
+     */
+    private static String rawKey(JournalColumns columns, JournalAnalyticsGroup group, int key) {
+        return switch (group) {
+            case SYMBOL -> columns.symbolAt(key);
+            case MARKET -> JournalColumns.marketOf((byte) key).name();
+            case TRADE_TYPE -> JournalColumns.tradeTypeOf((byte) key).name();
+            default -> String.valueOf(key);
+        };
+    }
+
+    /**
+     * JournalSearchQuery와 같은 필터를 코드 비교로 적용
+     */
+    private record Filter(int market, int tradeType, int symbol, Boolean closed, long from, long to) {
+
+        private static final int ANY = -1;
+
+        /**
+         * 조건에 맞는 행이 있을 수 없으면 null (사전에 없는 심볼)
+         */
+        static Filter of(JournalColumns columns, JournalDto.SearchCondition condition) {
+            int symbol = ANY;
+            String symbolValue = condition.getSymbol();
+            if (symbolValue != null && !symbolValue.isBlank()) {
+                symbol = columns.symbolCodeOf(symbolValue);
+                if (symbol < 0) {
+                    return null;
+                }
+            }
+            return new Filter(
+                    condition.getMarket() != null ? condition.getMarket().ordinal() : ANY,
+                    condition.getTradeType() != null ? condition.getTradeType().ordinal() : ANY,
+                    symbol,
+                    condition.getIsClosed(),
+                    epochMillis(condition.getStartDate(), Long.MIN_VALUE),
+                    epochMillis(condition.getEndDate(), Long.MAX_VALUE));
+        }
+
+        boolean matches(JournalColumns columns, int row) {
+            long createdAt = columns.createdAt(row);
+            return (market == ANY || columns.marketCode(row) == market)
+                    && (tradeType == ANY || columns.tradeTypeCode(row) == tradeType)
+                    && (symbol == ANY || columns.symbolCode(row) == symbol)
+                    && (closed == null || columns.isClosed(row) == closed)
+                    && createdAt >= from && createdAt <= to;
+        }
+
+        private static long epochMillis(LocalDateTime value, long unbounded) {
+            return value != null ? value.toInstant(ZoneOffset.UTC).toEpochMilli() : unbounded;
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package io.tbill.backendapi.domain.journal.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.tbill.backendapi.domain.journal.event.JournalChangedEvent;
+import io.tbill.backendapi.domain.journal.event.JournalVersionChangedEvent;
+import io.tbill.backendapi.domain.journal.repository.JournalColumnRepository;
+import io.tbill.backendapi.infrastructure.redis.service.JournalVersionService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 사용자별 매매일지 컬럼 캐시 (인스턴스 로컬, 읽기 위주)
+ * - 분석 요청은 DB 대신 캐시된 컬럼 배열을 순회
+ * - 전체 용량(추정 바이트) 기준 LRU 제거
+ * - 스냅샷마다 적재 시점의 Redis 매매일지 버전 기록 -> 조회 시 버전이 다르면 다시 적재
+ *   (다른 인스턴스에서 일어난 변경도 버전 카운터로 감지)
+ * - 이 인스턴스의 변경은 버전 증가 이벤트로 변경된 행만 반영 (직전 버전 스냅샷일 때만, 아니면 제거)
+ */
+@Slf4j
+@Component
+public class JournalColumnCache {
+
+    // 한 번에 반영할 최대 행 수 (대량 가져오기는 증분 반영 대신 제거 후 다시 적재)
+    static final int MAX_PATCH_ROWS = 1000;
+
+    private final JournalColumnRepository journalColumnRepository;
+    private final JournalVersionService journalVersionService;
+    private final boolean enabled;
+    private final long maxBytes;
+
+    private final LinkedHashMap<String, JournalColumns> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+    private final Counter patches;
+
+    public JournalColumnCache(JournalColumnRepository journalColumnRepository,
+                              JournalVersionService journalVersionService,
+                              MeterRegistry meterRegistry,
+                              @Value("${journal.column-cache.enabled:true}") boolean enabled,
+                              @Value("${journal.column-cache.max-size:256MB}") DataSize maxSize) {
+        this.journalColumnRepository = journalColumnRepository;
+        this.journalVersionService = journalVersionService;
+        this.enabled = enabled;
+        this.maxBytes = maxSize.toBytes();
+
+        this.hits = Counter.builder("journal.column.cache.requests").tag("result", "hit")
+                .description("컬럼 캐시 조회 (적중)").register(meterRegistry);
+        this.misses = Counter.builder("journal.column.cache.requests").tag("result", "miss")
+                .description("컬럼 캐시 조회 (미스, DB 적재)").register(meterRegistry);
+        this.evictions = Counter.builder("journal.column.cache.evictions")
+                .description("컬럼 캐시 제거 (용량 초과 / 버전 불일치)").register(meterRegistry);
+        this.patches = Counter.builder("journal.column.cache.patches")
+                .description("컬럼 캐시 증분 반영").register(meterRegistry);
+        Gauge.builder("journal.column.cache.size", this, JournalColumnCache::totalBytes)
+                .description("컬럼 캐시 추정 메모리 사용량").baseUnit("bytes").register(meterRegistry);
+        Gauge.builder("journal.column.cache.users", this, JournalColumnCache::userCount)
+                .description("컬럼 캐시에 적재된 사용자 수").register(meterRegistry);
+    }
+
+    /**
+     * 현재 버전의 컬럼 스냅샷 (없거나 버전이 다르면 DB에서 적재)
+     * - 캐시 비활성화, 버전 조회 실패(Redis 장애), 고정 소수점 변환 불가 시 empty -> 호출자는 SQL 집계 사용
+     * - 전체 적재는 forward-only 커서를 사용하므로 읽기 전용 트랜잭션 안에서 호출해야 함
+     */
+    public Optional<JournalColumns> get(String authorEmail) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        Optional<Long> version = journalVersionService.getVersion(authorEmail);
+        if (version.isEmpty()) {
+            return Optional.empty();
+        }
+
+        JournalColumns cached = lookup(authorEmail);
+        if (cached != null && cached.version() == version.get()) {
+            hits.increment();
+            return Optional.of(cached);
+        }
+
+        misses.increment();
+        JournalColumns loaded;
+        try {
+            loaded = journalColumnRepository.load(authorEmail, version.get());
+        } catch (ArithmeticException e) {
+            // 소수 8자리 / long 범위로 정확히 표현할 수 없는 값이 있으면 캐시하지 않음
+            log.warn("컬럼 캐시 적재 불가, SQL 집계 사용: authorEmail={}, error={}", authorEmail, e.getMessage());
+            return Optional.empty();
+        }
+        store(authorEmail, cached, loaded);
+        return Optional.of(loaded);
+    }
+
+    /**
+     * 이 인스턴스에서 커밋된 변경을 스냅샷에 반영 (버전 증가 직후 동기 호출)
+     */
+    @EventListener
+    public void onVersionChanged(JournalVersionChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        String authorEmail = event.authorEmail();
+        JournalColumns current = lookup(authorEmail);
+        if (current == null) {
+            return;
+        }
+        JournalChangedEvent change = event.change();
+        if (event.version() == null || current.version() != event.version() - 1
+                || change.journalIds().size() > MAX_PATCH_ROWS) {
+            evict(authorEmail, current);
+            return;
+        }
+
+        if (change.journalIds().isEmpty()) {
+            // 파생 데이터만 바뀐 버전 증가 (JournalVersionService.bump): 행 변경 없이 버전만 맞춤
+            store(authorEmail, current, current.withVersion(event.version()));
+            return;
+        }
+
+        try {
+            JournalColumns patched = switch (change.changeType()) {
+                case CREATED, UPDATED -> {
+                    List<JournalColumns.Row> rows = journalColumnRepository.findRows(authorEmail, change.journalIds());
+                    // 커밋 이후 다른 트랜잭션에서 삭제된 행은 함께 제거
+                    List<Long> missing = change.journalIds().stream()
+                            .filter(id -> rows.stream().noneMatch(row -> row.id() == id))
+                            .toList();
+                    JournalColumns upserted = current.upsert(rows);
+                    yield missing.isEmpty() ? upserted : upserted.remove(missing);
+                }
+                case DELETED -> current.remove(change.journalIds());
+            };
+            store(authorEmail, current, patched.withVersion(event.version()));
+            patches.increment();
+        } catch (Exception e) {
+            log.warn("컬럼 캐시 증분 반영 실패, 캐시 제거: authorEmail={}, error={}", authorEmail, e.getMessage());
+            evict(authorEmail, current);
+        }
+    }
+
+    public synchronized long totalBytes() {
+        return totalBytes;
+    }
+
+    public synchronized int userCount() {
+        return entries.size();
+    }
+
+    private synchronized JournalColumns lookup(String authorEmail) {
+        return entries.get(authorEmail);
+    }
+
+    /**
+     * expected가 아직 현재 스냅샷일 때만 교체 (동시 적재/반영 중 최신 쪽을 덮어쓰지 않음)
+     */
+    private synchronized void store(String authorEmail, JournalColumns expected, JournalColumns replacement) {
+        JournalColumns current = entries.get(authorEmail);
+        if (current != expected) {
+            if (current == null || current.version() >= replacement.version()) {
+                return;
+            }
+        }
+        if (replacement.estimatedBytes() > maxBytes) {
+            // 단일 사용자 이력이 전체 한도보다 크면 캐시하지 않음
+            if (current != null) {
+                remove(authorEmail, current);
+            }
+            return;
+        }
+
+        if (current != null) {
+            totalBytes -= current.estimatedBytes();
+        }
+        entries.put(authorEmail, replacement);
+        totalBytes += replacement.estimatedBytes();
+
+        Iterator<Map.Entry<String, JournalColumns>> eldest = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && eldest.hasNext()) {
+            Map.Entry<String, JournalColumns> entry = eldest.next();
+            if (entry.getKey().equals(authorEmail)) {
+                continue;
+            }
+            totalBytes -= entry.getValue().estimatedBytes();
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+    private synchronized void evict(String authorEmail, JournalColumns expected) {
+        if (entries.get(authorEmail) == expected) {
+            remove(authorEmail, expected);
+        }
+    }
+
+    private void remove(String authorEmail, JournalColumns columns) {
+        entries.remove(authorEmail);
+        totalBytes -= columns.estimatedBytes();
+        evictions.increment();
+    }
+}
@@ -0,0 +1,323 @@
+package io.tbill.backendapi.domain.journal.cache;
+
+import io.tbill.backendapi.domain.journal.entity.MarketType;
+import io.tbill.backendapi.domain.journal.entity.TradeType;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 사용자 한 명의 매매일지 컬럼 스냅샷 (불변)
+ * - 행은 (createdAt, id) 오름차순
+ * - 시각: LocalDateTime을 UTC 기준 epoch millis로 인코딩한 long
+ * - 가격/수량/손익: Money units(소수 8자리) long, 미실현 손익은 NO_PNL / 손절가 미지정은 NO_PRICE
+ * - 시장/거래유형: enum ordinal byte, 심볼: 사전(dictionary) 인덱스 int
+ * - 변경은 복사 후 수정(copy-on-write)으로 새 스냅샷 생성 -> 읽기는 잠금 없음
+ * - 스냅샷에서 계산한 파생 결과(위험 지표 등)는 derive()로 스냅샷에 보관 -> 변경 시 스냅샷과 함께 폐기
+ */
+public final class JournalColumns {
+
+    public static final long NO_PNL = Long.MIN_VALUE;
+    public static final long NO_PRICE = Long.MIN_VALUE;
+    public static final long UNKNOWN_VERSION = -1L;
+
+    private static final MarketType[] MARKETS = MarketType.values();
+    private static final TradeType[] TRADE_TYPES = TradeType.values();
+    private static final Comparator<Row> ROW_ORDER =
+            Comparator.comparingLong(Row::createdAt).thenComparingLong(Row::id);
+
+    private final long version;
+    private final int size;
+    private final long[] ids;
+    private final long[] createdAt;
+    private final long[] quantity;
+    private final long[] entryPrice;
+    private final long[] stopLossPrice;
+    private final long[] realizedPnL;
+    private final byte[] market;
+    private final byte[] tradeType;
+    private final int[] symbol;
+    private final String[] symbols;
+    private final long estimatedBytes;
+    private final Map<String, Object> derived = new ConcurrentHashMap<>();
+
+    private JournalColumns(long version, int size, long[] ids, long[] createdAt, long[] quantity,
+                           long[] entryPrice, long[] stopLossPrice, long[] realizedPnL, byte[] market,
+                           byte[] tradeType,
+                           int[] symbol, String[] symbols) {
+        this.version = version;
+        this.size = size;
+        this.ids = ids;
+        this.createdAt = createdAt;
+        this.quantity = quantity;
+        this.entryPrice = entryPrice;
+        this.stopLossPrice = stopLossPrice;
+        this.realizedPnL = realizedPnL;
+        this.market = market;
+        this.tradeType = tradeType;
+        this.symbol = symbol;
+        this.symbols = symbols;
+        this.estimatedBytes = estimateBytes();
+    }
+
+    public static Builder builder(long version) {
+        return new Builder(version);
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long id(int row) {
+        return ids[row];
+    }
+
+    public long createdAt(int row) {
+        return createdAt[row];
+    }
+
+    public long quantity(int row) {
+        return quantity[row];
+    }
+
+    public long entryPrice(int row) {
+        return entryPrice[row];
+    }
+
+    public long stopLossPrice(int row) {
+        return stopLossPrice[row];
+    }
+
+    public long realizedPnL(int row) {
+        return realizedPnL[row];
+    }
+
+    public boolean isClosed(int row) {
+        return realizedPnL[row] != NO_PNL;
+    }
+
+    public MarketType market(int row) {
+        return MARKETS[market[row]];
+    }
+
+    public byte marketCode(int row) {
+        return market[row];
+    }
+
+    public TradeType tradeType(int row) {
+        return TRADE_TYPES[tradeType[row]];
+    }
+
+    public byte tradeTypeCode(int row) {
+        return tradeType[row];
+    }
+
+    public int symbolCode(int row) {
+        return symbol[row];
+    }
+
+    public String symbol(int row) {
+        return symbols[symbol[row]];
+    }
+
+    public String symbolAt(int code) {
+        return symbols[code];
+    }
+
+    public static MarketType marketOf(byte code) {
+        return MARKETS[code];
+    }
+
+    public static TradeType tradeTypeOf(byte code) {
+        return TRADE_TYPES[code];
+    }
+
+    /**
+     * 심볼 사전 인덱스 (없으면 -1)
+     */
+    public int symbolCodeOf(String value) {
+        for (int i = 0; i < symbols.length; i++) {
+            if (symbols[i].equals(value)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 캐시 메모리 사용량 추정치 (바이트)
+     */
+    public long estimatedBytes() {
+        return estimatedBytes;
+    }
+
+    /**
+     * 스냅샷 기준 파생 결과 (키별로 한 번만 계산, 스냅샷이 교체되면 함께 폐기)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T derive(String key, Function<JournalColumns, T> computation) {
+        return (T) derived.computeIfAbsent(key, k -> computation.apply(this));
+    }
+
+    public JournalColumns withVersion(long newVersion) {
+        return new JournalColumns(newVersion, size, ids, createdAt, quantity, entryPrice, stopLossPrice, realizedPnL,
+                market, tradeType, symbol, symbols);
+    }
+
+    /**
+     * 행 추가/교체 (같은 id는 교체, 정렬 순서 유지)
+     */
+    public JournalColumns upsert(Collection<Row> rows) {
+        Set<Long> replaced = new HashSet<>();
+        for (Row row : rows) {
+            replaced.add(row.id());
+        }
+        Row[] patch = rows.toArray(new Row[0]);
+        Arrays.sort(patch, ROW_ORDER);
+
+        Builder builder = new Builder(version, size + patch.length);
+        int next = 0;
+        for (int i = 0; i < size; i++) {
+            if (replaced.contains(ids[i])) {
+                continue;
+            }
+            while (next < patch.length && (patch[next].createdAt() < createdAt[i]
+                    || (patch[next].createdAt() == createdAt[i] && patch[next].id() < ids[i]))) {
+                builder.add(patch[next++]);
+            }
+            builder.add(ids[i], createdAt[i], market[i], symbols[symbol[i]], tradeType[i],
+                    quantity[i], entryPrice[i], stopLossPrice[i], realizedPnL[i]);
+        }
+        while (next < patch.length) {
+            builder.add(patch[next++]);
+        }
+        return builder.build();
+    }
+
+    /**
+     * 행 삭제
+     */
+    public JournalColumns remove(Collection<Long> removedIds) {
+        Set<Long> removed = new HashSet<>(removedIds);
+        Builder builder = new Builder(version, size);
+        for (int i = 0; i < size; i++) {
+            if (!removed.contains(ids[i])) {
+                builder.add(ids[i], createdAt[i], market[i], symbols[symbol[i]], tradeType[i],
+                        quantity[i], entryPrice[i], stopLossPrice[i], realizedPnL[i]);
+            }
+        }
+        return builder.build();
+    }
+
+    private long estimateBytes() {
+        // 배열 헤더(16) + 원소, 심볼 문자열(헤더 + 바이트 배열)
+        long bytes = 7L * 16 + ids.length * 8L * 6 + market.length * 2L + symbol.length * 4L;
+        for (String value : symbols) {
+            bytes += 56 + value.length();
+        }
+        return bytes;
+    }
+
+    /**
+     * 캐시 패치용 단일 행
+     */
+    public record Row(long id, long createdAt, MarketType market, String symbol, TradeType tradeType,
+                      long quantity, long entryPrice, long stopLossPrice, long realizedPnL) {
+    }
+
+    /**
+     * 시간순으로 행을 받아 컬럼 배열을 채우는 빌더 (배열은 2배씩 증가)
+     */
+    public static final class Builder {
+        private final long version;
+        private final Map<String, Integer> symbolCodes = new HashMap<>();
+        private long[] ids;
+        private long[] createdAt;
+        private long[] quantity;
+        private long[] entryPrice;
+        private long[] stopLossPrice;
+        private long[] realizedPnL;
+        private byte[] market;
+        private byte[] tradeType;
+        private int[] symbol;
+        private int size;
+
+        private Builder(long version) {
+            this(version, 256);
+        }
+
+        private Builder(long version, int capacity) {
+            this.version = version;
+            int initial = Math.max(capacity, 16);
+            this.ids = new long[initial];
+            this.createdAt = new long[initial];
+            this.quantity = new long[initial];
+            this.entryPrice = new long[initial];
+            this.stopLossPrice = new long[initial];
+            this.realizedPnL = new long[initial];
+            this.market = new byte[initial];
+            this.tradeType = new byte[initial];
+            this.symbol = new int[initial];
+        }
+
+        public Builder add(Row row) {
+            return add(row.id(), row.createdAt(), (byte) row.market().ordinal(), row.symbol(),
+                    (byte) row.tradeType().ordinal(), row.quantity(), row.entryPrice(), row.stopLossPrice(),
+                    row.realizedPnL());
+        }
+
+        public Builder add(long id, long createdAtMillis, byte marketCode, String symbolValue, byte tradeTypeCode,
+                           long quantityValue, long entryPriceValue, long stopLossPriceValue,
+                           long realizedPnLValue) {
+            if (size == ids.length) {
+                grow();
+            }
+            ids[size] = id;
+            createdAt[size] = createdAtMillis;
+            market[size] = marketCode;
+            symbol[size] = symbolCodes.computeIfAbsent(symbolValue, key -> symbolCodes.size());
+            tradeType[size] = tradeTypeCode;
+            quantity[size] = quantityValue;
+            entryPrice[size] = entryPriceValue;
+            stopLossPrice[size] = stopLossPriceValue;
+            realizedPnL[size] = realizedPnLValue;
+            size++;
+            return this;
+        }
+
+        public JournalColumns build() {
+            String[] dictionary = new String[symbolCodes.size()];
+            symbolCodes.forEach((value, code) -> dictionary[code] = value);
+            return new JournalColumns(version, size,
+                    Arrays.copyOf(ids, size), Arrays.copyOf(createdAt, size), Arrays.copyOf(quantity, size),
+                    Arrays.copyOf(entryPrice, size), Arrays.copyOf(stopLossPrice, size),
+                    Arrays.copyOf(realizedPnL, size),
+                    Arrays.copyOf(market, size), Arrays.copyOf(tradeType, size), Arrays.copyOf(symbol, size),
+                    dictionary);
+        }
+
+        private void grow() {
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            createdAt = Arrays.copyOf(createdAt, capacity);
+            quantity = Arrays.copyOf(quantity, capacity);
+            entryPrice = Arrays.copyOf(entryPrice, capacity);
+            stopLossPrice = Arrays.copyOf(stopLossPrice, capacity);
+            realizedPnL = Arrays.copyOf(realizedPnL, capacity);
+            market = Arrays.copyOf(market, capacity);
+            tradeType = Arrays.copyOf(tradeType, capacity);
+            symbol = Arrays.copyOf(symbol, capacity);
+        }
+    }
+}
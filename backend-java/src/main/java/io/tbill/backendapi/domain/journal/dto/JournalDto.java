@@ -1,13 +1,20 @@
 package io.tbill.backendapi.domain.journal.dto;
 
 import io.tbill.backendapi.domain.journal.entity.Journal;
+import io.tbill.backendapi.domain.journal.entity.JournalStatistics;
 import io.tbill.backendapi.domain.journal.entity.MarketType;
 import io.tbill.backendapi.domain.journal.entity.TradeType;
 import lombok.Builder;
 import lombok.Getter;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
 
 public class JournalDto {
 
@@ -50,11 +57,133 @@ public class JournalDto {
                     .quantity(this.quantity)
                     .entryPrice(this.entryPrice)
                     .stopLossPrice(this.stopLossPrice)
-                    .reasoning(this.reasoning)
+                    .realizedPnL(this.realizedPnL)
                     .build();
         }
     }
 
+    /**
+     * 대량 가져오기(Import) 입력 행
+     * - 파싱/검증에 성공하면 command, 실패하면 error를 가짐
+     */
+    @Getter
+    public static class ImportRow {
+        private final long rowNumber;
+        private final CreateCommand command;
+        private final String error;
+
+        private ImportRow(long rowNumber, CreateCommand command, String error) {
+            this.rowNumber = rowNumber;
+            this.command = command;
+            this.error = error;
+        }
+
+        public static ImportRow valid(long rowNumber, CreateCommand command) {
+            return new ImportRow(rowNumber, command, null);
+        }
+
+        public static ImportRow invalid(long rowNumber, String error) {
+            return new ImportRow(rowNumber, null, error);
+        }
+
+        public boolean isValid() {
+            return command != null;
+        }
+    }
+
+    /**
+     * 대량 가져오기(Import) 결과
+     */
+    @Getter
+    public static class ImportResult {
+        private final long totalRows;
+        private final long importedRows;
+        private final long failedRows;
+        private final List<ImportError> errors;
+        private final boolean errorsTruncated;
+
+        @Builder
+        public ImportResult(long totalRows, long importedRows, long failedRows,
+                            List<ImportError> errors, boolean errorsTruncated) {
+            this.totalRows = totalRows;
+            this.importedRows = importedRows;
+            this.failedRows = failedRows;
+            this.errors = errors;
+            this.errorsTruncated = errorsTruncated;
+        }
+    }
+
+    /**
+     * 대량 가져오기(Import) 행 단위 오류
+     */
+    @Getter
+    public static class ImportError {
+        private final long rowNumber;
+        private final String message;
+
+        public ImportError(long rowNumber, String message) {
+            this.rowNumber = rowNumber;
+            this.message = message;
+        }
+    }
+
+    /**
+     * 일괄 종료 항목 (진행 중 거래를 실현 손익으로 종료)
+     */
+    @Getter
+    public static class CloseItem {
+        private final Long journalId;
+        private final BigDecimal realizedPnL;
+
+        public CloseItem(Long journalId, BigDecimal realizedPnL) {
+            this.journalId = journalId;
+            this.realizedPnL = realizedPnL;
+        }
+    }
+
+    /**
+     * 일괄 처리 항목별 결과
+     * - NOT_FOUND: 없거나 본인 매매일지가 아님
+     * - ALREADY_CLOSED: 일괄 종료 대상이 이미 종료된 거래 (변경하지 않음)
+     */
+    public enum BulkStatus {
+        CLOSED,
+        DELETED,
+        NOT_FOUND,
+        ALREADY_CLOSED
+    }
+
+    @Getter
+    public static class BulkOutcome {
+        private final Long journalId;
+        private final BulkStatus status;
+
+        public BulkOutcome(Long journalId, BulkStatus status) {
+            this.journalId = journalId;
+            this.status = status;
+        }
+
+        public boolean isSucceeded() {
+            return status == BulkStatus.CLOSED || status == BulkStatus.DELETED;
+        }
+    }
+
+    /**
+     * 일괄 종료/삭제 결과 (요청 순서, 중복 ID 는 1건)
+     */
+    @Getter
+    public static class BulkResult {
+        private final List<BulkOutcome> outcomes;
+        private final long succeeded;
+        private final long failed;
+
+        public BulkResult(List<BulkOutcome> outcomes) {
+            this.outcomes = outcomes;
+            this.succeeded = outcomes.stream().filter(BulkOutcome::isSucceeded).count();
+            this.failed = outcomes.size() - succeeded;
+        }
+    }
+
     /**
      * 매매일지 수정 Command (새로 추가)
      */
@@ -110,6 +239,111 @@ public class JournalDto {
         }
     }
 
+    /**
+     * 커서(Keyset) 페이징 위치 - (createdAt, id) 역순 기준 마지막으로 조회한 행
+     * - API에는 Base64(URL-safe) 인코딩된 불투명 문자열로 노출
+     */
+    @Getter
+    public static class Cursor {
+        // 첫 페이지: 모든 행보다 뒤에 있는 가상의 위치
+        public static final Cursor FIRST = new Cursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+        private static final String DELIMITER = "|";
+
+        private final LocalDateTime createdAt;
+        private final Long id;
+
+        private Cursor(LocalDateTime createdAt, Long id) {
+            this.createdAt = createdAt;
+            this.id = id;
+        }
+
+        public static Cursor of(LocalDateTime createdAt, Long id) {
+            return new Cursor(createdAt, id);
+        }
+
+        /**
+         * 불투명 커서 문자열 -> Cursor (비어 있으면 첫 페이지)
+         */
+        public static Cursor decode(String token) {
+            if (token == null || token.isBlank()) {
+                return FIRST;
+            }
+            try {
+                String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+                int delimiterIndex = decoded.indexOf(DELIMITER);
+                return new Cursor(
+                        LocalDateTime.parse(decoded.substring(0, delimiterIndex)),
+                        Long.parseLong(decoded.substring(delimiterIndex + 1)));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다: " + token);
+            }
+        }
+
+        public String encode() {
+            String raw = createdAt + DELIMITER + id;
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * 전문 검색 커서(Keyset) 위치 - (score, id) 역순 기준 마지막으로 조회한 행
+     */
+    @Getter
+    public static class TextSearchCursor {
+        public static final TextSearchCursor FIRST = new TextSearchCursor(Long.MAX_VALUE, Long.MAX_VALUE);
+
+        private static final String DELIMITER = "|";
+
+        private final long score;
+        private final Long id;
+
+        private TextSearchCursor(long score, Long id) {
+            this.score = score;
+            this.id = id;
+        }
+
+        public static TextSearchCursor of(long score, Long id) {
+            return new TextSearchCursor(score, id);
+        }
+
+        public static TextSearchCursor decode(String token) {
+            if (token == null || token.isBlank()) {
+                return FIRST;
+            }
+            try {
+                String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+                int delimiterIndex = decoded.indexOf(DELIMITER);
+                return new TextSearchCursor(
+                        Long.parseLong(decoded.substring(0, delimiterIndex)),
+                        Long.parseLong(decoded.substring(delimiterIndex + 1)));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다: " + token);
+            }
+        }
+
+        public String encode() {
+            String raw = score + DELIMITER + id;
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * 전문 검색 결과 행 (score: 관련도, 클수록 상위)
+     */
+    @Getter
+    public static class TextSearchHit {
+        private final JournalSummary journal;
+        private final long score;
+
+        public TextSearchHit(JournalSummary journal, long score) {
+            this.journal = journal;
+            this.score = score;
+        }
+    }
+
     /**
      * 매매일지 정보 (기존 유지)
      */
@@ -128,23 +362,39 @@ public class JournalDto {
         private final LocalDateTime createdAt;
         private final LocalDateTime updatedAt;
 
+        /**
+         * 근거 없이 변환 (근거는 journal_reasoning 테이블에 별도 저장)
+         */
         public static JournalInfo from(Journal journal) {
-            return new JournalInfo(journal);
+            return from(journal, null);
+        }
+
+        public static JournalInfo from(Journal journal, String reasoning) {
+            return new JournalInfo(journal.getId(), journal.getAuthorEmail(), journal.getMarket(), journal.getSymbol(),
+                    journal.getTradeType(), journal.getQuantity(), journal.getEntryPrice(),
+                    journal.getStopLossPrice(), journal.getRealizedPnL(), reasoning,
+                    journal.getCreatedAt(), journal.getUpdatedAt());
         }
 
-        private JournalInfo(Journal journal) {
-            this.id = journal.getId();
-            this.authorEmail = journal.getAuthorEmail();
-            this.market = journal.getMarket();
-            this.symbol = journal.getSymbol();
-            this.tradeType = journal.getTradeType();
-            this.quantity = journal.getQuantity();
-            this.entryPrice = journal.getEntryPrice();
-            this.stopLossPrice = journal.getStopLossPrice();
-            this.realizedPnL = journal.getRealizedPnL();
-            this.reasoning = journal.getReasoning();
-            this.createdAt = journal.getCreatedAt();
-            this.updatedAt = journal.getUpdatedAt();
+        /**
+         * JDBC 직접 조회(내보내기 스트리밍)용 생성자
+         */
+        public JournalInfo(Long id, String authorEmail, MarketType market, String symbol,
+                           TradeType tradeType, BigDecimal quantity, BigDecimal entryPrice,
+                           BigDecimal stopLossPrice, BigDecimal realizedPnL, String reasoning,
+                           LocalDateTime createdAt, LocalDateTime updatedAt) {
+            this.id = id;
+            this.authorEmail = authorEmail;
+            this.market = market;
+            this.symbol = symbol;
+            this.tradeType = tradeType;
+            this.quantity = quantity;
+            this.entryPrice = entryPrice;
+            this.stopLossPrice = stopLossPrice;
+            this.realizedPnL = realizedPnL;
+            this.reasoning = reasoning;
+            this.createdAt = createdAt;
+            this.updatedAt = updatedAt;
         }
     }
 
@@ -168,15 +418,26 @@ public class JournalDto {
         }
 
         private JournalSummary(Journal journal) {
-            this.id = journal.getId();
-            this.market = journal.getMarket();
-            this.symbol = journal.getSymbol();
-            this.tradeType = journal.getTradeType();
-            this.quantity = journal.getQuantity();
-            this.entryPrice = journal.getEntryPrice();
-            this.realizedPnL = journal.getRealizedPnL();
-            this.createdAt = journal.getCreatedAt();
-            this.isClosed = journal.getRealizedPnL() != null;
+            this(journal.getId(), journal.getMarket(), journal.getSymbol(), journal.getTradeType(),
+                    journal.getQuantity(), journal.getEntryPrice(), journal.getRealizedPnL(),
+                    journal.getCreatedAt());
+        }
+
+        /**
+         * 목록 컬럼만 조회하는 쿼리(Projection)용 생성자
+         */
+        public JournalSummary(Long id, MarketType market, String symbol, TradeType tradeType,
+                              BigDecimal quantity, BigDecimal entryPrice, BigDecimal realizedPnL,
+                              LocalDateTime createdAt) {
+            this.id = id;
+            this.market = market;
+            this.symbol = symbol;
+            this.tradeType = tradeType;
+            this.quantity = quantity;
+            this.entryPrice = entryPrice;
+            this.realizedPnL = realizedPnL;
+            this.createdAt = createdAt;
+            this.isClosed = realizedPnL != null;
         }
     }
 
@@ -190,15 +451,442 @@ public class JournalDto {
         private final Long closedTrades;
         private final Long openTrades;
         private final BigDecimal winRate;
+        private final Long winningTrades;
+        private final Long losingTrades;
+        private final BigDecimal grossProfit;
+        private final BigDecimal grossLoss;
 
         @Builder
         public Statistics(BigDecimal totalPnL, Long totalTrades, Long closedTrades,
-                          Long openTrades, BigDecimal winRate) {
+                          Long openTrades, BigDecimal winRate, Long winningTrades,
+                          Long losingTrades, BigDecimal grossProfit, BigDecimal grossLoss) {
             this.totalPnL = totalPnL;
             this.totalTrades = totalTrades;
             this.closedTrades = closedTrades;
             this.openTrades = openTrades;
             this.winRate = winRate;
+            this.winningTrades = winningTrades;
+            this.losingTrades = losingTrades;
+            this.grossProfit = grossProfit;
+            this.grossLoss = grossLoss;
+        }
+
+        /**
+         * 통계 집계(JournalStatistics) -> 통계 정보
+         */
+        public static Statistics from(JournalStatistics statistics) {
+            return of(statistics.getTotalPnL(), statistics.getTotalTrades(), statistics.getClosedTrades(),
+                    statistics.getWinningTrades(), statistics.getLosingTrades(),
+                    statistics.getGrossProfit(), statistics.getGrossLoss());
+        }
+
+        /**
+         * 집계 값으로부터 파생 지표(진행 중 거래 수, 승률) 계산
+         */
+        public static Statistics of(BigDecimal totalPnL, long totalTrades, long closedTrades,
+                                    long winningTrades, long losingTrades,
+                                    BigDecimal grossProfit, BigDecimal grossLoss) {
+            // 승률 계산 (실현 손익이 0보다 큰 거래 / 종료된 거래)
+            BigDecimal winRate = BigDecimal.ZERO;
+            if (closedTrades > 0) {
+                winRate = BigDecimal.valueOf(winningTrades)
+                        .divide(BigDecimal.valueOf(closedTrades), 4, RoundingMode.HALF_UP)
+                        .multiply(BigDecimal.valueOf(100));
+            }
+
+            return Statistics.builder()
+                    .totalPnL(totalPnL)
+                    .totalTrades(totalTrades)
+                    .closedTrades(closedTrades)
+                    .openTrades(totalTrades - closedTrades)
+                    .winRate(winRate)
+                    .winningTrades(winningTrades)
+                    .losingTrades(losingTrades)
+                    .grossProfit(grossProfit)
+                    .grossLoss(grossLoss)
+                    .build();
+        }
+    }
+
+    /**
+     * 그룹별 집계 결과 (JournalAnalyticsRepository / JournalColumnAnalytics, 손실 합계는 양수)
+     */
+    public record GroupAggregate(String key, long totalTrades, long closedTrades,
+                                 long winningTrades, long losingTrades,
+                                 BigDecimal totalPnL, BigDecimal grossProfit, BigDecimal grossLoss) {
+    }
+
+    /**
+     * 손익 분석 그룹 (그룹 키 + 그룹 내 통계)
+     */
+    @Getter
+    public static class AnalyticsBucket {
+        private final String key;
+        private final Statistics statistics;
+
+        public AnalyticsBucket(String key, Statistics statistics) {
+            this.key = key;
+            this.statistics = statistics;
+        }
+
+        public static AnalyticsBucket from(GroupAggregate aggregate) {
+            return new AnalyticsBucket(aggregate.key(), Statistics.of(
+                    aggregate.totalPnL(), aggregate.totalTrades(), aggregate.closedTrades(),
+                    aggregate.winningTrades(), aggregate.losingTrades(),
+                    aggregate.grossProfit(), aggregate.grossLoss()));
+        }
+    }
+
+    /**
+     * 누적 실현 손익 곡선 / 낙폭 분석 결과
+     * - 시간축은 매매일지 생성 시각(created_at, 진입 시점 기록). 별도 종료 시각 컬럼이 없으므로 종료 시점이 아님
+     */
+    @Getter
+    public static class EquityCurve {
+        private final int totalTrades;
+        private final double finalEquity;
+        private final double peakEquity;
+        private final double maxDrawdown;
+        private final double currentDrawdown;
+        private final Duration longestDrawdownDuration;
+        private final Duration longestRecoveryDuration;
+        private final List<DrawdownPeriod> drawdowns; // 깊이 내림차순 상위 구간
+        private final List<EquityPoint> points;
+
+        @Builder
+        public EquityCurve(int totalTrades, double finalEquity, double peakEquity, double maxDrawdown,
+                           double currentDrawdown, Duration longestDrawdownDuration,
+                           Duration longestRecoveryDuration, List<DrawdownPeriod> drawdowns,
+                           List<EquityPoint> points) {
+            this.totalTrades = totalTrades;
+            this.finalEquity = finalEquity;
+            this.peakEquity = peakEquity;
+            this.maxDrawdown = maxDrawdown;
+            this.currentDrawdown = currentDrawdown;
+            this.longestDrawdownDuration = longestDrawdownDuration;
+            this.longestRecoveryDuration = longestRecoveryDuration;
+            this.drawdowns = drawdowns;
+            this.points = points;
+        }
+    }
+
+    /**
+     * 손익 곡선의 한 점 (해당 종료 거래까지의 누적 손익과 낙폭, createdAt = 그 거래의 생성 시각)
+     */
+    @Getter
+    public static class EquityPoint {
+        private final LocalDateTime createdAt;
+        private final double equity;
+        private final double drawdown;
+
+        public EquityPoint(LocalDateTime createdAt, double equity, double drawdown) {
+            this.createdAt = createdAt;
+            this.equity = equity;
+            this.drawdown = drawdown;
+        }
+    }
+
+    /**
+     * 낙폭 구간 (최고점 -> 저점 -> 회복, 회복 전이면 recoveredAt = null)
+     * - 각 시각은 해당 거래의 생성 시각(created_at)
+     */
+    @Getter
+    public static class DrawdownPeriod {
+        private final LocalDateTime startedAt;
+        private final LocalDateTime troughAt;
+        private final LocalDateTime recoveredAt;
+        private final double depth;
+        private final Duration duration;
+
+        @Builder
+        public DrawdownPeriod(LocalDateTime startedAt, LocalDateTime troughAt, LocalDateTime recoveredAt,
+                              double depth, Duration duration) {
+            this.startedAt = startedAt;
+            this.troughAt = troughAt;
+            this.recoveredAt = recoveredAt;
+            this.depth = depth;
+            this.duration = duration;
+        }
+    }
+
+    /**
+     * 종료 거래 위험 지표 (정의할 수 없는 비율은 null)
+     * - R: 손절가까지의 위험 금액(1R) 대비 실현 손익 배수
+     * - currentStreak: 양수는 진행 중인 연승, 음수는 연패
+     */
+    @Getter
+    public static class RiskMetrics {
+        private final long closedTrades;
+        private final long winningTrades;
+        private final long losingTrades;
+        private final long riskDefinedTrades; // 손절가가 있어 R을 계산한 거래 수
+        private final double totalR;
+        private final Double averageR;
+        private final Double expectancy;      // 거래당 평균 실현 손익
+        private final Double averageWin;
+        private final Double averageLoss;     // 양수
+        private final Double profitFactor;    // 총 이익 / 총 손실
+        private final Double payoffRatio;     // 평균 이익 / 평균 손실
+        private final Double sharpeRatio;
+        private final Double sortinoRatio;
+        private final int longestWinStreak;
+        private final int longestLossStreak;
+        private final int currentStreak;
+
+        @Builder
+        public RiskMetrics(long closedTrades, long winningTrades, long losingTrades, long riskDefinedTrades,
+                           double totalR, Double averageR, Double expectancy, Double averageWin,
+                           Double averageLoss, Double profitFactor, Double payoffRatio, Double sharpeRatio,
+                           Double sortinoRatio, int longestWinStreak, int longestLossStreak, int currentStreak) {
+            this.closedTrades = closedTrades;
+            this.winningTrades = winningTrades;
+            this.losingTrades = losingTrades;
+            this.riskDefinedTrades = riskDefinedTrades;
+            this.totalR = totalR;
+            this.averageR = averageR;
+            this.expectancy = expectancy;
+            this.averageWin = averageWin;
+            this.averageLoss = averageLoss;
+            this.profitFactor = profitFactor;
+            this.payoffRatio = payoffRatio;
+            this.sharpeRatio = sharpeRatio;
+            this.sortinoRatio = sortinoRatio;
+            this.longestWinStreak = longestWinStreak;
+            this.longestLossStreak = longestLossStreak;
+            this.currentStreak = currentStreak;
+        }
+    }
+
+    /**
+     * (시장, 심볼)별 진행 중 거래 합계 (JournalPositionRepository, notional = Σ 수량 × 진입가)
+     */
+    public record PositionAggregate(MarketType market, String symbol, long openTrades,
+                                    BigDecimal longQuantity, BigDecimal longNotional,
+                                    BigDecimal shortQuantity, BigDecimal shortNotional,
+                                    BigDecimal stopLossRisk, BigDecimal unprotectedQuantity) {
+    }
+
+    /**
+     * (시장, 심볼)별 순포지션 (진행 중 거래 기준)
+     * - netQuantity = 롱 수량 - 숏 수량, direction은 순포지션 방향 (0이면 null)
+     * - 평균 진입가는 수량 가중 평균 (해당 방향 수량이 0이면 null)
+     * - stopLossRisk: 모든 손절가 도달 시 손실 금액 (음수면 이익 보전), unprotectedQuantity: 손절가 없는 수량
+     */
+    @Getter
+    public static class Position {
+        private static final int PRICE_SCALE = 8;
+
+        private final MarketType market;
+        private final String symbol;
+        private final long openTrades;
+        private final BigDecimal longQuantity;
+        private final BigDecimal shortQuantity;
+        private final BigDecimal netQuantity;
+        private final TradeType direction;
+        private final BigDecimal longAverageEntryPrice;
+        private final BigDecimal shortAverageEntryPrice;
+        private final BigDecimal averageEntryPrice;
+        private final BigDecimal stopLossRisk;
+        private final BigDecimal unprotectedQuantity;
+
+        @Builder
+        public Position(MarketType market, String symbol, long openTrades, BigDecimal longQuantity,
+                        BigDecimal shortQuantity, BigDecimal netQuantity, TradeType direction,
+                        BigDecimal longAverageEntryPrice, BigDecimal shortAverageEntryPrice,
+                        BigDecimal averageEntryPrice, BigDecimal stopLossRisk, BigDecimal unprotectedQuantity) {
+            this.market = market;
+            this.symbol = symbol;
+            this.openTrades = openTrades;
+            this.longQuantity = longQuantity;
+            this.shortQuantity = shortQuantity;
+            this.netQuantity = netQuantity;
+            this.direction = direction;
+            this.longAverageEntryPrice = longAverageEntryPrice;
+            this.shortAverageEntryPrice = shortAverageEntryPrice;
+            this.averageEntryPrice = averageEntryPrice;
+            this.stopLossRisk = stopLossRisk;
+            this.unprotectedQuantity = unprotectedQuantity;
+        }
+
+        public static Position from(PositionAggregate aggregate) {
+            BigDecimal netQuantity = aggregate.longQuantity().subtract(aggregate.shortQuantity());
+            BigDecimal longAverage = average(aggregate.longNotional(), aggregate.longQuantity());
+            BigDecimal shortAverage = average(aggregate.shortNotional(), aggregate.shortQuantity());
+            TradeType direction = switch (netQuantity.signum()) {
+                case 1 -> TradeType.LONG;
+                case -1 -> TradeType.SHORT;
+                default -> null;
+            };
+
+            return Position.builder()
+                    .market(aggregate.market())
+                    .symbol(aggregate.symbol())
+                    .openTrades(aggregate.openTrades())
+                    .longQuantity(aggregate.longQuantity())
+                    .shortQuantity(aggregate.shortQuantity())
+                    .netQuantity(netQuantity)
+                    .direction(direction)
+                    .longAverageEntryPrice(longAverage)
+                    .shortAverageEntryPrice(shortAverage)
+                    .averageEntryPrice(direction == TradeType.LONG ? longAverage
+                            : direction == TradeType.SHORT ? shortAverage : null)
+                    .stopLossRisk(aggregate.stopLossRisk())
+                    .unprotectedQuantity(aggregate.unprotectedQuantity())
+                    .build();
+        }
+
+        private static BigDecimal average(BigDecimal notional, BigDecimal quantity) {
+            return quantity.signum() != 0 ? notional.divide(quantity, PRICE_SCALE, RoundingMode.HALF_UP) : null;
+        }
+    }
+
+    /**
+     * 달력 하루 (journal_daily_rollup 한 행, 거래가 없는 날은 포함하지 않음)
+     */
+    @Getter
+    public static class CalendarDay {
+        private final LocalDate date;
+        private final int totalTrades;
+        private final int closedTrades;
+        private final int winningTrades;
+        private final int losingTrades;
+        private final BigDecimal realizedPnL;
+
+        public CalendarDay(LocalDate date, int totalTrades, int closedTrades,
+                           int winningTrades, int losingTrades, BigDecimal realizedPnL) {
+            this.date = date;
+            this.totalTrades = totalTrades;
+            this.closedTrades = closedTrades;
+            this.winningTrades = winningTrades;
+            this.losingTrades = losingTrades;
+            this.realizedPnL = realizedPnL;
+        }
+    }
+
+    /**
+     * 리플레이 결과 (종료 거래 기준, 청산 규칙별 결과는 요청 순서)
+     * - missingBarTrades: 봉 데이터가 없어 모든 규칙에서 실제 손익을 유지한 거래 수
+     */
+    @Getter
+    public static class ReplayResult {
+        private final int closedTrades;
+        private final int missingBarTrades;
+        private final List<ReplayVariant> variants;
+
+        public ReplayResult(int closedTrades, int missingBarTrades, List<ReplayVariant> variants) {
+            this.closedTrades = closedTrades;
+            this.missingBarTrades = missingBarTrades;
+            this.variants = variants;
+        }
+    }
+
+    /**
+     * 청산 규칙 하나의 리플레이 결과 (실제 손익과 같은 거래 집합으로 비교)
+     * - simulatedTrades: 봉 데이터로 다시 계산한 거래 수 (나머지는 실제 손익 유지)
+     * - stopExits / targetExits / timeExits: 규칙에 따라 실제와 다르게 청산된 거래 수
+     * - 낙폭은 작성 시각 순 누적 손익 기준 (0에서 시작)
+     */
+    @Getter
+    public static class ReplayVariant {
+        private final String name;
+        private final boolean respectStop;
+        private final Double targetR;
+        private final int maxHoldBars;
+        private final int simulatedTrades;
+        private final int stopExits;
+        private final int targetExits;
+        private final int timeExits;
+        private final int winningTrades;
+        private final int losingTrades;
+        private final double simulatedPnL;
+        private final double actualPnL;
+        private final double pnLDifference;      // simulatedPnL - actualPnL
+        private final double simulatedMaxDrawdown;
+        private final double actualMaxDrawdown;
+
+        @Builder
+        public ReplayVariant(String name, boolean respectStop, Double targetR, int maxHoldBars,
+                             int simulatedTrades, int stopExits, int targetExits, int timeExits,
+                             int winningTrades, int losingTrades, double simulatedPnL, double actualPnL,
+                             double pnLDifference, double simulatedMaxDrawdown, double actualMaxDrawdown) {
+            this.name = name;
+            this.respectStop = respectStop;
+            this.targetR = targetR;
+            this.maxHoldBars = maxHoldBars;
+            this.simulatedTrades = simulatedTrades;
+            this.stopExits = stopExits;
+            this.targetExits = targetExits;
+            this.timeExits = timeExits;
+            this.winningTrades = winningTrades;
+            this.losingTrades = losingTrades;
+            this.simulatedPnL = simulatedPnL;
+            this.actualPnL = actualPnL;
+            this.pnLDifference = pnLDifference;
+            this.simulatedMaxDrawdown = simulatedMaxDrawdown;
+            this.actualMaxDrawdown = actualMaxDrawdown;
+        }
+    }
+
+    /**
+     * 진행 중 거래 평가 손익 (시세를 받지 못한 심볼의 값은 null)
+     * - totalUnrealizedPnL: 시세가 있는 보유분 합계 (틱마다 증분 유지)
+     */
+    @Getter
+    public static class UnrealizedPnL {
+        private final double totalUnrealizedPnL;
+        private final int openTrades;
+        private final int unpricedTrades;
+        private final List<UnrealizedPosition> positions;
+
+        public UnrealizedPnL(double totalUnrealizedPnL, int openTrades, int unpricedTrades,
+                             List<UnrealizedPosition> positions) {
+            this.totalUnrealizedPnL = totalUnrealizedPnL;
+            this.openTrades = openTrades;
+            this.unpricedTrades = unpricedTrades;
+            this.positions = positions;
+        }
+    }
+
+    /**
+     * (시장, 심볼)별 평가 손익 (netQuantity = 롱 수량 - 숏 수량)
+     */
+    @Getter
+    public static class UnrealizedPosition {
+        private final MarketType market;
+        private final String symbol;
+        private final Double price;
+        private final LocalDateTime priceTime;
+        private final double netQuantity;
+        private final Double unrealizedPnL;
+        private final List<UnrealizedTrade> trades;
+
+        public UnrealizedPosition(MarketType market, String symbol, Double price, LocalDateTime priceTime,
+                                  double netQuantity, Double unrealizedPnL, List<UnrealizedTrade> trades) {
+            this.market = market;
+            this.symbol = symbol;
+            this.price = price;
+            this.priceTime = priceTime;
+            this.netQuantity = netQuantity;
+            this.unrealizedPnL = unrealizedPnL;
+            this.trades = trades;
+        }
+    }
+
+    @Getter
+    public static class UnrealizedTrade {
+        private final long journalId;
+        private final TradeType tradeType;
+        private final double quantity;
+        private final double entryPrice;
+        private final Double unrealizedPnL;
+
+        public UnrealizedTrade(long journalId, TradeType tradeType, double quantity, double entryPrice,
+                               Double unrealizedPnL) {
+            this.journalId = journalId;
+            this.tradeType = tradeType;
+            this.quantity = quantity;
+            this.entryPrice = entryPrice;
+            this.unrealizedPnL = unrealizedPnL;
         }
     }
 }
@@ -1,11 +1,14 @@
 package io.tbill.backendapi.domain.journal.entity;
 
 import io.tbill.backendapi.domain.common.entity.BaseTimeEntity;
+import io.tbill.backendapi.domain.common.entity.CacheRegions;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.math.BigDecimal;
 
@@ -13,13 +16,19 @@ import java.math.BigDecimal;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(name = "journal", indexes = {
-        @Index(name = "idx_author_email", columnList = "author_email"),
-        @Index(name = "idx_symbol", columnList = "symbol")
+        // 목록 조회 / 커서(Keyset) 페이징: author_email 필터 + (created_at, journal_id) 역순 정렬
+        @Index(name = "idx_journal_author_created", columnList = "author_email, created_at DESC, journal_id DESC"),
+        // 검색 필터 조합용 (진행 중/종료 거래 부분 인덱스는 schema-postgresql.sql)
+        @Index(name = "idx_journal_author_symbol", columnList = "author_email, symbol, created_at DESC, journal_id DESC"),
+        @Index(name = "idx_journal_author_market", columnList = "author_email, market, created_at DESC, journal_id DESC")
 })
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.JOURNAL)
 public class Journal extends BaseTimeEntity {
 
+    // IDENTITY는 INSERT마다 즉시 실행되어 JDBC 배치가 비활성화되므로 시퀀스(pooled, 50개 단위 선할당) 사용
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "journal_seq_generator")
+    @SequenceGenerator(name = "journal_seq_generator", sequenceName = "journal_seq", allocationSize = 50)
     @Column(name = "journal_id", updatable = false)
     private Long id;
 
@@ -49,14 +58,11 @@ public class Journal extends BaseTimeEntity {
     @Column(name = "realized_pnl")
     private BigDecimal realizedPnL;
 
-    @Column(name = "reasoning", columnDefinition = "TEXT")
-    private String reasoning;
-
     @Builder
     public Journal(String authorEmail, MarketType market, String symbol,
                    TradeType tradeType, BigDecimal quantity,
                    BigDecimal entryPrice, BigDecimal stopLossPrice,
-                   BigDecimal realizedPnL, String reasoning) {
+                   BigDecimal realizedPnL) {
         this.authorEmail = authorEmail;
         this.market = market;
         this.symbol = symbol;
@@ -65,15 +71,14 @@ public class Journal extends BaseTimeEntity {
         this.entryPrice = entryPrice;
         this.stopLossPrice = stopLossPrice;
         this.realizedPnL = realizedPnL;
-        this.reasoning = reasoning;
     }
 
     /**
      * 매매일지 수정 (변경 감지)
+     * - 근거(reasoning)는 JournalReasoning 에서 별도 관리
      */
     public void update(BigDecimal entryPrice, BigDecimal stopLossPrice,
-                       BigDecimal realizedPnL, String reasoning,
-                       TradeType tradeType, BigDecimal quantity) {
+                       BigDecimal realizedPnL, TradeType tradeType, BigDecimal quantity) {
         if (entryPrice != null) {
             this.entryPrice = entryPrice;
         }
@@ -83,9 +88,6 @@ public class Journal extends BaseTimeEntity {
         if (realizedPnL != null) {
             this.realizedPnL = realizedPnL;
         }
-        if (reasoning != null) {
-            this.reasoning = reasoning;
-        }
         if (tradeType != null) {
             this.tradeType = tradeType;
         }
@@ -0,0 +1,145 @@
+package io.tbill.backendapi.domain.journal.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 매매일지 근거(reasoning JSON: 마크다운 + 이미지 목록)
+ * - journal 행과 분리 저장하여 수정/삭제/목록 조회 시 본문을 읽지 않음 (상세 조회에서만 로딩)
+ * - PK는 journal_id 공유 (연관관계 없음, 매매일지 삭제 시 함께 삭제)
+ * - COMPRESSION_THRESHOLD 이상인 본문은 GZIP으로 압축 저장 (압축 효과가 없으면 원문 유지)
+ * - content_hash(SHA-256)로 본문을 읽지 않고 변경 여부 판단
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "journal_reasoning")
+public class JournalReasoning implements Persistable<Long> {
+
+    // 이보다 작은 본문은 압축 이득보다 GZIP 헤더/CPU 비용이 큼
+    public static final int COMPRESSION_THRESHOLD = 1024;
+
+    public enum Encoding {
+        PLAIN, GZIP
+    }
+
+    @Id
+    @Column(name = "journal_id", updatable = false)
+    private Long journalId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "encoding", nullable = false, length = 10)
+    private Encoding encoding;
+
+    @Column(name = "content", nullable = false, columnDefinition = "bytea")
+    private byte[] content;
+
+    // 압축 전 UTF-8 바이트 수
+    @Column(name = "original_size", nullable = false)
+    private int originalSize;
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    // 할당 ID 엔티티의 save() 시 merge(SELECT) 대신 persist 하도록 신규 여부를 직접 관리
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean newEntity = true;
+
+    private JournalReasoning(Long journalId, Encoding encoding, byte[] content, int originalSize, String contentHash) {
+        this.journalId = journalId;
+        this.encoding = encoding;
+        this.content = content;
+        this.originalSize = originalSize;
+        this.contentHash = contentHash;
+    }
+
+    /**
+     * 근거 본문을 인코딩(필요 시 압축)하여 생성
+     */
+    public static JournalReasoning of(Long journalId, String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        String hash = hash(text);
+        if (bytes.length >= COMPRESSION_THRESHOLD) {
+            byte[] compressed = gzip(bytes);
+            if (compressed.length < bytes.length) {
+                return new JournalReasoning(journalId, Encoding.GZIP, compressed, bytes.length, hash);
+            }
+        }
+        return new JournalReasoning(journalId, Encoding.PLAIN, bytes, bytes.length, hash);
+    }
+
+    /**
+     * 근거 본문 (압축 해제)
+     */
+    public String getText() {
+        return decode(encoding, content);
+    }
+
+    /**
+     * 저장된 바이트를 본문으로 복원 (JDBC 직접 조회용)
+     */
+    public static String decode(Encoding encoding, byte[] content) {
+        if (encoding == Encoding.PLAIN) {
+            return new String(content, StandardCharsets.UTF_8);
+        }
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(content))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException("매매 근거 압축 해제 실패", e);
+        }
+    }
+
+    /**
+     * 본문 해시 (변경 여부 비교용, 소문자 hex)
+     */
+    public static String hash(String text) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(text.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    @Override
+    public Long getId() {
+        return journalId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(bytes.length / 4);
+        try (OutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(bytes);
+        } catch (IOException e) {
+            throw new IllegalStateException("매매 근거 압축 실패", e);
+        }
+        return buffer.toByteArray();
+    }
+}
@@ -0,0 +1,132 @@
+package io.tbill.backendapi.domain.journal.entity;
+
+import io.tbill.backendapi.domain.common.entity.BaseTimeEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 사용자별 매매일지 통계 집계 (journal 테이블의 materialized 집계)
+ * - 매매일지 생성/수정/삭제 시 같은 트랜잭션에서 증분(delta)으로 갱신
+ * - JournalStatisticsReconciler가 주기적으로 journal 테이블 기준으로 재계산
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "journal_statistics")
+public class JournalStatistics extends BaseTimeEntity {
+
+    @Id
+    @Column(name = "author_email", updatable = false)
+    private String authorEmail;
+
+    @Column(name = "total_trades", nullable = false)
+    private long totalTrades;
+
+    @Column(name = "closed_trades", nullable = false)
+    private long closedTrades;
+
+    @Column(name = "winning_trades", nullable = false)
+    private long winningTrades;
+
+    @Column(name = "losing_trades", nullable = false)
+    private long losingTrades;
+
+    @Column(name = "total_pnl", nullable = false)
+    private BigDecimal totalPnL;
+
+    @Column(name = "gross_profit", nullable = false)
+    private BigDecimal grossProfit;
+
+    // 손실 합계는 절댓값(양수)으로 저장
+    @Column(name = "gross_loss", nullable = false)
+    private BigDecimal grossLoss;
+
+    public static JournalStatistics empty(String authorEmail) {
+        JournalStatistics statistics = new JournalStatistics();
+        statistics.authorEmail = authorEmail;
+        statistics.reset();
+        return statistics;
+    }
+
+    /**
+     * 매매일지 추가 반영
+     */
+    public void addTrade(BigDecimal realizedPnL) {
+        this.totalTrades += 1;
+        applyClosedTrade(realizedPnL, 1);
+    }
+
+    /**
+     * 매매일지 삭제 반영
+     */
+    public void removeTrade(BigDecimal realizedPnL) {
+        this.totalTrades -= 1;
+        applyClosedTrade(realizedPnL, -1);
+    }
+
+    /**
+     * 실현 손익 변경 반영 (null -> 값: 거래 종료, 값 -> 값: 손익 정정)
+     */
+    public void changeRealizedPnL(BigDecimal before, BigDecimal after) {
+        applyClosedTrade(before, -1);
+        applyClosedTrade(after, 1);
+    }
+
+    /**
+     * journal 테이블 기준 재계산 결과로 덮어쓰기 (Reconciliation)
+     *
+     * @return 기존 값과 달랐으면 true
+     */
+    public boolean overwrite(long totalTrades, long closedTrades, long winningTrades, long losingTrades,
+                             BigDecimal totalPnL, BigDecimal grossProfit, BigDecimal grossLoss) {
+        boolean changed = this.totalTrades != totalTrades
+                || this.closedTrades != closedTrades
+                || this.winningTrades != winningTrades
+                || this.losingTrades != losingTrades
+                || !sameAmount(this.totalPnL, totalPnL)
+                || !sameAmount(this.grossProfit, grossProfit)
+                || !sameAmount(this.grossLoss, grossLoss);
+        this.totalTrades = totalTrades;
+        this.closedTrades = closedTrades;
+        this.winningTrades = winningTrades;
+        this.losingTrades = losingTrades;
+        this.totalPnL = totalPnL;
+        this.grossProfit = grossProfit;
+        this.grossLoss = grossLoss;
+        return changed;
+    }
+
+    public boolean reset() {
+        return overwrite(0L, 0L, 0L, 0L, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO);
+    }
+
+    private void applyClosedTrade(BigDecimal realizedPnL, int sign) {
+        if (realizedPnL == null) {
+            return;
+        }
+        BigDecimal signedPnL = sign > 0 ? realizedPnL : realizedPnL.negate();
+
+        this.closedTrades += sign;
+        this.totalPnL = this.totalPnL.add(signedPnL);
+
+        if (realizedPnL.signum() > 0) {
+            this.winningTrades += sign;
+            this.grossProfit = this.grossProfit.add(signedPnL);
+        } else if (realizedPnL.signum() < 0) {
+            this.losingTrades += sign;
+            this.grossLoss = this.grossLoss.subtract(signedPnL);
+        }
+    }
+
+    // 저장 시 소수 자릿수가 달라질 수 있으므로 값으로 비교 (새로 만든 행은 null)
+    private static boolean sameAmount(BigDecimal a, BigDecimal b) {
+        return a == null ? b == null : b != null && a.compareTo(b) == 0;
+    }
+}
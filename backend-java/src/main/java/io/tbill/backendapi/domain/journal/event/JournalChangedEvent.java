@@ -0,0 +1,37 @@
+package io.tbill.backendapi.domain.journal.event;
+
+import java.util.List;
+
+/**
+ * 매매일지 변경 이벤트 (생성/수정/삭제/가져오기/일괄 종료·삭제)
+ * - 변경이 일어난 트랜잭션 안에서 발행
+ * - 캐시 무효화 등 부가 처리는 커밋 이후(@TransactionalEventListener AFTER_COMMIT) 수행
+ */
+public record JournalChangedEvent(String authorEmail, ChangeType changeType, List<Long> journalIds) {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    public static JournalChangedEvent created(String authorEmail, List<Long> journalIds) {
+        return new JournalChangedEvent(authorEmail, ChangeType.CREATED, journalIds);
+    }
+
+    public static JournalChangedEvent updated(String authorEmail, Long journalId) {
+        return new JournalChangedEvent(authorEmail, ChangeType.UPDATED, List.of(journalId));
+    }
+
+    public static JournalChangedEvent updated(String authorEmail, List<Long> journalIds) {
+        return new JournalChangedEvent(authorEmail, ChangeType.UPDATED, journalIds);
+    }
+
+    public static JournalChangedEvent deleted(String authorEmail, Long journalId) {
+        return new JournalChangedEvent(authorEmail, ChangeType.DELETED, List.of(journalId));
+    }
+
+    public static JournalChangedEvent deleted(String authorEmail, List<Long> journalIds) {
+        return new JournalChangedEvent(authorEmail, ChangeType.DELETED, journalIds);
+    }
+}
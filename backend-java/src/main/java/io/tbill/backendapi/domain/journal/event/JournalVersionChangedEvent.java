@@ -0,0 +1,14 @@
+package io.tbill.backendapi.domain.journal.event;
+
+/**
+ * 매매일지 버전 증가 완료 이벤트 (커밋 이후 JournalVersionService가 발행)
+ * - 로컬 캐시가 증분 반영 후 스냅샷 버전을 맞추는 데 사용
+ *
+ * @param version 증가된 버전 (Redis 장애로 증가하지 못했으면 null)
+ */
+public record JournalVersionChangedEvent(JournalChangedEvent change, Long version) {
+
+    public String authorEmail() {
+        return change.authorEmail();
+    }
+}
@@ -0,0 +1,310 @@
+package io.tbill.backendapi.domain.journal.mark;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.tbill.backendapi.domain.journal.dto.JournalDto;
+import io.tbill.backendapi.domain.journal.entity.MarketType;
+import io.tbill.backendapi.domain.journal.entity.TradeType;
+import io.tbill.backendapi.domain.journal.repository.JournalPositionRepository;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+
+/**
+ * 진행 중 거래 평가 손익 (인스턴스 로컬, 추적 중인 사용자만)
+ * - 최신 시세: (시장, 심볼) -> SymbolBook (ConcurrentHashMap, 조회는 잠금 없음)
+ * - 심볼 -> 진행 중 거래 색인: SymbolBook 마다 사용자별 보유분(Holding) 배열 (추적 변경 시 복사 후 교체)
+ * - 틱은 해당 심볼의 보유분만 갱신: 보유분 평가 손익 = 가격 × 순수량 - 순원가 (O(해당 심볼 보유 사용자 수))
+ * - 사용자 합계는 보유분 변화량을 DoubleAdder 에 더해 증분 유지 (다른 심볼의 틱이 동시에 더해도 경합 없음)
+ * - 같은 심볼의 틱/보유분 교체는 SymbolBook 모니터로 순서 보장, 시각이 이전인 틱은 버림
+ * - 추적 대상/보유분은 MarkToMarketService 가 매매일지 버전 기준으로 교체 (교체 시 합계를 새로 계산 -> 오차 누적 없음)
+ */
+@Component
+public class MarkToMarketBook {
+
+    private static final Holding[] NO_HOLDINGS = new Holding[0];
+
+    private final Map<SymbolKey, SymbolBook> symbols = new ConcurrentHashMap<>();
+    private final Map<String, UserBook> users = new ConcurrentHashMap<>();
+
+    private final Counter appliedTicks;
+    private final Counter staleTicks;
+
+    public MarkToMarketBook(MeterRegistry meterRegistry) {
+        this.appliedTicks = Counter.builder("price.feed.ticks").tag("result", "applied")
+                .description("반영된 틱").register(meterRegistry);
+        this.staleTicks = Counter.builder("price.feed.ticks").tag("result", "stale")
+                .description("직전 시세보다 이전 시각이라 버린 틱").register(meterRegistry);
+        Gauge.builder("mark_to_market.users", users, Map::size)
+                .description("평가 손익 추적 중인 사용자 수").register(meterRegistry);
+        Gauge.builder("mark_to_market.symbols", symbols, Map::size)
+                .description("시세를 보관 중인 심볼 수").register(meterRegistry);
+    }
+
+    public record SymbolKey(MarketType market, String symbol) {
+    }
+
+    public record Quote(double price, long epochMillis) {
+    }
+
+    /**
+     * 틱 반영
+     *
+     * @return 직전 시세보다 이전 시각이라 버렸으면 false
+     */
+    public boolean onTick(PriceTick tick) {
+        SymbolBook book = symbolBook(new SymbolKey(tick.market(), tick.symbol()));
+        synchronized (book) {
+            Quote current = book.quote;
+            if (current != null && tick.epochMillis() < current.epochMillis()) {
+                staleTicks.increment();
+                return false;
+            }
+            double price = tick.price();
+            book.quote = new Quote(price, tick.epochMillis());
+            for (Holding holding : book.holdings) {
+                double value = price * holding.netQuantity - holding.netCost;
+                double previous = holding.unrealized;
+                holding.unrealized = value;
+                holding.user.unrealized.add(Double.isNaN(previous) ? value : value - previous);
+            }
+        }
+        appliedTicks.increment();
+        return true;
+    }
+
+    public Optional<Quote> quote(MarketType market, String symbol) {
+        SymbolBook book = symbols.get(new SymbolKey(market, symbol));
+        return book == null ? Optional.empty() : Optional.ofNullable(book.quote);
+    }
+
+    /**
+     * 추적 중인 사용자의 매매일지 버전 (추적 중이 아니면 empty)
+     */
+    public Optional<Long> trackedVersion(String authorEmail) {
+        UserBook user = users.get(authorEmail);
+        return user == null ? Optional.empty() : Optional.of(user.version);
+    }
+
+    /**
+     * 사용자의 진행 중 거래로 보유분 교체 (없던 사용자면 추적 시작)
+     * - 이미 더 최신 버전으로 추적 중이면 무시 (동시 재적재 경합)
+     * - 합계는 심볼별 현재 시세로 새로 계산
+     *
+     * @param version 매매일지 버전 (모르면 JournalColumns.UNKNOWN_VERSION: 다음 조회에서 다시 적재)
+     */
+    public synchronized void track(String authorEmail, long version,
+                                   List<JournalPositionRepository.OpenTrade> openTrades) {
+        UserBook previous = users.get(authorEmail);
+        if (previous != null && previous.version > version && version >= 0) {
+            return;
+        }
+
+        Map<SymbolKey, List<JournalPositionRepository.OpenTrade>> bySymbol = new LinkedHashMap<>();
+        for (JournalPositionRepository.OpenTrade trade : openTrades) {
+            bySymbol.computeIfAbsent(new SymbolKey(trade.market(), trade.symbol()), key -> new ArrayList<>())
+                    .add(trade);
+        }
+
+        UserBook next = new UserBook(authorEmail, version, bySymbol.size());
+        if (previous != null) {
+            next.lastAccess = previous.lastAccess;
+        }
+        int index = 0;
+        for (Map.Entry<SymbolKey, List<JournalPositionRepository.OpenTrade>> entry : bySymbol.entrySet()) {
+            Holding holding = new Holding(next, entry.getKey(), entry.getValue());
+            next.holdings[index++] = holding;
+            SymbolBook book = symbolBook(entry.getKey());
+            synchronized (book) {
+                book.holdings = replace(book.holdings, previous, holding);
+                if (book.quote != null) {
+                    holding.unrealized = book.quote.price() * holding.netQuantity - holding.netCost;
+                    next.unrealized.add(holding.unrealized);
+                }
+            }
+        }
+        if (previous != null) {
+            detach(previous, bySymbol.keySet());
+        }
+        users.put(authorEmail, next);
+    }
+
+    /**
+     * 추적 종료 (보유분을 심볼 색인에서 제거)
+     */
+    public synchronized void untrack(String authorEmail) {
+        UserBook previous = users.remove(authorEmail);
+        if (previous != null) {
+            detach(previous, Set.of());
+        }
+    }
+
+    /**
+     * 마지막 조회 이후 idleMillis 가 지난 사용자 목록
+     */
+    public List<String> idleUsers(long idleMillis) {
+        long threshold = System.currentTimeMillis() - idleMillis;
+        return users.values().stream()
+                .filter(user -> user.lastAccess < threshold)
+                .map(user -> user.authorEmail)
+                .toList();
+    }
+
+    /**
+     * 사용자 평가 손익 조회 (추적 중이 아니면 empty)
+     * - 합계는 틱마다 증분 유지한 값, 심볼/거래별 값은 조회 시점 시세로 계산
+     */
+    public Optional<JournalDto.UnrealizedPnL> snapshot(String authorEmail) {
+        UserBook user = users.get(authorEmail);
+        if (user == null) {
+            return Optional.empty();
+        }
+        user.lastAccess = System.currentTimeMillis();
+
+        List<JournalDto.UnrealizedPosition> positions = new ArrayList<>(user.holdings.length);
+        int openTrades = 0;
+        int unpricedTrades = 0;
+        for (Holding holding : user.holdings) {
+            SymbolBook book = symbols.get(holding.key);
+            Quote quote = book != null ? book.quote : null;
+            openTrades += holding.journalIds.length;
+
+            List<JournalDto.UnrealizedTrade> trades = new ArrayList<>(holding.journalIds.length);
+            for (int t = 0; t < holding.journalIds.length; t++) {
+                trades.add(new JournalDto.UnrealizedTrade(holding.journalIds[t], holding.tradeTypes[t],
+                        holding.quantity[t], holding.entryPrice[t],
+                        quote != null ? holding.direction(t) * (quote.price() - holding.entryPrice[t])
+                                * holding.quantity[t] : null));
+            }
+            if (quote == null) {
+                unpricedTrades += holding.journalIds.length;
+            }
+            positions.add(new JournalDto.UnrealizedPosition(
+                    holding.key.market(), holding.key.symbol(),
+                    quote != null ? quote.price() : null,
+                    quote != null ? toDateTime(quote.epochMillis()) : null,
+                    holding.netQuantity,
+                    quote != null ? quote.price() * holding.netQuantity - holding.netCost : null,
+                    trades));
+        }
+        return Optional.of(new JournalDto.UnrealizedPnL(user.unrealized.sum(), openTrades, unpricedTrades, positions));
+    }
+
+    private SymbolBook symbolBook(SymbolKey key) {
+        SymbolBook book = symbols.get(key);
+        return book != null ? book : symbols.computeIfAbsent(key, SymbolBook::new);
+    }
+
+    /**
+     * 이전 버전 보유분 중 새 보유분에 없는 심볼의 것을 색인에서 제거
+     */
+    private void detach(UserBook previous, Set<SymbolKey> replaced) {
+        for (Holding old : previous.holdings) {
+            if (replaced.contains(old.key)) {
+                continue;
+            }
+            SymbolBook book = symbols.get(old.key);
+            if (book != null) {
+                synchronized (book) {
+                    book.holdings = replace(book.holdings, previous, null);
+                }
+            }
+        }
+    }
+
+    /**
+     * previous 사용자의 보유분을 빼고 added 를 더한 새 배열 (복사 후 교체)
+     */
+    private static Holding[] replace(Holding[] holdings, UserBook previous, Holding added) {
+        List<Holding> next = new ArrayList<>(holdings.length + 1);
+        for (Holding holding : holdings) {
+            if (previous == null || holding.user != previous) {
+                next.add(holding);
+            }
+        }
+        if (added != null) {
+            next.add(added);
+        }
+        return next.isEmpty() ? NO_HOLDINGS : next.toArray(Holding[]::new);
+    }
+
+    private static LocalDateTime toDateTime(long epochMillis) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(epochMillis, 1000),
+                (int) Math.floorMod(epochMillis, 1000) * 1_000_000, ZoneOffset.UTC);
+    }
+
+    private static final class SymbolBook {
+        private final SymbolKey key;
+        private volatile Quote quote;
+        private volatile Holding[] holdings = NO_HOLDINGS;
+
+        private SymbolBook(SymbolKey key) {
+            this.key = key;
+        }
+    }
+
+    private static final class UserBook {
+        private final String authorEmail;
+        private final long version;
+        private final Holding[] holdings;
+        private final DoubleAdder unrealized = new DoubleAdder();
+        private volatile long lastAccess = System.currentTimeMillis();
+
+        private UserBook(String authorEmail, long version, int symbolCount) {
+            this.authorEmail = authorEmail;
+            this.version = version;
+            this.holdings = new Holding[symbolCount];
+        }
+    }
+
+    /**
+     * 한 사용자의 한 심볼 진행 중 거래 (순수량 = Σ 방향 × 수량, 순원가 = Σ 방향 × 수량 × 진입가)
+     */
+    private static final class Holding {
+        private final UserBook user;
+        private final SymbolKey key;
+        private final long[] journalIds;
+        private final TradeType[] tradeTypes;
+        private final double[] quantity;
+        private final double[] entryPrice;
+        private final double netQuantity;
+        private final double netCost;
+        private volatile double unrealized = Double.NaN; // 시세 수신 전 NaN, SymbolBook 모니터 안에서만 갱신
+
+        private Holding(UserBook user, SymbolKey key, List<JournalPositionRepository.OpenTrade> trades) {
+            this.user = user;
+            this.key = key;
+            this.journalIds = new long[trades.size()];
+            this.tradeTypes = new TradeType[trades.size()];
+            this.quantity = new double[trades.size()];
+            this.entryPrice = new double[trades.size()];
+            double signedQuantity = 0;
+            double signedCost = 0;
+            for (int t = 0; t < trades.size(); t++) {
+                JournalPositionRepository.OpenTrade trade = trades.get(t);
+                journalIds[t] = trade.journalId();
+                tradeTypes[t] = trade.tradeType();
+                quantity[t] = trade.quantity().doubleValue();
+                entryPrice[t] = trade.entryPrice().doubleValue();
+                signedQuantity += direction(t) * quantity[t];
+                signedCost += direction(t) * quantity[t] * entryPrice[t];
+            }
+            this.netQuantity = signedQuantity;
+            this.netCost = signedCost;
+        }
+
+        private int direction(int t) {
+            return tradeTypes[t] == TradeType.LONG ? 1 : -1;
+        }
+    }
+}
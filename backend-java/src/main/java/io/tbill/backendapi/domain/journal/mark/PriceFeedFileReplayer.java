@@ -0,0 +1,97 @@
+package io.tbill.backendapi.domain.journal.mark;
+
+import io.tbill.backendapi.domain.market.TickPipeline;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 틱 파일 재생 (개발/검증용 가격 피드)
+ * - price-feed.replay-file 이 지정되면 기동 후 별도 스레드에서 한 줄씩 읽어 MarkToMarketBook / TickPipeline 에 반영
+ * - 형식은 HTTP 피드와 같음 (market,symbol,price[,time[,volume]], 첫 줄 헤더 허용), 잘못된 줄은 건너뜀
+ * - 대기 없이 최대 속도로 재생 (처리량 확인용)
+ */
+@Slf4j
+@Component
+public class PriceFeedFileReplayer implements DisposableBean {
+
+    private final MarkToMarketBook markToMarketBook;
+    private final TickPipeline tickPipeline;
+    private final String replayFile;
+    private volatile Thread thread;
+
+    public PriceFeedFileReplayer(MarkToMarketBook markToMarketBook,
+                                 TickPipeline tickPipeline,
+                                 @Value("${price-feed.replay-file:}") String replayFile) {
+        this.markToMarketBook = markToMarketBook;
+        this.tickPipeline = tickPipeline;
+        this.replayFile = replayFile;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (replayFile.isBlank()) {
+            return;
+        }
+        thread = new Thread(() -> replay(Path.of(replayFile)), "price-feed-replay");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * @return 반영된 틱 수
+     */
+    long replay(Path path) {
+        long startedAt = System.nanoTime();
+        long lines = 0;
+        long applied = 0;
+        long rejected = 0;
+        long barDropped = 0;
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null && !Thread.currentThread().isInterrupted()) {
+                lines++;
+                if (line.isBlank() || (lines == 1 && line.startsWith("market"))) {
+                    continue;
+                }
+                PriceTick tick;
+                try {
+                    tick = PriceTickParser.parse(line, PriceTickParser.now());
+                } catch (IllegalArgumentException e) {
+                    rejected++;
+                    continue;
+                }
+                if (markToMarketBook.onTick(tick)) {
+                    applied++;
+                }
+                if (!tickPipeline.publish(tick)) {
+                    barDropped++;
+                }
+            }
+        } catch (IOException e) {
+            log.error("틱 파일 재생 실패: path={}, error={}", path, e.getMessage());
+        }
+
+        long elapsedMs = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+        log.info("틱 파일 재생 완료: path={}, applied={}, rejected={}, barDropped={}, elapsedMs={}, ticksPerSecond={}",
+                path, applied, rejected, barDropped, elapsedMs, applied * 1000 / elapsedMs);
+        return applied;
+    }
+
+    @Override
+    public void destroy() {
+        Thread running = thread;
+        if (running != null) {
+            running.interrupt();
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package io.tbill.backendapi.domain.journal.mark;
+
+import io.tbill.backendapi.domain.journal.entity.MarketType;
+
+/**
+ * 가격 피드 틱 (체결가 또는 기준가 한 건)
+ *
+ * @param epochMillis 시세 시각 (LocalDateTime을 UTC 기준 epoch millis로 인코딩, 매매일지 시각과 같은 시계)
+ * @param volume      체결량 (기준가 등 체결량이 없는 틱은 0, 봉 거래량 집계에만 사용)
+ */
+public record PriceTick(MarketType market, String symbol, double price, long epochMillis, double volume) {
+
+    public PriceTick(MarketType market, String symbol, double price, long epochMillis) {
+        this(market, symbol, price, epochMillis, 0);
+    }
+}
@@ -0,0 +1,86 @@
+package io.tbill.backendapi.domain.journal.mark;
+
+import io.tbill.backendapi.domain.journal.entity.MarketType;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 틱 한 줄 파싱: market,symbol,price[,time[,volume]]
+ * - HTTP 피드 본문과 파일 재생이 같은 형식 사용 (한 줄 = 한 틱, split/정규식 없이 쉼표 위치로 파싱)
+ * - time 생략 시 수신 시각, ISO 날짜-시각 (매매일지와 같은 시계)
+ * - 가격은 0보다 큰 유한한 값만 허용, 체결량은 생략 시 0 (0 이상의 유한한 값)
+ */
+public final class PriceTickParser {
+
+    private PriceTickParser() {
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 잘못된 줄
+     */
+    public static PriceTick parse(String line, long receivedAt) {
+        int first = line.indexOf(',');
+        int second = first < 0 ? -1 : line.indexOf(',', first + 1);
+        if (second < 0) {
+            throw new IllegalArgumentException("틱 형식은 market,symbol,price[,time[,volume]] 이어야 합니다.");
+        }
+        int third = line.indexOf(',', second + 1);
+        int fourth = third < 0 ? -1 : line.indexOf(',', third + 1);
+
+        MarketType market;
+        try {
+            market = MarketType.valueOf(line.substring(0, first).trim());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("알 수 없는 시장입니다: " + line.substring(0, first).trim());
+        }
+        String symbol = line.substring(first + 1, second).trim();
+        if (symbol.isEmpty()) {
+            throw new IllegalArgumentException("심볼은 필수입니다.");
+        }
+
+        double price;
+        long epochMillis = receivedAt;
+        double volume = 0;
+        try {
+            price = Double.parseDouble(line.substring(second + 1, third < 0 ? line.length() : third).trim());
+            if (third >= 0) {
+                String time = line.substring(third + 1, fourth < 0 ? line.length() : fourth).trim();
+                if (!time.isEmpty()) {
+                    epochMillis = epochMillis(time);
+                }
+            }
+            if (fourth >= 0) {
+                String quantity = line.substring(fourth + 1).trim();
+                if (!quantity.isEmpty()) {
+                    volume = Double.parseDouble(quantity);
+                }
+            }
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new IllegalArgumentException("가격, 시각 또는 체결량 형식이 올바르지 않습니다: " + e.getMessage());
+        }
+        if (!(price > 0) || Double.isInfinite(price)) {
+            throw new IllegalArgumentException("가격은 0보다 커야 합니다.");
+        }
+        if (!(volume >= 0) || Double.isInfinite(volume)) {
+            throw new IllegalArgumentException("체결량은 0 이상이어야 합니다.");
+        }
+        return new PriceTick(market, symbol, price, epochMillis, volume);
+    }
+
+    /**
+     * 현재 시각 (틱 시각과 같은 인코딩)
+     */
+    public static long now() {
+        return LocalDateTime.now().toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static long epochMillis(String value) {
+        LocalDateTime time = value.length() == 10
+                ? LocalDate.parse(value).atStartOfDay()
+                : LocalDateTime.parse(value.replace(' ', 'T'));
+        return time.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}
@@ -0,0 +1,140 @@
+package io.tbill.backendapi.domain.journal.replay;
+
+import java.util.Arrays;
+
+/**
+ * 한 심볼의 OHLCV 봉 시계열 (불변)
+ * - 원시 배열(long[], double[])로 보관 -> 리플레이 시 봉마다 객체를 만들지 않음
+ * - 봉 시작 시각: LocalDateTime을 UTC 기준 epoch millis로 인코딩 (매매일지 created_at 과 같은 인코딩)
+ * - 시각은 엄격한 오름차순 (로더에서 검증)
+ */
+public final class BarSeries {
+
+    private final int size;
+    private final long[] openTime;
+    private final double[] open;
+    private final double[] high;
+    private final double[] low;
+    private final double[] close;
+    private final double[] volume;
+
+    private BarSeries(int size, long[] openTime, double[] open, double[] high, double[] low,
+                      double[] close, double[] volume) {
+        this.size = size;
+        this.openTime = openTime;
+        this.open = open;
+        this.high = high;
+        this.low = low;
+        this.close = close;
+        this.volume = volume;
+    }
+
+    public static Builder builder(int initialCapacity) {
+        return new Builder(initialCapacity);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long openTime(int index) {
+        return openTime[index];
+    }
+
+    public double open(int index) {
+        return open[index];
+    }
+
+    public double high(int index) {
+        return high[index];
+    }
+
+    public double low(int index) {
+        return low[index];
+    }
+
+    public double close(int index) {
+        return close[index];
+    }
+
+    public double volume(int index) {
+        return volume[index];
+    }
+
+    /**
+     * 시작 시각이 epochMillis 이상인 첫 봉의 인덱스 (없으면 size)
+     */
+    public int indexAtOrAfter(long epochMillis) {
+        int index = Arrays.binarySearch(openTime, 0, size, epochMillis);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    /**
+     * 추정 메모리 사용량 (시각 8바이트 + 가격/거래량 8바이트 × 5)
+     */
+    public long estimatedBytes() {
+        return (long) openTime.length * Long.BYTES * 6;
+    }
+
+    public static final class Builder {
+
+        private int size;
+        private long[] openTime;
+        private double[] open;
+        private double[] high;
+        private double[] low;
+        private double[] close;
+        private double[] volume;
+
+        private Builder(int initialCapacity) {
+            int capacity = Math.max(initialCapacity, 16);
+            openTime = new long[capacity];
+            open = new double[capacity];
+            high = new double[capacity];
+            low = new double[capacity];
+            close = new double[capacity];
+            volume = new double[capacity];
+        }
+
+        /**
+         * @throws IllegalArgumentException 시각이 직전 봉보다 늦지 않거나 가격 범위가 맞지 않을 때
+         */
+        public Builder add(long openTimeMillis, double openPrice, double highPrice, double lowPrice,
+                           double closePrice, double volumeValue) {
+            if (size > 0 && openTimeMillis <= openTime[size - 1]) {
+                throw new IllegalArgumentException("봉 시각은 오름차순이어야 합니다.");
+            }
+            if (!(lowPrice <= highPrice) || openPrice < lowPrice || openPrice > highPrice
+                    || closePrice < lowPrice || closePrice > highPrice) {
+                throw new IllegalArgumentException("봉 가격 범위가 올바르지 않습니다. (low <= open, close <= high)");
+            }
+            if (size == openTime.length) {
+                int capacity = size * 2;
+                openTime = Arrays.copyOf(openTime, capacity);
+                open = Arrays.copyOf(open, capacity);
+                high = Arrays.copyOf(high, capacity);
+                low = Arrays.copyOf(low, capacity);
+                close = Arrays.copyOf(close, capacity);
+                volume = Arrays.copyOf(volume, capacity);
+            }
+            openTime[size] = openTimeMillis;
+            open[size] = openPrice;
+            high[size] = highPrice;
+            low[size] = lowPrice;
+            close[size] = closePrice;
+            volume[size] = volumeValue;
+            size++;
+            return this;
+        }
+
+        public BarSeries build() {
+            return new BarSeries(size,
+                    Arrays.copyOf(openTime, size),
+                    Arrays.copyOf(open, size),
+                    Arrays.copyOf(high, size),
+                    Arrays.copyOf(low, size),
+                    Arrays.copyOf(close, size),
+                    Arrays.copyOf(volume, size));
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package io.tbill.backendapi.domain.journal.replay;
+
+import io.tbill.backendapi.domain.journal.entity.MarketType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 로컬 파일에서 OHLCV 봉 시계열 적재
+ * - 경로: {bar-directory}/{MARKET}/{SYMBOL}.csv (심볼의 영문/숫자/._- 이외 문자는 '_', 예: BTC/USDT -> BTC_USDT.csv)
+ * - 형식: time,open,high,low,close,volume (첫 줄 헤더 허용, time = ISO 날짜 또는 날짜-시각, 매매일지와 같은 시계)
+ * - 적재 결과는 (경로, 수정 시각, 크기) 기준으로 인스턴스 로컬 LRU 에 보관 -> 파일이 바뀌면 다시 읽음
+ * - 파일이 없거나 형식이 잘못되면 empty (해당 심볼 거래는 리플레이에서 제외, 실제 손익 유지)
+ */
+@Slf4j
+@Component
+public class BarSeriesLoader {
+
+    private final Path directory;
+    private final int maxCachedSeries;
+    private final Map<Path, Loaded> cache;
+
+    private record Loaded(long lastModified, long fileSize, BarSeries series) {
+    }
+
+    public BarSeriesLoader(@Value("${journal.replay.bar-directory:./data/bars}") Path directory,
+                           @Value("${journal.replay.max-cached-series:256}") int maxCachedSeries) {
+        this.directory = directory.toAbsolutePath().normalize();
+        this.maxCachedSeries = maxCachedSeries;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Path, Loaded> eldest) {
+                return size() > BarSeriesLoader.this.maxCachedSeries;
+            }
+        };
+    }
+
+    public Optional<BarSeries> load(MarketType market, String symbol) {
+        Optional<Path> path = resolve(market, symbol);
+        if (path.isEmpty()) {
+            return Optional.empty();
+        }
+
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(path.get(), BasicFileAttributes.class);
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        long fileSize = attributes.size();
+
+        synchronized (cache) {
+            Loaded cached = cache.get(path.get());
+            if (cached != null && cached.lastModified() == lastModified && cached.fileSize() == fileSize) {
+                return Optional.of(cached.series());
+            }
+        }
+
+        BarSeries series;
+        try {
+            series = read(path.get());
+        } catch (IllegalArgumentException | UncheckedIOException e) {
+            log.warn("봉 데이터 적재 실패: path={}, error={}", path.get(), e.getMessage());
+            return Optional.empty();
+        }
+        synchronized (cache) {
+            cache.put(path.get(), new Loaded(lastModified, fileSize, series));
+        }
+        return Optional.of(series);
+    }
+
+    /**
+     * 심볼 -> 파일 경로 (bar-directory 밖을 가리키는 경로는 허용하지 않음)
+     */
+    Optional<Path> resolve(MarketType market, String symbol) {
+        if (symbol == null || symbol.isBlank()) {
+            return Optional.empty();
+        }
+        String fileName = symbol.replaceAll("[^A-Za-z0-9._-]", "_");
+        if (fileName.startsWith(".")) {
+            return Optional.empty();
+        }
+        Path path = directory.resolve(market.name()).resolve(fileName + ".csv").normalize();
+        return path.startsWith(directory) ? Optional.of(path) : Optional.empty();
+    }
+
+    static BarSeries read(Path path) {
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            return parse(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static BarSeries parse(BufferedReader reader) throws IOException {
+        BarSeries.Builder builder = BarSeries.builder(4096);
+        String line;
+        long lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank() || (lineNumber == 1 && !Character.isDigit(line.charAt(0)))) {
+                continue;
+            }
+            String[] fields = line.split(",", -1);
+            if (fields.length < 6) {
+                throw new IllegalArgumentException(lineNumber + "행: 컬럼은 time,open,high,low,close,volume 이어야 합니다.");
+            }
+            try {
+                builder.add(
+                        epochMillis(fields[0].trim()),
+                        Double.parseDouble(fields[1].trim()),
+                        Double.parseDouble(fields[2].trim()),
+                        Double.parseDouble(fields[3].trim()),
+                        Double.parseDouble(fields[4].trim()),
+                        Double.parseDouble(fields[5].trim()));
+            } catch (NumberFormatException | DateTimeParseException e) {
+                throw new IllegalArgumentException(lineNumber + "행: 값 형식이 올바르지 않습니다. (" + e.getMessage() + ")");
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(lineNumber + "행: " + e.getMessage());
+            }
+        }
+        return builder.build();
+    }
+
+    private static long epochMillis(String value) {
+        LocalDateTime time = value.length() == 10
+                ? LocalDate.parse(value).atStartOfDay()
+                : LocalDateTime.parse(value.replace(' ', 'T'));
+        return time.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}
@@ -0,0 +1,35 @@
+package io.tbill.backendapi.domain.journal.replay;
+
+/**
+ * 리플레이 청산 규칙
+ * - respectStop: 손절가에 닿으면 손절가로 청산 (갭으로 넘어가면 시가)
+ * - targetR: 진입가 ± targetR × 1R 에 닿으면 목표가로 청산 (1R = |진입가 - 손절가|, 손절가가 없는 거래는 제외)
+ * - maxHoldBars: 진입 후 N번째 봉 종가로 청산 (0 = 실제 청산 시점까지 보유)
+ * - 모든 값이 기본값이면 실제 청산 그대로 (비교 기준선)
+ */
+public record ExitRule(String name, boolean respectStop, Double targetR, int maxHoldBars) {
+
+    public static final int MAX_NAME_LENGTH = 50;
+    public static final double MAX_TARGET_R = 100;
+    public static final int MAX_HOLD_BARS = 1_000_000;
+
+    public ExitRule {
+        if (name == null || name.isBlank() || name.length() > MAX_NAME_LENGTH) {
+            throw new IllegalArgumentException("청산 규칙 이름은 1 ~ " + MAX_NAME_LENGTH + "자여야 합니다.");
+        }
+        if (targetR != null && !(targetR > 0 && targetR <= MAX_TARGET_R)) {
+            throw new IllegalArgumentException("목표 R 배수는 0 초과 " + MAX_TARGET_R + " 이하여야 합니다.");
+        }
+        if (maxHoldBars < 0 || maxHoldBars > MAX_HOLD_BARS) {
+            throw new IllegalArgumentException("최대 보유 봉 수는 0 ~ " + MAX_HOLD_BARS + " 사이여야 합니다.");
+        }
+    }
+
+    public boolean hasTarget() {
+        return targetR != null;
+    }
+
+    public boolean hasTimeExit() {
+        return maxHoldBars > 0;
+    }
+}
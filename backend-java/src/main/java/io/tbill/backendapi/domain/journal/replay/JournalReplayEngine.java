@@ -0,0 +1,302 @@
+package io.tbill.backendapi.domain.journal.replay;
+
+import io.tbill.backendapi.domain.common.vo.Money;
+import io.tbill.backendapi.domain.journal.cache.JournalColumns;
+import io.tbill.backendapi.domain.journal.dto.JournalDto;
+import io.tbill.backendapi.domain.journal.entity.MarketType;
+import io.tbill.backendapi.domain.journal.entity.TradeType;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.BiFunction;
+
+/**
+ * 매매일지 리플레이 (청산 규칙을 바꿨다면 손익이 어땠을지)
+ * - 종료 거래의 진입가/손절가/수량/방향/작성 시각을 봉 시계열 위에서 다시 진행
+ * - 실제 청산 시점은 저장되어 있지 않으므로 실현 손익에서 역산한 청산가에 처음 닿은 봉으로 추정
+ *   (청산가 = 진입가 + 실현 손익 / (방향 × 수량))
+ * - 같은 봉에서 손절가와 목표가/실제 청산가에 모두 닿으면 손절이 먼저 (보수적)
+ * - (규칙 × 거래) 인덱스 공간을 ForkJoin 으로 나누어 병렬 시뮬레이션, 결과는 규칙별 원시 배열에 기록
+ * - 전용 풀 사용 (공용 풀을 쓰는 다른 병렬 작업과 경합하지 않음)
+ */
+@Component
+public class JournalReplayEngine implements DisposableBean {
+
+    // 리프 작업 하나가 처리하는 (규칙, 거래) 수 (봉 탐색 비용이 거래마다 달라 작게 나눔)
+    static final int LEAF_SIZE = 256;
+
+    static final byte EXIT_ACTUAL = 0;
+    static final byte EXIT_STOP = 1;
+    static final byte EXIT_TARGET = 2;
+    static final byte EXIT_TIME = 3;
+    static final byte EXIT_SKIPPED = 4;
+
+    private final ForkJoinPool pool;
+
+    public JournalReplayEngine(@Value("${journal.replay.parallelism:0}") int parallelism) {
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * 리플레이 대상 종료 거래 (작성 시각 오름차순, 원시 배열)
+     * - 봉 시계열은 (시장, 심볼)당 한 번만 적재하고, 진입 봉 위치는 규칙과 무관하므로 미리 계산
+     */
+    public static final class Trades {
+
+        final int size;
+        final int missingBars;
+        final double[] entryPrice;
+        final double[] stopLossPrice;   // 없으면 NaN
+        final double[] quantity;
+        final double[] actualPnL;
+        final int[] direction;          // LONG +1, SHORT -1
+        final BarSeries[] series;       // 봉 데이터가 없으면 null
+        final int[] startBar;
+
+        private Trades(int size, int missingBars, double[] entryPrice, double[] stopLossPrice, double[] quantity,
+                       double[] actualPnL, int[] direction, BarSeries[] series, int[] startBar) {
+            this.size = size;
+            this.missingBars = missingBars;
+            this.entryPrice = entryPrice;
+            this.stopLossPrice = stopLossPrice;
+            this.quantity = quantity;
+            this.actualPnL = actualPnL;
+            this.direction = direction;
+            this.series = series;
+            this.startBar = startBar;
+        }
+
+        public static Trades of(JournalColumns columns,
+                                BiFunction<MarketType, String, Optional<BarSeries>> barLoader) {
+            int closed = 0;
+            for (int row = 0; row < columns.size(); row++) {
+                if (columns.isClosed(row)) {
+                    closed++;
+                }
+            }
+
+            double[] entryPrice = new double[closed];
+            double[] stopLossPrice = new double[closed];
+            double[] quantity = new double[closed];
+            double[] actualPnL = new double[closed];
+            int[] direction = new int[closed];
+            BarSeries[] series = new BarSeries[closed];
+            int[] startBar = new int[closed];
+            Map<Long, Optional<BarSeries>> loaded = new HashMap<>();
+
+            int missingBars = 0;
+            int index = 0;
+            for (int row = 0; row < columns.size(); row++) {
+                if (!columns.isClosed(row)) {
+                    continue;
+                }
+                long stopLoss = columns.stopLossPrice(row);
+                entryPrice[index] = Money.toDouble(columns.entryPrice(row));
+                stopLossPrice[index] = stopLoss != JournalColumns.NO_PRICE ? Money.toDouble(stopLoss) : Double.NaN;
+                quantity[index] = Money.toDouble(columns.quantity(row));
+                actualPnL[index] = Money.toDouble(columns.realizedPnL(row));
+                direction[index] = columns.tradeType(row) == TradeType.LONG ? 1 : -1;
+
+                int marketCode = columns.marketCode(row);
+                int symbolCode = columns.symbolCode(row);
+                Optional<BarSeries> bars = loaded.computeIfAbsent(((long) marketCode << 32) | symbolCode,
+                        key -> barLoader.apply(JournalColumns.marketOf((byte) marketCode),
+                                columns.symbolAt(symbolCode)));
+                long createdAt = columns.createdAt(row);
+                int start = bars.map(s -> s.indexAtOrAfter(createdAt)).orElse(0);
+                if (bars.isPresent() && start < bars.get().size() && quantity[index] > 0) {
+                    series[index] = bars.get();
+                    startBar[index] = start;
+                } else {
+                    missingBars++;
+                }
+                index++;
+            }
+            return new Trades(closed, missingBars, entryPrice, stopLossPrice, quantity, actualPnL,
+                    direction, series, startBar);
+        }
+
+        public int size() {
+            return size;
+        }
+    }
+
+    public JournalDto.ReplayResult replay(Trades trades, List<ExitRule> rules) {
+        double[][] pnl = new double[rules.size()][trades.size];
+        byte[][] exits = new byte[rules.size()][trades.size];
+        ExitRule[] ruleArray = rules.toArray(ExitRule[]::new);
+
+        long work = (long) ruleArray.length * trades.size;
+        if (work > 0) {
+            pool.invoke(new SimulateTask(trades, ruleArray, pnl, exits, 0, work));
+        }
+
+        double actualMaxDrawdown = maxDrawdown(trades.actualPnL, trades.size);
+        List<JournalDto.ReplayVariant> variants = new ArrayList<>(ruleArray.length);
+        for (int r = 0; r < ruleArray.length; r++) {
+            variants.add(summarize(ruleArray[r], trades, pnl[r], exits[r], actualMaxDrawdown));
+        }
+        return new JournalDto.ReplayResult(trades.size, trades.missingBars, variants);
+    }
+
+    @Override
+    public void destroy() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * 거래 하나를 규칙에 따라 봉 위에서 진행
+     *
+     * @return 청산 종류 (EXIT_*), 손익은 pnl[trade] 에 기록
+     */
+    static byte simulate(Trades trades, int trade, ExitRule rule, double[] pnl) {
+        double actual = trades.actualPnL[trade];
+        pnl[trade] = actual;
+        BarSeries bars = trades.series[trade];
+        if (bars == null) {
+            return EXIT_SKIPPED;
+        }
+
+        double entry = trades.entryPrice[trade];
+        double stop = trades.stopLossPrice[trade];
+        double quantity = trades.quantity[trade];
+        int direction = trades.direction[trade];
+        double risk = Double.isNaN(stop) ? Double.NaN : Math.abs(entry - stop);
+        if (rule.hasTarget() && !(risk > 0)) {
+            return EXIT_SKIPPED;
+        }
+
+        boolean useStop = rule.respectStop() && !Double.isNaN(stop);
+        double target = rule.hasTarget() ? entry + direction * rule.targetR() * risk : Double.NaN;
+        double actualExit = entry + actual / (direction * quantity);
+
+        int start = trades.startBar[trade];
+        int end = rule.hasTimeExit() ? Math.min(bars.size(), start + rule.maxHoldBars()) : bars.size();
+        for (int i = start; i < end; i++) {
+            double open = bars.open(i);
+            double high = bars.high(i);
+            double low = bars.low(i);
+
+            if (useStop && (direction > 0 ? low <= stop : high >= stop)) {
+                // 갭으로 손절가를 넘어 시작하면 시가에 체결
+                double fill = direction > 0 ? Math.min(open, stop) : Math.max(open, stop);
+                pnl[trade] = direction * (fill - entry) * quantity;
+                return EXIT_STOP;
+            }
+            if (rule.hasTarget() && (direction > 0 ? high >= target : low <= target)) {
+                double fill = direction > 0 ? Math.max(open, target) : Math.min(open, target);
+                pnl[trade] = direction * (fill - entry) * quantity;
+                return EXIT_TARGET;
+            }
+            if (!rule.hasTimeExit() && low <= actualExit && actualExit <= high) {
+                return EXIT_ACTUAL;
+            }
+        }
+
+        if (rule.hasTimeExit() && end - start == rule.maxHoldBars()) {
+            pnl[trade] = direction * (bars.close(end - 1) - entry) * quantity;
+            return EXIT_TIME;
+        }
+        // 실제 청산가에 닿지 않았거나 보유 기간만큼 봉이 없으면 실제 손익 유지
+        return rule.hasTimeExit() ? EXIT_SKIPPED : EXIT_ACTUAL;
+    }
+
+    private static JournalDto.ReplayVariant summarize(ExitRule rule, Trades trades, double[] pnl, byte[] exits,
+                                                      double actualMaxDrawdown) {
+        int simulated = 0;
+        int[] exitCounts = new int[EXIT_SKIPPED + 1];
+        int winning = 0;
+        int losing = 0;
+        double simulatedPnL = 0;
+        double actualPnL = 0;
+        for (int t = 0; t < trades.size; t++) {
+            exitCounts[exits[t]]++;
+            if (exits[t] != EXIT_SKIPPED) {
+                simulated++;
+            }
+            if (pnl[t] > 0) {
+                winning++;
+            } else if (pnl[t] < 0) {
+                losing++;
+            }
+            simulatedPnL += pnl[t];
+            actualPnL += trades.actualPnL[t];
+        }
+
+        return JournalDto.ReplayVariant.builder()
+                .name(rule.name())
+                .respectStop(rule.respectStop())
+                .targetR(rule.targetR())
+                .maxHoldBars(rule.maxHoldBars())
+                .simulatedTrades(simulated)
+                .stopExits(exitCounts[EXIT_STOP])
+                .targetExits(exitCounts[EXIT_TARGET])
+                .timeExits(exitCounts[EXIT_TIME])
+                .winningTrades(winning)
+                .losingTrades(losing)
+                .simulatedPnL(simulatedPnL)
+                .actualPnL(actualPnL)
+                .pnLDifference(simulatedPnL - actualPnL)
+                .simulatedMaxDrawdown(maxDrawdown(pnl, trades.size))
+                .actualMaxDrawdown(actualMaxDrawdown)
+                .build();
+    }
+
+    private static double maxDrawdown(double[] pnl, int size) {
+        double cumulative = 0;
+        double peak = 0;
+        double maxDrawdown = 0;
+        for (int t = 0; t < size; t++) {
+            cumulative += pnl[t];
+            peak = Math.max(peak, cumulative);
+            maxDrawdown = Math.max(maxDrawdown, peak - cumulative);
+        }
+        return maxDrawdown;
+    }
+
+    /**
+     * (규칙, 거래) 평탄화 인덱스 [from, to) 를 반으로 나누어 처리 (index = rule × trades + trade)
+     * - 각 리프는 서로 다른 배열 칸에만 쓰므로 동기화 없음 (invoke 완료가 가시성 보장)
+     */
+    private static final class SimulateTask extends RecursiveAction {
+
+        private final Trades trades;
+        private final ExitRule[] rules;
+        private final double[][] pnl;
+        private final byte[][] exits;
+        private final long from;
+        private final long to;
+
+        private SimulateTask(Trades trades, ExitRule[] rules, double[][] pnl, byte[][] exits, long from, long to) {
+            this.trades = trades;
+            this.rules = rules;
+            this.pnl = pnl;
+            this.exits = exits;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= LEAF_SIZE) {
+                for (long index = from; index < to; index++) {
+                    int rule = (int) (index / trades.size);
+                    int trade = (int) (index - (long) rule * trades.size);
+                    exits[rule][trade] = simulate(trades, trade, rules[rule], pnl[rule]);
+                }
+                return;
+            }
+            long middle = (from + to) >>> 1;
+            invokeAll(new SimulateTask(trades, rules, pnl, exits, from, middle),
+                    new SimulateTask(trades, rules, pnl, exits, middle, to));
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package io.tbill.backendapi.domain.journal.repository;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.DayOfWeek;
+import java.util.Locale;
+import java.util.function.UnaryOperator;
+
+/**
+ * 손익 분석 그룹 기준 (GROUP BY 표현식 화이트리스트)
+ * - 날짜 기준은 정수로 묶은 뒤 라벨로 변환 (PostgreSQL / H2 공통 EXTRACT 사용)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum JournalAnalyticsGroup {
+    SYMBOL("j.symbol", UnaryOperator.identity()),
+    MARKET("j.market", UnaryOperator.identity()),
+    TRADE_TYPE("j.trade_type", UnaryOperator.identity()),
+    // 202401 -> 2024-01
+    MONTH("CAST(EXTRACT(YEAR FROM j.created_at) * 100 + EXTRACT(MONTH FROM j.created_at) AS INTEGER)",
+            key -> {
+                int yearMonth = Integer.parseInt(key);
+                return String.format("%04d-%02d", yearMonth / 100, yearMonth % 100);
+            }),
+    // ISO 요일 (1 = 월요일) -> MONDAY
+    WEEKDAY("CAST(EXTRACT(ISODOW FROM j.created_at) AS INTEGER)",
+            key -> DayOfWeek.of(Integer.parseInt(key)).name()),
+    // 0 ~ 23 -> 00 ~ 23
+    HOUR("CAST(EXTRACT(HOUR FROM j.created_at) AS INTEGER)",
+            key -> String.format("%02d", Integer.parseInt(key)));
+
+    private final String expression;
+    private final UnaryOperator<String> labeler;
+
+    public String label(String key) {
+        return key != null ? labeler.apply(key) : null;
+    }
+
+    public static JournalAnalyticsGroup from(String groupBy) {
+        for (JournalAnalyticsGroup group : values()) {
+            if (group.name().equals(groupBy.toUpperCase(Locale.ROOT))) {
+                return group;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 그룹 기준입니다: " + groupBy);
+    }
+}
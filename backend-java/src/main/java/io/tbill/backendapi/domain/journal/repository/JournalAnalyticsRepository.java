@@ -0,0 +1,107 @@
+package io.tbill.backendapi.domain.journal.repository;
+
+import io.tbill.backendapi.domain.journal.dto.JournalDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 매매일지 손익 분석 (그룹별 집계)
+ * - 그룹 하나당 journal 테이블 1회 스캔: 모든 지표를 FILTER 절 집계로 한 번에 계산
+ * - 필터는 JournalSearchQuery(검색 조건)와 동일
+ */
+@Repository
+@RequiredArgsConstructor
+public class JournalAnalyticsRepository {
+
+    private static final String AGGREGATE_COLUMNS =
+            "COUNT(*) AS total_trades, " +
+            "COUNT(*) FILTER (WHERE j.realized_pnl IS NOT NULL) AS closed_trades, " +
+            "COUNT(*) FILTER (WHERE j.realized_pnl > 0) AS winning_trades, " +
+            "COUNT(*) FILTER (WHERE j.realized_pnl < 0) AS losing_trades, " +
+            "COALESCE(SUM(j.realized_pnl), 0) AS total_pnl, " +
+            "COALESCE(SUM(j.realized_pnl) FILTER (WHERE j.realized_pnl > 0), 0) AS gross_profit, " +
+            "COALESCE(-SUM(j.realized_pnl) FILTER (WHERE j.realized_pnl < 0), 0) AS gross_loss";
+
+    // 손익 곡선: schema-postgresql.sql 의 idx_journal_closed_equity (Index Only Scan)
+    private static final String CLOSED_TRADES_SQL =
+            "SELECT j.created_at, j.realized_pnl FROM journal j " +
+            "WHERE j.author_email = ? AND j.realized_pnl IS NOT NULL " +
+            "ORDER BY j.created_at, j.journal_id";
+    private static final String CLOSED_TRADE_RISKS_SQL =
+            "SELECT j.entry_price, j.stop_loss_price, j.quantity, j.realized_pnl FROM journal j " +
+            "WHERE j.author_email = ? AND j.realized_pnl IS NOT NULL " +
+            "ORDER BY j.created_at, j.journal_id";
+    private static final int CLOSED_TRADES_FETCH_SIZE = 5000;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public List<JournalDto.GroupAggregate> aggregate(JournalSearchQuery query, JournalAnalyticsGroup group) {
+        return jdbcTemplate.query(
+                query.groupBySql(group.getExpression(), AGGREGATE_COLUMNS),
+                query.parameters(),
+                (rs, rowNum) -> new JournalDto.GroupAggregate(
+                        group.label(rs.getString("group_key")),
+                        rs.getLong("total_trades"),
+                        rs.getLong("closed_trades"),
+                        rs.getLong("winning_trades"),
+                        rs.getLong("losing_trades"),
+                        rs.getBigDecimal("total_pnl"),
+                        rs.getBigDecimal("gross_profit"),
+                        rs.getBigDecimal("gross_loss")));
+    }
+
+    /**
+     * 종료 거래의 (생성 시각, 실현 손익)을 생성 시각순으로 스트리밍 (손익 곡선 계산용)
+     * - 필요한 두 컬럼만 forward-only 커서로 읽고 double로 전달 (BigDecimal/엔티티 미생성)
+     * - PostgreSQL 커서 페치를 위해 트랜잭션 안에서 호출해야 함
+     */
+    public void streamClosedTrades(String authorEmail, ClosedTradeHandler handler) {
+        jdbcTemplate.getJdbcTemplate().query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    CLOSED_TRADES_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(CLOSED_TRADES_FETCH_SIZE);
+            statement.setString(1, authorEmail);
+            return statement;
+        }, (RowCallbackHandler) rs -> handler.accept(
+                rs.getObject(1, LocalDateTime.class), rs.getDouble(2)));
+    }
+
+    /**
+     * 종료 거래의 (진입가, 손절가, 수량, 실현 손익)을 시간순으로 스트리밍 (위험 지표 계산용)
+     * - 손절가가 없으면 Double.NaN
+     * - PostgreSQL 커서 페치를 위해 트랜잭션 안에서 호출해야 함
+     */
+    public void streamClosedTradeRisks(String authorEmail, ClosedTradeRiskHandler handler) {
+        jdbcTemplate.getJdbcTemplate().query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    CLOSED_TRADE_RISKS_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(CLOSED_TRADES_FETCH_SIZE);
+            statement.setString(1, authorEmail);
+            return statement;
+        }, (RowCallbackHandler) rs -> {
+            double entryPrice = rs.getDouble(1);
+            double stopLossPrice = rs.getDouble(2);
+            if (rs.wasNull()) {
+                stopLossPrice = Double.NaN;
+            }
+            handler.accept(entryPrice, stopLossPrice, rs.getDouble(3), rs.getDouble(4));
+        });
+    }
+
+    @FunctionalInterface
+    public interface ClosedTradeHandler {
+        void accept(LocalDateTime createdAt, double realizedPnL);
+    }
+
+    @FunctionalInterface
+    public interface ClosedTradeRiskHandler {
+        void accept(double entryPrice, double stopLossPrice, double quantity, double realizedPnL);
+    }
+}
@@ -0,0 +1,78 @@
+package io.tbill.backendapi.domain.journal.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 매매일지 일괄 종료/삭제 (집합 단위 SQL)
+ * - 엔티티를 로딩하지 않고 author_email + journal_id IN (...) 조건으로 한 번에 처리
+ * - 영속성 컨텍스트/2차 캐시를 거치지 않으므로 호출 측에서 캐시 무효화 필요 (JournalBulkService)
+ */
+@Repository
+@RequiredArgsConstructor
+public class JournalBulkRepository {
+
+    private static final String LOCK_SQL =
+            "SELECT journal_id, realized_pnl, created_at FROM journal " +
+            "WHERE author_email = :authorEmail AND journal_id IN (:journalIds) " +
+            "FOR UPDATE";
+
+    private static final String DELETE_SQL =
+            "DELETE FROM journal WHERE author_email = :authorEmail AND journal_id IN (:journalIds)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 본인 매매일지 행 잠금 + 현재 실현 손익/작성 시각 조회 (없는/타인 ID 는 결과에서 빠짐)
+     */
+    public List<LockedRow> lockOwned(String authorEmail, Collection<Long> journalIds) {
+        return jdbcTemplate.query(LOCK_SQL,
+                Map.of("authorEmail", authorEmail, "journalIds", journalIds),
+                (rs, rowNum) -> new LockedRow(rs.getLong("journal_id"), rs.getBigDecimal("realized_pnl"),
+                        rs.getObject("created_at", LocalDateTime.class)));
+    }
+
+    /**
+     * 진행 중 거래 일괄 종료 (행마다 다른 실현 손익 -> CASE 한 문장)
+     *
+     * @return 종료된 행 수
+     */
+    public int close(String authorEmail, Map<Long, BigDecimal> realizedPnLs, LocalDateTime now) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("authorEmail", authorEmail)
+                .addValue("journalIds", realizedPnLs.keySet())
+                .addValue("now", now);
+
+        StringBuilder sql = new StringBuilder("UPDATE journal SET realized_pnl = CASE journal_id");
+        int index = 0;
+        for (Map.Entry<Long, BigDecimal> entry : realizedPnLs.entrySet()) {
+            sql.append(" WHEN :id").append(index).append(" THEN :pnl").append(index);
+            params.addValue("id" + index, entry.getKey());
+            params.addValue("pnl" + index, entry.getValue());
+            index++;
+        }
+        sql.append(" END, updated_at = :now ")
+                .append("WHERE author_email = :authorEmail AND journal_id IN (:journalIds) ")
+                .append("AND realized_pnl IS NULL");
+
+        return jdbcTemplate.update(sql.toString(), params);
+    }
+
+    /**
+     * @return 삭제된 행 수
+     */
+    public int delete(String authorEmail, Collection<Long> journalIds) {
+        return jdbcTemplate.update(DELETE_SQL, Map.of("authorEmail", authorEmail, "journalIds", journalIds));
+    }
+
+    public record LockedRow(Long journalId, BigDecimal realizedPnL, LocalDateTime createdAt) {
+    }
+}
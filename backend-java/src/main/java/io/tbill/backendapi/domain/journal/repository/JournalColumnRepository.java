@@ -0,0 +1,98 @@
+package io.tbill.backendapi.domain.journal.repository;
+
+import io.tbill.backendapi.domain.common.vo.Money;
+import io.tbill.backendapi.domain.journal.cache.JournalColumns;
+import io.tbill.backendapi.domain.journal.entity.MarketType;
+import io.tbill.backendapi.domain.journal.entity.TradeType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 컬럼 캐시 적재용 조회 (분석에 필요한 컬럼만, reasoning 제외)
+ * - 전체 적재는 forward-only 커서로 읽으며 바로 컬럼 배열에 기록 (엔티티/DTO 미생성)
+ * - PostgreSQL 커서 페치를 위해 전체 적재는 트랜잭션 안에서 호출해야 함
+ */
+@Repository
+@RequiredArgsConstructor
+public class JournalColumnRepository {
+
+    private static final String COLUMNS =
+            "SELECT j.journal_id, j.created_at, j.market, j.symbol, j.trade_type, " +
+            "j.quantity, j.entry_price, j.realized_pnl, j.stop_loss_price FROM journal j ";
+    private static final String LOAD_SQL = COLUMNS +
+            "WHERE j.author_email = ? ORDER BY j.created_at, j.journal_id";
+    private static final String ROWS_SQL = COLUMNS +
+            "WHERE j.author_email = :authorEmail AND j.journal_id IN (:ids)";
+    private static final int FETCH_SIZE = 5000;
+
+    private static final RowMapper<JournalColumns.Row> ROW_MAPPER = (rs, rowNum) -> new JournalColumns.Row(
+            rs.getLong(1),
+            epochMillis(rs),
+            MarketType.valueOf(rs.getString(3)),
+            rs.getString(4),
+            TradeType.valueOf(rs.getString(5)),
+            Money.units(rs.getBigDecimal(6)),
+            Money.units(rs.getBigDecimal(7)),
+            stopLossPrice(rs),
+            realizedPnL(rs));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 작성자의 전체 매매일지를 (createdAt, id) 순으로 읽어 컬럼 스냅샷 생성
+     */
+    public JournalColumns load(String authorEmail, long version) {
+        JournalColumns.Builder builder = JournalColumns.builder(version);
+        jdbcTemplate.getJdbcTemplate().query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    LOAD_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(FETCH_SIZE);
+            statement.setString(1, authorEmail);
+            return statement;
+        }, (RowCallbackHandler) rs -> builder.add(
+                rs.getLong(1),
+                epochMillis(rs),
+                (byte) MarketType.valueOf(rs.getString(3)).ordinal(),
+                rs.getString(4),
+                (byte) TradeType.valueOf(rs.getString(5)).ordinal(),
+                Money.units(rs.getBigDecimal(6)),
+                Money.units(rs.getBigDecimal(7)),
+                stopLossPrice(rs),
+                realizedPnL(rs)));
+        return builder.build();
+    }
+
+    /**
+     * 변경된 행만 조회 (캐시 증분 반영용, 삭제된 id는 결과에 없음)
+     */
+    public List<JournalColumns.Row> findRows(String authorEmail, Collection<Long> ids) {
+        return jdbcTemplate.query(ROWS_SQL, Map.of("authorEmail", authorEmail, "ids", ids), ROW_MAPPER);
+    }
+
+    private static long epochMillis(ResultSet rs) throws SQLException {
+        return rs.getObject(2, LocalDateTime.class).toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static long stopLossPrice(ResultSet rs) throws SQLException {
+        BigDecimal value = rs.getBigDecimal(9);
+        return value != null ? Money.units(value) : JournalColumns.NO_PRICE;
+    }
+
+    private static long realizedPnL(ResultSet rs) throws SQLException {
+        BigDecimal value = rs.getBigDecimal(8);
+        return value != null ? Money.units(value) : JournalColumns.NO_PNL;
+    }
+}
@@ -0,0 +1,187 @@
+package io.tbill.backendapi.domain.journal.repository;
+
+import io.tbill.backendapi.domain.journal.dto.JournalDto;
+import io.tbill.backendapi.infrastructure.datasource.DatabasePlatform;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 일별 손익 집계 (journal_daily_rollup, 키: author_email + trade_date)
+ * - trade_date = 매매일지 작성일 (created_at 의 날짜, 변경 불가 -> 거래가 다른 날짜로 옮겨가지 않음)
+ * - 증분 반영은 날짜별 변화량(Delta)을 더하는 upsert (PostgreSQL: ON CONFLICT, H2: MERGE)
+ * - 거래 수가 0 이 된 날짜 행은 삭제 (달력 조회 행 수 = 거래가 있는 날 수)
+ */
+@Repository
+public class JournalDailyRollupRepository {
+
+    private static final String POSTGRESQL_UPSERT_SQL =
+            "INSERT INTO journal_daily_rollup " +
+            "(author_email, trade_date, total_trades, closed_trades, winning_trades, losing_trades, realized_pnl) " +
+            "VALUES (:authorEmail, :tradeDate, :totalTrades, :closedTrades, :winningTrades, :losingTrades, :realizedPnL) " +
+            "ON CONFLICT (author_email, trade_date) DO UPDATE SET " +
+            "total_trades = journal_daily_rollup.total_trades + EXCLUDED.total_trades, " +
+            "closed_trades = journal_daily_rollup.closed_trades + EXCLUDED.closed_trades, " +
+            "winning_trades = journal_daily_rollup.winning_trades + EXCLUDED.winning_trades, " +
+            "losing_trades = journal_daily_rollup.losing_trades + EXCLUDED.losing_trades, " +
+            "realized_pnl = journal_daily_rollup.realized_pnl + EXCLUDED.realized_pnl";
+
+    private static final String H2_UPSERT_SQL =
+            "MERGE INTO journal_daily_rollup r USING (SELECT " +
+            "CAST(:authorEmail AS VARCHAR(255)) AS author_email, CAST(:tradeDate AS DATE) AS trade_date, " +
+            "CAST(:totalTrades AS INTEGER) AS total_trades, CAST(:closedTrades AS INTEGER) AS closed_trades, " +
+            "CAST(:winningTrades AS INTEGER) AS winning_trades, CAST(:losingTrades AS INTEGER) AS losing_trades, " +
+            "CAST(:realizedPnL AS NUMERIC(38, 2)) AS realized_pnl) d " +
+            "ON r.author_email = d.author_email AND r.trade_date = d.trade_date " +
+            "WHEN MATCHED THEN UPDATE SET " +
+            "total_trades = r.total_trades + d.total_trades, " +
+            "closed_trades = r.closed_trades + d.closed_trades, " +
+            "winning_trades = r.winning_trades + d.winning_trades, " +
+            "losing_trades = r.losing_trades + d.losing_trades, " +
+            "realized_pnl = r.realized_pnl + d.realized_pnl " +
+            "WHEN NOT MATCHED THEN INSERT " +
+            "(author_email, trade_date, total_trades, closed_trades, winning_trades, losing_trades, realized_pnl) " +
+            "VALUES (d.author_email, d.trade_date, d.total_trades, d.closed_trades, d.winning_trades, " +
+            "d.losing_trades, d.realized_pnl)";
+
+    private static final String DELETE_EMPTY_SQL =
+            "DELETE FROM journal_daily_rollup " +
+            "WHERE author_email = :authorEmail AND trade_date IN (:tradeDates) AND total_trades <= 0";
+
+    private static final String RANGE_SQL =
+            "SELECT trade_date, total_trades, closed_trades, winning_trades, losing_trades, realized_pnl " +
+            "FROM journal_daily_rollup " +
+            "WHERE author_email = :authorEmail AND trade_date BETWEEN :from AND :to " +
+            "ORDER BY trade_date";
+
+    private static final String DELETE_USER_SQL =
+            "DELETE FROM journal_daily_rollup WHERE author_email = :authorEmail";
+
+    // journal 테이블 기준 재계산 (Reconciliation, 신규 테이블 최초 적재와 같은 집계)
+    private static final String REBUILD_USER_SQL =
+            "INSERT INTO journal_daily_rollup " +
+            "(author_email, trade_date, total_trades, closed_trades, winning_trades, losing_trades, realized_pnl) " +
+            "SELECT author_email, CAST(created_at AS DATE), COUNT(*), COUNT(realized_pnl), " +
+            "SUM(CASE WHEN realized_pnl > 0 THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN realized_pnl < 0 THEN 1 ELSE 0 END), " +
+            "COALESCE(SUM(realized_pnl), 0) " +
+            "FROM journal WHERE author_email = :authorEmail " +
+            "GROUP BY author_email, CAST(created_at AS DATE)";
+
+    // 저장된 집계와 journal 테이블 기준 집계가 다른 날짜 행 수 (양방향 EXCEPT, 0 이면 재계산 불필요)
+    private static final String STORED_USER_SQL =
+            "SELECT trade_date, total_trades, closed_trades, winning_trades, losing_trades, realized_pnl " +
+            "FROM journal_daily_rollup WHERE author_email = :authorEmail";
+
+    private static final String AGGREGATE_USER_SQL =
+            "SELECT CAST(created_at AS DATE), COUNT(*), COUNT(realized_pnl), " +
+            "SUM(CASE WHEN realized_pnl > 0 THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN realized_pnl < 0 THEN 1 ELSE 0 END), " +
+            "COALESCE(SUM(realized_pnl), 0) " +
+            "FROM journal WHERE author_email = :authorEmail " +
+            "GROUP BY CAST(created_at AS DATE)";
+
+    private static final String COUNT_MISMATCHED_SQL =
+            "SELECT COUNT(*) FROM (" +
+            "(" + STORED_USER_SQL + " EXCEPT " + AGGREGATE_USER_SQL + ") UNION ALL " +
+            "(" + AGGREGATE_USER_SQL + " EXCEPT " + STORED_USER_SQL + ")) mismatched";
+
+    private static final String DELETE_ORPHANS_SQL =
+            "DELETE FROM journal_daily_rollup r " +
+            "WHERE NOT EXISTS (SELECT 1 FROM journal j WHERE j.author_email = r.author_email)";
+
+    private static final RowMapper<JournalDto.CalendarDay> DAY_ROW_MAPPER = (rs, rowNum) ->
+            new JournalDto.CalendarDay(
+                    rs.getObject("trade_date", LocalDate.class),
+                    rs.getInt("total_trades"),
+                    rs.getInt("closed_trades"),
+                    rs.getInt("winning_trades"),
+                    rs.getInt("losing_trades"),
+                    rs.getBigDecimal("realized_pnl"));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final String upsertSql;
+
+    public JournalDailyRollupRepository(NamedParameterJdbcTemplate jdbcTemplate,
+                                        DatabasePlatform databasePlatform) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.upsertSql = databasePlatform.isPostgreSQL() ? POSTGRESQL_UPSERT_SQL : H2_UPSERT_SQL;
+    }
+
+    /**
+     * 하루치 변화량 (삭제/정정은 음수)
+     */
+    public record Delta(LocalDate tradeDate, int totalTrades, int closedTrades,
+                        int winningTrades, int losingTrades, BigDecimal realizedPnL) {
+    }
+
+    /**
+     * 날짜별 변화량 반영 (날짜당 1행 upsert 배치 + 비게 된 날짜 삭제)
+     */
+    public void apply(String authorEmail, Collection<Delta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(upsertSql, deltas.stream()
+                .map(delta -> new MapSqlParameterSource()
+                        .addValue("authorEmail", authorEmail)
+                        .addValue("tradeDate", delta.tradeDate())
+                        .addValue("totalTrades", delta.totalTrades())
+                        .addValue("closedTrades", delta.closedTrades())
+                        .addValue("winningTrades", delta.winningTrades())
+                        .addValue("losingTrades", delta.losingTrades())
+                        .addValue("realizedPnL", delta.realizedPnL()))
+                .toArray(SqlParameterSource[]::new));
+
+        List<LocalDate> decreased = deltas.stream()
+                .filter(delta -> delta.totalTrades() < 0)
+                .map(Delta::tradeDate)
+                .toList();
+        if (!decreased.isEmpty()) {
+            jdbcTemplate.update(DELETE_EMPTY_SQL, Map.of("authorEmail", authorEmail, "tradeDates", decreased));
+        }
+    }
+
+    /**
+     * 기간 내 거래가 있는 날짜 (날짜 오름차순)
+     */
+    public List<JournalDto.CalendarDay> findRange(String authorEmail, LocalDate from, LocalDate to) {
+        return jdbcTemplate.query(RANGE_SQL,
+                Map.of("authorEmail", authorEmail, "from", from, "to", to), DAY_ROW_MAPPER);
+    }
+
+    /**
+     * 사용자 전체 재계산
+     *
+     * @return 적재된 날짜 행 수
+     */
+    public int rebuild(String authorEmail) {
+        Map<String, String> params = Map.of("authorEmail", authorEmail);
+        jdbcTemplate.update(DELETE_USER_SQL, params);
+        return jdbcTemplate.update(REBUILD_USER_SQL, params);
+    }
+
+    /**
+     * 저장된 집계가 journal 테이블 기준 집계와 같은지 (Reconciliation 에서 바뀐 사용자만 재계산)
+     */
+    public boolean isConsistent(String authorEmail) {
+        Long mismatched = jdbcTemplate.queryForObject(COUNT_MISMATCHED_SQL,
+                Map.of("authorEmail", authorEmail), Long.class);
+        return mismatched != null && mismatched == 0;
+    }
+
+    /**
+     * 매매일지가 하나도 없는 사용자의 집계 행 정리 (Reconciliation)
+     */
+    public int deleteOrphans() {
+        return jdbcTemplate.update(DELETE_ORPHANS_SQL, Map.of());
+    }
+}
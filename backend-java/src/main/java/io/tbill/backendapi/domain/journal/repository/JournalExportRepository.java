@@ -0,0 +1,75 @@
+package io.tbill.backendapi.domain.journal.repository;
+
+import io.tbill.backendapi.domain.journal.dto.JournalDto;
+import io.tbill.backendapi.domain.journal.entity.JournalReasoning;
+import io.tbill.backendapi.domain.journal.entity.MarketType;
+import io.tbill.backendapi.domain.journal.entity.TradeType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * 매매일지 전체 내보내기 (forward-only 커서 스트리밍)
+ * - 결과를 List로 모으지 않고 FETCH_SIZE 단위로 받아 한 행씩 Consumer에 전달 (힙 사용량이 이력 크기와 무관)
+ * - PostgreSQL은 autocommit=false 일 때만 fetchSize 커서를 사용하므로 트랜잭션 안에서 호출해야 함
+ * - 근거는 journal_reasoning 을 LEFT JOIN 하여 행 단위로 압축 해제
+ */
+@Repository
+@RequiredArgsConstructor
+public class JournalExportRepository {
+
+    static final int FETCH_SIZE = 1000;
+
+    private static final String EXPORT_SQL =
+            "SELECT j.journal_id, j.author_email, j.market, j.symbol, j.trade_type, j.quantity, " +
+            "j.entry_price, j.stop_loss_price, j.realized_pnl, r.encoding, r.content, j.created_at, j.updated_at " +
+            "FROM journal j LEFT JOIN journal_reasoning r ON r.journal_id = j.journal_id " +
+            "WHERE j.author_email = ? " +
+            "ORDER BY j.created_at, j.journal_id";
+
+    private static final RowMapper<JournalDto.JournalInfo> INFO_ROW_MAPPER = (rs, rowNum) ->
+            new JournalDto.JournalInfo(
+                    rs.getLong("journal_id"),
+                    rs.getString("author_email"),
+                    MarketType.valueOf(rs.getString("market")),
+                    rs.getString("symbol"),
+                    TradeType.valueOf(rs.getString("trade_type")),
+                    rs.getBigDecimal("quantity"),
+                    rs.getBigDecimal("entry_price"),
+                    rs.getBigDecimal("stop_loss_price"),
+                    rs.getBigDecimal("realized_pnl"),
+                    reasoning(rs),
+                    rs.getObject("created_at", LocalDateTime.class),
+                    rs.getObject("updated_at", LocalDateTime.class));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 작성자의 매매일지를 작성일 오름차순으로 스트리밍
+     */
+    public void streamByAuthorEmail(String authorEmail, Consumer<JournalDto.JournalInfo> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    EXPORT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(FETCH_SIZE);
+            statement.setString(1, authorEmail);
+            return statement;
+        }, (RowCallbackHandler) rs -> consumer.accept(INFO_ROW_MAPPER.mapRow(rs, 0)));
+    }
+
+    private static String reasoning(ResultSet rs) throws SQLException {
+        String encoding = rs.getString("encoding");
+        if (encoding == null) {
+            return null;
+        }
+        return JournalReasoning.decode(JournalReasoning.Encoding.valueOf(encoding), rs.getBytes("content"));
+    }
+}
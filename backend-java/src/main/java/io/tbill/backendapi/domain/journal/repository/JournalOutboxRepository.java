@@ -0,0 +1,85 @@
+package io.tbill.backendapi.domain.journal.repository;
+
+import io.tbill.backendapi.domain.journal.event.JournalChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 매매일지 변경 이벤트 Outbox (journal_outbox)
+ * - 매매일지 변경과 같은 트랜잭션에서 INSERT -> 커밋된 변경만 릴레이가 Kafka로 전달
+ * - event_id(IDENTITY) 오름차순이 발행 순서
+ */
+@Repository
+@RequiredArgsConstructor
+public class JournalOutboxRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO journal_outbox (author_email, change_type, journal_ids, created_at) " +
+            "VALUES (:authorEmail, :changeType, :journalIds, :createdAt)";
+
+    // 릴레이 인스턴스가 여럿이어도 배치를 행 잠금으로 직렬화하여 발행 순서 유지
+    private static final String LOCK_BATCH_SQL =
+            "SELECT event_id, author_email, change_type, journal_ids, created_at FROM journal_outbox " +
+            "ORDER BY event_id LIMIT :limit FOR UPDATE";
+
+    private static final RowMapper<OutboxEvent> ROW_MAPPER = (rs, rowNum) -> new OutboxEvent(
+            rs.getLong("event_id"),
+            rs.getString("author_email"),
+            JournalChangedEvent.ChangeType.valueOf(rs.getString("change_type")),
+            Arrays.stream(rs.getString("journal_ids").split(",")).map(Long::valueOf).toList(),
+            rs.getObject("created_at", LocalDateTime.class));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public record OutboxEvent(long eventId, String authorEmail, JournalChangedEvent.ChangeType changeType,
+                              List<Long> journalIds, LocalDateTime createdAt) {
+
+        public JournalChangedEvent toChangedEvent() {
+            return new JournalChangedEvent(authorEmail, changeType, journalIds);
+        }
+    }
+
+    public void insert(JournalChangedEvent event, LocalDateTime createdAt) {
+        jdbcTemplate.update(INSERT_SQL, new MapSqlParameterSource()
+                .addValue("authorEmail", event.authorEmail())
+                .addValue("changeType", event.changeType().name())
+                .addValue("journalIds", event.journalIds().stream()
+                        .map(String::valueOf)
+                        .collect(Collectors.joining(",")))
+                .addValue("createdAt", createdAt));
+    }
+
+    /**
+     * 발행 대기 이벤트를 순서대로 잠금 조회 (트랜잭션 안에서 호출)
+     */
+    public List<OutboxEvent> lockBatch(int limit) {
+        return jdbcTemplate.query(LOCK_BATCH_SQL, new MapSqlParameterSource("limit", limit), ROW_MAPPER);
+    }
+
+    public int deleteByIds(Collection<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update("DELETE FROM journal_outbox WHERE event_id IN (:eventIds)",
+                new MapSqlParameterSource("eventIds", eventIds));
+    }
+
+    /**
+     * 가장 오래된 발행 대기 이벤트 생성 시각 (릴레이 지연 측정)
+     */
+    public Optional<LocalDateTime> findOldestCreatedAt() {
+        return jdbcTemplate.query(
+                "SELECT created_at FROM journal_outbox ORDER BY event_id LIMIT 1",
+                (rs, rowNum) -> rs.getObject("created_at", LocalDateTime.class)).stream().findFirst();
+    }
+}
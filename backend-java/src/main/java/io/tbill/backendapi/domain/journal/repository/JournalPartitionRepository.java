@@ -0,0 +1,77 @@
+package io.tbill.backendapi.domain.journal.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * journal 월별 파티션 관리 (PostgreSQL 전용, db/migration V4 파티션 변환 이후)
+ * - 파티션 이름: journal_pYYYYMM, 범위 [해당 월 1일, 다음 달 1일)
+ * - 범위를 벗어난 행은 journal_pdefault 에 저장됨
+ */
+@Repository
+@RequiredArgsConstructor
+public class JournalPartitionRepository {
+
+    static final String PARTITION_PREFIX = "journal_p";
+    static final String ARCHIVE_SCHEMA = "journal_archive";
+
+    private static final DateTimeFormatter SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private static final String FIND_PARTITIONS_SQL =
+            "SELECT c.relname FROM pg_inherits i " +
+            "JOIN pg_class c ON c.oid = i.inhrelid " +
+            "JOIN pg_class p ON p.oid = i.inhparent " +
+            "JOIN pg_namespace n ON n.oid = p.relnamespace " +
+            "WHERE p.relname = 'journal' AND n.nspname = current_schema() " +
+            "ORDER BY c.relname";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public static String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(SUFFIX_FORMAT);
+    }
+
+    /**
+     * 파티션 이름의 월 (journal_pdefault 등 월 파티션이 아니면 empty)
+     */
+    public static Optional<YearMonth> monthOf(String partitionName) {
+        if (!partitionName.startsWith(PARTITION_PREFIX)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(YearMonth.parse(partitionName.substring(PARTITION_PREFIX.length()), SUFFIX_FORMAT));
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 현재 journal 에 연결된 파티션 이름 (기본 파티션 포함)
+     */
+    public List<String> findPartitionNames() {
+        return jdbcTemplate.queryForList(FIND_PARTITIONS_SQL, String.class);
+    }
+
+    public void createMonthly(YearMonth month) {
+        jdbcTemplate.execute(String.format(
+                "CREATE TABLE IF NOT EXISTS %s PARTITION OF journal FOR VALUES FROM ('%s') TO ('%s')",
+                partitionName(month), month.atDay(1), month.plusMonths(1).atDay(1)));
+    }
+
+    /**
+     * 파티션을 journal 에서 분리하여 journal_archive 스키마로 이동
+     * - 이후 journal 조회에서 제외되며, 백업(pg_dump -t journal_archive.journal_pYYYYMM) 후 삭제 가능
+     */
+    public void detachAndArchive(YearMonth month) {
+        String partition = partitionName(month);
+        jdbcTemplate.execute("ALTER TABLE journal DETACH PARTITION " + partition);
+        jdbcTemplate.execute("ALTER TABLE " + partition + " SET SCHEMA " + ARCHIVE_SCHEMA);
+    }
+}
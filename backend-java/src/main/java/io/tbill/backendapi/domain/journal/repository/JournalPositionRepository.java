@@ -0,0 +1,77 @@
+package io.tbill.backendapi.domain.journal.repository;
+
+import io.tbill.backendapi.domain.journal.dto.JournalDto;
+import io.tbill.backendapi.domain.journal.entity.MarketType;
+import io.tbill.backendapi.domain.journal.entity.TradeType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 진행 중 거래 포지션 집계 ((시장, 심볼)별 순포지션) / 진행 중 거래 목록
+ * - 진행 중 거래만 한 번의 GROUP BY로 집계 (엔티티 페이징 없음)
+ * - schema-postgresql.sql 의 idx_journal_open_positions (부분 인덱스, Index Only Scan)
+ */
+@Repository
+@RequiredArgsConstructor
+public class JournalPositionRepository {
+
+    // 손절 위험: 롱 (진입가 - 손절가) × 수량, 숏 (손절가 - 진입가) × 수량 (손절가가 없는 거래는 SUM에서 제외)
+    private static final String OPEN_POSITIONS_SQL =
+            "SELECT j.market, j.symbol, COUNT(*) AS open_trades, " +
+            "COALESCE(SUM(j.quantity) FILTER (WHERE j.trade_type = 'LONG'), 0) AS long_quantity, " +
+            "COALESCE(SUM(j.quantity * j.entry_price) FILTER (WHERE j.trade_type = 'LONG'), 0) AS long_notional, " +
+            "COALESCE(SUM(j.quantity) FILTER (WHERE j.trade_type = 'SHORT'), 0) AS short_quantity, " +
+            "COALESCE(SUM(j.quantity * j.entry_price) FILTER (WHERE j.trade_type = 'SHORT'), 0) AS short_notional, " +
+            "COALESCE(SUM(CASE WHEN j.trade_type = 'LONG' THEN j.entry_price - j.stop_loss_price " +
+            "ELSE j.stop_loss_price - j.entry_price END * j.quantity), 0) AS stop_loss_risk, " +
+            "COALESCE(SUM(j.quantity) FILTER (WHERE j.stop_loss_price IS NULL), 0) AS unprotected_quantity " +
+            "FROM journal j " +
+            "WHERE j.author_email = :authorEmail AND j.realized_pnl IS NULL " +
+            "GROUP BY j.market, j.symbol " +
+            "ORDER BY j.market, j.symbol";
+
+    private static final String OPEN_TRADES_SQL =
+            "SELECT j.journal_id, j.market, j.symbol, j.trade_type, j.quantity, j.entry_price " +
+            "FROM journal j " +
+            "WHERE j.author_email = :authorEmail AND j.realized_pnl IS NULL " +
+            "ORDER BY j.market, j.symbol, j.journal_id";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public List<JournalDto.PositionAggregate> findOpenPositions(String authorEmail) {
+        return jdbcTemplate.query(OPEN_POSITIONS_SQL, Map.of("authorEmail", authorEmail),
+                (rs, rowNum) -> new JournalDto.PositionAggregate(
+                        MarketType.valueOf(rs.getString("market")),
+                        rs.getString("symbol"),
+                        rs.getLong("open_trades"),
+                        rs.getBigDecimal("long_quantity"),
+                        rs.getBigDecimal("long_notional"),
+                        rs.getBigDecimal("short_quantity"),
+                        rs.getBigDecimal("short_notional"),
+                        rs.getBigDecimal("stop_loss_risk"),
+                        rs.getBigDecimal("unprotected_quantity")));
+    }
+
+    /**
+     * 진행 중 거래 목록 (평가 손익 계산용, (시장, 심볼) 순)
+     */
+    public List<OpenTrade> findOpenTrades(String authorEmail) {
+        return jdbcTemplate.query(OPEN_TRADES_SQL, Map.of("authorEmail", authorEmail),
+                (rs, rowNum) -> new OpenTrade(
+                        rs.getLong("journal_id"),
+                        MarketType.valueOf(rs.getString("market")),
+                        rs.getString("symbol"),
+                        TradeType.valueOf(rs.getString("trade_type")),
+                        rs.getBigDecimal("quantity"),
+                        rs.getBigDecimal("entry_price")));
+    }
+
+    public record OpenTrade(long journalId, MarketType market, String symbol, TradeType tradeType,
+                            BigDecimal quantity, BigDecimal entryPrice) {
+    }
+}
@@ -0,0 +1,44 @@
+package io.tbill.backendapi.domain.journal.repository;
+
+import io.tbill.backendapi.domain.journal.entity.JournalReasoning;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Optional;
+
+@Repository
+public interface JournalReasoningRepository extends JpaRepository<JournalReasoning, Long> {
+
+    /**
+     * 변경 여부 판단용 해시만 조회 (본문 미조회)
+     */
+    @Query("SELECT r.contentHash FROM JournalReasoning r WHERE r.journalId = :journalId")
+    Optional<String> findContentHashByJournalId(@Param("journalId") Long journalId);
+
+    /**
+     * 본문 교체 (기존 본문을 영속성 컨텍스트로 읽지 않고 UPDATE 1회)
+     */
+    @Modifying
+    @Query("UPDATE JournalReasoning r SET r.encoding = :#{#reasoning.encoding}, " +
+            "r.content = :#{#reasoning.content}, r.originalSize = :#{#reasoning.originalSize}, " +
+            "r.contentHash = :#{#reasoning.contentHash} WHERE r.journalId = :#{#reasoning.journalId}")
+    int overwrite(@Param("reasoning") JournalReasoning reasoning);
+
+    /**
+     * 매매일지 삭제 시 근거 삭제 (조회 없이 DELETE 1회)
+     */
+    @Modifying
+    @Query("DELETE FROM JournalReasoning r WHERE r.journalId = :journalId")
+    int deleteByJournalId(@Param("journalId") Long journalId);
+
+    /**
+     * 근거 일괄 삭제 (매매일지 일괄 삭제)
+     */
+    @Modifying
+    @Query("DELETE FROM JournalReasoning r WHERE r.journalId IN :journalIds")
+    int deleteByJournalIds(@Param("journalIds") Collection<Long> journalIds);
+}
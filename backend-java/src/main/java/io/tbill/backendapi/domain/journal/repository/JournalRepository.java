@@ -2,10 +2,15 @@ package io.tbill.backendapi.domain.journal.repository;
 
 import io.tbill.backendapi.domain.journal.entity.Journal;
 import io.tbill.backendapi.domain.journal.entity.MarketType;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.SpecHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -20,7 +25,30 @@ public interface JournalRepository extends JpaRepository<Journal, Long> {
     Page<Journal> findByAuthorEmail(String authorEmail, Pageable pageable);
     Page<Journal> findByAuthorEmailAndSymbol(String authorEmail, String symbol, Pageable pageable);
     Page<Journal> findByAuthorEmailAndMarket(String authorEmail, MarketType market, Pageable pageable);
-    Optional<Journal> findByIdAndAuthorEmail(Long id, String authorEmail);
+
+    /**
+     * 상세 조회(GET) 전용 단건 조회
+     * - 식별자 조회(2차 캐시 journal 리전)로 찾은 뒤 작성자 확인
+     *   (쿼리 캐시는 journal 테이블에 쓰기가 있을 때마다 전체 무효화되므로 사용하지 않음)
+     * - 2차 캐시는 다른 인스턴스의 쓰기를 Redis pub/sub 으로 비동기 무효화하므로 잠시 이전 값일 수 있음
+     *   수정/삭제는 findForUpdate 사용
+     */
+    default Optional<Journal> findByIdAndAuthorEmail(Long id, String authorEmail) {
+        return findById(id).filter(journal -> journal.getAuthorEmail().equals(authorEmail));
+    }
+
+    /**
+     * 수정/삭제용 단건 조회 (행 잠금)
+     * - 통계 행 잠금 이후 호출해 같은 매매일지를 동시에 수정/삭제하는 트랜잭션이 이전 값을 기준으로 delta 를 계산하지 않도록 함
+     * - 2차 캐시를 거치지 않고 DB 에서 읽고, 읽은 값으로 캐시를 갱신 (무효화 전 이전 값 덮어쓰기 방지)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints({
+            @QueryHint(name = SpecHints.HINT_SPEC_CACHE_RETRIEVE_MODE, value = "BYPASS"),
+            @QueryHint(name = SpecHints.HINT_SPEC_CACHE_STORE_MODE, value = "REFRESH")
+    })
+    @Query("SELECT j FROM Journal j WHERE j.id = :id AND j.authorEmail = :authorEmail")
+    Optional<Journal> findForUpdate(@Param("id") Long id, @Param("authorEmail") String authorEmail);
 
     @Query("SELECT j FROM Journal j WHERE j.authorEmail = :authorEmail " +
             "AND j.createdAt BETWEEN :startDate AND :endDate " +
@@ -32,30 +60,39 @@ public interface JournalRepository extends JpaRepository<Journal, Long> {
             Pageable pageable
     );
 
-    @Query("SELECT j FROM Journal j WHERE j.authorEmail = :authorEmail " +
-            "AND j.realizedPnL IS NOT NULL " +
-            "ORDER BY j.createdAt DESC")
-    Page<Journal> findClosedTradesByAuthorEmail(
-            @Param("authorEmail") String authorEmail,
-            Pageable pageable
-    );
-
-    @Query("SELECT j FROM Journal j WHERE j.authorEmail = :authorEmail " +
-            "AND j.realizedPnL IS NULL " +
-            "ORDER BY j.createdAt DESC")
-    Page<Journal> findOpenTradesByAuthorEmail(
-            @Param("authorEmail") String authorEmail,
-            Pageable pageable
-    );
-
-    @Query("SELECT SUM(j.realizedPnL) FROM Journal j WHERE j.authorEmail = :authorEmail " +
-            "AND j.realizedPnL IS NOT NULL")
-    Optional<BigDecimal> getTotalPnLByAuthorEmail(@Param("authorEmail") String authorEmail);
-
-    // 통계용 추가 메서드
-    Long countByAuthorEmail(String authorEmail);
+    /**
+     * 통계 집계 재계산 (journal 테이블 1회 스캔)
+     * - JournalStatistics 행이 없거나 Reconciliation 시에만 사용
+     */
+    @Query("SELECT j.authorEmail AS authorEmail, " +
+            "COUNT(j) AS totalTrades, " +
+            "COUNT(j.realizedPnL) AS closedTrades, " +
+            "SUM(CASE WHEN j.realizedPnL > 0 THEN 1 ELSE 0 END) AS winningTrades, " +
+            "SUM(CASE WHEN j.realizedPnL < 0 THEN 1 ELSE 0 END) AS losingTrades, " +
+            "COALESCE(SUM(j.realizedPnL), 0) AS totalPnL, " +
+            "COALESCE(SUM(CASE WHEN j.realizedPnL > 0 THEN j.realizedPnL ELSE 0 END), 0) AS grossProfit, " +
+            "COALESCE(SUM(CASE WHEN j.realizedPnL < 0 THEN ABS(j.realizedPnL) ELSE 0 END), 0) AS grossLoss " +
+            "FROM Journal j WHERE j.authorEmail = :authorEmail " +
+            "GROUP BY j.authorEmail")
+    Optional<StatisticsAggregate> aggregateStatistics(@Param("authorEmail") String authorEmail);
 
-    Long countByAuthorEmailAndRealizedPnLIsNotNull(String authorEmail);
+    /**
+     * 통계 재계산 대상 사용자 목록 (Reconciliation)
+     */
+    @Query("SELECT DISTINCT j.authorEmail FROM Journal j")
+    List<String> findDistinctAuthorEmails();
 
-    Long countByAuthorEmailAndRealizedPnLGreaterThan(String authorEmail, BigDecimal value);
+    /**
+     * 통계 집계 Projection
+     */
+    interface StatisticsAggregate {
+        String getAuthorEmail();
+        Long getTotalTrades();
+        Long getClosedTrades();
+        Long getWinningTrades();
+        Long getLosingTrades();
+        BigDecimal getTotalPnL();
+        BigDecimal getGrossProfit();
+        BigDecimal getGrossLoss();
+    }
 }
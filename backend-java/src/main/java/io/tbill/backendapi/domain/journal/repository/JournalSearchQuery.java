@@ -0,0 +1,164 @@
+package io.tbill.backendapi.domain.journal.repository;
+
+import io.tbill.backendapi.domain.journal.dto.JournalDto;
+import io.tbill.backendapi.domain.journal.entity.MarketType;
+import io.tbill.backendapi.domain.journal.entity.TradeType;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 매매일지 검색 조건 조합기 (Composable Predicate Builder)
+ * - 모든 필터를 AND로 조합하여 하나의 SQL로 실행
+ * - 모든 조합은 author_email 선두 복합 인덱스를 타도록 구성
+ *   (journal 테이블 인덱스 정의 및 JournalSearchRepositoryTest의 실행 계획 검증 참고)
+ */
+public final class JournalSearchQuery {
+
+    // 목록 응답(JournalSummary)에 필요한 컬럼만 조회 (reasoning TEXT 제외)
+    static final String SUMMARY_COLUMNS =
+            "j.journal_id, j.market, j.symbol, j.trade_type, j.quantity, " +
+            "j.entry_price, j.realized_pnl, j.created_at";
+
+    private final List<String> predicates = new ArrayList<>();
+    private final MapSqlParameterSource parameters = new MapSqlParameterSource();
+    private JournalSortField sortField = JournalSortField.CREATED_AT;
+    private Sort.Direction direction = Sort.Direction.DESC;
+
+    private JournalSearchQuery(String authorEmail) {
+        if (authorEmail == null) {
+            throw new IllegalArgumentException("작성자 이메일은 필수입니다.");
+        }
+        where("j.author_email = :authorEmail", "authorEmail", authorEmail);
+    }
+
+    public static JournalSearchQuery forAuthor(String authorEmail) {
+        return new JournalSearchQuery(authorEmail);
+    }
+
+    /**
+     * 검색 조건의 모든 필터 적용
+     */
+    public static JournalSearchQuery from(JournalDto.SearchCondition condition) {
+        return forAuthor(condition.getAuthorEmail())
+                .market(condition.getMarket())
+                .symbol(condition.getSymbol())
+                .tradeType(condition.getTradeType())
+                .closed(condition.getIsClosed())
+                .createdFrom(condition.getStartDate())
+                .createdTo(condition.getEndDate());
+    }
+
+    public JournalSearchQuery market(MarketType market) {
+        if (market != null) {
+            where("j.market = :market", "market", market.name());
+        }
+        return this;
+    }
+
+    public JournalSearchQuery symbol(String symbol) {
+        if (symbol != null && !symbol.isBlank()) {
+            where("j.symbol = :symbol", "symbol", symbol);
+        }
+        return this;
+    }
+
+    public JournalSearchQuery tradeType(TradeType tradeType) {
+        if (tradeType != null) {
+            where("j.trade_type = :tradeType", "tradeType", tradeType.name());
+        }
+        return this;
+    }
+
+    /**
+     * true: 종료된 거래, false: 진행 중인 거래, null: 전체
+     */
+    public JournalSearchQuery closed(Boolean closed) {
+        if (closed != null) {
+            predicates.add(closed ? "j.realized_pnl IS NOT NULL" : "j.realized_pnl IS NULL");
+        }
+        return this;
+    }
+
+    public JournalSearchQuery createdFrom(LocalDateTime startDate) {
+        if (startDate != null) {
+            where("j.created_at >= :startDate", "startDate", startDate);
+        }
+        return this;
+    }
+
+    public JournalSearchQuery createdTo(LocalDateTime endDate) {
+        if (endDate != null) {
+            where("j.created_at <= :endDate", "endDate", endDate);
+        }
+        return this;
+    }
+
+    /**
+     * 정렬 (화이트리스트 필드만 허용, 첫 번째 정렬 조건만 사용)
+     */
+    public JournalSearchQuery orderBy(Sort sort) {
+        sort.stream().findFirst().ifPresent(order ->
+                orderBy(JournalSortField.fromProperty(order.getProperty()), order.getDirection()));
+        return this;
+    }
+
+    public JournalSearchQuery orderBy(JournalSortField sortField, Sort.Direction direction) {
+        this.sortField = sortField;
+        this.direction = direction;
+        return this;
+    }
+
+    /**
+     * 커서(Keyset) 조건: (createdAt, id) 역순 기준 커서 이후 행
+     */
+    public JournalSearchQuery after(JournalDto.Cursor cursor) {
+        if (sortField != JournalSortField.CREATED_AT || direction != Sort.Direction.DESC) {
+            throw new IllegalArgumentException("커서 페이징은 생성일 역순 정렬만 지원합니다.");
+        }
+        predicates.add("(j.created_at < :cursorCreatedAt " +
+                "OR (j.created_at = :cursorCreatedAt AND j.journal_id < :cursorId))");
+        parameters.addValue("cursorCreatedAt", cursor.getCreatedAt());
+        parameters.addValue("cursorId", cursor.getId());
+        return this;
+    }
+
+    public String selectSql(int limit, long offset) {
+        String sortDirection = direction.isAscending() ? "ASC" : "DESC";
+        return "SELECT " + SUMMARY_COLUMNS + " FROM journal j WHERE " + whereClause() +
+                " ORDER BY " + sortField.getColumn() + " " + sortDirection +
+                ", j.journal_id " + sortDirection +
+                " LIMIT " + limit + " OFFSET " + offset;
+    }
+
+    /**
+     * 동일한 필터로 그룹별 집계 (그룹 키 오름차순)
+     */
+    public String groupBySql(String keyExpression, String aggregateColumns) {
+        return "SELECT " + keyExpression + " AS group_key, " + aggregateColumns +
+                " FROM journal j WHERE " + whereClause() +
+                " GROUP BY " + keyExpression +
+                " ORDER BY " + keyExpression;
+    }
+
+    public String countSql() {
+        return "SELECT COUNT(*) FROM journal j WHERE " + whereClause();
+    }
+
+    public SqlParameterSource parameters() {
+        return parameters;
+    }
+
+    private void where(String predicate, String name, Object value) {
+        predicates.add(predicate);
+        parameters.addValue(name, value);
+    }
+
+    private String whereClause() {
+        return String.join(" AND ", predicates);
+    }
+}
@@ -0,0 +1,64 @@
+package io.tbill.backendapi.domain.journal.repository;
+
+import io.tbill.backendapi.domain.journal.dto.JournalDto;
+import io.tbill.backendapi.domain.journal.entity.MarketType;
+import io.tbill.backendapi.domain.journal.entity.TradeType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 매매일지 동적 검색 (JournalSearchQuery 실행)
+ * - 목록 컬럼만 조회하므로 엔티티 로딩/변경 감지 비용 없음
+ */
+@Repository
+@RequiredArgsConstructor
+public class JournalSearchRepository {
+
+    static final RowMapper<JournalDto.JournalSummary> SUMMARY_ROW_MAPPER = (rs, rowNum) ->
+            new JournalDto.JournalSummary(
+                    rs.getLong("journal_id"),
+                    MarketType.valueOf(rs.getString("market")),
+                    rs.getString("symbol"),
+                    TradeType.valueOf(rs.getString("trade_type")),
+                    rs.getBigDecimal("quantity"),
+                    rs.getBigDecimal("entry_price"),
+                    rs.getBigDecimal("realized_pnl"),
+                    rs.getObject("created_at", LocalDateTime.class));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 오프셋 페이징 (마지막 페이지이면 COUNT 쿼리 생략)
+     */
+    public Page<JournalDto.JournalSummary> findPage(JournalSearchQuery query, Pageable pageable) {
+        List<JournalDto.JournalSummary> content = jdbcTemplate.query(
+                query.selectSql(pageable.getPageSize(), pageable.getOffset()),
+                query.parameters(), SUMMARY_ROW_MAPPER);
+
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> jdbcTemplate.queryForObject(query.countSql(), query.parameters(), Long.class));
+    }
+
+    /**
+     * 커서 페이징 (size + 1건 조회로 다음 페이지 존재 여부 판단, COUNT 쿼리 없음)
+     */
+    public Slice<JournalDto.JournalSummary> findSlice(JournalSearchQuery query, int size) {
+        List<JournalDto.JournalSummary> rows = jdbcTemplate.query(
+                query.selectSql(size + 1, 0), query.parameters(), SUMMARY_ROW_MAPPER);
+
+        boolean hasNext = rows.size() > size;
+        List<JournalDto.JournalSummary> content = hasNext ? rows.subList(0, size) : rows;
+        return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
+    }
+}
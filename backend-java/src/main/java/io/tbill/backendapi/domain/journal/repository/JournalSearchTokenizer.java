@@ -0,0 +1,59 @@
+package io.tbill.backendapi.domain.journal.repository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 전문 검색용 토큰 분리 (색인/검색어 공통)
+ * - 소문자 변환 후 문자/숫자가 아닌 문자로 분리 (한글 포함, 형태소 분석 없음)
+ * - PostgreSQL 'simple' 설정에도 이 결과를 공백으로 이어 전달하여 두 엔진의 매칭 결과를 일치시킴
+ */
+public final class JournalSearchTokenizer {
+
+    // 색인 대상 토큰 수 상한 (100KB 근거 본문 기준 충분, tsvector 1MB 제한 보호)
+    static final int MAX_DOCUMENT_TOKENS = 20_000;
+    static final int MAX_QUERY_TERMS = 10;
+    static final int MAX_TOKEN_LENGTH = 64;
+
+    private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private JournalSearchTokenizer() {
+    }
+
+    /**
+     * 문서 토큰 (등장 순서, 중복 포함 - 빈도가 순위에 반영됨)
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String token : SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty() && token.length() <= MAX_TOKEN_LENGTH) {
+                tokens.add(token);
+                if (tokens.size() == MAX_DOCUMENT_TOKENS) {
+                    break;
+                }
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 검색어 토큰 (중복 제거, 모든 토큰을 포함하는 문서만 매칭)
+     */
+    public static List<String> terms(String query) {
+        Set<String> terms = new LinkedHashSet<>(tokenize(query));
+        if (terms.isEmpty()) {
+            throw new IllegalArgumentException("검색어를 입력해주세요.");
+        }
+        if (terms.size() > MAX_QUERY_TERMS) {
+            throw new IllegalArgumentException("검색어는 최대 " + MAX_QUERY_TERMS + "개 단어까지 입력할 수 있습니다.");
+        }
+        return List.copyOf(terms);
+    }
+}
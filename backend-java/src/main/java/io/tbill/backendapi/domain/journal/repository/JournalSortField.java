@@ -0,0 +1,39 @@
+package io.tbill.backendapi.domain.journal.repository;
+
+import java.util.Arrays;
+
+/**
+ * 매매일지 검색 정렬 기준 (화이트리스트)
+ * - API 정렬 파라미터(sortBy)는 여기 정의된 프로퍼티만 허용
+ * - 동일 값 정렬 안정성을 위해 항상 journal_id가 2차 정렬 키로 붙음
+ */
+public enum JournalSortField {
+    CREATED_AT("createdAt", "j.created_at"),
+    REALIZED_PNL("realizedPnL", "j.realized_pnl"),
+    SYMBOL("symbol", "j.symbol"),
+    ENTRY_PRICE("entryPrice", "j.entry_price"),
+    QUANTITY("quantity", "j.quantity");
+
+    private final String property;
+    private final String column;
+
+    JournalSortField(String property, String column) {
+        this.property = property;
+        this.column = column;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public String getColumn() {
+        return column;
+    }
+
+    public static JournalSortField fromProperty(String property) {
+        return Arrays.stream(values())
+                .filter(field -> field.property.equals(property))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 정렬 기준입니다: " + property));
+    }
+}
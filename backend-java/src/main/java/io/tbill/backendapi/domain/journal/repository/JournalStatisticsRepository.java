@@ -0,0 +1,31 @@
+package io.tbill.backendapi.domain.journal.repository;
+
+import io.tbill.backendapi.domain.journal.entity.JournalStatistics;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface JournalStatisticsRepository extends JpaRepository<JournalStatistics, String> {
+
+    /**
+     * 증분 갱신용 조회 (동시 작성 시 delta 유실 방지를 위해 행 잠금)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM JournalStatistics s WHERE s.authorEmail = :authorEmail")
+    Optional<JournalStatistics> findForUpdate(@Param("authorEmail") String authorEmail);
+
+    /**
+     * 매매일지가 하나도 없는 사용자의 통계 행 정리 (Reconciliation)
+     */
+    @Modifying
+    @Query("DELETE FROM JournalStatistics s WHERE s.authorEmail NOT IN " +
+            "(SELECT DISTINCT j.authorEmail FROM Journal j)")
+    int deleteOrphans();
+}
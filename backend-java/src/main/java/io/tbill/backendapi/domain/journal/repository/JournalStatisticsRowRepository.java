@@ -0,0 +1,55 @@
+package io.tbill.backendapi.domain.journal.repository;
+
+import io.tbill.backendapi.infrastructure.datasource.DatabasePlatform;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 통계 집계 행(journal_statistics) 최초 생성
+ * - 동시에 처음 쓰는 두 트랜잭션이 같은 PK 로 INSERT 하다 한쪽이 실패하지 않도록 충돌 시 무시
+ *   (PostgreSQL: ON CONFLICT DO NOTHING, 상대 트랜잭션이 커밋/롤백할 때까지 대기 후 판단)
+ * - H2(테스트): MERGE ... WHEN NOT MATCHED
+ * - 생성된 행은 모두 0, 값 채우기/잠금은 JournalStatisticsService
+ */
+@Repository
+public class JournalStatisticsRowRepository {
+
+    private static final String POSTGRESQL_INSERT_IF_ABSENT_SQL =
+            "INSERT INTO journal_statistics " +
+            "(author_email, total_trades, closed_trades, winning_trades, losing_trades, " +
+            "total_pnl, gross_profit, gross_loss, created_at, updated_at) " +
+            "VALUES (:authorEmail, 0, 0, 0, 0, 0, 0, 0, :now, :now) " +
+            "ON CONFLICT (author_email) DO NOTHING";
+
+    private static final String H2_INSERT_IF_ABSENT_SQL =
+            "MERGE INTO journal_statistics s USING (SELECT CAST(:authorEmail AS VARCHAR(255)) AS author_email) d " +
+            "ON s.author_email = d.author_email " +
+            "WHEN NOT MATCHED THEN INSERT " +
+            "(author_email, total_trades, closed_trades, winning_trades, losing_trades, " +
+            "total_pnl, gross_profit, gross_loss, created_at, updated_at) " +
+            "VALUES (d.author_email, 0, 0, 0, 0, 0, 0, 0, :now, :now)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final String insertIfAbsentSql;
+
+    public JournalStatisticsRowRepository(NamedParameterJdbcTemplate jdbcTemplate,
+                                          DatabasePlatform databasePlatform) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.insertIfAbsentSql = databasePlatform.isPostgreSQL()
+                ? POSTGRESQL_INSERT_IF_ABSENT_SQL : H2_INSERT_IF_ABSENT_SQL;
+    }
+
+    /**
+     * 통계 행이 없으면 0으로 생성
+     *
+     * @return 이 트랜잭션이 새로 만들었으면 true (이미 있었거나 다른 트랜잭션이 먼저 만들었으면 false)
+     */
+    public boolean insertIfAbsent(String authorEmail) {
+        return jdbcTemplate.update(insertIfAbsentSql, new MapSqlParameterSource()
+                .addValue("authorEmail", authorEmail)
+                .addValue("now", LocalDateTime.now())) > 0;
+    }
+}
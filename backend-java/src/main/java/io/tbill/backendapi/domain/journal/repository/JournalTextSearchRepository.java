@@ -0,0 +1,181 @@
+package io.tbill.backendapi.domain.journal.repository;
+
+import io.tbill.backendapi.domain.journal.dto.JournalDto;
+import io.tbill.backendapi.domain.journal.entity.JournalReasoning;
+import io.tbill.backendapi.infrastructure.datasource.DatabasePlatform;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 매매일지 전문 검색 색인 (심볼 + 근거 마크다운)
+ * - PostgreSQL: journal_search_vector.search_vector(tsvector) + GIN 인덱스 (schema-postgresql.sql)
+ * - 그 외(H2 테스트): journal_search_token 역색인 테이블 (schema-h2.sql), PK (author_email, token, journal_id) 범위 조회
+ * - 두 엔진 모두 JournalSearchTokenizer 결과로 색인/검색하여 매칭 결과가 같음 (순위 점수 계산 방식만 다름)
+ * - 검색은 색인에서 매칭된 행만 순위 계산 후 journal 과 조인 (LIKE '%...%' 전체 스캔 없음)
+ */
+@Repository
+public class JournalTextSearchRepository {
+
+    // ts_rank_cd(real) -> 정수 점수 (커서 비교 시 부동소수 오차 방지)
+    private static final long RANK_SCALE = 1_000_000L;
+
+    private static final String KEYSET_AND_PAGE =
+            ") m JOIN journal j ON j.journal_id = m.journal_id " +
+            "WHERE (m.score < :cursorScore OR (m.score = :cursorScore AND m.journal_id < :cursorId)) " +
+            "ORDER BY m.score DESC, m.journal_id DESC LIMIT :limit";
+
+    private static final String TSVECTOR_SEARCH_SQL =
+            "SELECT " + JournalSearchQuery.SUMMARY_COLUMNS + ", m.score FROM (" +
+            "SELECT s.journal_id, CAST(ts_rank_cd(s.search_vector, q.query) * " + RANK_SCALE + " AS BIGINT) AS score " +
+            "FROM journal_search_vector s, plainto_tsquery('simple', :query) AS q(query) " +
+            "WHERE s.author_email = :authorEmail AND s.search_vector @@ q.query" +
+            KEYSET_AND_PAGE;
+
+    private static final String TOKEN_SEARCH_SQL =
+            "SELECT " + JournalSearchQuery.SUMMARY_COLUMNS + ", m.score FROM (" +
+            "SELECT t.journal_id, SUM(t.frequency) AS score FROM journal_search_token t " +
+            "WHERE t.author_email = :authorEmail AND t.token IN (:terms) " +
+            "GROUP BY t.journal_id HAVING COUNT(*) = :termCount" +
+            KEYSET_AND_PAGE;
+
+    private static final String TSVECTOR_UPSERT_SQL =
+            "INSERT INTO journal_search_vector (journal_id, author_email, search_vector) " +
+            "VALUES (:journalId, :authorEmail, to_tsvector('simple', :document)) " +
+            "ON CONFLICT (journal_id) DO UPDATE SET search_vector = EXCLUDED.search_vector";
+
+    private static final String TOKEN_INSERT_SQL =
+            "INSERT INTO journal_search_token (author_email, token, journal_id, frequency) " +
+            "VALUES (:authorEmail, :token, :journalId, :frequency)";
+
+    private static final String UNINDEXED_SQL =
+            "SELECT j.journal_id, j.author_email, j.symbol, r.encoding, r.content FROM journal j " +
+            "LEFT JOIN journal_reasoning r ON r.journal_id = j.journal_id " +
+            "WHERE j.journal_id > :afterId AND NOT EXISTS (SELECT 1 FROM %s s WHERE s.journal_id = j.journal_id) " +
+            "ORDER BY j.journal_id LIMIT :limit";
+
+    private static final RowMapper<JournalDto.TextSearchHit> HIT_ROW_MAPPER = (rs, rowNum) ->
+            new JournalDto.TextSearchHit(
+                    JournalSearchRepository.SUMMARY_ROW_MAPPER.mapRow(rs, rowNum), rs.getLong("score"));
+
+    private static final RowMapper<IndexSource> SOURCE_ROW_MAPPER = (rs, rowNum) -> {
+        String encoding = rs.getString("encoding");
+        return new IndexSource(
+                rs.getLong("journal_id"),
+                rs.getString("author_email"),
+                rs.getString("symbol"),
+                encoding == null ? null
+                        : JournalReasoning.decode(JournalReasoning.Encoding.valueOf(encoding), rs.getBytes("content")));
+    };
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final Engine engine;
+
+    public JournalTextSearchRepository(NamedParameterJdbcTemplate jdbcTemplate,
+                                       DatabasePlatform databasePlatform) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.engine = databasePlatform.isPostgreSQL() ? Engine.TSVECTOR : Engine.TOKEN;
+    }
+
+    /**
+     * 색인 단위 (한 매매일지의 토큰, 등장 순서/중복 포함)
+     */
+    public record IndexEntry(Long journalId, String authorEmail, List<String> tokens) {
+    }
+
+    /**
+     * 색인 누락 매매일지 (근거는 압축 해제된 JSON)
+     */
+    public record IndexSource(Long journalId, String authorEmail, String symbol, String reasoning) {
+    }
+
+    /**
+     * 색인 생성/교체
+     */
+    public void save(List<IndexEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        if (engine == Engine.TSVECTOR) {
+            jdbcTemplate.batchUpdate(TSVECTOR_UPSERT_SQL, entries.stream()
+                    .map(entry -> new MapSqlParameterSource()
+                            .addValue("journalId", entry.journalId())
+                            .addValue("authorEmail", entry.authorEmail())
+                            .addValue("document", String.join(" ", entry.tokens())))
+                    .toArray(SqlParameterSource[]::new));
+            return;
+        }
+
+        delete(entries.stream().map(IndexEntry::journalId).toList());
+        List<SqlParameterSource> rows = new ArrayList<>();
+        for (IndexEntry entry : entries) {
+            Map<String, Integer> frequencies = new LinkedHashMap<>();
+            entry.tokens().forEach(token -> frequencies.merge(token, 1, Integer::sum));
+            frequencies.forEach((token, frequency) -> rows.add(new MapSqlParameterSource()
+                    .addValue("authorEmail", entry.authorEmail())
+                    .addValue("token", token)
+                    .addValue("journalId", entry.journalId())
+                    .addValue("frequency", frequency)));
+        }
+        jdbcTemplate.batchUpdate(TOKEN_INSERT_SQL, rows.toArray(SqlParameterSource[]::new));
+    }
+
+    public void delete(Collection<Long> journalIds) {
+        if (!journalIds.isEmpty()) {
+            jdbcTemplate.update("DELETE FROM " + engine.table + " WHERE journal_id IN (:ids)",
+                    new MapSqlParameterSource("ids", journalIds));
+        }
+    }
+
+    /**
+     * 관련도 순 검색 (score, id 역순 Keyset 페이징)
+     *
+     * @param terms JournalSearchTokenizer.terms 결과 (모두 포함하는 문서만 매칭)
+     */
+    public List<JournalDto.TextSearchHit> search(String authorEmail, List<String> terms,
+                                                 JournalDto.TextSearchCursor cursor, int limit) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("authorEmail", authorEmail)
+                .addValue("cursorScore", cursor.getScore())
+                .addValue("cursorId", cursor.getId())
+                .addValue("limit", limit);
+
+        if (engine == Engine.TSVECTOR) {
+            parameters.addValue("query", String.join(" ", terms));
+            return jdbcTemplate.query(TSVECTOR_SEARCH_SQL, parameters, HIT_ROW_MAPPER);
+        }
+        parameters.addValue("terms", terms).addValue("termCount", terms.size());
+        return jdbcTemplate.query(TOKEN_SEARCH_SQL, parameters, HIT_ROW_MAPPER);
+    }
+
+    /**
+     * 색인이 없는 매매일지 (journal_id 오름차순, afterId 이후)
+     */
+    public List<IndexSource> findUnindexed(long afterId, int limit) {
+        return jdbcTemplate.query(String.format(UNINDEXED_SQL, engine.table),
+                new MapSqlParameterSource()
+                        .addValue("afterId", afterId)
+                        .addValue("limit", limit),
+                SOURCE_ROW_MAPPER);
+    }
+
+    private enum Engine {
+        TSVECTOR("journal_search_vector"),
+        TOKEN("journal_search_token");
+
+        private final String table;
+
+        Engine(String table) {
+            this.table = table;
+        }
+    }
+}
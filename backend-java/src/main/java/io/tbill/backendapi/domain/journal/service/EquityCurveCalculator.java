@@ -0,0 +1,242 @@
+package io.tbill.backendapi.domain.journal.service;
+
+import io.tbill.backendapi.domain.journal.dto.JournalDto;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 누적 실현 손익(Equity Curve) / 낙폭(Drawdown) 계산기
+ * - 종료 거래를 생성 시각(created_at)순으로 한 건씩 받아 원시 배열(long[], double[])에 누적 (엔티티/BigDecimal 리스트 미생성)
+ * - 최대 낙폭, 낙폭 지속 기간, 회복 기간을 한 번의 순회로 계산
+ * - 자산은 0에서 시작하며, 낙폭 = 직전 최고점 - 현재 누적 손익
+ *
+ * 스레드 안전하지 않음 (요청마다 새로 생성)
+ */
+public class EquityCurveCalculator {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int MAX_REPORTED_DRAWDOWNS = 5;
+
+    // 시각은 LocalDateTime을 UTC 기준 epoch millis로 인코딩 (시간대 변환 없음)
+    private long[] timestamps = new long[INITIAL_CAPACITY];
+    private double[] equity = new double[INITIAL_CAPACITY];
+    private double[] drawdown = new double[INITIAL_CAPACITY];
+    private int size;
+
+    private double cumulative;
+    private double peak;
+    private int peakIndex = -1; // -1: 첫 거래 이전의 시작 자산(0)
+
+    // 진행 중인 낙폭 구간
+    private boolean inDrawdown;
+    private int drawdownStartIndex;
+    private int troughIndex;
+
+    // 깊이 내림차순 상위 낙폭 구간 [startIndex, troughIndex, recoveryIndex(-1: 미회복)]
+    private final List<int[]> deepestDrawdowns = new ArrayList<>(MAX_REPORTED_DRAWDOWNS + 1);
+    private long longestDrawdownMillis;
+    private long longestRecoveryMillis;
+
+    public void add(LocalDateTime createdAt, double realizedPnL) {
+        add(createdAt.toInstant(ZoneOffset.UTC).toEpochMilli(), realizedPnL);
+    }
+
+    public void add(long epochMillis, double realizedPnL) {
+        ensureCapacity();
+        int index = size++;
+        cumulative += realizedPnL;
+        timestamps[index] = epochMillis;
+        equity[index] = cumulative;
+
+        if (cumulative >= peak) {
+            if (inDrawdown) {
+                closeDrawdown(index);
+            }
+            peak = cumulative;
+            peakIndex = index;
+        } else if (!inDrawdown) {
+            inDrawdown = true;
+            // 시작 자산(0)에서 바로 손실이 난 경우 첫 거래 시각을 시작으로 봄
+            drawdownStartIndex = Math.max(peakIndex, 0);
+            troughIndex = index;
+        } else if (cumulative < equity[troughIndex]) {
+            troughIndex = index;
+        }
+        drawdown[index] = peak - cumulative;
+    }
+
+    /**
+     * 계산 결과
+     *
+     * @param maxPoints 곡선 포인트 최대 개수 (null이면 전체, LTTB로 다운샘플링)
+     */
+    public JournalDto.EquityCurve result(Integer maxPoints) {
+        List<JournalDto.DrawdownPeriod> drawdowns = new ArrayList<>();
+        for (int[] period : reportedDrawdowns()) {
+            drawdowns.add(toPeriod(period));
+        }
+
+        long longestDrawdown = longestDrawdownMillis;
+        if (inDrawdown) {
+            longestDrawdown = Math.max(longestDrawdown, timestamps[size - 1] - timestamps[drawdownStartIndex]);
+        }
+
+        List<JournalDto.EquityPoint> points = new ArrayList<>();
+        for (int index : sampleIndexes(maxPoints)) {
+            points.add(new JournalDto.EquityPoint(toDateTime(timestamps[index]), equity[index], drawdown[index]));
+        }
+
+        return JournalDto.EquityCurve.builder()
+                .totalTrades(size)
+                .finalEquity(cumulative)
+                .peakEquity(peak)
+                .maxDrawdown(drawdowns.isEmpty() ? 0 : drawdowns.get(0).getDepth())
+                .currentDrawdown(peak - cumulative)
+                .longestDrawdownDuration(Duration.ofMillis(longestDrawdown))
+                .longestRecoveryDuration(Duration.ofMillis(longestRecoveryMillis))
+                .drawdowns(drawdowns)
+                .points(points)
+                .build();
+    }
+
+    private void closeDrawdown(int recoveryIndex) {
+        inDrawdown = false;
+        longestDrawdownMillis = Math.max(longestDrawdownMillis,
+                timestamps[recoveryIndex] - timestamps[drawdownStartIndex]);
+        longestRecoveryMillis = Math.max(longestRecoveryMillis,
+                timestamps[recoveryIndex] - timestamps[troughIndex]);
+        offerDrawdown(new int[]{drawdownStartIndex, troughIndex, recoveryIndex});
+    }
+
+    /**
+     * 상위 N개 낙폭 구간만 유지 (깊이 내림차순)
+     */
+    private void offerDrawdown(int[] period) {
+        double depth = depth(period);
+        int position = 0;
+        while (position < deepestDrawdowns.size() && depth(deepestDrawdowns.get(position)) >= depth) {
+            position++;
+        }
+        if (position < MAX_REPORTED_DRAWDOWNS) {
+            deepestDrawdowns.add(position, period);
+            if (deepestDrawdowns.size() > MAX_REPORTED_DRAWDOWNS) {
+                deepestDrawdowns.remove(MAX_REPORTED_DRAWDOWNS);
+            }
+        }
+    }
+
+    private List<int[]> reportedDrawdowns() {
+        if (!inDrawdown) {
+            return deepestDrawdowns;
+        }
+        // 진행 중인 낙폭도 결과에 포함 (회복 시점 없음)
+        List<int[]> snapshot = new ArrayList<>(deepestDrawdowns);
+        int[] ongoing = {drawdownStartIndex, troughIndex, -1};
+        int position = 0;
+        while (position < snapshot.size() && depth(snapshot.get(position)) >= depth(ongoing)) {
+            position++;
+        }
+        snapshot.add(position, ongoing);
+        return snapshot.subList(0, Math.min(snapshot.size(), MAX_REPORTED_DRAWDOWNS));
+    }
+
+    private double depth(int[] period) {
+        // 구간 시작 시점의 최고점 = 저점의 낙폭 + 저점 자산
+        return drawdown[period[1]];
+    }
+
+    private JournalDto.DrawdownPeriod toPeriod(int[] period) {
+        int startIndex = period[0];
+        int troughAt = period[1];
+        int recoveryIndex = period[2];
+        long end = recoveryIndex >= 0 ? timestamps[recoveryIndex] : timestamps[size - 1];
+
+        return JournalDto.DrawdownPeriod.builder()
+                .startedAt(toDateTime(timestamps[startIndex]))
+                .troughAt(toDateTime(timestamps[troughAt]))
+                .recoveredAt(recoveryIndex >= 0 ? toDateTime(timestamps[recoveryIndex]) : null)
+                .depth(drawdown[troughAt])
+                .duration(Duration.ofMillis(end - timestamps[startIndex]))
+                .build();
+    }
+
+    /**
+     * Largest-Triangle-Three-Buckets 다운샘플링 (첫/마지막 포인트와 곡선 형태 유지)
+     */
+    int[] sampleIndexes(Integer maxPoints) {
+        if (maxPoints == null || size <= maxPoints) {
+            int[] all = new int[size];
+            Arrays.setAll(all, i -> i);
+            return all;
+        }
+        if (maxPoints < 3) {
+            throw new IllegalArgumentException("다운샘플링 포인트 수는 3 이상이어야 합니다.");
+        }
+
+        int[] sampled = new int[maxPoints];
+        int sampledCount = 0;
+        sampled[sampledCount++] = 0;
+
+        double bucketSize = (double) (size - 2) / (maxPoints - 2);
+        int selected = 0;
+        for (int bucket = 0; bucket < maxPoints - 2; bucket++) {
+            int rangeStart = (int) Math.floor(bucket * bucketSize) + 1;
+            int rangeEnd = (int) Math.floor((bucket + 1) * bucketSize) + 1;
+
+            // 다음 버킷의 평균점
+            int nextStart = rangeEnd;
+            int nextEnd = Math.min((int) Math.floor((bucket + 2) * bucketSize) + 1, size);
+            double averageX = 0;
+            double averageY = 0;
+            for (int i = nextStart; i < nextEnd; i++) {
+                averageX += timestamps[i];
+                averageY += equity[i];
+            }
+            if (nextEnd > nextStart) {
+                averageX /= nextEnd - nextStart;
+                averageY /= nextEnd - nextStart;
+            } else {
+                averageX = timestamps[size - 1];
+                averageY = equity[size - 1];
+            }
+
+            // 이전 선택점 - 후보 - 다음 평균점 삼각형 넓이가 최대인 후보 선택
+            double selectedX = timestamps[selected];
+            double selectedY = equity[selected];
+            double maxArea = -1;
+            int maxIndex = rangeStart;
+            for (int i = rangeStart; i < rangeEnd; i++) {
+                double area = Math.abs((selectedX - averageX) * (equity[i] - selectedY)
+                        - (selectedX - timestamps[i]) * (averageY - selectedY));
+                if (area > maxArea) {
+                    maxArea = area;
+                    maxIndex = i;
+                }
+            }
+            sampled[sampledCount++] = maxIndex;
+            selected = maxIndex;
+        }
+
+        sampled[sampledCount++] = size - 1;
+        return Arrays.copyOf(sampled, sampledCount);
+    }
+
+    private void ensureCapacity() {
+        if (size == timestamps.length) {
+            int capacity = timestamps.length * 2;
+            timestamps = Arrays.copyOf(timestamps, capacity);
+            equity = Arrays.copyOf(equity, capacity);
+            drawdown = Arrays.copyOf(drawdown, capacity);
+        }
+    }
+
+    private LocalDateTime toDateTime(long epochMillis) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(epochMillis, 1000L),
+                (int) Math.floorMod(epochMillis, 1000L) * 1_000_000, ZoneOffset.UTC);
+    }
+}
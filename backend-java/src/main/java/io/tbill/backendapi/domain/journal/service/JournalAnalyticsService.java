@@ -0,0 +1,99 @@
+package io.tbill.backendapi.domain.journal.service;
+
+import io.tbill.backendapi.domain.journal.cache.JournalColumnAnalytics;
+import io.tbill.backendapi.domain.journal.cache.JournalColumnCache;
+import io.tbill.backendapi.domain.journal.cache.JournalColumns;
+import io.tbill.backendapi.domain.journal.dto.JournalDto;
+import io.tbill.backendapi.domain.journal.repository.JournalAnalyticsGroup;
+import io.tbill.backendapi.domain.journal.repository.JournalAnalyticsRepository;
+import io.tbill.backendapi.domain.journal.repository.JournalSearchQuery;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 매매일지 손익 분석 (심볼 / 시장 / 거래유형 / 월 / 요일 / 시간대별, 손익 곡선, 위험 지표)
+ * - 사용자별 컬럼 캐시(JournalColumnCache) 위에서 계산 -> 캐시 적중 시 DB 조회 없음
+ * - 위험 지표는 컬럼 스냅샷에 결과까지 보관 -> 매매일지가 바뀌어 스냅샷이 교체되기 전까지 재계산 없음
+ * - 캐시를 쓸 수 없으면(비활성화 / Redis 장애 / 합계 범위 초과) SQL 집계로 계산
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JournalAnalyticsService {
+
+    private static final int MIN_EQUITY_POINTS = 3;
+    private static final int MAX_EQUITY_POINTS = 10_000;
+    private static final String RISK_METRICS = "riskMetrics";
+
+    private final JournalAnalyticsRepository journalAnalyticsRepository;
+    private final JournalColumnCache journalColumnCache;
+
+    @Transactional(readOnly = true)
+    public List<JournalDto.AnalyticsBucket> analyze(JournalDto.SearchCondition condition,
+                                                    JournalAnalyticsGroup group) {
+        List<JournalDto.GroupAggregate> aggregates =
+                journalColumnCache.get(condition.getAuthorEmail())
+                        .flatMap(columns -> aggregate(columns, condition, group))
+                        .orElseGet(() -> journalAnalyticsRepository.aggregate(JournalSearchQuery.from(condition), group));
+
+        return aggregates.stream()
+                .map(JournalDto.AnalyticsBucket::from)
+                .toList();
+    }
+
+    /**
+     * 누적 실현 손익 곡선 / 최대 낙폭 / 낙폭·회복 기간
+     * - 종료 거래를 시간순으로 한 번 순회하며 계산
+     *
+     * @param maxPoints 곡선 포인트 최대 개수 (null이면 전체)
+     */
+    @Transactional(readOnly = true)
+    public JournalDto.EquityCurve getEquityCurve(String authorEmail, Integer maxPoints) {
+        if (maxPoints != null && (maxPoints < MIN_EQUITY_POINTS || maxPoints > MAX_EQUITY_POINTS)) {
+            throw new IllegalArgumentException(
+                    "포인트 수는 " + MIN_EQUITY_POINTS + " ~ " + MAX_EQUITY_POINTS + " 사이여야 합니다.");
+        }
+
+        EquityCurveCalculator calculator = new EquityCurveCalculator();
+        Optional<JournalColumns> columns = journalColumnCache.get(authorEmail);
+        if (columns.isPresent()) {
+            JournalColumnAnalytics.streamClosedTrades(columns.get(), calculator);
+        } else {
+            journalAnalyticsRepository.streamClosedTrades(authorEmail, calculator::add);
+        }
+        return calculator.result(maxPoints);
+    }
+
+    /**
+     * 종료 거래 위험 지표 (R 배수, 기대값, 손익비, 샤프/소르티노, 연승/연패)
+     */
+    @Transactional(readOnly = true)
+    public JournalDto.RiskMetrics getRiskMetrics(String authorEmail) {
+        return journalColumnCache.get(authorEmail)
+                .map(columns -> columns.derive(RISK_METRICS, snapshot -> {
+                    RiskMetricsCalculator calculator = new RiskMetricsCalculator();
+                    JournalColumnAnalytics.streamClosedTradeRisks(snapshot, calculator);
+                    return calculator.result();
+                }))
+                .orElseGet(() -> {
+                    RiskMetricsCalculator calculator = new RiskMetricsCalculator();
+                    journalAnalyticsRepository.streamClosedTradeRisks(authorEmail, calculator::add);
+                    return calculator.result();
+                });
+    }
+
+    private Optional<List<JournalDto.GroupAggregate>> aggregate(
+            JournalColumns columns, JournalDto.SearchCondition condition, JournalAnalyticsGroup group) {
+        try {
+            return Optional.of(JournalColumnAnalytics.aggregate(columns, condition, group));
+        } catch (ArithmeticException e) {
+            log.warn("컬럼 캐시 손익 합계 범위 초과, SQL 집계로 계산: authorEmail={}", condition.getAuthorEmail());
+            return Optional.empty();
+        }
+    }
+}
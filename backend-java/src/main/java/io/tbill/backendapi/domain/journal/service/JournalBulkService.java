@@ -0,0 +1,161 @@
+package io.tbill.backendapi.domain.journal.service;
+
+import io.tbill.backendapi.domain.journal.dto.JournalDto;
+import io.tbill.backendapi.domain.journal.entity.Journal;
+import io.tbill.backendapi.domain.journal.event.JournalChangedEvent;
+import io.tbill.backendapi.domain.journal.repository.JournalBulkRepository;
+import io.tbill.backendapi.infrastructure.cache.SecondLevelCacheInvalidator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 매매일지 일괄 종료/삭제
+ * - 요청 ID 전체를 한 번에 잠금 조회 -> 집합 단위 UPDATE/DELETE 1회 (건별 조회/변경 감지 없음)
+ * - 근거/전문 검색 색인/통계 집계/일별 집계/변경 이벤트(Outbox, 버전)도 같은 트랜잭션에서 일괄 반영
+ * - 없거나 타인 소유, 이미 종료된 ID 는 실패로 처리하지 않고 항목별 결과로 보고
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JournalBulkService {
+
+    public static final int MAX_BULK_SIZE = 500;
+
+    private final JournalBulkRepository journalBulkRepository;
+    private final JournalStatisticsService journalStatisticsService;
+    private final JournalDailyRollupService journalDailyRollupService;
+    private final JournalReasoningService journalReasoningService;
+    private final JournalSearchIndexer journalSearchIndexer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectProvider<SecondLevelCacheInvalidator> secondLevelCacheInvalidator;
+
+    /**
+     * 진행 중 거래 일괄 종료 (같은 ID 가 여러 번 오면 첫 항목 사용)
+     */
+    @Transactional
+    public JournalDto.BulkResult closeAll(String authorEmail, List<JournalDto.CloseItem> items) {
+        Map<Long, BigDecimal> requested = new LinkedHashMap<>();
+        for (JournalDto.CloseItem item : items) {
+            if (item.getRealizedPnL() == null) {
+                throw new IllegalArgumentException("실현 손익은 필수입니다. ID: " + item.getJournalId());
+            }
+            requested.putIfAbsent(item.getJournalId(), item.getRealizedPnL());
+        }
+        validateSize(requested.size());
+
+        journalStatisticsService.lock(authorEmail);
+        Map<Long, JournalBulkRepository.LockedRow> current = lockOwned(authorEmail, requested.keySet());
+
+        Map<Long, BigDecimal> toClose = new LinkedHashMap<>();
+        List<JournalDto.BulkOutcome> outcomes = new ArrayList<>(requested.size());
+        requested.forEach((journalId, realizedPnL) -> {
+            JournalDto.BulkStatus status;
+            if (!current.containsKey(journalId)) {
+                status = JournalDto.BulkStatus.NOT_FOUND;
+            } else if (current.get(journalId).realizedPnL() != null) {
+                status = JournalDto.BulkStatus.ALREADY_CLOSED;
+            } else {
+                toClose.put(journalId, realizedPnL);
+                status = JournalDto.BulkStatus.CLOSED;
+            }
+            outcomes.add(new JournalDto.BulkOutcome(journalId, status));
+        });
+
+        if (!toClose.isEmpty()) {
+            List<Long> closedIds = List.copyOf(toClose.keySet());
+            journalBulkRepository.close(authorEmail, toClose, LocalDateTime.now());
+            journalStatisticsService.onClosed(authorEmail, toClose.values());
+            journalDailyRollupService.apply(authorEmail, toClose.entrySet().stream()
+                    .map(entry -> JournalDailyRollupService.Change.closed(
+                            current.get(entry.getKey()).createdAt().toLocalDate(), entry.getValue()))
+                    .toList());
+            evictCache(closedIds);
+            eventPublisher.publishEvent(JournalChangedEvent.updated(authorEmail, closedIds));
+        }
+
+        log.info("매매일지 일괄 종료: authorEmail={}, requested={}, closed={}",
+                authorEmail, requested.size(), toClose.size());
+        return new JournalDto.BulkResult(outcomes);
+    }
+
+    /**
+     * 매매일지 일괄 삭제
+     */
+    @Transactional
+    public JournalDto.BulkResult deleteAll(String authorEmail, List<Long> journalIds) {
+        Set<Long> requested = new LinkedHashSet<>(journalIds);
+        validateSize(requested.size());
+
+        journalStatisticsService.lock(authorEmail);
+        Map<Long, JournalBulkRepository.LockedRow> current = lockOwned(authorEmail, requested);
+
+        List<Long> toDelete = new ArrayList<>();
+        List<JournalDto.BulkOutcome> outcomes = new ArrayList<>(requested.size());
+        for (Long journalId : requested) {
+            boolean owned = current.containsKey(journalId);
+            if (owned) {
+                toDelete.add(journalId);
+            }
+            outcomes.add(new JournalDto.BulkOutcome(journalId,
+                    owned ? JournalDto.BulkStatus.DELETED : JournalDto.BulkStatus.NOT_FOUND));
+        }
+
+        if (!toDelete.isEmpty()) {
+            journalBulkRepository.delete(authorEmail, toDelete);
+            journalReasoningService.deleteAll(toDelete);
+            journalSearchIndexer.deleteAll(toDelete);
+            // 진행 중 거래의 실현 손익(null)도 포함 (총 거래 수 차감)
+            List<JournalBulkRepository.LockedRow> deleted = toDelete.stream().map(current::get).toList();
+            journalStatisticsService.onDeleted(authorEmail,
+                    deleted.stream().map(JournalBulkRepository.LockedRow::realizedPnL).toList());
+            journalDailyRollupService.apply(authorEmail, deleted.stream()
+                    .map(row -> JournalDailyRollupService.Change.deleted(
+                            row.createdAt().toLocalDate(), row.realizedPnL()))
+                    .toList());
+            evictCache(toDelete);
+            eventPublisher.publishEvent(JournalChangedEvent.deleted(authorEmail, List.copyOf(toDelete)));
+        }
+
+        log.info("매매일지 일괄 삭제: authorEmail={}, requested={}, deleted={}",
+                authorEmail, requested.size(), toDelete.size());
+        return new JournalDto.BulkResult(outcomes);
+    }
+
+    private void validateSize(int size) {
+        if (size == 0) {
+            throw new IllegalArgumentException("처리할 매매일지 ID가 없습니다.");
+        }
+        if (size > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("한 번에 처리할 수 있는 매매일지는 최대 " + MAX_BULK_SIZE + "건입니다.");
+        }
+    }
+
+    /**
+     * journal_id -> 잠근 행 (현재 실현 손익, 작성 시각)
+     */
+    private Map<Long, JournalBulkRepository.LockedRow> lockOwned(String authorEmail, Collection<Long> journalIds) {
+        Map<Long, JournalBulkRepository.LockedRow> current = new HashMap<>();
+        journalBulkRepository.lockOwned(authorEmail, journalIds)
+                .forEach(row -> current.put(row.journalId(), row));
+        return current;
+    }
+
+    private void evictCache(List<Long> journalIds) {
+        secondLevelCacheInvalidator.ifAvailable(invalidator -> invalidator.evict(Journal.class, journalIds));
+    }
+}
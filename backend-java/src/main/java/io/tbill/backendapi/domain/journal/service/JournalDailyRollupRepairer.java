@@ -0,0 +1,86 @@
+package io.tbill.backendapi.domain.journal.service;
+
+import io.tbill.backendapi.domain.journal.repository.JournalDailyRollupRepository;
+import io.tbill.backendapi.domain.journal.repository.JournalRepository;
+import io.tbill.backendapi.infrastructure.redis.service.JournalVersionService;
+import io.tbill.backendapi.infrastructure.redis.service.RedisLockService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 일별 손익 집계(journal_daily_rollup) 복구 작업
+ * - 증분 갱신이 어긋났을 경우를 대비해 journal 테이블 기준으로 사용자별 재계산
+ * - 여러 인스턴스 중 하나만 실행 (Redis 분산 잠금, 획득 실패 시 이번 주기는 건너뜀)
+ * - 사용자 단위로 트랜잭션을 분리하여 잠금 시간을 최소화
+ * - 집계가 실제로 바뀐 사용자만 커밋 후 버전을 올려 달력/통계 응답의 ETag(304) 무효화
+ */
+@Slf4j
+@Component
+public class JournalDailyRollupRepairer {
+
+    static final String LOCK_NAME = "journal:daily-rollup:repair";
+
+    private final JournalDailyRollupService journalDailyRollupService;
+    private final JournalDailyRollupRepository journalDailyRollupRepository;
+    private final JournalRepository journalRepository;
+    private final RedisLockService redisLockService;
+    private final JournalVersionService journalVersionService;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration lockTtl;
+
+    public JournalDailyRollupRepairer(JournalDailyRollupService journalDailyRollupService,
+                                      JournalDailyRollupRepository journalDailyRollupRepository,
+                                      JournalRepository journalRepository,
+                                      RedisLockService redisLockService,
+                                      JournalVersionService journalVersionService,
+                                      TransactionTemplate transactionTemplate,
+                                      @Value("${journal.daily-rollup.repair-lock-ttl:1h}") Duration lockTtl) {
+        this.journalDailyRollupService = journalDailyRollupService;
+        this.journalDailyRollupRepository = journalDailyRollupRepository;
+        this.journalRepository = journalRepository;
+        this.redisLockService = redisLockService;
+        this.journalVersionService = journalVersionService;
+        this.transactionTemplate = transactionTemplate;
+        this.lockTtl = lockTtl;
+    }
+
+    @Scheduled(cron = "${journal.daily-rollup.repair-cron:0 45 4 * * *}")
+    public void repairAll() {
+        Optional<RedisLockService.Lock> lock = redisLockService.tryLock(LOCK_NAME, lockTtl);
+        if (lock.isEmpty()) {
+            log.info("일별 손익 집계 복구 건너뜀: 다른 인스턴스에서 실행 중이거나 잠금 획득 실패");
+            return;
+        }
+
+        try (RedisLockService.Lock ignored = lock.get()) {
+            log.info("일별 손익 집계 복구 시작");
+
+            List<String> authorEmails = journalRepository.findDistinctAuthorEmails();
+            int failed = 0;
+            int repaired = 0;
+            for (String authorEmail : authorEmails) {
+                try {
+                    if (journalDailyRollupService.rebuild(authorEmail)) {
+                        repaired++;
+                        journalVersionService.bump(authorEmail);
+                    }
+                } catch (Exception e) {
+                    failed++;
+                    log.error("일별 손익 집계 재계산 실패: authorEmail={}, error={}", authorEmail, e.getMessage());
+                }
+            }
+
+            Integer orphans = transactionTemplate.execute(status -> journalDailyRollupRepository.deleteOrphans());
+
+            log.info("일별 손익 집계 복구 완료: users={}, repaired={}, failed={}, orphansDeleted={}",
+                    authorEmails.size(), repaired, failed, orphans);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package io.tbill.backendapi.domain.journal.service;
+
+import io.tbill.backendapi.domain.journal.dto.JournalDto;
+import io.tbill.backendapi.domain.journal.entity.Journal;
+import io.tbill.backendapi.domain.journal.repository.JournalDailyRollupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 일별 손익 집계(journal_daily_rollup) 증분 갱신 + 달력 조회
+ * - 매매일지 쓰기 트랜잭션 안에서 통계 집계(JournalStatisticsService) 다음에 호출 (MANDATORY)
+ *   -> 통계 행 잠금으로 같은 사용자의 변경이 직렬화된 상태에서 반영
+ * - 변경을 날짜별 변화량으로 모아 날짜당 1행만 갱신 (일괄 처리도 날짜 수만큼만 upsert)
+ * - 어긋난 경우는 JournalDailyRollupRepairer 가 journal 테이블 기준으로 재계산
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JournalDailyRollupService {
+
+    // 달력 최대 조회 기간 (10년 = 거래일 기준 최대 약 3,650행)
+    static final long MAX_CALENDAR_DAYS = 3_660;
+
+    private final JournalDailyRollupRepository journalDailyRollupRepository;
+    private final JournalStatisticsService journalStatisticsService;
+
+    /**
+     * 매매일지 한 건의 변경 (trades: +1 생성, 0 수정, -1 삭제 / 실현 손익은 진행 중이면 null)
+     */
+    public record Change(LocalDate tradeDate, int trades, BigDecimal realizedPnLBefore, BigDecimal realizedPnLAfter) {
+
+        public static Change created(Journal journal) {
+            return new Change(tradeDate(journal), 1, null, journal.getRealizedPnL());
+        }
+
+        public static Change closed(LocalDate tradeDate, BigDecimal realizedPnL) {
+            return new Change(tradeDate, 0, null, realizedPnL);
+        }
+
+        public static Change deleted(LocalDate tradeDate, BigDecimal realizedPnL) {
+            return new Change(tradeDate, -1, realizedPnL, null);
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onCreated(Journal journal) {
+        apply(journal.getAuthorEmail(), List.of(Change.created(journal)));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onCreated(String authorEmail, Collection<Journal> journals) {
+        apply(authorEmail, journals.stream().map(Change::created).toList());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onUpdated(Journal journal, BigDecimal realizedPnLBefore) {
+        apply(journal.getAuthorEmail(), List.of(
+                new Change(tradeDate(journal), 0, realizedPnLBefore, journal.getRealizedPnL())));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onDeleted(Journal journal) {
+        apply(journal.getAuthorEmail(), List.of(Change.deleted(tradeDate(journal), journal.getRealizedPnL())));
+    }
+
+    /**
+     * 변경 목록 반영 (일괄 종료/삭제)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(String authorEmail, Collection<Change> changes) {
+        Map<LocalDate, DeltaBuilder> byDate = new TreeMap<>();
+        for (Change change : changes) {
+            DeltaBuilder delta = byDate.computeIfAbsent(change.tradeDate(), date -> new DeltaBuilder());
+            delta.trades += change.trades();
+            delta.addClosedTrade(change.realizedPnLBefore(), -1);
+            delta.addClosedTrade(change.realizedPnLAfter(), 1);
+        }
+
+        List<JournalDailyRollupRepository.Delta> deltas = byDate.entrySet().stream()
+                .filter(entry -> !entry.getValue().isEmpty())
+                .map(entry -> entry.getValue().build(entry.getKey()))
+                .toList();
+        journalDailyRollupRepository.apply(authorEmail, deltas);
+    }
+
+    /**
+     * 달력 조회 (집계 행만 읽음, 거래가 없는 날짜는 응답에서 빠짐)
+     * - to 미지정 시 오늘, from 미지정 시 to 기준 1년
+     */
+    @Transactional(readOnly = true)
+    public List<JournalDto.CalendarDay> getCalendar(String authorEmail, LocalDate from, LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusYears(1).plusDays(1);
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("시작일은 종료일보다 늦을 수 없습니다.");
+        }
+        if (ChronoUnit.DAYS.between(start, end) >= MAX_CALENDAR_DAYS) {
+            throw new IllegalArgumentException("달력 조회 기간은 최대 " + MAX_CALENDAR_DAYS + "일입니다.");
+        }
+        return journalDailyRollupRepository.findRange(authorEmail, start, end);
+    }
+
+    /**
+     * journal 테이블 기준 재계산 (Reconciliation)
+     * - 통계 행을 먼저 잠가 진행 중인 매매일지 쓰기와 직렬화 (재계산 도중 증분이 섞이지 않도록)
+     * - 저장된 집계가 이미 같으면 다시 쓰지 않음
+     *
+     * @return 집계가 어긋나 다시 썼으면 true (호출 측은 이때만 버전 증가)
+     */
+    @Transactional
+    public boolean rebuild(String authorEmail) {
+        journalStatisticsService.lock(authorEmail);
+        if (journalDailyRollupRepository.isConsistent(authorEmail)) {
+            return false;
+        }
+        int rows = journalDailyRollupRepository.rebuild(authorEmail);
+        log.warn("일별 손익 집계 불일치 복구: authorEmail={}, rows={}", authorEmail, rows);
+        return true;
+    }
+
+    private static LocalDate tradeDate(Journal journal) {
+        return journal.getCreatedAt().toLocalDate();
+    }
+
+    private static class DeltaBuilder {
+        private int trades;
+        private int closedTrades;
+        private int winningTrades;
+        private int losingTrades;
+        private BigDecimal realizedPnL = BigDecimal.ZERO;
+
+        private void addClosedTrade(BigDecimal pnl, int sign) {
+            if (pnl == null) {
+                return;
+            }
+            closedTrades += sign;
+            realizedPnL = sign > 0 ? realizedPnL.add(pnl) : realizedPnL.subtract(pnl);
+            if (pnl.signum() > 0) {
+                winningTrades += sign;
+            } else if (pnl.signum() < 0) {
+                losingTrades += sign;
+            }
+        }
+
+        private boolean isEmpty() {
+            return trades == 0 && closedTrades == 0 && winningTrades == 0 && losingTrades == 0
+                    && realizedPnL.signum() == 0;
+        }
+
+        private JournalDailyRollupRepository.Delta build(LocalDate tradeDate) {
+            return new JournalDailyRollupRepository.Delta(
+                    tradeDate, trades, closedTrades, winningTrades, losingTrades, realizedPnL);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package io.tbill.backendapi.domain.journal.service;
+
+import io.tbill.backendapi.domain.journal.dto.JournalDto;
+import io.tbill.backendapi.domain.journal.repository.JournalExportRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.function.Consumer;
+
+/**
+ * 매매일지 전체 내보내기 (CSV / NDJSON)
+ * - 읽기 전용 트랜잭션 안에서 DB 커서를 열어 한 행씩 전달 (엔티티/영속성 컨텍스트를 거치지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JournalExportService {
+
+    private final JournalExportRepository journalExportRepository;
+
+    @Transactional(readOnly = true)
+    public long exportJournals(String authorEmail, Consumer<JournalDto.JournalInfo> consumer) {
+        log.info("매매일지 내보내기 시작: authorEmail={}", authorEmail);
+
+        long[] exportedRows = {0};
+        journalExportRepository.streamByAuthorEmail(authorEmail, info -> {
+            consumer.accept(info);
+            exportedRows[0]++;
+        });
+
+        log.info("매매일지 내보내기 완료: authorEmail={}, rows={}", authorEmail, exportedRows[0]);
+        return exportedRows[0];
+    }
+}
@@ -0,0 +1,129 @@
+package io.tbill.backendapi.domain.journal.service;
+
+import io.tbill.backendapi.domain.journal.dto.JournalDto;
+import io.tbill.backendapi.domain.journal.entity.Journal;
+import io.tbill.backendapi.domain.journal.event.JournalChangedEvent;
+import io.tbill.backendapi.domain.journal.repository.JournalRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 매매일지 대량 가져오기 (CSV / NDJSON)
+ * - 입력 행을 스트리밍으로 소비하며 CHUNK_SIZE 단위로 트랜잭션을 나눠 JDBC 배치 INSERT
+ * - 청크 저장이 실패하면 해당 청크만 행 단위로 재시도하여 실패 행을 특정
+ * - 메모리에는 현재 청크와 (상한이 있는) 오류 목록만 유지
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JournalImportService {
+
+    // hibernate.jdbc.batch_size(50)의 배수
+    private static final int CHUNK_SIZE = 500;
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final JournalRepository journalRepository;
+    private final JournalStatisticsService journalStatisticsService;
+    private final JournalDailyRollupService journalDailyRollupService;
+    private final JournalReasoningService journalReasoningService;
+    private final JournalSearchIndexer journalSearchIndexer;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public JournalDto.ImportResult importJournals(String authorEmail, Iterator<JournalDto.ImportRow> rows) {
+        log.info("매매일지 가져오기 시작: authorEmail={}", authorEmail);
+
+        ImportProgress progress = new ImportProgress();
+        List<JournalDto.ImportRow> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        while (rows.hasNext()) {
+            JournalDto.ImportRow row = rows.next();
+            progress.totalRows++;
+
+            if (!row.isValid()) {
+                progress.fail(row.getRowNumber(), row.getError());
+                continue;
+            }
+
+            chunk.add(row);
+            if (chunk.size() == CHUNK_SIZE) {
+                insertChunk(authorEmail, chunk, progress);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            insertChunk(authorEmail, chunk, progress);
+        }
+
+        log.info("매매일지 가져오기 완료: authorEmail={}, total={}, imported={}, failed={}",
+                authorEmail, progress.totalRows, progress.importedRows, progress.failedRows);
+
+        return JournalDto.ImportResult.builder()
+                .totalRows(progress.totalRows)
+                .importedRows(progress.importedRows)
+                .failedRows(progress.failedRows)
+                .errors(progress.errors)
+                .errorsTruncated(progress.failedRows > progress.errors.size())
+                .build();
+    }
+
+    private void insertChunk(String authorEmail, List<JournalDto.ImportRow> chunk, ImportProgress progress) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert(authorEmail, chunk));
+            progress.importedRows += chunk.size();
+        } catch (RuntimeException e) {
+            log.warn("청크 저장 실패, 행 단위 재시도: authorEmail={}, rows={}, error={}",
+                    authorEmail, chunk.size(), e.getMessage());
+
+            for (JournalDto.ImportRow row : chunk) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> insert(authorEmail, List.of(row)));
+                    progress.importedRows++;
+                } catch (RuntimeException rowException) {
+                    progress.fail(row.getRowNumber(),
+                            "저장 실패: " + NestedExceptionUtils.getMostSpecificCause(rowException).getMessage());
+                }
+            }
+        }
+    }
+
+    private void insert(String authorEmail, List<JournalDto.ImportRow> rows) {
+        List<Journal> journals = rows.stream()
+                .map(row -> row.getCommand().toEntity())
+                .toList();
+
+        journalRepository.saveAll(journals);
+        journalRepository.flush(); // 시퀀스 ID + JDBC 배치 INSERT
+        List<String> reasonings = rows.stream()
+                .map(row -> row.getCommand().getReasoning())
+                .toList();
+        journalReasoningService.createAll(journals, reasonings);
+        journalSearchIndexer.indexAll(journals, reasonings);
+        journalStatisticsService.onCreated(authorEmail, journals);
+        journalDailyRollupService.onCreated(authorEmail, journals);
+        eventPublisher.publishEvent(JournalChangedEvent.created(
+                authorEmail, journals.stream().map(Journal::getId).toList()));
+    }
+
+    private static class ImportProgress {
+        private long totalRows;
+        private long importedRows;
+        private long failedRows;
+        private final List<JournalDto.ImportError> errors = new ArrayList<>();
+
+        private void fail(long rowNumber, String message) {
+            failedRows++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new JournalDto.ImportError(rowNumber, message));
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package io.tbill.backendapi.domain.journal.service;
+
+import io.tbill.backendapi.domain.journal.event.JournalChangedEvent;
+import io.tbill.backendapi.domain.journal.repository.JournalOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 매매일지 변경 이벤트를 Outbox에 기록
+ * - 동기 리스너: 변경을 발행한 트랜잭션 안에서 INSERT (변경과 Outbox 기록이 함께 커밋/롤백)
+ * - 트랜잭션 밖에서 발행되면 예외 (이벤트 유실 방지)
+ */
+@Component
+@RequiredArgsConstructor
+public class JournalOutboxWriter {
+
+    private final JournalOutboxRepository journalOutboxRepository;
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onJournalChanged(JournalChangedEvent event) {
+        journalOutboxRepository.insert(event, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,113 @@
+package io.tbill.backendapi.domain.journal.service;
+
+import io.tbill.backendapi.domain.journal.repository.JournalPartitionRepository;
+import io.tbill.backendapi.infrastructure.datasource.DatabasePlatform;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * journal 월 파티션 유지보수 (PostgreSQL 전용, 다른 DB 에서는 아무 작업도 하지 않음)
+ * - 기동 시 + 매일: 이번 달 ~ premake-months 후까지 파티션을 미리 생성 (기본 파티션으로 행이 쌓이지 않도록)
+ * - retention-months > 0 이면 보관 기간이 지난 월 파티션을 분리하여 journal_archive 스키마로 이동
+ *   (분리된 매매일지는 조회/통계 Reconciliation 대상에서 제외됨)
+ * - 여러 인스턴스가 동시에 실행해도 생성은 IF NOT EXISTS, 분리 실패는 다음 실행에서 재확인
+ */
+@Slf4j
+@Component
+public class JournalPartitionMaintainer {
+
+    private final JournalPartitionRepository journalPartitionRepository;
+    private final DatabasePlatform databasePlatform;
+    private final int premakeMonths;
+    private final int retentionMonths;
+
+    public JournalPartitionMaintainer(JournalPartitionRepository journalPartitionRepository,
+                                      DatabasePlatform databasePlatform,
+                                      @Value("${journal.partition.premake-months:3}") int premakeMonths,
+                                      @Value("${journal.partition.retention-months:0}") int retentionMonths) {
+        if (premakeMonths < 1 || retentionMonths < 0) {
+            throw new IllegalArgumentException(
+                    "journal.partition.premake-months는 1 이상, retention-months는 0 이상이어야 합니다.");
+        }
+        this.journalPartitionRepository = journalPartitionRepository;
+        this.databasePlatform = databasePlatform;
+        this.premakeMonths = premakeMonths;
+        this.retentionMonths = retentionMonths;
+    }
+
+    /**
+     * 유지보수 계획 (생성할 월, 분리할 월 - 오래된 순)
+     */
+    record Plan(List<YearMonth> toCreate, List<YearMonth> toArchive) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${journal.partition.maintenance-cron:0 0 3 * * *}")
+    public void maintain() {
+        if (!databasePlatform.isPostgreSQL()) {
+            return;
+        }
+        List<String> partitionNames = journalPartitionRepository.findPartitionNames();
+        if (partitionNames.isEmpty()) {
+            // 파티션 변환(db/migration V4) 이전이거나 Hibernate 가 일반 테이블로 만든 로컬 DB
+            log.warn("journal 이 파티션 테이블이 아니므로 파티션 유지보수를 건너뜁니다.");
+            return;
+        }
+        Plan plan = plan(partitionNames, YearMonth.now());
+
+        for (YearMonth month : plan.toCreate()) {
+            try {
+                journalPartitionRepository.createMonthly(month);
+                log.info("매매일지 파티션 생성: partition={}", JournalPartitionRepository.partitionName(month));
+            } catch (Exception e) {
+                // 기본 파티션에 해당 월 행이 있으면 생성 불가 -> 수동 이동 필요
+                log.error("매매일지 파티션 생성 실패: partition={}, error={}",
+                        JournalPartitionRepository.partitionName(month), e.getMessage());
+            }
+        }
+
+        for (YearMonth month : plan.toArchive()) {
+            try {
+                journalPartitionRepository.detachAndArchive(month);
+                log.info("매매일지 파티션 보관 이동: partition={}", JournalPartitionRepository.partitionName(month));
+            } catch (Exception e) {
+                log.error("매매일지 파티션 보관 이동 실패: partition={}, error={}",
+                        JournalPartitionRepository.partitionName(month), e.getMessage());
+            }
+        }
+    }
+
+    Plan plan(Collection<String> partitionNames, YearMonth current) {
+        Set<YearMonth> existing = new TreeSet<>();
+        partitionNames.stream()
+                .map(JournalPartitionRepository::monthOf)
+                .flatMap(Optional::stream)
+                .forEach(existing::add);
+
+        List<YearMonth> toCreate = new ArrayList<>();
+        for (int i = 0; i <= premakeMonths; i++) {
+            if (!existing.contains(current.plusMonths(i))) {
+                toCreate.add(current.plusMonths(i));
+            }
+        }
+
+        List<YearMonth> toArchive = new ArrayList<>();
+        if (retentionMonths > 0) {
+            YearMonth oldestKept = current.minusMonths(retentionMonths);
+            existing.stream().filter(month -> month.isBefore(oldestKept)).forEach(toArchive::add);
+        }
+        return new Plan(toCreate, toArchive);
+    }
+}
@@ -0,0 +1,26 @@
+package io.tbill.backendapi.domain.journal.service;
+
+import io.tbill.backendapi.domain.journal.dto.JournalDto;
+import io.tbill.backendapi.domain.journal.repository.JournalPositionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 진행 중 거래 순포지션 조회
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class JournalPositionService {
+
+    private final JournalPositionRepository journalPositionRepository;
+
+    public List<JournalDto.Position> getOpenPositions(String authorEmail) {
+        return journalPositionRepository.findOpenPositions(authorEmail).stream()
+                .map(JournalDto.Position::from)
+                .toList();
+    }
+}
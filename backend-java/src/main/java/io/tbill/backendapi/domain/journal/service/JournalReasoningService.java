@@ -0,0 +1,88 @@
+package io.tbill.backendapi.domain.journal.service;
+
+import io.tbill.backendapi.domain.journal.entity.Journal;
+import io.tbill.backendapi.domain.journal.entity.JournalReasoning;
+import io.tbill.backendapi.domain.journal.repository.JournalReasoningRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 매매일지 근거 저장소 (journal 행과 분리된 journal_reasoning 테이블)
+ * - 매매일지 쓰기 트랜잭션 안에서 호출됨 (자체 트랜잭션 없음)
+ * - 근거가 null 이면 "변경 없음"으로 취급
+ */
+@Service
+@RequiredArgsConstructor
+public class JournalReasoningService {
+
+    private final JournalReasoningRepository journalReasoningRepository;
+
+    /**
+     * 신규 매매일지의 근거 저장
+     */
+    public void create(Long journalId, String reasoning) {
+        if (reasoning != null) {
+            journalReasoningRepository.save(JournalReasoning.of(journalId, reasoning));
+        }
+    }
+
+    /**
+     * 신규 매매일지들의 근거 일괄 저장 (JDBC 배치 INSERT)
+     * - journals 와 reasonings 는 같은 순서
+     */
+    public void createAll(List<Journal> journals, List<String> reasonings) {
+        List<JournalReasoning> entities = new ArrayList<>();
+        for (int i = 0; i < journals.size(); i++) {
+            if (reasonings.get(i) != null) {
+                entities.add(JournalReasoning.of(journals.get(i).getId(), reasonings.get(i)));
+            }
+        }
+        if (!entities.isEmpty()) {
+            journalReasoningRepository.saveAll(entities);
+        }
+    }
+
+    /**
+     * 근거가 실제로 바뀐 경우에만 저장
+     * - 해시만 조회하여 비교하므로 기존 본문은 읽지 않음
+     *
+     * @return 저장(생성/교체) 여부
+     */
+    public boolean replaceIfChanged(Long journalId, String reasoning) {
+        if (reasoning == null) {
+            return false;
+        }
+        Optional<String> currentHash = journalReasoningRepository.findContentHashByJournalId(journalId);
+        if (currentHash.isEmpty()) {
+            journalReasoningRepository.save(JournalReasoning.of(journalId, reasoning));
+            return true;
+        }
+        if (currentHash.get().equals(JournalReasoning.hash(reasoning))) {
+            return false;
+        }
+        journalReasoningRepository.overwrite(JournalReasoning.of(journalId, reasoning));
+        return true;
+    }
+
+    /**
+     * 근거 본문 조회 (상세 조회 전용)
+     */
+    public String find(Long journalId) {
+        return journalReasoningRepository.findById(journalId)
+                .map(JournalReasoning::getText)
+                .orElse(null);
+    }
+
+    public void delete(Long journalId) {
+        journalReasoningRepository.deleteByJournalId(journalId);
+    }
+
+    public void deleteAll(Collection<Long> journalIds) {
+        journalReasoningRepository.deleteByJournalIds(journalIds);
+    }
+}
@@ -0,0 +1,80 @@
+package io.tbill.backendapi.domain.journal.service;
+
+import io.tbill.backendapi.domain.journal.cache.JournalColumnCache;
+import io.tbill.backendapi.domain.journal.cache.JournalColumns;
+import io.tbill.backendapi.domain.journal.dto.JournalDto;
+import io.tbill.backendapi.domain.journal.replay.BarSeriesLoader;
+import io.tbill.backendapi.domain.journal.replay.ExitRule;
+import io.tbill.backendapi.domain.journal.replay.JournalReplayEngine;
+import io.tbill.backendapi.domain.journal.repository.JournalColumnRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 청산 규칙별 리플레이 비교 ("손절을 지켰다면", "2R 목표가를 썼다면")
+ * - 거래는 사용자별 컬럼 캐시(JournalColumnCache)에서 읽음, 캐시를 쓸 수 없으면 읽기 전용 트랜잭션으로 한 번 적재
+ * - 봉 데이터는 로컬 파일(BarSeriesLoader), 시뮬레이션은 JournalReplayEngine 전용 ForkJoin 풀
+ * - DB 커넥션은 거래 적재 동안만 사용 (시뮬레이션 중에는 트랜잭션 없음)
+ */
+@Slf4j
+@Service
+public class JournalReplayService {
+
+    public static final int MAX_RULES = 32;
+
+    private final JournalColumnCache journalColumnCache;
+    private final JournalColumnRepository journalColumnRepository;
+    private final BarSeriesLoader barSeriesLoader;
+    private final JournalReplayEngine journalReplayEngine;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public JournalReplayService(JournalColumnCache journalColumnCache,
+                                JournalColumnRepository journalColumnRepository,
+                                BarSeriesLoader barSeriesLoader,
+                                JournalReplayEngine journalReplayEngine,
+                                PlatformTransactionManager transactionManager) {
+        this.journalColumnCache = journalColumnCache;
+        this.journalColumnRepository = journalColumnRepository;
+        this.barSeriesLoader = barSeriesLoader;
+        this.journalReplayEngine = journalReplayEngine;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public JournalDto.ReplayResult replay(String authorEmail, List<ExitRule> rules) {
+        if (rules == null || rules.isEmpty() || rules.size() > MAX_RULES) {
+            throw new IllegalArgumentException("청산 규칙은 1 ~ " + MAX_RULES + "개여야 합니다.");
+        }
+        Set<String> names = new HashSet<>();
+        for (ExitRule rule : rules) {
+            if (!names.add(rule.name())) {
+                throw new IllegalArgumentException("청산 규칙 이름이 중복되었습니다: " + rule.name());
+            }
+        }
+
+        JournalColumns columns = journalColumnCache.get(authorEmail)
+                .orElseGet(() -> load(authorEmail));
+        JournalReplayEngine.Trades trades = JournalReplayEngine.Trades.of(columns, barSeriesLoader::load);
+
+        long startedAt = System.nanoTime();
+        JournalDto.ReplayResult result = journalReplayEngine.replay(trades, rules);
+        log.debug("리플레이 완료: authorEmail={}, trades={}, rules={}, elapsedMs={}",
+                authorEmail, trades.size(), rules.size(), (System.nanoTime() - startedAt) / 1_000_000);
+        return result;
+    }
+
+    private JournalColumns load(String authorEmail) {
+        try {
+            return readOnlyTransaction.execute(status ->
+                    journalColumnRepository.load(authorEmail, JournalColumns.UNKNOWN_VERSION));
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("소수 8자리를 넘는 가격/수량이 있어 리플레이할 수 없습니다.");
+        }
+    }
+}
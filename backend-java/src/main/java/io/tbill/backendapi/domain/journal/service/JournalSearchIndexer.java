@@ -0,0 +1,112 @@
+package io.tbill.backendapi.domain.journal.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.tbill.backendapi.domain.journal.entity.Journal;
+import io.tbill.backendapi.domain.journal.repository.JournalSearchTokenizer;
+import io.tbill.backendapi.domain.journal.repository.JournalTextSearchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 매매일지 전문 검색 색인 갱신
+ * - 매매일지 쓰기 트랜잭션 안에서 호출되어 색인이 항상 커밋된 데이터와 일치
+ * - 색인 문서 = 심볼 + 근거 JSON 의 마크다운 본문 (이미지 목록 제외)
+ * - 색인 도입 이전 데이터 및 누락분은 backfill 작업이 주기적으로 채움
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JournalSearchIndexer {
+
+    private static final int BACKFILL_BATCH_SIZE = 500;
+
+    private final JournalTextSearchRepository journalTextSearchRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 신규/근거 변경 매매일지 색인
+     */
+    public void index(Journal journal, String reasoning) {
+        journalTextSearchRepository.save(List.of(entry(
+                journal.getId(), journal.getAuthorEmail(), journal.getSymbol(), reasoning)));
+    }
+
+    /**
+     * 신규 매매일지 일괄 색인 (journals 와 reasonings 는 같은 순서)
+     */
+    public void indexAll(List<Journal> journals, List<String> reasonings) {
+        List<JournalTextSearchRepository.IndexEntry> entries = new ArrayList<>(journals.size());
+        for (int i = 0; i < journals.size(); i++) {
+            Journal journal = journals.get(i);
+            entries.add(entry(journal.getId(), journal.getAuthorEmail(), journal.getSymbol(), reasonings.get(i)));
+        }
+        journalTextSearchRepository.save(entries);
+    }
+
+    public void delete(Long journalId) {
+        journalTextSearchRepository.delete(List.of(journalId));
+    }
+
+    public void deleteAll(Collection<Long> journalIds) {
+        journalTextSearchRepository.delete(journalIds);
+    }
+
+    /**
+     * 색인 누락분 채우기 (BACKFILL_BATCH_SIZE 단위 트랜잭션)
+     */
+    @Scheduled(cron = "${journal.search.backfill-cron:0 0 5 * * *}")
+    public void backfill() {
+        long afterId = 0;
+        long indexed = 0;
+        while (true) {
+            long from = afterId;
+            List<JournalTextSearchRepository.IndexSource> sources = transactionTemplate.execute(status -> {
+                List<JournalTextSearchRepository.IndexSource> batch =
+                        journalTextSearchRepository.findUnindexed(from, BACKFILL_BATCH_SIZE);
+                journalTextSearchRepository.save(batch.stream()
+                        .map(source -> entry(source.journalId(), source.authorEmail(),
+                                source.symbol(), source.reasoning()))
+                        .toList());
+                return batch;
+            });
+            if (sources == null || sources.isEmpty()) {
+                break;
+            }
+            indexed += sources.size();
+            afterId = sources.get(sources.size() - 1).journalId();
+        }
+        if (indexed > 0) {
+            log.info("전문 검색 색인 누락분 처리 완료: indexed={}", indexed);
+        }
+    }
+
+    private JournalTextSearchRepository.IndexEntry entry(Long journalId, String authorEmail,
+                                                         String symbol, String reasoning) {
+        String markdown = markdown(reasoning);
+        String document = markdown == null ? symbol : symbol + "\n" + markdown;
+        return new JournalTextSearchRepository.IndexEntry(
+                journalId, authorEmail, JournalSearchTokenizer.tokenize(document));
+    }
+
+    private String markdown(String reasoningJson) {
+        if (reasoningJson == null) {
+            return null;
+        }
+        try {
+            JsonNode markdown = objectMapper.readTree(reasoningJson).get("markdown");
+            return markdown != null && !markdown.isNull() ? markdown.asText() : null;
+        } catch (IOException e) {
+            return reasoningJson; // JSON 이 아닌 근거는 원문 그대로 색인
+        }
+    }
+}
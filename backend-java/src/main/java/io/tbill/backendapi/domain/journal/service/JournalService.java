@@ -3,6 +3,7 @@ package io.tbill.backendapi.domain.journal.service;
 import io.tbill.backendapi.domain.journal.dto.JournalDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface JournalService {
 
@@ -46,6 +47,32 @@ public interface JournalService {
      */
     Page<JournalDto.JournalSummary> getClosedTrades(String authorEmail, Pageable pageable);
 
+    /**
+     * 내 매매일지 목록 조회 (커서 페이징, COUNT 쿼리 없음)
+     */
+    Slice<JournalDto.JournalSummary> getMyJournals(String authorEmail, JournalDto.Cursor cursor, int size);
+
+    /**
+     * 매매일지 검색 (커서 페이징)
+     */
+    Slice<JournalDto.JournalSummary> searchJournals(JournalDto.SearchCondition condition, JournalDto.Cursor cursor, int size);
+
+    /**
+     * 매매일지 전문 검색 (심볼 + 근거, 관련도 순 커서 페이징)
+     */
+    Slice<JournalDto.TextSearchHit> searchJournalsByText(
+            String authorEmail, String query, JournalDto.TextSearchCursor cursor, int size);
+
+    /**
+     * 진행 중인 거래 조회 (커서 페이징)
+     */
+    Slice<JournalDto.JournalSummary> getOpenTrades(String authorEmail, JournalDto.Cursor cursor, int size);
+
+    /**
+     * 종료된 거래 조회 (커서 페이징)
+     */
+    Slice<JournalDto.JournalSummary> getClosedTrades(String authorEmail, JournalDto.Cursor cursor, int size);
+
     /**
      * 통계 정보 조회
      */
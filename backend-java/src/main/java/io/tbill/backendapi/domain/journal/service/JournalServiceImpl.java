@@ -2,16 +2,25 @@ package io.tbill.backendapi.domain.journal.service;
 
 import io.tbill.backendapi.domain.journal.dto.JournalDto;
 import io.tbill.backendapi.domain.journal.entity.Journal;
+import io.tbill.backendapi.domain.journal.event.JournalChangedEvent;
 import io.tbill.backendapi.domain.journal.repository.JournalRepository;
+import io.tbill.backendapi.domain.journal.repository.JournalSearchQuery;
+import io.tbill.backendapi.domain.journal.repository.JournalSearchRepository;
+import io.tbill.backendapi.domain.journal.repository.JournalSearchTokenizer;
+import io.tbill.backendapi.domain.journal.repository.JournalStatisticsRepository;
+import io.tbill.backendapi.domain.journal.repository.JournalTextSearchRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.util.List;
 
 @Slf4j
@@ -20,7 +29,18 @@ import java.util.List;
 @RequiredArgsConstructor
 public class JournalServiceImpl implements JournalService {
 
+    // 커서 페이징 최대 페이지 크기
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final JournalRepository journalRepository;
+    private final JournalSearchRepository journalSearchRepository;
+    private final JournalStatisticsRepository journalStatisticsRepository;
+    private final JournalStatisticsService journalStatisticsService;
+    private final JournalDailyRollupService journalDailyRollupService;
+    private final JournalReasoningService journalReasoningService;
+    private final JournalSearchIndexer journalSearchIndexer;
+    private final JournalTextSearchRepository journalTextSearchRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 매매일지 생성
@@ -33,13 +53,21 @@ public class JournalServiceImpl implements JournalService {
 
         Journal journal = command.toEntity();
         Journal savedJournal = journalRepository.save(journal);
+        journalReasoningService.create(savedJournal.getId(), command.getReasoning());
+        journalSearchIndexer.index(savedJournal, command.getReasoning());
+        journalStatisticsService.onCreated(savedJournal);
+        journalDailyRollupService.onCreated(savedJournal);
+        eventPublisher.publishEvent(JournalChangedEvent.created(
+                savedJournal.getAuthorEmail(), List.of(savedJournal.getId())));
 
         log.info("매매일지 생성 완료: id={}", savedJournal.getId());
-        return JournalDto.JournalInfo.from(savedJournal);
+        return JournalDto.JournalInfo.from(savedJournal, command.getReasoning());
     }
 
     /**
      * 매매일지 수정
+     * - 근거는 요청에 포함되고 실제로 바뀐 경우에만 저장 (기존 본문은 읽지 않음)
+     * - 응답의 근거는 요청에 포함된 경우에만 채움 (상세 조회로 확인)
      */
     @Override
     @Transactional
@@ -47,24 +75,31 @@ public class JournalServiceImpl implements JournalService {
         log.info("매매일지 수정 시작: id={}, authorEmail={}",
                 command.getId(), command.getAuthorEmail());
 
-        // 1. 조회 및 권한 검증
-        Journal journal = journalRepository.findByIdAndAuthorEmail(
-                        command.getId(), command.getAuthorEmail())
+        // 1. 통계 행 -> journal 행 순서로 잠근 뒤 조회 및 권한 검증 (동시 수정 시 이전 손익 기준 중복 반영 방지)
+        journalStatisticsService.lock(command.getAuthorEmail());
+        Journal journal = journalRepository.findForUpdate(command.getId(), command.getAuthorEmail())
                 .orElseThrow(() -> new IllegalArgumentException(
                         "매매일지를 찾을 수 없거나 수정 권한이 없습니다. ID: " + command.getId()));
 
         // 2. 변경 감지(Dirty Checking)를 통한 업데이트
+        BigDecimal realizedPnLBefore = journal.getRealizedPnL();
         journal.update(
                 command.getEntryPrice(),
                 command.getStopLossPrice(),
                 command.getRealizedPnL(),
-                command.getReasoning(),
                 command.getTradeType(),
                 command.getQuantity()
         );
+        boolean reasoningChanged = journalReasoningService.replaceIfChanged(journal.getId(), command.getReasoning());
+        if (reasoningChanged) {
+            journalSearchIndexer.index(journal, command.getReasoning());
+        }
+        journalStatisticsService.onUpdated(journal, realizedPnLBefore);
+        journalDailyRollupService.onUpdated(journal, realizedPnLBefore);
+        eventPublisher.publishEvent(JournalChangedEvent.updated(journal.getAuthorEmail(), journal.getId()));
 
-        log.info("매매일지 수정 완료: id={}", journal.getId());
-        return JournalDto.JournalInfo.from(journal);
+        log.info("매매일지 수정 완료: id={}, reasoningChanged={}", journal.getId(), reasoningChanged);
+        return JournalDto.JournalInfo.from(journal, command.getReasoning());
     }
 
     /**
@@ -75,16 +110,23 @@ public class JournalServiceImpl implements JournalService {
     public void deleteJournal(Long journalId, String authorEmail) {
         log.info("매매일지 삭제 시작: id={}, authorEmail={}", journalId, authorEmail);
 
-        Journal journal = journalRepository.findByIdAndAuthorEmail(journalId, authorEmail)
+        journalStatisticsService.lock(authorEmail);
+        Journal journal = journalRepository.findForUpdate(journalId, authorEmail)
                 .orElseThrow(() -> new IllegalArgumentException(
                         "매매일지를 찾을 수 없거나 삭제 권한이 없습니다. ID: " + journalId));
 
         journalRepository.delete(journal);
+        journalReasoningService.delete(journalId);
+        journalSearchIndexer.delete(journalId);
+        journalStatisticsService.onDeleted(journal);
+        journalDailyRollupService.onDeleted(journal);
+        eventPublisher.publishEvent(JournalChangedEvent.deleted(authorEmail, journalId));
         log.info("매매일지 삭제 완료: id={}", journalId);
     }
 
     /**
      * 매매일지 상세 조회
+     * - 근거 본문은 상세 조회에서만 별도 테이블에서 로딩
      */
     @Override
     public JournalDto.JournalInfo getJournalById(Long journalId, String authorEmail) {
@@ -92,54 +134,28 @@ public class JournalServiceImpl implements JournalService {
                 .orElseThrow(() -> new IllegalArgumentException(
                         "매매일지를 찾을 수 없거나 조회 권한이 없습니다. ID: " + journalId));
 
-        return JournalDto.JournalInfo.from(journal);
+        return JournalDto.JournalInfo.from(journal, journalReasoningService.find(journalId));
     }
 
     /**
      * 내 매매일지 목록 조회 (페이징)
+     * - 목록 컬럼만 조회 (reasoning 미조회, 엔티티 스냅샷/변경 감지 없음)
+     * - 목록/진행 중/종료/검색 모두 JournalSearchQuery 하나의 경로로 조회 (오프셋/커서 공통)
      */
     @Override
     public Page<JournalDto.JournalSummary> getMyJournals(String authorEmail, Pageable pageable) {
-        Page<Journal> journals = journalRepository.findByAuthorEmail(authorEmail, pageable);
-        return journals.map(JournalDto.JournalSummary::from);
+        return findPage(JournalSearchQuery.forAuthor(authorEmail), pageable);
     }
 
     /**
      * 매매일지 검색
+     * - 모든 필터(시장/심볼/거래유형/종료여부/기간)를 하나의 쿼리로 조합
+     * - 정렬은 JournalSortField 화이트리스트만 허용
      */
     @Override
     public Page<JournalDto.JournalSummary> searchJournals(
             JournalDto.SearchCondition condition, Pageable pageable) {
-
-        // 조건에 따라 다른 쿼리 실행
-        Page<Journal> journals;
-
-        if (condition.getIsClosed() != null) {
-            if (condition.getIsClosed()) {
-                journals = journalRepository.findClosedTradesByAuthorEmail(
-                        condition.getAuthorEmail(), pageable);
-            } else {
-                journals = journalRepository.findOpenTradesByAuthorEmail(
-                        condition.getAuthorEmail(), pageable);
-            }
-        } else if (condition.getMarket() != null) {
-            journals = journalRepository.findByAuthorEmailAndMarket(
-                    condition.getAuthorEmail(), condition.getMarket(), pageable);
-        } else if (condition.getSymbol() != null) {
-            journals = journalRepository.findByAuthorEmailAndSymbol(
-                    condition.getAuthorEmail(), condition.getSymbol(), pageable);
-        } else if (condition.getStartDate() != null && condition.getEndDate() != null) {
-            journals = journalRepository.findByAuthorEmailAndDateRange(
-                    condition.getAuthorEmail(),
-                    condition.getStartDate(),
-                    condition.getEndDate(),
-                    pageable);
-        } else {
-            journals = journalRepository.findByAuthorEmail(
-                    condition.getAuthorEmail(), pageable);
-        }
-
-        return journals.map(JournalDto.JournalSummary::from);
+        return findPage(JournalSearchQuery.from(condition), pageable);
     }
 
     /**
@@ -147,9 +163,7 @@ public class JournalServiceImpl implements JournalService {
      */
     @Override
     public Page<JournalDto.JournalSummary> getOpenTrades(String authorEmail, Pageable pageable) {
-        Page<Journal> journals = journalRepository.findOpenTradesByAuthorEmail(
-                authorEmail, pageable);
-        return journals.map(JournalDto.JournalSummary::from);
+        return findPage(JournalSearchQuery.forAuthor(authorEmail).closed(false), pageable);
     }
 
     /**
@@ -157,45 +171,99 @@ public class JournalServiceImpl implements JournalService {
      */
     @Override
     public Page<JournalDto.JournalSummary> getClosedTrades(String authorEmail, Pageable pageable) {
-        Page<Journal> journals = journalRepository.findClosedTradesByAuthorEmail(
-                authorEmail, pageable);
-        return journals.map(JournalDto.JournalSummary::from);
+        return findPage(JournalSearchQuery.forAuthor(authorEmail).closed(true), pageable);
+    }
+
+    /**
+     * 내 매매일지 목록 조회 (커서 페이징)
+     */
+    @Override
+    public Slice<JournalDto.JournalSummary> getMyJournals(
+            String authorEmail, JournalDto.Cursor cursor, int size) {
+        return findSlice(JournalSearchQuery.forAuthor(authorEmail), cursor, size);
+    }
+
+    /**
+     * 매매일지 검색 (커서 페이징)
+     */
+    @Override
+    public Slice<JournalDto.JournalSummary> searchJournals(
+            JournalDto.SearchCondition condition, JournalDto.Cursor cursor, int size) {
+        return findSlice(JournalSearchQuery.from(condition), cursor, size);
+    }
+
+    /**
+     * 매매일지 전문 검색 (커서 페이징)
+     * - 색인에서 작성자 + 모든 검색어를 포함하는 행만 찾아 관련도 순 정렬
+     */
+    @Override
+    public Slice<JournalDto.TextSearchHit> searchJournalsByText(
+            String authorEmail, String query, JournalDto.TextSearchCursor cursor, int size) {
+        int pageSize = cursorPageSize(size);
+        List<JournalDto.TextSearchHit> rows = journalTextSearchRepository.search(
+                authorEmail, JournalSearchTokenizer.terms(query), cursor, pageSize + 1);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<JournalDto.TextSearchHit> content = hasNext ? rows.subList(0, pageSize) : rows;
+        return new SliceImpl<>(content, PageRequest.of(0, pageSize), hasNext);
+    }
+
+    /**
+     * 진행 중인 거래 조회 (커서 페이징)
+     */
+    @Override
+    public Slice<JournalDto.JournalSummary> getOpenTrades(
+            String authorEmail, JournalDto.Cursor cursor, int size) {
+        return findSlice(JournalSearchQuery.forAuthor(authorEmail).closed(false), cursor, size);
+    }
+
+    /**
+     * 종료된 거래 조회 (커서 페이징)
+     */
+    @Override
+    public Slice<JournalDto.JournalSummary> getClosedTrades(
+            String authorEmail, JournalDto.Cursor cursor, int size) {
+        return findSlice(JournalSearchQuery.forAuthor(authorEmail).closed(true), cursor, size);
     }
 
     /**
      * 통계 정보 조회
+     * - 통계 집계 테이블 PK 조회 1회
+     * - 집계 행이 아직 없는 사용자는 journal 테이블 집계 쿼리 1회로 대체
      */
     @Override
     public JournalDto.Statistics getStatistics(String authorEmail) {
-        // 총 실현 손익
-        BigDecimal totalPnL = journalRepository.getTotalPnLByAuthorEmail(authorEmail)
-                .orElse(BigDecimal.ZERO);
-
-        // 총 거래 수
-        Long totalTrades = journalRepository.countByAuthorEmail(authorEmail);
-
-        // 종료된 거래 수
-        Long closedTrades = journalRepository.countByAuthorEmailAndRealizedPnLIsNotNull(authorEmail);
-
-        // 진행 중인 거래 수
-        Long openTrades = totalTrades - closedTrades;
-
-        // 승률 계산 (실현 손익이 0보다 큰 거래 / 종료된 거래)
-        BigDecimal winRate = BigDecimal.ZERO;
-        if (closedTrades > 0) {
-            Long winningTrades = journalRepository.countByAuthorEmailAndRealizedPnLGreaterThan(
-                    authorEmail, BigDecimal.ZERO);
-            winRate = BigDecimal.valueOf(winningTrades)
-                    .divide(BigDecimal.valueOf(closedTrades), 4, RoundingMode.HALF_UP)
-                    .multiply(BigDecimal.valueOf(100));
-        }
+        return journalStatisticsRepository.findById(authorEmail)
+                .map(JournalDto.Statistics::from)
+                .orElseGet(() -> journalRepository.aggregateStatistics(authorEmail)
+                        .map(aggregate -> JournalDto.Statistics.of(
+                                aggregate.getTotalPnL(),
+                                aggregate.getTotalTrades(),
+                                aggregate.getClosedTrades(),
+                                aggregate.getWinningTrades(),
+                                aggregate.getLosingTrades(),
+                                aggregate.getGrossProfit(),
+                                aggregate.getGrossLoss()))
+                        .orElseGet(() -> JournalDto.Statistics.of(
+                                BigDecimal.ZERO, 0L, 0L, 0L, 0L, BigDecimal.ZERO, BigDecimal.ZERO)));
+    }
+
+    /**
+     * 오프셋 페이징 (정렬은 JournalSortField 화이트리스트만 허용)
+     */
+    private Page<JournalDto.JournalSummary> findPage(JournalSearchQuery query, Pageable pageable) {
+        return journalSearchRepository.findPage(query.orderBy(pageable.getSort()), pageable);
+    }
+
+    /**
+     * 커서 페이징 (생성일 역순 고정, (createdAt, id) 이후 행)
+     */
+    private Slice<JournalDto.JournalSummary> findSlice(
+            JournalSearchQuery query, JournalDto.Cursor cursor, int size) {
+        return journalSearchRepository.findSlice(query.after(cursor), cursorPageSize(size));
+    }
 
-        return JournalDto.Statistics.builder()
-                .totalPnL(totalPnL)
-                .totalTrades(totalTrades)
-                .closedTrades(closedTrades)
-                .openTrades(openTrades)
-                .winRate(winRate)
-                .build();
+    private int cursorPageSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
     }
 }
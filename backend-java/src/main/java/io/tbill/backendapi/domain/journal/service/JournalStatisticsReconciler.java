@@ -0,0 +1,86 @@
+package io.tbill.backendapi.domain.journal.service;
+
+import io.tbill.backendapi.domain.journal.repository.JournalRepository;
+import io.tbill.backendapi.domain.journal.repository.JournalStatisticsRepository;
+import io.tbill.backendapi.infrastructure.redis.service.JournalVersionService;
+import io.tbill.backendapi.infrastructure.redis.service.RedisLockService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 통계 집계(JournalStatistics) Reconciliation 작업
+ * - 증분 갱신이 어긋났을 경우를 대비해 journal 테이블 기준으로 전체 재계산
+ * - 여러 인스턴스 중 하나만 실행 (Redis 분산 잠금, 획득 실패 시 이번 주기는 건너뜀)
+ * - 사용자 단위로 트랜잭션을 분리하여 잠금 시간을 최소화
+ * - 통계가 실제로 바뀐 사용자만 커밋 후 버전을 올려 통계 응답의 ETag(304) 무효화
+ */
+@Slf4j
+@Component
+public class JournalStatisticsReconciler {
+
+    static final String LOCK_NAME = "journal:statistics:reconcile";
+
+    private final JournalStatisticsService journalStatisticsService;
+    private final JournalRepository journalRepository;
+    private final JournalStatisticsRepository journalStatisticsRepository;
+    private final RedisLockService redisLockService;
+    private final JournalVersionService journalVersionService;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration lockTtl;
+
+    public JournalStatisticsReconciler(JournalStatisticsService journalStatisticsService,
+                                       JournalRepository journalRepository,
+                                       JournalStatisticsRepository journalStatisticsRepository,
+                                       RedisLockService redisLockService,
+                                       JournalVersionService journalVersionService,
+                                       TransactionTemplate transactionTemplate,
+                                       @Value("${journal.statistics.reconcile-lock-ttl:1h}") Duration lockTtl) {
+        this.journalStatisticsService = journalStatisticsService;
+        this.journalRepository = journalRepository;
+        this.journalStatisticsRepository = journalStatisticsRepository;
+        this.redisLockService = redisLockService;
+        this.journalVersionService = journalVersionService;
+        this.transactionTemplate = transactionTemplate;
+        this.lockTtl = lockTtl;
+    }
+
+    @Scheduled(cron = "${journal.statistics.reconcile-cron:0 30 4 * * *}")
+    public void reconcileAll() {
+        Optional<RedisLockService.Lock> lock = redisLockService.tryLock(LOCK_NAME, lockTtl);
+        if (lock.isEmpty()) {
+            log.info("통계 집계 Reconciliation 건너뜀: 다른 인스턴스에서 실행 중이거나 잠금 획득 실패");
+            return;
+        }
+
+        try (RedisLockService.Lock ignored = lock.get()) {
+            log.info("통계 집계 Reconciliation 시작");
+
+            List<String> authorEmails = journalRepository.findDistinctAuthorEmails();
+            int failed = 0;
+            int repaired = 0;
+            for (String authorEmail : authorEmails) {
+                try {
+                    if (journalStatisticsService.rebuild(authorEmail)) {
+                        repaired++;
+                        journalVersionService.bump(authorEmail);
+                    }
+                } catch (Exception e) {
+                    failed++;
+                    log.error("통계 집계 재계산 실패: authorEmail={}, error={}", authorEmail, e.getMessage());
+                }
+            }
+
+            Integer orphans = transactionTemplate.execute(status -> journalStatisticsRepository.deleteOrphans());
+
+            log.info("통계 집계 Reconciliation 완료: users={}, repaired={}, failed={}, orphansDeleted={}",
+                    authorEmails.size(), repaired, failed, orphans);
+        }
+    }
+}
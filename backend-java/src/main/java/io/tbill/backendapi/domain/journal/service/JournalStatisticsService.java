@@ -0,0 +1,176 @@
+package io.tbill.backendapi.domain.journal.service;
+
+import io.tbill.backendapi.domain.journal.entity.Journal;
+import io.tbill.backendapi.domain.journal.entity.JournalStatistics;
+import io.tbill.backendapi.domain.journal.repository.JournalRepository;
+import io.tbill.backendapi.domain.journal.repository.JournalStatisticsRepository;
+import io.tbill.backendapi.domain.journal.repository.JournalStatisticsRowRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * 사용자별 통계 집계(JournalStatistics) 증분 갱신
+ * - 매매일지 쓰기 트랜잭션 안에서 호출되어야 함 (MANDATORY)
+ * - 통계 행이 아직 없는 사용자(신규/기존 데이터)는 행을 upsert 로 만든 뒤 journal 테이블 기준으로 최초 1회 재계산
+ *   (동시에 처음 쓰는 트랜잭션은 INSERT 충돌 대신 먼저 만든 쪽의 커밋을 기다렸다가 그 행을 잠금)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JournalStatisticsService {
+
+    private final JournalStatisticsRepository journalStatisticsRepository;
+    private final JournalStatisticsRowRepository journalStatisticsRowRepository;
+    private final JournalRepository journalRepository;
+
+    /**
+     * 매매일지 생성 반영
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onCreated(Journal journal) {
+        findForUpdate(journal.getAuthorEmail())
+                .ifPresent(statistics -> statistics.addTrade(journal.getRealizedPnL()));
+    }
+
+    /**
+     * 매매일지 일괄 생성 반영 (대량 가져오기: 통계 행 잠금 1회)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onCreated(String authorEmail, Collection<Journal> journals) {
+        findForUpdate(authorEmail)
+                .ifPresent(statistics -> journals.forEach(journal -> statistics.addTrade(journal.getRealizedPnL())));
+    }
+
+    /**
+     * 매매일지 수정 반영 (실현 손익 변경분만 영향)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onUpdated(Journal journal, BigDecimal realizedPnLBefore) {
+        if (equalsNullable(realizedPnLBefore, journal.getRealizedPnL())) {
+            return;
+        }
+        findForUpdate(journal.getAuthorEmail())
+                .ifPresent(statistics -> statistics.changeRealizedPnL(
+                        realizedPnLBefore, journal.getRealizedPnL()));
+    }
+
+    /**
+     * 매매일지 일괄 종료 반영 (모두 진행 중 -> 종료)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onClosed(String authorEmail, Collection<BigDecimal> realizedPnLs) {
+        findForUpdate(authorEmail)
+                .ifPresent(statistics -> realizedPnLs.forEach(pnl -> statistics.changeRealizedPnL(null, pnl)));
+    }
+
+    /**
+     * 매매일지 삭제 반영
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onDeleted(Journal journal) {
+        findForUpdate(journal.getAuthorEmail())
+                .ifPresent(statistics -> statistics.removeTrade(journal.getRealizedPnL()));
+    }
+
+    /**
+     * 매매일지 일괄 삭제 반영 (realizedPnLs: 삭제된 매매일지의 실현 손익, 진행 중이면 null)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onDeleted(String authorEmail, Collection<BigDecimal> realizedPnLs) {
+        findForUpdate(authorEmail)
+                .ifPresent(statistics -> realizedPnLs.forEach(statistics::removeTrade));
+    }
+
+    /**
+     * 통계 행 선잠금 (단건 수정/삭제 / 일괄 처리 / 일별 집계 재계산)
+     * - 항상 통계 행 -> journal 행 순서로 잠가 교착 방지
+     * - 단건 수정/삭제는 이 잠금 이후 journal 행을 잠금 조회하므로 같은 매매일지의 동시 수정이 직렬화됨
+     * - 행이 없으면 upsert 후 잠그므로 항상 행 잠금을 보유 (없는 행의 FOR UPDATE 는 아무것도 잠그지 않음)
+     *   새로 만든 행은 일괄 변경 이전의 journal 기준으로 채워지므로 이후 onClosed/onDeleted 증분이 그대로 적용됨
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void lock(String authorEmail) {
+        if (!createIfAbsent(authorEmail)) {
+            lockRow(authorEmail);
+        }
+    }
+
+    /**
+     * journal 테이블 기준으로 통계 재계산 (Reconciliation)
+     * - 행이 없어 새로 만들었으면 createIfAbsent 가 이미 재계산
+     *
+     * @return 통계 값이 바뀌었으면 true (호출 측은 이때만 버전 증가)
+     */
+    @Transactional
+    public boolean rebuild(String authorEmail) {
+        if (createIfAbsent(authorEmail)) {
+            return true;
+        }
+        boolean changed = recalculate(lockRow(authorEmail));
+        if (changed) {
+            log.warn("통계 집계 불일치 복구: authorEmail={}", authorEmail);
+        }
+        return changed;
+    }
+
+    /**
+     * 통계 행 잠금 조회
+     * - 행이 없으면 만들어서 현재 트랜잭션의 변경분까지 포함해 재계산하므로 delta는 적용하지 않음 (Optional.empty)
+     */
+    private Optional<JournalStatistics> findForUpdate(String authorEmail) {
+        if (createIfAbsent(authorEmail)) {
+            return Optional.empty();
+        }
+        return journalStatisticsRepository.findForUpdate(authorEmail);
+    }
+
+    /**
+     * 통계 행이 없으면 생성 후 journal 테이블 기준으로 채움 (새로 INSERT 한 행이므로 커밋까지 잠금 유지)
+     *
+     * @return 새로 만들었으면 true
+     */
+    private boolean createIfAbsent(String authorEmail) {
+        if (!journalStatisticsRowRepository.insertIfAbsent(authorEmail)) {
+            return false;
+        }
+        log.info("통계 집계 행이 없어 재계산: authorEmail={}", authorEmail);
+        journalRepository.flush();
+        recalculate(lockRow(authorEmail));
+        return true;
+    }
+
+    private JournalStatistics lockRow(String authorEmail) {
+        return journalStatisticsRepository.findForUpdate(authorEmail)
+                .orElseThrow(() -> new IllegalStateException("통계 집계 행 생성에 실패했습니다: " + authorEmail));
+    }
+
+    /**
+     * @return 값이 바뀌었으면 true
+     */
+    private boolean recalculate(JournalStatistics statistics) {
+        return journalRepository.aggregateStatistics(statistics.getAuthorEmail())
+                .map(aggregate -> statistics.overwrite(
+                        aggregate.getTotalTrades(),
+                        aggregate.getClosedTrades(),
+                        aggregate.getWinningTrades(),
+                        aggregate.getLosingTrades(),
+                        aggregate.getTotalPnL(),
+                        aggregate.getGrossProfit(),
+                        aggregate.getGrossLoss()))
+                .orElseGet(statistics::reset);
+    }
+
+    private boolean equalsNullable(BigDecimal a, BigDecimal b) {
+        if (a == null || b == null) {
+            return a == b;
+        }
+        return a.compareTo(b) == 0;
+    }
+}
@@ -0,0 +1,110 @@
+package io.tbill.backendapi.domain.journal.service;
+
+import io.tbill.backendapi.domain.journal.cache.JournalColumns;
+import io.tbill.backendapi.domain.journal.dto.JournalDto;
+import io.tbill.backendapi.domain.journal.event.JournalVersionChangedEvent;
+import io.tbill.backendapi.domain.journal.mark.MarkToMarketBook;
+import io.tbill.backendapi.domain.journal.mark.PriceTick;
+import io.tbill.backendapi.domain.journal.repository.JournalPositionRepository;
+import io.tbill.backendapi.infrastructure.redis.service.JournalVersionService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 진행 중 거래 평가 손익 (Mark-to-Market)
+ * - 처음 조회한 사용자부터 추적: 진행 중 거래를 한 번 읽어 MarkToMarketBook 의 심볼 색인에 등록, 이후 틱으로만 갱신
+ * - 조회 시 매매일지 버전(Redis)이 추적 중인 버전과 다르면 다시 적재 (다른 인스턴스의 변경 반영)
+ * - 이 인스턴스에서 커밋된 변경은 버전 증가 직후 바로 다시 적재 (JournalVersionChangedEvent)
+ * - idle-ttl 동안 조회가 없는 사용자는 추적 종료 (메모리 상한)
+ */
+@Slf4j
+@Service
+public class MarkToMarketService {
+
+    private final MarkToMarketBook markToMarketBook;
+    private final JournalPositionRepository journalPositionRepository;
+    private final JournalVersionService journalVersionService;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Duration idleTtl;
+
+    public MarkToMarketService(MarkToMarketBook markToMarketBook,
+                               JournalPositionRepository journalPositionRepository,
+                               JournalVersionService journalVersionService,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${mark-to-market.idle-ttl:30m}") Duration idleTtl) {
+        this.markToMarketBook = markToMarketBook;
+        this.journalPositionRepository = journalPositionRepository;
+        this.journalVersionService = journalVersionService;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.idleTtl = idleTtl;
+    }
+
+    public JournalDto.UnrealizedPnL getUnrealizedPnL(String authorEmail) {
+        // 버전은 진행 중 거래 조회보다 먼저 읽음 (적재 결과는 항상 이 버전 이후 상태)
+        long version = journalVersionService.getVersion(authorEmail).orElse(JournalColumns.UNKNOWN_VERSION);
+        Optional<Long> tracked = markToMarketBook.trackedVersion(authorEmail);
+        if (tracked.isEmpty() || version == JournalColumns.UNKNOWN_VERSION || tracked.get() != version) {
+            reload(authorEmail, version);
+        }
+        return markToMarketBook.snapshot(authorEmail)
+                .orElseThrow(() -> new IllegalStateException("평가 손익 추적 등록에 실패했습니다."));
+    }
+
+    /**
+     * 틱 일괄 반영
+     *
+     * @return 반영된 틱 수 (이전 시각이라 버린 틱 제외)
+     */
+    public int ingest(List<PriceTick> ticks) {
+        int applied = 0;
+        for (PriceTick tick : ticks) {
+            if (markToMarketBook.onTick(tick)) {
+                applied++;
+            }
+        }
+        return applied;
+    }
+
+    /**
+     * 이 인스턴스에서 커밋된 매매일지 변경 반영 (추적 중인 사용자만)
+     */
+    @EventListener
+    public void onVersionChanged(JournalVersionChangedEvent event) {
+        String authorEmail = event.authorEmail();
+        if (markToMarketBook.trackedVersion(authorEmail).isEmpty()) {
+            return;
+        }
+        try {
+            reload(authorEmail, event.version() != null ? event.version() : JournalColumns.UNKNOWN_VERSION);
+        } catch (Exception e) {
+            // 다음 조회에서 버전 불일치로 다시 적재
+            markToMarketBook.untrack(authorEmail);
+            log.warn("평가 손익 보유분 재적재 실패: authorEmail={}, error={}", authorEmail, e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${mark-to-market.evict-interval-ms:60000}")
+    public void evictIdleUsers() {
+        List<String> idleUsers = markToMarketBook.idleUsers(idleTtl.toMillis());
+        idleUsers.forEach(markToMarketBook::untrack);
+        if (!idleUsers.isEmpty()) {
+            log.debug("평가 손익 추적 종료: users={}", idleUsers.size());
+        }
+    }
+
+    private void reload(String authorEmail, long version) {
+        List<JournalPositionRepository.OpenTrade> openTrades = readOnlyTransaction.execute(status ->
+                journalPositionRepository.findOpenTrades(authorEmail));
+        markToMarketBook.track(authorEmail, version, openTrades);
+    }
+}
@@ -0,0 +1,123 @@
+package io.tbill.backendapi.domain.journal.service;
+
+import io.tbill.backendapi.domain.journal.dto.JournalDto;
+
+/**
+ * 종료 거래 위험 지표 계산기 (R 배수 / 기대값 / 손익비 / 샤프·소르티노 / 연승·연패)
+ * - 종료 거래를 시간순으로 한 건씩 받아 누적값만 갱신 (거래별 값을 저장하지 않는 한 번의 순회)
+ * - 1R = |진입가 - 손절가| × 수량 (손절가가 없거나 진입가와 같으면 R 계산에서 제외)
+ * - 거래별 수익률 = 실현 손익 / (진입가 × 수량), 평균·분산은 Welford 방식으로 누적
+ * - 샤프/소르티노는 무위험 수익률 0, 연율화하지 않은 거래당 값
+ *
+ * 스레드 안전하지 않음 (요청마다 새로 생성)
+ */
+public class RiskMetricsCalculator {
+
+    private long closedTrades;
+    private long winningTrades;
+    private long losingTrades;
+    private double totalPnL;
+    private double grossProfit;
+    private double grossLoss;
+
+    // R 배수 (손절가가 있는 거래)
+    private long riskDefinedTrades;
+    private double totalR;
+
+    // 거래별 수익률 (Welford)
+    private long returnCount;
+    private double returnMean;
+    private double returnM2;
+    private double downsideSquares;
+
+    // 연승 / 연패 (손익 0은 둘 다 끊음)
+    private int currentWinStreak;
+    private int currentLossStreak;
+    private int longestWinStreak;
+    private int longestLossStreak;
+
+    /**
+     * @param stopLossPrice 손절가 (없으면 Double.NaN)
+     */
+    public void add(double entryPrice, double stopLossPrice, double quantity, double realizedPnL) {
+        closedTrades++;
+        totalPnL += realizedPnL;
+
+        if (realizedPnL > 0) {
+            winningTrades++;
+            grossProfit += realizedPnL;
+            currentWinStreak++;
+            currentLossStreak = 0;
+        } else if (realizedPnL < 0) {
+            losingTrades++;
+            grossLoss -= realizedPnL;
+            currentLossStreak++;
+            currentWinStreak = 0;
+        } else {
+            currentWinStreak = 0;
+            currentLossStreak = 0;
+        }
+        longestWinStreak = Math.max(longestWinStreak, currentWinStreak);
+        longestLossStreak = Math.max(longestLossStreak, currentLossStreak);
+
+        double risk = Math.abs(entryPrice - stopLossPrice) * quantity;
+        if (risk > 0) {
+            riskDefinedTrades++;
+            totalR += realizedPnL / risk;
+        }
+
+        double notional = Math.abs(entryPrice * quantity);
+        if (notional > 0) {
+            double tradeReturn = realizedPnL / notional;
+            returnCount++;
+            double delta = tradeReturn - returnMean;
+            returnMean += delta / returnCount;
+            returnM2 += delta * (tradeReturn - returnMean);
+            if (tradeReturn < 0) {
+                downsideSquares += tradeReturn * tradeReturn;
+            }
+        }
+    }
+
+    public JournalDto.RiskMetrics result() {
+        Double averageWin = winningTrades > 0 ? grossProfit / winningTrades : null;
+        Double averageLoss = losingTrades > 0 ? grossLoss / losingTrades : null;
+
+        return JournalDto.RiskMetrics.builder()
+                .closedTrades(closedTrades)
+                .winningTrades(winningTrades)
+                .losingTrades(losingTrades)
+                .riskDefinedTrades(riskDefinedTrades)
+                .totalR(totalR)
+                .averageR(riskDefinedTrades > 0 ? totalR / riskDefinedTrades : null)
+                .expectancy(closedTrades > 0 ? totalPnL / closedTrades : null)
+                .averageWin(averageWin)
+                .averageLoss(averageLoss)
+                .profitFactor(grossLoss > 0 ? grossProfit / grossLoss : null)
+                .payoffRatio(averageWin != null && averageLoss != null ? averageWin / averageLoss : null)
+                .sharpeRatio(sharpeRatio())
+                .sortinoRatio(sortinoRatio())
+                .longestWinStreak(longestWinStreak)
+                .longestLossStreak(longestLossStreak)
+                .currentStreak(currentWinStreak > 0 ? currentWinStreak : -currentLossStreak)
+                .build();
+    }
+
+    // 표본 표준편차 (n - 1)
+    private Double sharpeRatio() {
+        if (returnCount < 2) {
+            return null;
+        }
+        double standardDeviation = Math.sqrt(returnM2 / (returnCount - 1));
+        return standardDeviation > 0 ? returnMean / standardDeviation : null;
+    }
+
+    // 하방 편차: 음수 수익률만 제곱 합 / 전체 거래 수
+    private Double sortinoRatio() {
+        if (returnCount < 2) {
+            return null;
+        }
+        double downsideDeviation = Math.sqrt(downsideSquares / returnCount);
+        return downsideDeviation > 0 ? returnMean / downsideDeviation : null;
+    }
+}
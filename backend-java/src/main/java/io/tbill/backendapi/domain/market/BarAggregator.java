@@ -0,0 +1,140 @@
+package io.tbill.backendapi.domain.market;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 틱 -> 심볼별 1m/5m/1h/1d OHLCV 봉 집계 (링 버퍼 소비자 하나 = 심볼 파티션 하나)
+ * - symbolId % partitions == partition 인 심볼만 처리 -> 파티션끼리 상태를 공유하지 않아 잠금 없음
+ * - 진행 중 봉은 (심볼 슬롯 × 주기) 위치의 원시 배열에 보관, 생성 시 최대 심볼 수만큼 미리 할당
+ * - 새 틱이 다음 주기에 속하면 진행 중 봉을 마감해 BarListener 로 전달하고 새 봉 시작
+ * - 시계 이벤트: 끝 시각이 지난 진행 중 봉을 마감 (틱이 끊긴 심볼), 이후 같은 주기에 늦게 온 틱은 해당 주기 봉에 반영하지 않음
+ * - 심볼의 직전 틱보다 이전 시각인 틱은 버림 (MarkToMarketBook 과 같은 기준, 마감된 봉은 바뀌지 않음)
+ */
+public final class BarAggregator implements TickRingBuffer.Handler {
+
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final BarInterval[] INTERVALS = BarInterval.values();
+
+    private final int partition;
+    private final int partitions;
+    private final int slots;
+    private final BarListener[] listeners;
+
+    private final long[] lastTickTime;
+    private final long[] openTime;
+    private final double[] open;
+    private final double[] high;
+    private final double[] low;
+    private final double[] close;
+    private final double[] volume;
+    private final boolean[] closed;
+
+    private volatile long lateTicks;
+
+    public BarAggregator(int maxSymbols, int partition, int partitions, List<BarListener> listeners) {
+        if (partitions <= 0 || partition < 0 || partition >= partitions) {
+            throw new IllegalArgumentException("파티션 번호가 올바르지 않습니다: " + partition + "/" + partitions);
+        }
+        this.partition = partition;
+        this.partitions = partitions;
+        this.slots = (maxSymbols + partitions - 1) / partitions;
+        this.listeners = listeners.toArray(BarListener[]::new);
+
+        int bars = slots * INTERVALS.length;
+        this.lastTickTime = new long[slots];
+        this.openTime = new long[bars];
+        this.open = new double[bars];
+        this.high = new double[bars];
+        this.low = new double[bars];
+        this.close = new double[bars];
+        this.volume = new double[bars];
+        this.closed = new boolean[bars];
+        Arrays.fill(lastTickTime, EMPTY);
+        Arrays.fill(openTime, EMPTY);
+    }
+
+    @Override
+    public void onEvent(TickEvent event, long sequence, boolean endOfBatch) {
+        if (event.isClock()) {
+            closeExpired(event.epochMillis());
+            return;
+        }
+        int symbolId = event.symbolId();
+        if (symbolId % partitions != partition) {
+            return;
+        }
+        int slot = symbolId / partitions;
+        long time = event.epochMillis();
+        if (time < lastTickTime[slot]) {
+            lateTicks++;
+            return;
+        }
+        lastTickTime[slot] = time;
+
+        double price = event.price();
+        double quantity = event.volume();
+        int base = slot * INTERVALS.length;
+        for (int i = 0; i < INTERVALS.length; i++) {
+            int bar = base + i;
+            long bucket = INTERVALS[i].bucketStart(time);
+            if (openTime[bar] == bucket) {
+                if (closed[bar]) {
+                    continue;
+                }
+                if (price > high[bar]) {
+                    high[bar] = price;
+                }
+                if (price < low[bar]) {
+                    low[bar] = price;
+                }
+                close[bar] = price;
+                volume[bar] += quantity;
+                continue;
+            }
+            if (openTime[bar] != EMPTY && !closed[bar]) {
+                emit(symbolId, i, bar);
+            }
+            openTime[bar] = bucket;
+            closed[bar] = false;
+            open[bar] = price;
+            high[bar] = price;
+            low[bar] = price;
+            close[bar] = price;
+            volume[bar] = quantity;
+        }
+    }
+
+    /**
+     * 직전 틱보다 이전 시각이라 버린 틱 수 (이 파티션)
+     */
+    public long lateTicks() {
+        return lateTicks;
+    }
+
+    /**
+     * 끝 시각(시작 + 주기)이 now 이하인 진행 중 봉 마감
+     */
+    private void closeExpired(long now) {
+        for (int slot = 0; slot < slots; slot++) {
+            if (lastTickTime[slot] == EMPTY) {
+                continue;
+            }
+            int base = slot * INTERVALS.length;
+            for (int i = 0; i < INTERVALS.length; i++) {
+                int bar = base + i;
+                if (openTime[bar] != EMPTY && !closed[bar] && openTime[bar] + INTERVALS[i].getMillis() <= now) {
+                    emit(slot * partitions + partition, i, bar);
+                    closed[bar] = true;
+                }
+            }
+        }
+    }
+
+    private void emit(int symbolId, int interval, int bar) {
+        for (BarListener listener : listeners) {
+            listener.onBar(symbolId, INTERVALS[interval], openTime[bar],
+                    open[bar], high[bar], low[bar], close[bar], volume[bar]);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package io.tbill.backendapi.domain.market;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 봉 주기
+ * - 봉 시작 시각은 주기 단위로 내림 (epoch millis 가 LocalDateTime을 UTC로 인코딩한 값이므로 일봉은 현지 날짜 경계)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum BarInterval {
+    ONE_MINUTE("1m", 60_000L),
+    FIVE_MINUTES("5m", 5 * 60_000L),
+    ONE_HOUR("1h", 60 * 60_000L),
+    ONE_DAY("1d", 24 * 60 * 60_000L);
+
+    private final String code;
+    private final long millis;
+
+    public long bucketStart(long epochMillis) {
+        return epochMillis - Math.floorMod(epochMillis, millis);
+    }
+
+    public static BarInterval from(String code) {
+        for (BarInterval interval : values()) {
+            if (interval.code.equals(code)) {
+                return interval;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 봉 주기입니다: " + code);
+    }
+}
@@ -0,0 +1,12 @@
+package io.tbill.backendapi.domain.market;
+
+/**
+ * 마감된 봉 수신 (봉 집계 소비자 스레드에서 호출)
+ * - 원시 값으로 전달 (봉마다 객체를 만들지 않음), 빨리 반환해야 링 버퍼가 막히지 않음
+ * - 심볼 파티션마다 다른 스레드에서 호출될 수 있음 (같은 심볼은 항상 같은 스레드, 시각 오름차순)
+ */
+public interface BarListener {
+
+    void onBar(int symbolId, BarInterval interval, long openTime,
+               double open, double high, double low, double close, double volume);
+}
@@ -0,0 +1,101 @@
+package io.tbill.backendapi.domain.market;
+
+import io.tbill.backendapi.domain.market.dto.MarketDto;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 심볼 × 주기별 최근 마감 봉 (고정 크기 원형 버퍼, 인스턴스 로컬)
+ * - 봉 집계 소비자가 쓰고 API 요청 스레드가 읽음, 봉은 주기당 한 번만 들어오므로 시계열 단위 모니터로 충분
+ * - 시계열은 첫 봉이 마감될 때 할당 (틱마다 할당 없음)
+ */
+public final class RecentBarStore implements BarListener {
+
+    private static final BarInterval[] INTERVALS = BarInterval.values();
+
+    private final int capacity;
+    private final AtomicReferenceArray<Series> series;
+
+    public RecentBarStore(int maxSymbols, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("보관할 봉 수는 1 이상이어야 합니다.");
+        }
+        this.capacity = capacity;
+        this.series = new AtomicReferenceArray<>(maxSymbols * INTERVALS.length);
+    }
+
+    @Override
+    public void onBar(int symbolId, BarInterval interval, long openTime,
+                      double open, double high, double low, double close, double volume) {
+        int index = symbolId * INTERVALS.length + interval.ordinal();
+        Series bars = series.get(index);
+        if (bars == null) {
+            // 같은 (심볼, 주기)는 항상 같은 소비자 스레드가 쓰므로 경합 없음
+            bars = new Series(capacity);
+            series.set(index, bars);
+        }
+        bars.append(openTime, open, high, low, close, volume);
+    }
+
+    /**
+     * 최근 마감 봉 (시작 시각 오름차순, 최대 limit 개)
+     */
+    public List<MarketDto.Bar> recent(int symbolId, BarInterval interval, int limit) {
+        Series bars = series.get(symbolId * INTERVALS.length + interval.ordinal());
+        return bars == null ? List.of() : bars.last(Math.min(limit, capacity));
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    private static final class Series {
+        private final long[] openTime;
+        private final double[] open;
+        private final double[] high;
+        private final double[] low;
+        private final double[] close;
+        private final double[] volume;
+        private int next;
+        private int size;
+
+        private Series(int capacity) {
+            this.openTime = new long[capacity];
+            this.open = new double[capacity];
+            this.high = new double[capacity];
+            this.low = new double[capacity];
+            this.close = new double[capacity];
+            this.volume = new double[capacity];
+        }
+
+        private synchronized void append(long time, double o, double h, double l, double c, double v) {
+            openTime[next] = time;
+            open[next] = o;
+            high[next] = h;
+            low[next] = l;
+            close[next] = c;
+            volume[next] = v;
+            next = (next + 1) % openTime.length;
+            size = Math.min(size + 1, openTime.length);
+        }
+
+        private synchronized List<MarketDto.Bar> last(int limit) {
+            int count = Math.min(limit, size);
+            List<MarketDto.Bar> bars = new ArrayList<>(count);
+            for (int k = count; k > 0; k--) {
+                int i = Math.floorMod(next - k, openTime.length);
+                bars.add(new MarketDto.Bar(toDateTime(openTime[i]), open[i], high[i], low[i], close[i], volume[i]));
+            }
+            return bars;
+        }
+    }
+
+    private static LocalDateTime toDateTime(long epochMillis) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(epochMillis, 1000),
+                (int) Math.floorMod(epochMillis, 1000) * 1_000_000, ZoneOffset.UTC);
+    }
+}
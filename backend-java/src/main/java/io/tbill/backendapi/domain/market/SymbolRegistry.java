@@ -0,0 +1,70 @@
+package io.tbill.backendapi.domain.market;
+
+import io.tbill.backendapi.domain.journal.entity.MarketType;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * (시장, 심볼) -> 0부터 시작하는 정수 ID
+ * - 링 버퍼 슬롯과 봉 집계 배열은 심볼을 ID로만 다룸 (문자열 비교/키 객체 생성 없음)
+ * - 시장별 맵으로 나눠 조회 시 복합 키를 만들지 않음 (이미 등록된 심볼은 할당 없이 조회)
+ * - ID는 한 번 발급되면 바뀌지 않고 회수하지 않음 (봉 집계 배열 슬롯이 ID에 고정), 최대 개수는 봉 집계 배열 크기로 고정
+ *   상한에 도달하면 이후 처음 보는 심볼은 재기동 전까지 ID를 받지 못함 (TickPipeline 이 drop 으로 집계)
+ */
+public final class SymbolRegistry {
+
+    public static final int NOT_FOUND = -1;
+
+    private final int maxSymbols;
+    private final Map<MarketType, Map<String, Integer>> ids = new EnumMap<>(MarketType.class);
+    private int size;
+
+    public SymbolRegistry(int maxSymbols) {
+        if (maxSymbols <= 0) {
+            throw new IllegalArgumentException("최대 심볼 수는 1 이상이어야 합니다.");
+        }
+        this.maxSymbols = maxSymbols;
+        for (MarketType market : MarketType.values()) {
+            ids.put(market, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * 심볼 ID (처음 보는 심볼이면 발급, 최대 심볼 수에 도달했으면 NOT_FOUND)
+     */
+    public int idOf(MarketType market, String symbol) {
+        Integer id = ids.get(market).get(symbol);
+        return id != null ? id : register(market, symbol);
+    }
+
+    /**
+     * 등록된 심볼 ID (없으면 NOT_FOUND)
+     */
+    public int find(MarketType market, String symbol) {
+        Integer id = ids.get(market).get(symbol);
+        return id != null ? id : NOT_FOUND;
+    }
+
+    public int maxSymbols() {
+        return maxSymbols;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private synchronized int register(MarketType market, String symbol) {
+        Map<String, Integer> bySymbol = ids.get(market);
+        Integer id = bySymbol.get(symbol);
+        if (id != null) {
+            return id;
+        }
+        if (size >= maxSymbols) {
+            return NOT_FOUND;
+        }
+        bySymbol.put(symbol, size);
+        return size++;
+    }
+}
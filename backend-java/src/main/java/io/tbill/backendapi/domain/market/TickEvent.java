@@ -0,0 +1,43 @@
+package io.tbill.backendapi.domain.market;
+
+/**
+ * 링 버퍼 슬롯 (미리 할당해 재사용하는 가변 객체, 원시 필드만 보관)
+ * - 생산자가 값을 채운 뒤 시퀀스를 발행하면 소비자가 읽음, 소비자는 참조를 보관하지 말 것 (슬롯은 한 바퀴 뒤 덮어씀)
+ * - symbolId 가 CLOCK 이면 시계 이벤트: 틱이 끊긴 심볼의 봉도 시간이 지나면 마감하도록 현재 시각만 전달
+ */
+public final class TickEvent {
+
+    public static final int CLOCK = -1;
+
+    private int symbolId;
+    private double price;
+    private double volume;
+    private long epochMillis;
+
+    void set(int symbolId, double price, double volume, long epochMillis) {
+        this.symbolId = symbolId;
+        this.price = price;
+        this.volume = volume;
+        this.epochMillis = epochMillis;
+    }
+
+    public boolean isClock() {
+        return symbolId == CLOCK;
+    }
+
+    public int symbolId() {
+        return symbolId;
+    }
+
+    public double price() {
+        return price;
+    }
+
+    public double volume() {
+        return volume;
+    }
+
+    public long epochMillis() {
+        return epochMillis;
+    }
+}
@@ -0,0 +1,134 @@
+package io.tbill.backendapi.domain.market;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.tbill.backendapi.domain.journal.entity.MarketType;
+import io.tbill.backendapi.domain.journal.mark.PriceTick;
+import io.tbill.backendapi.domain.market.dto.MarketDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 시세 틱 파이프라인 (가격 피드 -> 링 버퍼 -> 심볼 파티션별 봉 집계 -> 최근 봉 보관)
+ * - 생산자는 하나: HTTP 피드/파일 재생 스레드의 발행은 이 객체 모니터로 직렬화 (링 버퍼는 단일 생산자 전제)
+ * - 소비자: aggregator-threads 개의 BarAggregator (심볼 ID 파티션), 마감 봉은 RecentBarStore 로 전달
+ * - 발행 경로는 이미 등록된 심볼이면 할당 없음 (심볼 ID 조회 -> 미리 할당된 슬롯에 원시 값 기록)
+ * - 시계 이벤트: 마지막 틱 시각 + 그 뒤 흐른 시간 (과거 시각 틱 파일을 재생해도 봉이 미리 마감되지 않음)
+ * - 심볼 ID는 회수하지 않으므로 max-symbols 에 도달한 뒤 처음 보는 심볼의 틱은 봉 집계에서 버림
+ *   (tick_pipeline.dropped 카운터, 평가 손익 반영과는 무관)
+ */
+@Slf4j
+@Component
+public class TickPipeline implements DisposableBean {
+
+    private static final long HALT_TIMEOUT_MS = 1_000;
+
+    private final SymbolRegistry symbolRegistry;
+    private final RecentBarStore recentBarStore;
+    private final BarAggregator[] aggregators;
+    private final TickRingBuffer ringBuffer;
+    private final Counter dropped;
+
+    // 생산자 상태 (this 모니터 안에서만 접근)
+    private long lastTickTime = Long.MIN_VALUE;
+    private long lastTickNanos;
+    private boolean symbolLimitLogged;
+
+    public TickPipeline(MeterRegistry meterRegistry,
+                        @Value("${tick-pipeline.buffer-size:65536}") int bufferSize,
+                        @Value("${tick-pipeline.max-symbols:4096}") int maxSymbols,
+                        @Value("${tick-pipeline.aggregator-threads:2}") int aggregatorThreads,
+                        @Value("${tick-pipeline.recent-bars:500}") int recentBars) {
+        this.symbolRegistry = new SymbolRegistry(maxSymbols);
+        this.recentBarStore = new RecentBarStore(maxSymbols, recentBars);
+        this.aggregators = new BarAggregator[Math.max(1, aggregatorThreads)];
+        List<TickRingBuffer.Handler> handlers = new ArrayList<>(aggregators.length);
+        for (int partition = 0; partition < aggregators.length; partition++) {
+            aggregators[partition] = new BarAggregator(maxSymbols, partition, aggregators.length,
+                    List.of(recentBarStore));
+            handlers.add(aggregators[partition]);
+        }
+        this.ringBuffer = new TickRingBuffer(bufferSize, handlers, "tick-bar");
+        this.ringBuffer.start();
+
+        this.dropped = Counter.builder("tick_pipeline.dropped")
+                .description("최대 심볼 수에 도달해 봉 집계에서 버린 틱 수").register(meterRegistry);
+        Gauge.builder("tick_pipeline.backlog", ringBuffer, TickRingBuffer::backlog)
+                .description("발행됐지만 봉 집계가 아직 처리하지 않은 틱 수").register(meterRegistry);
+        Gauge.builder("tick_pipeline.symbols", symbolRegistry, SymbolRegistry::size)
+                .description("심볼 ID가 발급된 심볼 수").register(meterRegistry);
+        Gauge.builder("tick_pipeline.late_ticks", aggregators,
+                        values -> Arrays.stream(values).mapToLong(BarAggregator::lateTicks).sum())
+                .description("직전 틱보다 이전 시각이라 봉 집계에서 버린 틱 수").register(meterRegistry);
+    }
+
+    public boolean publish(PriceTick tick) {
+        return publish(tick.market(), tick.symbol(), tick.price(), tick.volume(), tick.epochMillis());
+    }
+
+    /**
+     * 틱 발행 (링 버퍼가 가득 차면 봉 집계가 따라올 때까지 대기)
+     *
+     * @return 최대 심볼 수에 도달해 새 심볼의 틱을 버렸으면 false
+     */
+    public synchronized boolean publish(MarketType market, String symbol, double price, double volume,
+                                        long epochMillis) {
+        int symbolId = symbolRegistry.idOf(market, symbol);
+        if (symbolId == SymbolRegistry.NOT_FOUND) {
+            dropped.increment();
+            if (!symbolLimitLogged) {
+                symbolLimitLogged = true;
+                log.warn("틱 파이프라인 최대 심볼 수({}) 도달, 이후 새 심볼은 봉 집계 제외 (재기동 전까지): market={}, symbol={}",
+                        symbolRegistry.maxSymbols(), market, symbol);
+            }
+            return false;
+        }
+        long sequence = ringBuffer.next();
+        ringBuffer.get(sequence).set(symbolId, price, volume, epochMillis);
+        ringBuffer.publish(sequence);
+        if (epochMillis > lastTickTime) {
+            lastTickTime = epochMillis;
+            lastTickNanos = System.nanoTime();
+        }
+        return true;
+    }
+
+    /**
+     * 틱이 끊긴 심볼의 봉 마감용 시계 이벤트
+     */
+    @Scheduled(fixedDelayString = "${tick-pipeline.clock-interval-ms:1000}")
+    public synchronized void publishClock() {
+        if (lastTickTime == Long.MIN_VALUE) {
+            return;
+        }
+        long now = lastTickTime + (System.nanoTime() - lastTickNanos) / 1_000_000;
+        long sequence = ringBuffer.next();
+        ringBuffer.get(sequence).set(TickEvent.CLOCK, 0, 0, now);
+        ringBuffer.publish(sequence);
+    }
+
+    /**
+     * 최근 마감 봉 (시작 시각 오름차순, 틱을 받은 적 없는 심볼이면 빈 목록)
+     */
+    public List<MarketDto.Bar> recentBars(MarketType market, String symbol, BarInterval interval, int limit) {
+        if (limit < 1 || limit > recentBarStore.capacity()) {
+            throw new IllegalArgumentException("limit 은 1 이상 " + recentBarStore.capacity() + " 이하여야 합니다.");
+        }
+        int symbolId = symbolRegistry.find(market, symbol);
+        return symbolId == SymbolRegistry.NOT_FOUND ? List.of() : recentBarStore.recent(symbolId, interval, limit);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        ringBuffer.halt(HALT_TIMEOUT_MS);
+        log.info("틱 파이프라인 종료: symbols={}, backlog={}", symbolRegistry.size(), ringBuffer.backlog());
+    }
+}
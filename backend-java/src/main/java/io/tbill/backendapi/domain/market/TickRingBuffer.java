@@ -0,0 +1,225 @@
+package io.tbill.backendapi.domain.market;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 단일 생산자 / 다중 소비자 링 버퍼 (브로드캐스트: 모든 소비자가 모든 이벤트를 순서대로 읽음)
+ * - 슬롯(TickEvent)은 생성 시 모두 할당, 발행/소비 경로에는 할당과 잠금이 없음
+ * - 생산자: next() 로 시퀀스 확보 -> get(seq) 슬롯에 값 기록 -> publish(seq) (cursor 를 release 로 기록)
+ * - 소비자: 전용 스레드가 cursor 까지 한 번에 처리한 뒤 자기 시퀀스를 갱신 (일괄 처리로 메모리 배리어 횟수 감소)
+ * - 가장 느린 소비자보다 한 바퀴 앞서면 생산자가 대기 (역압, 틱을 버리지 않음)
+ * - 시퀀스는 캐시 라인 패딩으로 생산자/소비자 간 거짓 공유 방지
+ * - next()/publish() 는 한 스레드만 호출해야 함 (여러 스레드에서 발행하려면 호출자가 직렬화, TickPipeline)
+ */
+@Slf4j
+public final class TickRingBuffer {
+
+    /**
+     * 소비자 처리기 (소비자 스레드에서만 호출, 이벤트 참조를 보관하지 말 것)
+     */
+    public interface Handler {
+        void onEvent(TickEvent event, long sequence, boolean endOfBatch);
+    }
+
+    private static final int SPIN_TRIES = 100;
+    private static final int YIELD_TRIES = 100;
+    private static final long PARK_NANOS = 50_000L;
+
+    private final TickEvent[] events;
+    private final int mask;
+    private final Sequence cursor = new Sequence(-1);
+    private final Consumer[] consumers;
+    private volatile boolean running;
+
+    // 생산자 스레드 전용
+    private long nextSequence = -1;
+    private long cachedMinimumConsumed = -1;
+
+    public TickRingBuffer(int bufferSize, List<Handler> handlers, String threadNamePrefix) {
+        if (bufferSize <= 0 || Integer.bitCount(bufferSize) != 1) {
+            throw new IllegalArgumentException("링 버퍼 크기는 2의 거듭제곱이어야 합니다: " + bufferSize);
+        }
+        if (handlers.isEmpty()) {
+            throw new IllegalArgumentException("소비자가 하나 이상 필요합니다.");
+        }
+        this.events = new TickEvent[bufferSize];
+        for (int i = 0; i < bufferSize; i++) {
+            events[i] = new TickEvent();
+        }
+        this.mask = bufferSize - 1;
+        this.consumers = new Consumer[handlers.size()];
+        for (int i = 0; i < consumers.length; i++) {
+            consumers[i] = new Consumer(handlers.get(i), threadNamePrefix + "-" + i);
+        }
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        for (Consumer consumer : consumers) {
+            consumer.thread.start();
+        }
+    }
+
+    /**
+     * 소비자 스레드 종료 (이미 발행된 이벤트 중 처리되지 않은 것은 버림)
+     */
+    public synchronized void halt(long timeoutMillis) throws InterruptedException {
+        running = false;
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        for (Consumer consumer : consumers) {
+            LockSupport.unpark(consumer.thread);
+            consumer.thread.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+        }
+    }
+
+    /**
+     * 다음 시퀀스 확보 (버퍼가 가득 차면 가장 느린 소비자가 따라올 때까지 대기)
+     *
+     * @throws IllegalStateException 링 버퍼가 종료된 경우
+     */
+    public long next() {
+        long sequence = ++nextSequence;
+        long wrapPoint = sequence - events.length;
+        if (wrapPoint > cachedMinimumConsumed) {
+            long minimum;
+            while (wrapPoint > (minimum = minimumConsumed())) {
+                if (!running) {
+                    nextSequence--;
+                    throw new IllegalStateException("틱 링 버퍼가 종료되었습니다.");
+                }
+                LockSupport.parkNanos(1L);
+            }
+            cachedMinimumConsumed = minimum;
+        }
+        return sequence;
+    }
+
+    public TickEvent get(long sequence) {
+        return events[(int) sequence & mask];
+    }
+
+    public void publish(long sequence) {
+        cursor.set(sequence);
+    }
+
+    public int bufferSize() {
+        return events.length;
+    }
+
+    /**
+     * 발행됐지만 가장 느린 소비자가 아직 처리하지 않은 이벤트 수
+     */
+    public long backlog() {
+        return cursor.get() - minimumConsumed();
+    }
+
+    private long minimumConsumed() {
+        long minimum = Long.MAX_VALUE;
+        for (Consumer consumer : consumers) {
+            minimum = Math.min(minimum, consumer.sequence.get());
+        }
+        return minimum;
+    }
+
+    private final class Consumer implements Runnable {
+
+        private final Handler handler;
+        private final Sequence sequence = new Sequence(-1);
+        private final Thread thread;
+
+        private Consumer(Handler handler, String threadName) {
+            this.handler = handler;
+            this.thread = new Thread(this, threadName);
+            this.thread.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            long next = sequence.get() + 1;
+            int idle = 0;
+            while (running) {
+                long available = cursor.get();
+                if (available < next) {
+                    idle = idle(idle);
+                    continue;
+                }
+                idle = 0;
+                for (long s = next; s <= available; s++) {
+                    try {
+                        handler.onEvent(events[(int) s & mask], s, s == available);
+                    } catch (RuntimeException e) {
+                        // 한 이벤트 실패로 소비자가 멈추면 생산자까지 막히므로 건너뜀
+                        log.error("틱 처리 실패: thread={}, sequence={}, error={}",
+                                thread.getName(), s, e.getMessage());
+                    }
+                }
+                sequence.set(available);
+                next = available + 1;
+            }
+        }
+
+        /**
+         * 대기 전략: 잠깐 스핀 -> 양보 -> 짧게 park (유휴 시 CPU 점유 방지, 깨어나는 지연은 PARK_NANOS 수준)
+         */
+        private int idle(int count) {
+            if (count < SPIN_TRIES) {
+                Thread.onSpinWait();
+            } else if (count < SPIN_TRIES + YIELD_TRIES) {
+                Thread.yield();
+            } else {
+                LockSupport.parkNanos(PARK_NANOS);
+                return count;
+            }
+            return count + 1;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static class LeftPadding {
+        protected long p1, p2, p3, p4, p5, p6, p7;
+    }
+
+    private static class SequenceValue extends LeftPadding {
+        protected volatile long value;
+    }
+
+    /**
+     * 앞뒤로 56바이트씩 패딩한 시퀀스 (acquire/release 접근)
+     */
+    @SuppressWarnings("unused")
+    private static final class Sequence extends SequenceValue {
+
+        private static final VarHandle VALUE;
+
+        static {
+            try {
+                VALUE = MethodHandles.lookup().findVarHandle(SequenceValue.class, "value", long.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        protected long p9, p10, p11, p12, p13, p14, p15;
+
+        private Sequence(long initial) {
+            VALUE.setRelease(this, initial);
+        }
+
+        private long get() {
+            return (long) VALUE.getAcquire(this);
+        }
+
+        private void set(long value) {
+            VALUE.setRelease(this, value);
+        }
+    }
+}
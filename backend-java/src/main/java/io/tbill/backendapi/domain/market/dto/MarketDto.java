@@ -0,0 +1,30 @@
+package io.tbill.backendapi.domain.market.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+public class MarketDto {
+
+    /**
+     * 마감된 OHLCV 봉
+     */
+    @Getter
+    public static class Bar {
+        private final LocalDateTime openTime;
+        private final double open;
+        private final double high;
+        private final double low;
+        private final double close;
+        private final double volume;
+
+        public Bar(LocalDateTime openTime, double open, double high, double low, double close, double volume) {
+            this.openTime = openTime;
+            this.open = open;
+            this.high = high;
+            this.low = low;
+            this.close = close;
+            this.volume = volume;
+        }
+    }
+}
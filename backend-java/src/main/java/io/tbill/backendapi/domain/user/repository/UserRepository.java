@@ -1,13 +1,23 @@
 package io.tbill.backendapi.domain.user.repository;
 
+import io.tbill.backendapi.domain.common.entity.CacheRegions;
 import io.tbill.backendapi.domain.user.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
+
+    // (2차 캐시) 인증/권한 확인마다 호출되는 조회
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.USER_QUERY)
+    })
     Optional<User> findByEmail(String email);
 
     // 닉네임 중복 확인
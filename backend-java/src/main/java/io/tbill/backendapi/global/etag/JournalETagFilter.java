@@ -0,0 +1,184 @@
+package io.tbill.backendapi.global.etag;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.tbill.backendapi.global.utils.auth.AuthUtils;
+import io.tbill.backendapi.infrastructure.redis.service.JournalVersionService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 매매일지 조회 API 의 조건부 GET (목록, 상세, 진행 중/종료 목록, 통계, 달력)
+ * - ETag = hash(사용자, 매매일지 버전 카운터, 경로 + 쿼리 문자열) -> 응답 본문을 만들지 않고 계산 (Redis GET 1회)
+ * - If-None-Match 가 일치하면 컨트롤러/DB 를 거치지 않고 304
+ * - 버전은 DB 조회보다 먼저 읽음: 응답은 항상 ETag 의 버전 이후 상태 (최악의 경우 다음 요청에서 한 번 더 200)
+ * - 버전 조회 실패(Redis 장애) 시 ETag 없이 그대로 처리
+ * - 2xx 응답에만 ETag + "Cache-Control: private, no-cache" (브라우저가 매번 재검증)
+ * - 응답 형식(DTO)이 바뀌면 FORMAT_VERSION 을 올려 이전 배포의 ETag 와 섞이지 않게 함
+ */
+@Component
+public class JournalETagFilter extends OncePerRequestFilter {
+
+    static final String FORMAT_VERSION = "1";
+
+    private static final String CACHE_CONTROL = "private, no-cache";
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private static final List<String> TARGETS = List.of(
+            "/api/journals",
+            "/api/journals/{journalId:\\d+}",
+            "/api/journals/open",
+            "/api/journals/closed",
+            "/api/journals/statistics",
+            "/api/journals/calendar");
+
+    private final JournalVersionService journalVersionService;
+    private final boolean enabled;
+
+    private final Counter notModified;
+    private final Counter modified;
+
+    public JournalETagFilter(JournalVersionService journalVersionService,
+                             MeterRegistry meterRegistry,
+                             @Value("${journal.etag.enabled:true}") boolean enabled) {
+        this.journalVersionService = journalVersionService;
+        this.enabled = enabled;
+
+        this.notModified = Counter.builder("journal.etag.requests").tag("result", "not_modified")
+                .description("조건부 GET (304, DB 조회 없음)").register(meterRegistry);
+        this.modified = Counter.builder("journal.etag.requests").tag("result", "modified")
+                .description("조건부 GET (200, ETag 불일치 또는 If-None-Match 없음)").register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!enabled || !("GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod()))) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return TARGETS.stream().noneMatch(pattern -> PATH_MATCHER.match(pattern, path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String authorEmail = AuthUtils.getCurrentUserEmail();
+        Optional<Long> version = journalVersionService.getVersion(authorEmail);
+        if (version.isEmpty()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String etag = etag(authorEmail, version.get(), request);
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            notModified.increment();
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            response.setHeader(HttpHeaders.ETAG, etag);
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+            return;
+        }
+
+        modified.increment();
+        filterChain.doFilter(request, new ETagResponse(response, etag));
+    }
+
+    /**
+     * 강한 ETag (같은 사용자/버전/요청이면 인스턴스와 무관하게 같은 값)
+     */
+    static String etag(String authorEmail, long version, HttpServletRequest request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            String source = FORMAT_VERSION + "\n" + authorEmail + "\n" + version + "\n"
+                    + request.getRequestURI() + "?" + request.getQueryString();
+            byte[] hash = digest.digest(source.getBytes(StandardCharsets.UTF_8));
+            return "\"" + HexFormat.of().formatHex(hash, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * If-None-Match 비교 (여러 값, "*", 약한 비교 허용 - RFC 9110 13.1.2)
+     */
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*")) {
+                return true;
+            }
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 본문을 쓰기 직전(상태 코드 확정 후)에 2xx 응답이면 ETag 헤더 추가
+     */
+    private static class ETagResponse extends HttpServletResponseWrapper {
+
+        private final String etag;
+        private boolean applied;
+
+        ETagResponse(HttpServletResponse response, String etag) {
+            super(response);
+            this.etag = etag;
+        }
+
+        private void apply() {
+            if (applied) {
+                return;
+            }
+            applied = true;
+            int status = getStatus();
+            if (status >= 200 && status < 300 && !isCommitted()) {
+                setHeader(HttpHeaders.ETAG, etag);
+                setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            apply();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            apply();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            apply();
+            super.flushBuffer();
+        }
+    }
+}
@@ -0,0 +1,358 @@
+package io.tbill.backendapi.global.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.tbill.backendapi.global.exception.GlobalExceptionHandler;
+import io.tbill.backendapi.global.utils.auth.AuthUtils;
+import io.tbill.backendapi.infrastructure.redis.service.IdempotencyStore;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Pattern;
+
+/**
+ * 쓰기 API 의 Idempotency-Key 처리 (매매일지 생성/수정/일괄 종료·삭제, 게시글/댓글 생성)
+ * - 헤더가 없거나 대상 API 가 아니면 그대로 통과 (추가 비용 없음)
+ * - 신규 키: Redis SET NX 1회로 선점 후 처리, 응답(5xx 제외)을 ttl 동안 저장
+ * - 같은 인스턴스의 동시 중복 요청: Redis 조회 없이 선행 요청의 결과를 기다려 그대로 응답
+ * - 다른 인스턴스가 처리 중인 키: 완료될 때까지 Redis 를 재조회하며 대기 (wait-timeout 초과 시 409)
+ * - 같은 키로 다른 요청(메서드/URI/본문)을 보내면 422, 저장된 응답으로 재응답 시 Idempotent-Replayed 헤더 추가
+ * - 키는 사용자 단위로 분리 (다른 사용자의 응답을 재사용하지 않음)
+ * - 지문 계산을 위해 본문을 메모리에 읽으므로 max-body-size 초과 요청은 413 (Content-Length 확인 + 제한 길이까지만 읽음)
+ * - 처리 중 선점은 lock-refresh-interval-ms 마다 lock-ttl 로 연장 (처리가 lock-ttl 보다 길어도 다른 인스턴스가 중복 처리하지 않음)
+ * - Spring Security 필터 이후에 실행되어 인증 정보를 사용
+ */
+@Slf4j
+@Component
+public class IdempotencyKeyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final Pattern KEY_PATTERN = Pattern.compile("[\\x21-\\x7E]{1,128}");
+    private static final long MAX_POLL_INTERVAL_MS = 200;
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private static final List<Target> TARGETS = List.of(
+            new Target("POST", "/api/journals"),
+            new Target("PUT", "/api/journals/*"),
+            new Target("POST", "/api/journals/bulk-close"),
+            new Target("POST", "/api/journals/bulk-delete"),
+            new Target("POST", "/api/contents"),
+            new Target("POST", "/api/contents/*/comments"));
+
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final Duration lockTtl;
+    private final Duration waitTimeout;
+    private final int maxBodyBytes;
+
+    private final ConcurrentHashMap<String, CompletableFuture<IdempotencyStore.Entry>> inFlight =
+            new ConcurrentHashMap<>();
+
+    // 이 인스턴스가 선점하여 처리 중인 키 -> 요청 지문 (선점 연장 대상)
+    private final ConcurrentHashMap<String, String> reserved = new ConcurrentHashMap<>();
+
+    public IdempotencyKeyFilter(IdempotencyStore idempotencyStore,
+                                ObjectMapper objectMapper,
+                                @Value("${idempotency.ttl:24h}") Duration ttl,
+                                @Value("${idempotency.lock-ttl:30s}") Duration lockTtl,
+                                @Value("${idempotency.wait-timeout:10s}") Duration waitTimeout,
+                                @Value("${idempotency.lock-refresh-interval-ms:10000}") long lockRefreshIntervalMs,
+                                @Value("${idempotency.max-body-size:1MB}") DataSize maxBodySize) {
+        if (lockRefreshIntervalMs >= lockTtl.toMillis()) {
+            throw new IllegalArgumentException("idempotency.lock-refresh-interval-ms는 idempotency.lock-ttl보다 짧아야 합니다.");
+        }
+        this.idempotencyStore = idempotencyStore;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+        this.lockTtl = lockTtl;
+        this.waitTimeout = waitTimeout;
+        this.maxBodyBytes = Math.toIntExact(maxBodySize.toBytes());
+    }
+
+    private record Target(String method, String pattern) {
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (request.getHeader(IDEMPOTENCY_KEY_HEADER) == null) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return TARGETS.stream().noneMatch(target ->
+                target.method().equals(request.getMethod()) && PATH_MATCHER.match(target.pattern(), path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String key = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        if (!KEY_PATTERN.matcher(key).matches()) {
+            writeError(response, HttpStatus.BAD_REQUEST, "BAD_REQUEST",
+                    "Idempotency-Key는 1~128자의 공백 없는 ASCII 문자열이어야 합니다.");
+            return;
+        }
+
+        if (request.getContentLengthLong() > maxBodyBytes) {
+            writePayloadTooLarge(response);
+            return;
+        }
+        // Content-Length 가 없는(chunked) 요청도 제한 길이 + 1 바이트까지만 읽음
+        byte[] body = request.getInputStream().readNBytes(maxBodyBytes + 1);
+        if (body.length > maxBodyBytes) {
+            writePayloadTooLarge(response);
+            return;
+        }
+
+        String scopedKey = AuthUtils.getCurrentUserEmail() + ":" + key;
+        String fingerprint = fingerprint(request, body);
+
+        CompletableFuture<IdempotencyStore.Entry> leader = new CompletableFuture<>();
+        CompletableFuture<IdempotencyStore.Entry> running = inFlight.putIfAbsent(scopedKey, leader);
+        if (running != null) {
+            replay(response, fingerprint, awaitLocal(running));
+            return;
+        }
+
+        try {
+            leader.complete(process(new CachedBodyRequest(request, body), response, filterChain,
+                    scopedKey, fingerprint));
+        } catch (IOException | ServletException | RuntimeException e) {
+            leader.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(scopedKey, leader);
+        }
+    }
+
+    /**
+     * 선점에 성공하면 요청을 처리하고, 이미 저장된 키면 저장된 응답으로 응답
+     *
+     * @return 응답 (같은 인스턴스의 동시 중복 요청에 전달, 응답할 수 없으면 null)
+     */
+    private IdempotencyStore.Entry process(HttpServletRequest request, HttpServletResponse response,
+                                           FilterChain filterChain, String scopedKey,
+                                           String fingerprint) throws ServletException, IOException {
+        IdempotencyStore.Reservation reservation = idempotencyStore.reserve(scopedKey, fingerprint, lockTtl);
+        if (reservation.isUnavailable()) {
+            return execute(request, response, filterChain, fingerprint);
+        }
+
+        if (!reservation.acquired()) {
+            IdempotencyStore.Entry existing = reservation.existing();
+            if (!existing.isCompleted() && existing.fingerprint().equals(fingerprint)) {
+                existing = awaitRemote(scopedKey);
+            }
+            replay(response, fingerprint, existing);
+            return existing;
+        }
+
+        IdempotencyStore.Entry result;
+        reserved.put(scopedKey, fingerprint);
+        try {
+            result = execute(request, response, filterChain, fingerprint);
+        } catch (IOException | ServletException | RuntimeException e) {
+            reserved.remove(scopedKey);
+            idempotencyStore.release(scopedKey);
+            throw e;
+        }
+        reserved.remove(scopedKey);
+        if (result.status() < HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+            idempotencyStore.complete(scopedKey, result, ttl);
+        } else {
+            idempotencyStore.release(scopedKey);
+        }
+        return result;
+    }
+
+    /**
+     * 처리 중인 선점의 만료 시간 연장 (연장 실패는 다음 주기에 다시 시도, 그 사이 만료되면 다른 인스턴스가 처리할 수 있음)
+     */
+    @Scheduled(fixedDelayString = "${idempotency.lock-refresh-interval-ms:10000}")
+    public void refreshReservations() {
+        reserved.forEach((scopedKey, fingerprint) -> idempotencyStore.extend(scopedKey, fingerprint, lockTtl));
+    }
+
+    private IdempotencyStore.Entry execute(HttpServletRequest request, HttpServletResponse response,
+                                           FilterChain filterChain,
+                                           String fingerprint) throws ServletException, IOException {
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, responseWrapper);
+        IdempotencyStore.Entry entry = new IdempotencyStore.Entry(fingerprint, responseWrapper.getStatus(),
+                responseWrapper.getContentType(),
+                new String(responseWrapper.getContentAsByteArray(), StandardCharsets.UTF_8));
+        responseWrapper.copyBodyToResponse();
+        return entry;
+    }
+
+    private IdempotencyStore.Entry awaitLocal(CompletableFuture<IdempotencyStore.Entry> running) {
+        try {
+            return running.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException | TimeoutException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 다른 인스턴스가 처리 중인 키의 완료 대기 (조회 간격 10ms 부터 최대 200ms 까지 2배씩)
+     *
+     * @return 저장된 응답, 대기 시간 초과 또는 선행 요청 실패(선점 해제) 시 null
+     */
+    private IdempotencyStore.Entry awaitRemote(String scopedKey) {
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+        long interval = 10;
+        while (System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(interval);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            Optional<IdempotencyStore.Entry> entry = idempotencyStore.find(scopedKey);
+            if (entry.isEmpty()) {
+                return null;
+            }
+            if (entry.get().isCompleted()) {
+                return entry.get();
+            }
+            interval = Math.min(interval * 2, MAX_POLL_INTERVAL_MS);
+        }
+        return null;
+    }
+
+    private void replay(HttpServletResponse response, String fingerprint,
+                        IdempotencyStore.Entry entry) throws IOException {
+        if (entry == null || !entry.isCompleted()) {
+            writeError(response, HttpStatus.CONFLICT, "IDEMPOTENCY_IN_PROGRESS",
+                    "같은 Idempotency-Key 요청이 처리 중이거나 실패했습니다. 잠시 후 다시 시도해주세요.");
+            return;
+        }
+        if (!entry.fingerprint().equals(fingerprint)) {
+            writeError(response, HttpStatus.UNPROCESSABLE_ENTITY, "IDEMPOTENCY_KEY_REUSED",
+                    "같은 Idempotency-Key로 다른 요청을 보낼 수 없습니다.");
+            return;
+        }
+
+        response.setStatus(entry.status());
+        if (entry.contentType() != null) {
+            response.setContentType(entry.contentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (entry.body() != null) {
+            response.getOutputStream().write(entry.body().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private void writePayloadTooLarge(HttpServletResponse response) throws IOException {
+        writeError(response, HttpStatus.PAYLOAD_TOO_LARGE, "PAYLOAD_TOO_LARGE",
+                "Idempotency-Key 요청 본문은 " + maxBodyBytes + "바이트를 넘을 수 없습니다.");
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status,
+                            String code, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), new GlobalExceptionHandler.ErrorResponse(code, message));
+    }
+
+    private static String fingerprint(HttpServletRequest request, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((request.getMethod() + " " + request.getRequestURI() + "?" + request.getQueryString() + "\n")
+                    .getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 지문 계산을 위해 미리 읽은 본문을 다시 읽을 수 있도록 제공
+     */
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            Charset charset = getCharacterEncoding() != null
+                    ? Charset.forName(getCharacterEncoding())
+                    : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package io.tbill.backendapi.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.tbill.backendapi.domain.common.entity.CacheRegions;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.EntityType;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 2차 캐시 인스턴스 간 무효화 (Redis Pub/Sub)
+ * - 같은 인스턴스의 변경은 Hibernate 가 직접 캐시를 갱신, 다른 인스턴스에는 커밋 후 변경된 엔티티 식별자를 발행
+ * - 트랜잭션 단위로 모아 1회 발행 (엔티티당 MAX_IDS_PER_ENTITY 초과 시 해당 엔티티 리전 전체 무효화로 축약)
+ * - 수신 측: 엔티티 항목 + 연관 쿼리 리전(CacheRegions) + 해당 엔티티를 원소로 갖는 컬렉션 캐시 제거
+ * - Pub/Sub 은 최대 1회 전달 -> 메시지 유실/Redis 장애 시에는 리전 TTL 이 최대 지연 시간
+ */
+@Slf4j
+public class SecondLevelCacheInvalidator implements MessageListener {
+
+    static final int MAX_IDS_PER_ENTITY = 1_000;
+
+    private final Object pendingKey = new Object();
+    private final String origin = UUID.randomUUID().toString();
+
+    private final SessionFactoryImplementor sessionFactory;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final String channel;
+
+    // 원소 엔티티 이름 -> 캐시되는 컬렉션 role (예: Comment -> Content.comments)
+    private final Map<String, List<String>> collectionRolesByElement = new HashMap<>();
+
+    public SecondLevelCacheInvalidator(EntityManagerFactory entityManagerFactory,
+                                       StringRedisTemplate stringRedisTemplate,
+                                       ObjectMapper objectMapper,
+                                       String channel) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.channel = channel;
+
+        sessionFactory.getMappingMetamodel().forEachCollectionDescriptor(collection -> {
+            if (collection.hasCache() && collection.getElementType() instanceof EntityType elementType) {
+                collectionRolesByElement
+                        .computeIfAbsent(elementType.getAssociatedEntityName(), name -> new ArrayList<>())
+                        .add(collection.getRole());
+            }
+        });
+
+        ChangeListener listener = new ChangeListener();
+        EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, listener);
+        registry.appendListeners(EventType.POST_UPDATE, listener);
+        registry.appendListeners(EventType.POST_DELETE, listener);
+    }
+
+    /**
+     * 무효화 메시지
+     *
+     * @param ids      엔티티 이름 -> 변경된 식별자
+     * @param entities 리전 전체를 비울 엔티티 이름
+     */
+    public record Invalidation(String origin, Map<String, Set<Long>> ids, Set<String> entities) {
+    }
+
+    /**
+     * 영속성 컨텍스트를 거치지 않은 변경(JDBC, 벌크 쿼리)을 반영할 때 호출
+     * - 이 인스턴스의 캐시는 즉시 + 커밋 후 한 번 더 제거 (커밋 전 다른 요청이 이전 값을 다시 캐시한 경우 대비)
+     * - 다른 인스턴스에는 커밋 후(트랜잭션 밖이면 즉시) 발행
+     */
+    public void evict(Class<?> entityClass, Collection<Long> ids) {
+        String entityName = entityClass.getName();
+        Invalidation local = new Invalidation(origin, Map.of(entityName, Set.copyOf(ids)), Set.of());
+        apply(local);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(local);
+                }
+            });
+        }
+        onChange(entityName, ids);
+    }
+
+    private void onChange(String entityName, Collection<?> ids) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            Pending pending = new Pending();
+            ids.forEach(id -> pending.add(entityName, id));
+            publish(pending.toInvalidation(origin));
+            return;
+        }
+
+        Pending pending = (Pending) TransactionSynchronizationManager.getResource(pendingKey);
+        if (pending == null) {
+            pending = new Pending();
+            Pending registered = pending;
+            TransactionSynchronizationManager.bindResource(pendingKey, registered);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(registered.toInvalidation(origin));
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(pendingKey);
+                }
+            });
+        }
+        for (Object id : ids) {
+            pending.add(entityName, id);
+        }
+    }
+
+    void publish(Invalidation invalidation) {
+        try {
+            stringRedisTemplate.convertAndSend(channel, objectMapper.writeValueAsString(invalidation));
+        } catch (Exception e) {
+            // 다른 인스턴스는 리전 TTL 이 지나야 반영됨
+            log.warn("2차 캐시 무효화 발행 실패: entities={}, error={}",
+                    invalidation.ids().keySet(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            Invalidation invalidation = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), Invalidation.class);
+            if (!origin.equals(invalidation.origin())) {
+                apply(invalidation);
+            }
+        } catch (Exception e) {
+            log.error("2차 캐시 무효화 메시지 처리 실패: error={}", e.getMessage());
+        }
+    }
+
+    void apply(Invalidation invalidation) {
+        Cache cache = sessionFactory.getCache();
+        Set<String> queryRegions = new HashSet<>();
+        Set<String> collectionRoles = new HashSet<>();
+
+        invalidation.ids().forEach((entityName, ids) -> {
+            ids.forEach(id -> cache.evictEntityData(entityName, id));
+            collectDependents(entityName, queryRegions, collectionRoles);
+        });
+        invalidation.entities().forEach(entityName -> {
+            cache.evictEntityData(entityName);
+            collectDependents(entityName, queryRegions, collectionRoles);
+        });
+
+        queryRegions.forEach(cache::evictQueryRegion);
+        collectionRoles.forEach(cache::evictCollectionData);
+    }
+
+    private void collectDependents(String entityName, Set<String> queryRegions, Set<String> collectionRoles) {
+        EntityPersister persister = sessionFactory.getMappingMetamodel().findEntityDescriptor(entityName);
+        if (persister != null && persister.canWriteToCache()) {
+            String region = persister.getCacheAccessStrategy().getRegion().getName();
+            queryRegions.addAll(CacheRegions.QUERY_REGIONS_BY_ENTITY_REGION.getOrDefault(region, Set.of()));
+        }
+        collectionRoles.addAll(collectionRolesByElement.getOrDefault(entityName, List.of()));
+    }
+
+    /**
+     * 트랜잭션 동안 변경된 캐시 대상 엔티티
+     */
+    private static class Pending {
+        private final Map<String, Set<Long>> ids = new HashMap<>();
+        private final Set<String> entities = new HashSet<>();
+
+        void add(String entityName, Object id) {
+            if (entities.contains(entityName)) {
+                return;
+            }
+            Set<Long> entityIds = ids.computeIfAbsent(entityName, name -> new HashSet<>());
+            if (!(id instanceof Long longId) || entityIds.size() >= MAX_IDS_PER_ENTITY) {
+                ids.remove(entityName);
+                entities.add(entityName);
+                return;
+            }
+            entityIds.add(longId);
+        }
+
+        Invalidation toInvalidation(String origin) {
+            return new Invalidation(origin, ids, entities);
+        }
+    }
+
+    /**
+     * 캐시 대상 엔티티의 INSERT/UPDATE/DELETE 를 현재 트랜잭션의 Pending 에 기록
+     * (INSERT 도 포함: 다른 인스턴스의 쿼리 캐시에 남은 "결과 없음"을 비우기 위해)
+     */
+    private class ChangeListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+        @Override
+        public void onPostInsert(PostInsertEvent event) {
+            record(event.getPersister(), event.getId());
+        }
+
+        @Override
+        public void onPostUpdate(PostUpdateEvent event) {
+            record(event.getPersister(), event.getId());
+        }
+
+        @Override
+        public void onPostDelete(PostDeleteEvent event) {
+            record(event.getPersister(), event.getId());
+        }
+
+        private void record(EntityPersister persister, Object id) {
+            if (persister.canWriteToCache()) {
+                onChange(persister.getEntityName(), List.of(id));
+            }
+        }
+
+        @Override
+        public boolean requiresPostCommitHandling(EntityPersister persister) {
+            return false;
+        }
+    }
+}
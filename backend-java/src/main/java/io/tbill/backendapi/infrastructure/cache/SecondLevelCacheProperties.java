@@ -0,0 +1,50 @@
+package io.tbill.backendapi.infrastructure.cache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate 2차 캐시 설정 (cache.second-level.*)
+ * - 리전마다 인스턴스 로컬 Caffeine 캐시 (최대 항목 수 초과 시 제거 + 쓰기 후 TTL 만료)
+ * - 리전 이름은 CacheRegions 와 동일해야 하며, 설정되지 않은 리전이 있으면 기동 실패
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "cache.second-level")
+public class SecondLevelCacheProperties {
+
+    private boolean enabled;
+
+    // 다른 인스턴스에 변경(무효화)을 알리는 Redis Pub/Sub 채널
+    private String invalidationChannel = "cache:second-level:invalidate";
+
+    private Map<String, Region> regions = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Region {
+
+        private long maxSize = 10_000;
+
+        // 다른 인스턴스의 무효화 메시지가 유실되어도 이 시간이 지나면 DB 에서 다시 읽음
+        private Duration ttl = Duration.ofMinutes(10);
+
+        public CaffeineConfiguration<Object, Object> toConfiguration() {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            // Hibernate 캐시 항목은 불변 -> 직렬화 복사 없이 참조 저장
+            configuration.setStoreByValue(false);
+            // cache.gets / cache.evictions 메트릭 (SecondLevelCacheConfig)
+            configuration.setStatisticsEnabled(true);
+            configuration.setMaximumSize(OptionalLong.of(maxSize));
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+            return configuration;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package io.tbill.backendapi.infrastructure.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.tbill.backendapi.infrastructure.datasource.DataSourceRoutingProperties;
+import io.tbill.backendapi.infrastructure.datasource.ReadYourWritesTracker;
+import io.tbill.backendapi.infrastructure.datasource.ReplicaBalancer;
+import io.tbill.backendapi.infrastructure.datasource.ReplicaRoutingDataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 읽기 복제본 라우팅 DataSource (datasource.routing.enabled=true 일 때만, 기본은 단일 DataSource 자동 구성)
+ * - 주 DB: spring.datasource.* + spring.datasource.hikari.*
+ * - 복제본: datasource.routing.replicas[*] (각각 별도 Hikari 풀, 읽기 전용 커넥션)
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaBalancer replicaBalancer(DataSourceRoutingProperties properties, MeterRegistry meterRegistry) {
+        if (properties.getReplicas().isEmpty()) {
+            throw new IllegalArgumentException("datasource.routing.replicas를 1개 이상 설정해야 합니다.");
+        }
+        Map<String, HikariDataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < properties.getReplicas().size(); i++) {
+            DataSourceRoutingProperties.Replica replica = properties.getReplicas().get(i);
+            String name = replica.getName() != null ? replica.getName() : "replica-" + i;
+
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName(name);
+            dataSource.setJdbcUrl(replica.getUrl());
+            dataSource.setUsername(replica.getUsername());
+            dataSource.setPassword(replica.getPassword());
+            dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+            dataSource.setReadOnly(true);
+            // 복제본 장애 시에도 기동은 가능하도록 (상태 점검에서 제외 후 주 DB 사용)
+            dataSource.setInitializationFailTimeout(-1);
+            replicas.put(name, dataSource);
+        }
+        return new ReplicaBalancer(replicas, properties.getBalancing(), properties.getMaxLag(),
+                properties.getLagQuery(), meterRegistry);
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(StringRedisTemplate stringRedisTemplate,
+                                                       DataSourceRoutingProperties properties) {
+        properties.validate();
+        return new ReadYourWritesTracker(stringRedisTemplate, properties.getStickyWindow());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource,
+                                 ReplicaBalancer replicaBalancer,
+                                 ReadYourWritesTracker readYourWritesTracker) {
+        ReplicaRoutingDataSource routingDataSource =
+                new ReplicaRoutingDataSource(primaryDataSource, replicaBalancer, readYourWritesTracker);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    /**
+     * 트랜잭션이 끝나면 커넥션 반환 (Open Session In View 로 요청 동안 세션이 유지되어도
+     * 다음 트랜잭션이 readOnly 여부에 맞는 DB 의 커넥션을 다시 가져오도록)
+     */
+    @Bean
+    public HibernatePropertiesCustomizer connectionReleaseCustomizer() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+}
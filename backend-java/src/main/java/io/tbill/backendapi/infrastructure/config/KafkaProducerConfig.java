@@ -52,4 +52,27 @@ public class KafkaProducerConfig {
     public KafkaTemplate<String, AnalysisRequest> kafkaTemplate() {
         return new KafkaTemplate<>(analysisRequestProducerFactory());
     }
-}
\ No newline at end of file
+
+    /**
+     * 매매일지 이벤트(journal-events) 전송용 ProducerFactory
+     * Key: String(authorEmail), Value: JSON 문자열 (Outbox 릴레이가 직렬화)
+     * - 멱등 프로듀서 + acks=all: 재시도 시에도 파티션(작성자) 내 순서 유지, 중복 기록 방지
+     */
+    @Bean
+    public ProducerFactory<String, String> journalEventProducerFactory() {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        configProps.put(ProducerConfig.ACKS_CONFIG, "all");
+        configProps.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
+
+        return new DefaultKafkaProducerFactory<>(configProps);
+    }
+
+    @Bean
+    public KafkaTemplate<String, String> journalEventKafkaTemplate() {
+        return new KafkaTemplate<>(journalEventProducerFactory());
+    }
+}
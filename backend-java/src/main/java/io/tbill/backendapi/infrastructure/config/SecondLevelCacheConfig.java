@@ -0,0 +1,103 @@
+package io.tbill.backendapi.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import io.tbill.backendapi.infrastructure.cache.SecondLevelCacheInvalidator;
+import io.tbill.backendapi.infrastructure.cache.SecondLevelCacheProperties;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.util.UUID;
+
+/**
+ * Hibernate 2차 캐시 (cache.second-level.enabled=true 일 때만)
+ * - 엔티티(Journal, User, Content, Comment) + 일부 쿼리 결과를 인스턴스 로컬 Caffeine(JCache)에 저장
+ * - 다른 인스턴스의 변경은 Redis Pub/Sub 으로 전달받아 제거 (SecondLevelCacheInvalidator)
+ * - 메트릭: cache.gets{cache, result=hit|miss}, cache.puts, cache.evictions, cache.removals (리전별)
+ * - hibernate.cache.use_second_level_cache / use_query_cache 는 application.yaml 에서 같은 플래그로 설정
+ */
+@Configuration
+@ConditionalOnProperty(name = "cache.second-level.enabled", havingValue = "true")
+@EnableConfigurationProperties(SecondLevelCacheProperties.class)
+public class SecondLevelCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager(SecondLevelCacheProperties properties) {
+        return createCacheManager(properties);
+    }
+
+    /**
+     * 설정된 리전마다 캐시 생성 (벤치마크에서도 사용)
+     * - 쿼리 캐시 유효성 판단용 update-timestamps 리전은 제거/만료 없이 생성 (잘리면 오래된 쿼리 결과가 반환될 수 있음)
+     */
+    public static CacheManager createCacheManager(SecondLevelCacheProperties properties) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        // 같은 URI 는 CachingProvider 가 관리자를 공유하므로 컨텍스트마다 별도 URI
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("second-level-" + UUID.randomUUID()), provider.getDefaultClassLoader());
+
+        properties.getRegions().forEach((name, region) -> cacheManager.createCache(name, region.toConfiguration()));
+
+        CaffeineConfiguration<Object, Object> timestamps = new CaffeineConfiguration<>();
+        timestamps.setStoreByValue(false);
+        timestamps.setStatisticsEnabled(true);
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, timestamps);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+            // 리전 설정 누락 시 무제한 캐시가 생성되지 않도록 기동 실패
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            // Comment 추가/삭제 시 Content.comments 컬렉션 캐시도 제거 (연관관계 주인이 Comment 쪽)
+            hibernateProperties.put(AvailableSettings.AUTO_EVICT_COLLECTION_CACHE, true);
+        };
+    }
+
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(CacheManager secondLevelCacheManager) {
+        return registry -> secondLevelCacheManager.getCacheNames()
+                .forEach(name -> JCacheMetrics.monitor(registry, secondLevelCacheManager.getCache(name)));
+    }
+
+    @Bean
+    public SecondLevelCacheInvalidator secondLevelCacheInvalidator(EntityManagerFactory entityManagerFactory,
+                                                                   StringRedisTemplate stringRedisTemplate,
+                                                                   ObjectMapper objectMapper,
+                                                                   SecondLevelCacheProperties properties) {
+        return new SecondLevelCacheInvalidator(entityManagerFactory, stringRedisTemplate, objectMapper,
+                properties.getInvalidationChannel());
+    }
+
+    @Bean
+    public RedisMessageListenerContainer secondLevelCacheInvalidationListener(
+            RedisConnectionFactory redisConnectionFactory,
+            SecondLevelCacheInvalidator secondLevelCacheInvalidator,
+            SecondLevelCacheProperties properties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(secondLevelCacheInvalidator, new ChannelTopic(properties.getInvalidationChannel()));
+        return container;
+    }
+}
@@ -1,13 +1,16 @@
 package io.tbill.backendapi.infrastructure.config;
 
+import io.tbill.backendapi.global.idempotency.IdempotencyKeyFilter;
 import io.tbill.backendapi.infrastructure.security.handler.JwtAccessDeniedHandler;
 import io.tbill.backendapi.infrastructure.security.handler.JwtAuthenticationEntryPoint;
 import io.tbill.backendapi.infrastructure.security.jwt.JwtAuthenticationFilter;
 import io.tbill.backendapi.infrastructure.security.jwt.JwtProvider;
 import io.tbill.backendapi.infrastructure.security.jwt.CookieUtil;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -50,10 +53,16 @@ public class SecurityConfig {
             // Python Service
             "/api/v1/analysis/**",
 
+            // 가격 피드 (공유 토큰으로 인증, PriceFeedController)
+            "/internal/prices/**",
+
             // Actuator
             "/actuator/**",
     };
 
+    // 스트리밍 응답으로 ASYNC 재디스패치가 발생하는 경로 (JournalController.exportJournals)
+    private static final String EXPORT_PATH = "/api/journals/export";
+
     @Bean
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
@@ -77,6 +86,10 @@ public class SecurityConfig {
                 // 4. API 경로별 권한 설정
                 .authorizeHttpRequests(authz -> authz
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
+                        // 내보내기(StreamingResponseBody) 완료 후 ASYNC 재디스패치만 허용 - 최초 요청에서 이미 인증됨
+                        .requestMatchers(request -> request.getDispatcherType() == DispatcherType.ASYNC
+                                && HttpMethod.GET.matches(request.getMethod())
+                                && EXPORT_PATH.equals(request.getServletPath())).permitAll()
                         .requestMatchers(PUBLIC_PATHS).permitAll() // PUBLIC 경로는 모두 허용
                         .anyRequest().authenticated() // 그 외 모든 경로는 인증 필요
                 )
@@ -104,7 +117,8 @@ public class SecurityConfig {
         config.setAllowedOrigins(Arrays.asList("http://localhost:3000", "http://localhost:8080", "http://localhost:5173"));
         config.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS"));
         config.setAllowedHeaders(Arrays.asList("*"));
-        config.setExposedHeaders(List.of("access", "Authorization"));
+        config.setExposedHeaders(List.of("access", "Authorization", IdempotencyKeyFilter.REPLAYED_HEADER,
+                HttpHeaders.ETAG));
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", config);
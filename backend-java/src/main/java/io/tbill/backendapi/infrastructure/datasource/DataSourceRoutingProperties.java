@@ -0,0 +1,66 @@
+package io.tbill.backendapi.infrastructure.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 전용 복제본(Read Replica) 라우팅 설정 (datasource.routing.*)
+ * - 주 DB 는 기존 spring.datasource.* 를 그대로 사용
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "datasource.routing")
+public class DataSourceRoutingProperties {
+
+    private boolean enabled;
+
+    private Balancing balancing = Balancing.ROUND_ROBIN;
+
+    // 이 시간보다 뒤처진 복제본은 라우팅 대상에서 제외
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    // 사용자가 쓰기 트랜잭션을 커밋한 뒤 이 시간 동안은 읽기도 주 DB 로 (read-your-writes)
+    // 점검 사이에 지연이 maxLag 를 넘어도 다음 점검까지는 라우팅되므로 maxLag + 점검 주기보다 길어야 함
+    private Duration stickyWindow = Duration.ofSeconds(10);
+
+    // 복제본 상태(지연) 점검 주기 (ReplicaBalancer.checkHealth)
+    private long healthCheckIntervalMs = 2000;
+
+    // 복제 지연(초) 조회 쿼리, 실패하면 비정상으로 간주
+    private String lagQuery = "SELECT CASE WHEN NOT pg_is_in_recovery() THEN 0 " +
+            "WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    /**
+     * 쓰기 직후 구간이 복제본이 따라잡기 전에 끝나지 않도록 검증 (기동 시)
+     */
+    public void validate() {
+        Duration minimum = maxLag.plusMillis(healthCheckIntervalMs);
+        if (stickyWindow.compareTo(minimum) <= 0) {
+            throw new IllegalArgumentException(
+                    "datasource.routing.sticky-window(" + stickyWindow + ")는 max-lag + health-check-interval-ms("
+                            + minimum + ")보다 커야 합니다.");
+        }
+    }
+
+    public enum Balancing {
+        ROUND_ROBIN, LEAST_CONNECTIONS
+    }
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+}
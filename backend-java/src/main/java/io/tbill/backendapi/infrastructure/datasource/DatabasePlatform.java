@@ -0,0 +1,34 @@
+package io.tbill.backendapi.infrastructure.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+
+/**
+ * 연결된 DB 종류 (기동 시 DatabaseMetaData 의 제품명으로 1회 판별)
+ * - PostgreSQL 전용 SQL(ON CONFLICT, tsvector, 파티션)과 H2 대체 SQL(MERGE, 토큰 테이블) 선택에 사용
+ * - spring.sql.init.platform 은 초기화 스크립트(schema-*.sql) 선택용 설정이라 실제 DB 와 다를 수 있으므로 사용하지 않음
+ */
+@Slf4j
+@Component
+public class DatabasePlatform {
+
+    private final String productName;
+
+    public DatabasePlatform(DataSource dataSource) {
+        try {
+            this.productName = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException("DB 종류를 확인할 수 없습니다.", e);
+        }
+        log.info("DB 종류 확인: productName={}", productName);
+    }
+
+    public boolean isPostgreSQL() {
+        return "PostgreSQL".equalsIgnoreCase(productName);
+    }
+}
@@ -0,0 +1,65 @@
+package io.tbill.backendapi.infrastructure.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 쓰기 직후 구간 (read-your-writes)
+ * - 쓰기 트랜잭션 커밋 후 stickyWindow 동안 해당 사용자의 읽기는 주 DB 로 (복제 지연으로 방금 쓴 데이터가 안 보이는 문제 방지)
+ * - 같은 인스턴스는 로컬 맵으로 즉시 판별, 다른 인스턴스에서 쓴 경우는 Redis 키(TTL = stickyWindow)로 판별
+ * - Redis 장애 시 주 DB 로 (복제본 분산보다 정합성 우선)
+ */
+@Slf4j
+public class ReadYourWritesTracker {
+
+    private static final String KEY_PREFIX = "datasource:sticky:";
+    private static final int SWEEP_THRESHOLD = 10_000;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Duration stickyWindow;
+    private final ConcurrentHashMap<String, Long> stickyUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(StringRedisTemplate stringRedisTemplate, Duration stickyWindow) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.stickyWindow = stickyWindow;
+    }
+
+    public void markWrite(String user) {
+        if (stickyWindow.isZero()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        stickyUntil.put(user, now + stickyWindow.toMillis());
+        if (stickyUntil.size() > SWEEP_THRESHOLD) {
+            stickyUntil.values().removeIf(until -> until <= now);
+        }
+        try {
+            stringRedisTemplate.opsForValue().set(KEY_PREFIX + user, "1", stickyWindow);
+        } catch (Exception e) {
+            log.warn("read-your-writes 기록 실패 (다른 인스턴스는 복제본에서 읽을 수 있음): user={}, error={}",
+                    user, e.getMessage());
+        }
+    }
+
+    public boolean isSticky(String user) {
+        if (stickyWindow.isZero()) {
+            return false;
+        }
+        Long until = stickyUntil.get(user);
+        if (until != null) {
+            if (until > System.currentTimeMillis()) {
+                return true;
+            }
+            stickyUntil.remove(user, until);
+        }
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.hasKey(KEY_PREFIX + user));
+        } catch (Exception e) {
+            log.warn("read-your-writes 조회 실패, 주 DB 사용: user={}, error={}", user, e.getMessage());
+            return true;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package io.tbill.backendapi.infrastructure.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 복제본 선택 + 상태 점검
+ * - 정상(점검 쿼리 성공 + 복제 지연 maxLag 이하) 복제본 중에서 ROUND_ROBIN / LEAST_CONNECTIONS(활성 커넥션 최소)로 선택
+ * - 정상 복제본이 없으면 empty -> 주 DB 로 (기동 직후 첫 점검 전에도 주 DB)
+ * - 메트릭: datasource.replica.healthy{replica} (1/0), datasource.replica.lag{replica} (초)
+ */
+@Slf4j
+public class ReplicaBalancer implements DisposableBean {
+
+    private static final int CHECK_TIMEOUT_SECONDS = 2;
+
+    private final List<Node> nodes;
+    private final DataSourceRoutingProperties.Balancing balancing;
+    private final Duration maxLag;
+    private final String lagQuery;
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    public ReplicaBalancer(Map<String, HikariDataSource> replicas,
+                           DataSourceRoutingProperties.Balancing balancing,
+                           Duration maxLag,
+                           String lagQuery,
+                           MeterRegistry meterRegistry) {
+        this.nodes = replicas.entrySet().stream()
+                .map(entry -> new Node(entry.getKey(), entry.getValue()))
+                .toList();
+        this.balancing = balancing;
+        this.maxLag = maxLag;
+        this.lagQuery = lagQuery;
+
+        for (Node node : nodes) {
+            Gauge.builder("datasource.replica.healthy", node, n -> n.healthy ? 1 : 0)
+                    .tag("replica", node.name)
+                    .register(meterRegistry);
+            Gauge.builder("datasource.replica.lag", node, n -> n.lagSeconds)
+                    .tag("replica", node.name)
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+        }
+    }
+
+    private static class Node {
+        private final String name;
+        private final HikariDataSource dataSource;
+        private volatile boolean healthy;
+        private volatile double lagSeconds;
+
+        Node(String name, HikariDataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        int activeConnections() {
+            return dataSource.getHikariPoolMXBean() != null
+                    ? dataSource.getHikariPoolMXBean().getActiveConnections()
+                    : 0;
+        }
+    }
+
+    /**
+     * 라우팅 대상 (복제본 이름 -> DataSource)
+     */
+    public Map<String, DataSource> dataSources() {
+        Map<String, DataSource> dataSources = new LinkedHashMap<>();
+        nodes.forEach(node -> dataSources.put(node.name, node.dataSource));
+        return dataSources;
+    }
+
+    /**
+     * 읽기 전용 트랜잭션을 보낼 복제본 이름
+     */
+    public Optional<String> select() {
+        List<Node> healthy = nodes.stream().filter(node -> node.healthy).toList();
+        if (healthy.isEmpty()) {
+            return Optional.empty();
+        }
+        if (balancing == DataSourceRoutingProperties.Balancing.LEAST_CONNECTIONS) {
+            return healthy.stream()
+                    .min(Comparator.comparingInt(Node::activeConnections))
+                    .map(node -> node.name);
+        }
+        return Optional.of(healthy.get(Math.floorMod(sequence.getAndIncrement(), healthy.size())).name);
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.routing.health-check-interval-ms:2000}")
+    public void checkHealth() {
+        for (Node node : nodes) {
+            boolean wasHealthy = node.healthy;
+            try (Connection connection = node.dataSource.getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.setQueryTimeout(CHECK_TIMEOUT_SECONDS);
+                try (ResultSet rs = statement.executeQuery(lagQuery)) {
+                    node.lagSeconds = rs.next() ? rs.getDouble(1) : 0;
+                }
+                node.healthy = node.lagSeconds * 1000 <= maxLag.toMillis();
+            } catch (Exception e) {
+                node.healthy = false;
+                log.debug("복제본 점검 실패: replica={}, error={}", node.name, e.getMessage());
+            }
+
+            if (wasHealthy != node.healthy) {
+                if (node.healthy) {
+                    log.info("복제본 라우팅 포함: replica={}, lag={}s", node.name, node.lagSeconds);
+                } else {
+                    log.warn("복제본 라우팅 제외 (점검 실패 또는 지연 초과): replica={}, lag={}s, maxLag={}",
+                            node.name, node.lagSeconds, maxLag);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        nodes.forEach(node -> node.dataSource.close());
+    }
+}
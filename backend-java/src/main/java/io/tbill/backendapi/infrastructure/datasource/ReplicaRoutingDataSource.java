@@ -0,0 +1,86 @@
+package io.tbill.backendapi.infrastructure.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 트랜잭션 속성에 따라 주 DB / 읽기 복제본으로 커넥션을 분기
+ * - @Transactional(readOnly = true) -> ReplicaBalancer 가 고른 복제본 (쓰기 직후 사용자는 주 DB)
+ * - 그 외 (쓰기 트랜잭션, 트랜잭션 밖) -> 주 DB, 쓰기 트랜잭션 커밋 시 사용자를 read-your-writes 구간으로 기록
+ * - 트랜잭션 시작 시점이 아니라 첫 SQL 실행 시점에 커넥션을 가져와야 readOnly 가 반영되므로
+ *   반드시 LazyConnectionDataSourceProxy 로 감싸서 사용 (DataSourceRoutingConfig)
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private static final Object WRITE_MARKER = new Object();
+
+    private final ReplicaBalancer replicaBalancer;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public ReplicaRoutingDataSource(DataSource primary,
+                                    ReplicaBalancer replicaBalancer,
+                                    ReadYourWritesTracker readYourWritesTracker) {
+        this.replicaBalancer = replicaBalancer;
+        this.readYourWritesTracker = readYourWritesTracker;
+
+        Map<Object, Object> targets = new HashMap<>(replicaBalancer.dataSources());
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String user = currentUser();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            markWriteOnCommit(user);
+            return PRIMARY;
+        }
+        if (user != null && readYourWritesTracker.isSticky(user)) {
+            return PRIMARY;
+        }
+        return replicaBalancer.select().orElse(PRIMARY);
+    }
+
+    private void markWriteOnCommit(String user) {
+        if (user == null
+                || !TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(WRITE_MARKER)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(WRITE_MARKER, user);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            // AFTER_COMMIT 이벤트 리스너(매매일지 버전 증가)보다 먼저 등록되므로 먼저 실행됨
+            // -> 다른 인스턴스가 새 버전을 본 시점에는 이미 주 DB 로 읽음 (JournalETagFilter)
+            @Override
+            public void afterCommit() {
+                readYourWritesTracker.markWrite(user);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(WRITE_MARKER);
+            }
+        });
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -10,6 +10,9 @@ public final class KafkaTopics {
     public static final String NEWS_ANALYSIS_REQUEST_TOPIC = "news-analysis-request";
     public static final String BACKTEST_REQUEST_TOPIC = "backtest-request";
 
+    // 매매일지 생성/수정/삭제 이벤트 (Outbox 릴레이 발행, Key: authorEmail)
+    public static final String JOURNAL_EVENTS_TOPIC = "journal-events";
+
     // (참고) Python이 Java로 응답을 보낼 경우
     // public static final String ANALYSIS_RESPONSE_TOPIC = "analysis-response";
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+package io.tbill.backendapi.infrastructure.kafka.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * journal-events 토픽 메시지 (Key: authorEmail)
+ * - eventId는 작성자별로 단조 증가 -> 소비자는 처리한 최대 eventId로 중복(재전송) 제거
+ * - 변경 내용은 포함하지 않음 (필요한 소비자는 journalIds로 조회)
+ */
+@Getter
+@Builder
+public class JournalEventMessage {
+    private long eventId;
+    private String changeType;
+    private String authorEmail;
+    private List<Long> journalIds;
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,164 @@
+package io.tbill.backendapi.infrastructure.kafka.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.tbill.backendapi.domain.journal.repository.JournalOutboxRepository;
+import io.tbill.backendapi.infrastructure.kafka.KafkaTopics;
+import io.tbill.backendapi.infrastructure.kafka.dto.JournalEventMessage;
+import io.tbill.backendapi.infrastructure.redis.service.JournalVersionService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 매매일지 Outbox -> Kafka(journal-events) 릴레이
+ * - linger-ms 간격으로 Outbox를 비움. 배치가 가득 차면 대기 없이 다음 배치 (tick당 최대 MAX_BATCHES_PER_TICK)
+ * - 배치 단위 트랜잭션: 행 잠금 조회 -> 순서대로 전송(Key: authorEmail) -> 전체 ack 대기 -> 버전 증가 -> 삭제 -> 커밋
+ *   (커밋 직후 버전 증가가 실패/유실되어도 Outbox 행이 남아 있는 동안 재시도되므로 버전 증가가 유실되지 않음)
+ * - 전송 실패/타임아웃 시 롤백하여 다음 tick에 배치 전체 재전송 (at-least-once, 소비자는 eventId로 중복 제거)
+ * - 메트릭: journal.outbox.relay.events{result}, journal.outbox.relay.batch (전송~ack 시간),
+ *   journal.outbox.relay.lag (가장 오래된 미발행 이벤트의 대기 시간, 초)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "journal.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class JournalOutboxRelay {
+
+    private static final int MAX_BATCHES_PER_TICK = 100;
+
+    private final JournalOutboxRepository journalOutboxRepository;
+    private final JournalVersionService journalVersionService;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxBatchSize;
+    private final Duration sendTimeout;
+
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+    private final Timer batchTimer;
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    public JournalOutboxRelay(JournalOutboxRepository journalOutboxRepository,
+                              JournalVersionService journalVersionService,
+                              @Qualifier("journalEventKafkaTemplate") KafkaTemplate<String, String> kafkaTemplate,
+                              ObjectMapper objectMapper,
+                              TransactionTemplate transactionTemplate,
+                              MeterRegistry meterRegistry,
+                              @Value("${journal.outbox.relay.max-batch-size:500}") int maxBatchSize,
+                              @Value("${journal.outbox.relay.send-timeout:30s}") Duration sendTimeout) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("journal.outbox.relay.max-batch-size는 1 이상이어야 합니다.");
+        }
+        this.journalOutboxRepository = journalOutboxRepository;
+        this.journalVersionService = journalVersionService;
+        this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.maxBatchSize = maxBatchSize;
+        this.sendTimeout = sendTimeout;
+
+        this.publishedCounter = Counter.builder("journal.outbox.relay.events")
+                .tag("result", "published").register(meterRegistry);
+        this.failedCounter = Counter.builder("journal.outbox.relay.events")
+                .tag("result", "failed").register(meterRegistry);
+        this.batchTimer = Timer.builder("journal.outbox.relay.batch").register(meterRegistry);
+        Gauge.builder("journal.outbox.relay.lag", lagMillis, lag -> lag.get() / 1000.0)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${journal.outbox.relay.linger-ms:200}")
+    public void relay() {
+        try {
+            int batches = 0;
+            while (relayBatch() == maxBatchSize && ++batches < MAX_BATCHES_PER_TICK) {
+                // 밀린 이벤트가 있으면 linger 없이 계속 비움
+            }
+        } catch (RuntimeException e) {
+            log.error("매매일지 이벤트 릴레이 실패, 다음 주기에 재시도: error={}", e.getMessage());
+        } finally {
+            lagMillis.set(journalOutboxRepository.findOldestCreatedAt()
+                    .map(oldest -> Math.max(Duration.between(oldest, LocalDateTime.now()).toMillis(), 0L))
+                    .orElse(0L));
+        }
+    }
+
+    /**
+     * Outbox 배치 하나를 전송하고 ack 받은 이벤트 삭제
+     *
+     * @return 발행한 이벤트 수 (maxBatchSize와 같으면 남은 이벤트가 있을 수 있음)
+     */
+    public int relayBatch() {
+        Integer published = transactionTemplate.execute(status -> {
+            List<JournalOutboxRepository.OutboxEvent> events = journalOutboxRepository.lockBatch(maxBatchSize);
+            if (events.isEmpty()) {
+                return 0;
+            }
+
+            long startedAt = System.nanoTime();
+            CompletableFuture<?>[] acks = events.stream()
+                    .map(event -> kafkaTemplate.send(KafkaTopics.JOURNAL_EVENTS_TOPIC, event.authorEmail(), toJson(event)))
+                    .toArray(CompletableFuture[]::new);
+            awaitAcks(acks, events.size());
+            batchTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+
+            journalVersionService.incrementRelayed(events.stream()
+                    .map(JournalOutboxRepository.OutboxEvent::toChangedEvent)
+                    .toList());
+
+            journalOutboxRepository.deleteByIds(events.stream()
+                    .map(JournalOutboxRepository.OutboxEvent::eventId)
+                    .toList());
+            return events.size();
+        });
+        int count = published != null ? published : 0;
+        publishedCounter.increment(count);
+        return count;
+    }
+
+    private void awaitAcks(CompletableFuture<?>[] acks, int size) {
+        try {
+            CompletableFuture.allOf(acks).get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failedCounter.increment(size);
+            throw new IllegalStateException("매매일지 이벤트 전송 대기 중 인터럽트", e);
+        } catch (ExecutionException | TimeoutException e) {
+            failedCounter.increment(size);
+            throw new IllegalStateException("매매일지 이벤트 전송 실패: " + e.getMessage(), e);
+        }
+    }
+
+    private String toJson(JournalOutboxRepository.OutboxEvent event) {
+        try {
+            return objectMapper.writeValueAsString(JournalEventMessage.builder()
+                    .eventId(event.eventId())
+                    .changeType(event.changeType().name())
+                    .authorEmail(event.authorEmail())
+                    .journalIds(event.journalIds())
+                    .occurredAt(event.createdAt())
+                    .build());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("매매일지 이벤트 직렬화 실패", e);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package io.tbill.backendapi.infrastructure.redis.service;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Idempotency-Key 응답 저장소 (Key: "idempotency:email:key")
+ * - 처리 시작 시 SET NX 로 선점 (처리 중 표시, lockTtl) -> 신규 키는 Redis 왕복 1회로 판별
+ * - 처리가 lockTtl 보다 길어질 수 있으므로 처리 중인 인스턴스가 주기적으로 만료 시간을 연장 (extend)
+ * - 처리 완료 시 응답(상태/Content-Type/본문)으로 덮어쓰고 ttl 동안 재전송 요청에 그대로 응답
+ * - Redis 장애 시 empty/UNAVAILABLE 반환 -> 호출 측은 멱등성 보장 없이 요청을 처리 (가용성 우선)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IdempotencyStore {
+
+    private static final String KEY_PREFIX = "idempotency:";
+
+    // 아직 같은 처리 중 표시일 때만 연장 (완료 응답으로 덮어쓴 뒤에는 ttl 을 줄이지 않음)
+    private static final RedisScript<Long> EXTEND_SCRIPT = RedisScript.of(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 저장 항목 (status 가 null 이면 처리 중)
+     *
+     * @param fingerprint 요청 지문 (메서드 + URI + 본문 해시) - 같은 키로 다른 요청을 보낸 경우 판별
+     */
+    public record Entry(String fingerprint, Integer status, String contentType, String body) {
+
+        public static Entry inProgress(String fingerprint) {
+            return new Entry(fingerprint, null, null, null);
+        }
+
+        @JsonIgnore
+        public boolean isCompleted() {
+            return status != null;
+        }
+    }
+
+    /**
+     * 선점 결과 (acquired 가 false 이면 existing 이 이미 저장된 항목, 둘 다 비어 있으면 Redis 사용 불가)
+     */
+    public record Reservation(boolean acquired, Entry existing) {
+
+        public static final Reservation ACQUIRED = new Reservation(true, null);
+        public static final Reservation UNAVAILABLE = new Reservation(false, null);
+
+        public boolean isUnavailable() {
+            return !acquired && existing == null;
+        }
+    }
+
+    public Reservation reserve(String scopedKey, String fingerprint, Duration lockTtl) {
+        String key = KEY_PREFIX + scopedKey;
+        try {
+            Boolean acquired = stringRedisTemplate.opsForValue()
+                    .setIfAbsent(key, toJson(Entry.inProgress(fingerprint)), lockTtl);
+            if (Boolean.TRUE.equals(acquired)) {
+                return Reservation.ACQUIRED;
+            }
+            // 선점 실패 직후 만료/해제된 경우 처리 중으로 간주 (호출 측이 대기하며 재조회)
+            return new Reservation(false, find(scopedKey).orElse(Entry.inProgress(fingerprint)));
+        } catch (Exception e) {
+            log.warn("Idempotency-Key 선점 실패: key={}, error={}", key, e.getMessage());
+            return Reservation.UNAVAILABLE;
+        }
+    }
+
+    public Optional<Entry> find(String scopedKey) {
+        String key = KEY_PREFIX + scopedKey;
+        try {
+            String json = stringRedisTemplate.opsForValue().get(key);
+            return json != null ? Optional.of(objectMapper.readValue(json, Entry.class)) : Optional.empty();
+        } catch (Exception e) {
+            log.warn("Idempotency-Key 조회 실패: key={}, error={}", key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void complete(String scopedKey, Entry entry, Duration ttl) {
+        String key = KEY_PREFIX + scopedKey;
+        try {
+            stringRedisTemplate.opsForValue().set(key, toJson(entry), ttl);
+        } catch (Exception e) {
+            log.error("Idempotency-Key 응답 저장 실패: key={}, error={}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * 처리 중 선점의 만료 시간 연장 (처리 중인 인스턴스가 살아 있는 동안 다른 인스턴스가 같은 키를 다시 처리하지 않도록)
+     *
+     * @return 연장했으면 true (이미 완료/해제/만료되었거나 Redis 장애면 false)
+     */
+    public boolean extend(String scopedKey, String fingerprint, Duration lockTtl) {
+        String key = KEY_PREFIX + scopedKey;
+        try {
+            Long extended = stringRedisTemplate.execute(EXTEND_SCRIPT, List.of(key),
+                    toJson(Entry.inProgress(fingerprint)), String.valueOf(lockTtl.toMillis()));
+            return extended != null && extended == 1;
+        } catch (Exception e) {
+            log.warn("Idempotency-Key 선점 연장 실패: key={}, error={}", key, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 처리 실패 시 선점 해제 (클라이언트가 같은 키로 재시도 가능)
+     */
+    public void release(String scopedKey) {
+        String key = KEY_PREFIX + scopedKey;
+        try {
+            stringRedisTemplate.delete(key);
+        } catch (Exception e) {
+            log.error("Idempotency-Key 해제 실패: key={}, error={}", key, e.getMessage());
+        }
+    }
+
+    private String toJson(Entry entry) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(entry);
+    }
+}
@@ -0,0 +1,130 @@
+package io.tbill.backendapi.infrastructure.redis.service;
+
+import io.tbill.backendapi.domain.journal.event.JournalChangedEvent;
+import io.tbill.backendapi.domain.journal.event.JournalVersionChangedEvent;
+import io.tbill.backendapi.infrastructure.datasource.ReadYourWritesTracker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 매매일지 버전 카운터 (Key: "journal:version:email")
+ * - 매매일지 변경 트랜잭션이 커밋되면 1 증가
+ * - 버전을 키에 포함한 캐시는 변경 즉시 자연스럽게 무효화됨 (별도 삭제 불필요)
+ * - 증가 후 JournalVersionChangedEvent 발행 -> 로컬 컬럼 캐시 증분 반영
+ * - 조회 API 의 ETag 도 이 버전으로 계산 (JournalETagFilter)
+ * - 증가에 실패한 사용자는 재시도로 증가할 때까지 이 인스턴스에서 버전을 알 수 없음(empty)으로 응답 -> 오래된 ETag 로 304 하지 않음
+ *   (키 삭제는 카운터를 0으로 되돌려 이전에 발급한 ETag 와 다시 일치할 수 있으므로 사용하지 않음)
+ * - 커밋 직후 증가는 빠른 경로일 뿐이고, 유실되지 않는 증가는 Outbox 릴레이가 담당 (incrementRelayed)
+ *   Outbox 행은 변경과 같은 트랜잭션에 기록되고 버전 증가 후에만 삭제되므로 다른 인스턴스 / 재시작 후에도 반영됨
+ * - 증가 전에 항상 사용자를 read-your-writes 구간으로 기록 (복제본 라우팅 사용 시)
+ *   인증 사용자가 없는 복구 작업/릴레이의 증가도 다음 읽기가 지연된 복제본에서 이전 데이터를 새 버전으로 캐시하지 않도록
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JournalVersionService {
+
+    private static final String KEY_PREFIX = "journal:version:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectProvider<ReadYourWritesTracker> readYourWritesTracker;
+
+    // 커밋 직후 버전 증가에 실패한 사용자 (인스턴스 로컬, 재시작 시 유실되어도 Outbox 릴레이가 증가)
+    private final Set<String> staleAuthors = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 현재 버전 조회 (변경 이력이 없으면 0, Redis 장애 / 증가 실패 후 재시도 대기 중이면 empty -> 캐시 사용 안 함)
+     */
+    public Optional<Long> getVersion(String authorEmail) {
+        if (staleAuthors.contains(authorEmail)) {
+            return Optional.empty();
+        }
+        try {
+            String version = stringRedisTemplate.opsForValue().get(KEY_PREFIX + authorEmail);
+            return Optional.of(version != null ? Long.parseLong(version) : 0L);
+        } catch (Exception e) {
+            log.warn("매매일지 버전 조회 실패: authorEmail={}, error={}", authorEmail, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onJournalChanged(JournalChangedEvent event) {
+        increment(event);
+    }
+
+    /**
+     * journal 행은 그대로지만 파생 데이터(통계 / 일별 집계)가 바뀐 경우 버전 증가 (복구 작업 전용, 커밋 이후 호출)
+     * - 통계 응답의 ETag 를 무효화하기 위함. 로컬 컬럼 캐시는 변경 행이 없으므로 버전만 맞춤
+     */
+    public void bump(String authorEmail) {
+        increment(JournalChangedEvent.updated(authorEmail, List.of()));
+    }
+
+    /**
+     * Outbox 릴레이가 Kafka 전송을 마친 변경의 버전 증가 (릴레이 배치 트랜잭션 안, Outbox 행 삭제 전 호출)
+     * - 커밋 직후 증가의 성공 여부와 관계없이 한 번 더 증가 (어느 인스턴스가 릴레이해도 반영되는 유실 없는 증가)
+     * - 실패하면 예외 -> 배치 롤백 후 다음 주기에 전송과 함께 재시도
+     */
+    public void incrementRelayed(List<JournalChangedEvent> changes) {
+        for (JournalChangedEvent change : changes) {
+            markWrite(change.authorEmail());
+            Long version = stringRedisTemplate.opsForValue().increment(KEY_PREFIX + change.authorEmail());
+            staleAuthors.remove(change.authorEmail());
+            eventPublisher.publishEvent(new JournalVersionChangedEvent(change, version));
+        }
+    }
+
+    /**
+     * 커밋 직후 증가에 실패했던 사용자의 버전 증가 재시도 (이 인스턴스의 stale 표시 해제)
+     * - 로컬 캐시가 새 버전을 알 수 있도록 증가 이벤트도 발행 (변경 행은 이미 제거되었으므로 행 없는 이벤트)
+     */
+    @Scheduled(fixedDelayString = "${journal.version.retry-interval-ms:5000}")
+    public void retryStale() {
+        for (String authorEmail : staleAuthors) {
+            Long version;
+            try {
+                markWrite(authorEmail);
+                version = stringRedisTemplate.opsForValue().increment(KEY_PREFIX + authorEmail);
+            } catch (Exception e) {
+                log.warn("매매일지 버전 증가 재시도 실패: authorEmail={}, error={}", authorEmail, e.getMessage());
+                return; // Redis 장애 중이면 다음 주기에 다시 시도
+            }
+            staleAuthors.remove(authorEmail);
+            eventPublisher.publishEvent(new JournalVersionChangedEvent(
+                    JournalChangedEvent.updated(authorEmail, List.of()), version));
+            log.info("매매일지 버전 증가 재시도 성공: authorEmail={}, version={}", authorEmail, version);
+        }
+    }
+
+    private void increment(JournalChangedEvent event) {
+        Long version = null;
+        try {
+            markWrite(event.authorEmail());
+            version = stringRedisTemplate.opsForValue().increment(KEY_PREFIX + event.authorEmail());
+            staleAuthors.remove(event.authorEmail());
+        } catch (Exception e) {
+            // 로컬 캐시는 버전 없이 받은 이벤트에서 해당 사용자를 제거
+            staleAuthors.add(event.authorEmail());
+            log.error("매매일지 버전 증가 실패: authorEmail={}, error={}", event.authorEmail(), e.getMessage());
+        }
+        eventPublisher.publishEvent(new JournalVersionChangedEvent(event, version));
+    }
+
+    private void markWrite(String authorEmail) {
+        readYourWritesTracker.ifAvailable(tracker -> tracker.markWrite(authorEmail));
+    }
+}
@@ -0,0 +1,73 @@
+package io.tbill.backendapi.infrastructure.redis.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 인스턴스 간 배타 실행용 분산 잠금 (Key: "lock:name")
+ * - SET NX + 만료 시간으로 획득, 값은 획득마다 새 토큰 -> 해제 시 토큰이 같을 때만 삭제 (만료 후 다른 인스턴스가 잡은 잠금 보호)
+ * - 보유자가 죽어도 ttl 후 자동 해제 -> ttl 은 작업 최대 소요 시간보다 길게
+ * - Redis 장애 시 획득 실패로 처리 (배치 작업은 다음 주기에 실행)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RedisLockService {
+
+    private static final String KEY_PREFIX = "lock:";
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = RedisScript.of(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 잠금 획득 시도 (대기하지 않음)
+     *
+     * @return 획득한 잠금 (try-with-resources 로 해제), 다른 인스턴스가 보유 중이거나 Redis 장애면 empty
+     */
+    public Optional<Lock> tryLock(String name, Duration ttl) {
+        String key = KEY_PREFIX + name;
+        String token = UUID.randomUUID().toString();
+        try {
+            Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(key, token, ttl);
+            return Boolean.TRUE.equals(acquired) ? Optional.of(new Lock(key, token)) : Optional.empty();
+        } catch (Exception e) {
+            log.warn("분산 잠금 획득 실패: key={}, error={}", key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public final class Lock implements AutoCloseable {
+
+        private final String key;
+        private final String token;
+
+        private Lock(String key, String token) {
+            this.key = key;
+            this.token = token;
+        }
+
+        @Override
+        public void close() {
+            try {
+                Long released = stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(key), token);
+                if (released == null || released == 0) {
+                    log.warn("분산 잠금이 이미 만료되어 해제하지 않음: key={}", key);
+                }
+            } catch (Exception e) {
+                // ttl 이 지나면 자동 해제
+                log.warn("분산 잠금 해제 실패: key={}, error={}", key, e.getMessage());
+            }
+        }
+    }
+}
@@ -1,18 +1,44 @@
 package io.tbill.backendapi.presentation.journal.controller;
 
 import io.tbill.backendapi.domain.journal.dto.JournalDto;
+import io.tbill.backendapi.domain.journal.repository.JournalAnalyticsGroup;
+import io.tbill.backendapi.domain.journal.service.JournalAnalyticsService;
+import io.tbill.backendapi.domain.journal.service.JournalBulkService;
+import io.tbill.backendapi.domain.journal.service.JournalDailyRollupService;
+import io.tbill.backendapi.domain.journal.service.JournalExportService;
+import io.tbill.backendapi.domain.journal.service.JournalImportService;
+import io.tbill.backendapi.domain.journal.service.JournalPositionService;
+import io.tbill.backendapi.domain.journal.service.JournalReplayService;
 import io.tbill.backendapi.domain.journal.service.JournalService;
+import io.tbill.backendapi.domain.journal.service.MarkToMarketService;
 import io.tbill.backendapi.global.utils.auth.AuthUtils;
 import io.tbill.backendapi.presentation.journal.dto.JournalApiDto;
+import io.tbill.backendapi.presentation.journal.exporter.JournalExportFormat;
+import io.tbill.backendapi.presentation.journal.exporter.JournalExportWriter;
+import io.tbill.backendapi.presentation.journal.exporter.JournalExportWriterFactory;
+import io.tbill.backendapi.presentation.journal.importer.JournalImportReader;
+import io.tbill.backendapi.presentation.journal.importer.JournalImportReaderFactory;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.StreamUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
@@ -20,6 +46,16 @@ import org.springframework.web.bind.annotation.*;
 public class JournalController {
 
     private final JournalService journalService;
+    private final JournalBulkService journalBulkService;
+    private final JournalImportService journalImportService;
+    private final JournalImportReaderFactory journalImportReaderFactory;
+    private final JournalExportService journalExportService;
+    private final JournalExportWriterFactory journalExportWriterFactory;
+    private final JournalAnalyticsService journalAnalyticsService;
+    private final JournalPositionService journalPositionService;
+    private final JournalDailyRollupService journalDailyRollupService;
+    private final JournalReplayService journalReplayService;
+    private final MarkToMarketService markToMarketService;
 
     /**
      * 매매일지 생성
@@ -37,6 +73,27 @@ public class JournalController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * 매매일지 대량 가져오기 (CSV / NDJSON)
+     * [POST] /api/journals/import
+     * - 요청 본문을 스트리밍으로 읽어 청크 단위로 저장, 잘못된 행은 건너뛰고 행 번호와 함께 보고
+     */
+    @PostMapping(value = "/import", consumes = {
+            JournalImportReaderFactory.TEXT_CSV_VALUE,
+            JournalImportReaderFactory.APPLICATION_NDJSON_VALUE
+    })
+    public ResponseEntity<JournalApiDto.ImportResponse> importJournals(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body
+    ) throws IOException {
+        String currentUserEmail = AuthUtils.getCurrentUserEmail();
+
+        try (JournalImportReader<?> rows = journalImportReaderFactory.create(contentType, body, currentUserEmail)) {
+            JournalDto.ImportResult result = journalImportService.importJournals(currentUserEmail, rows);
+            return ResponseEntity.ok(new JournalApiDto.ImportResponse(result));
+        }
+    }
+
     /**
      * 매매일지 수정
      * [PUT] /api/journals/{journalId}
@@ -66,6 +123,36 @@ public class JournalController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * 매매일지 일괄 종료
+     * [POST] /api/journals/bulk-close
+     * - 진행 중 거래만 종료, 없는/이미 종료된 ID 는 항목별 결과(NOT_FOUND, ALREADY_CLOSED)로 응답
+     */
+    @PostMapping("/bulk-close")
+    public ResponseEntity<JournalApiDto.BulkResponse> closeJournals(
+            @Valid @RequestBody JournalApiDto.BulkCloseRequest request
+    ) {
+        String currentUserEmail = AuthUtils.getCurrentUserEmail();
+        JournalDto.BulkResult result = journalBulkService.closeAll(currentUserEmail, request.toItems());
+
+        return ResponseEntity.ok(new JournalApiDto.BulkResponse(result));
+    }
+
+    /**
+     * 매매일지 일괄 삭제
+     * [POST] /api/journals/bulk-delete
+     * - 없는 ID 는 항목별 결과(NOT_FOUND)로 응답
+     */
+    @PostMapping("/bulk-delete")
+    public ResponseEntity<JournalApiDto.BulkResponse> deleteJournals(
+            @Valid @RequestBody JournalApiDto.BulkDeleteRequest request
+    ) {
+        String currentUserEmail = AuthUtils.getCurrentUserEmail();
+        JournalDto.BulkResult result = journalBulkService.deleteAll(currentUserEmail, request.getJournalIds());
+
+        return ResponseEntity.ok(new JournalApiDto.BulkResponse(result));
+    }
+
     /**
      * 매매일지 상세 조회
      * [GET] /api/journals/{journalId}
@@ -107,6 +194,22 @@ public class JournalController {
         return ResponseEntity.ok(new JournalApiDto.PagedResponse<>(responsesPage));
     }
 
+    /**
+     * 내 매매일지 목록 조회 (커서 페이징)
+     * [GET] /api/journals?cursor=&size=20 (첫 페이지는 빈 cursor)
+     */
+    @GetMapping(params = "cursor")
+    public ResponseEntity<JournalApiDto.CursorResponse<JournalApiDto.JournalSummaryResponse>> getMyJournalsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        String currentUserEmail = AuthUtils.getCurrentUserEmail();
+        Slice<JournalDto.JournalSummary> journalSummaries =
+                journalService.getMyJournals(currentUserEmail, JournalDto.Cursor.decode(cursor), size);
+
+        return ResponseEntity.ok(toCursorResponse(journalSummaries));
+    }
+
     /**
      * 매매일지 검색
      * [GET] /api/journals/search
@@ -134,6 +237,47 @@ public class JournalController {
         return ResponseEntity.ok(new JournalApiDto.PagedResponse<>(responsesPage));
     }
 
+    /**
+     * 매매일지 검색 (커서 페이징)
+     * [GET] /api/journals/search?cursor=&size=20
+     */
+    @GetMapping(value = "/search", params = "cursor")
+    public ResponseEntity<JournalApiDto.CursorResponse<JournalApiDto.JournalSummaryResponse>> searchJournalsByCursor(
+            @ModelAttribute JournalApiDto.SearchRequest searchRequest,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        String currentUserEmail = AuthUtils.getCurrentUserEmail();
+        JournalDto.SearchCondition condition = searchRequest.toSearchCondition(currentUserEmail);
+        Slice<JournalDto.JournalSummary> journalSummaries =
+                journalService.searchJournals(condition, JournalDto.Cursor.decode(cursor), size);
+
+        return ResponseEntity.ok(toCursorResponse(journalSummaries));
+    }
+
+    /**
+     * 매매일지 전문 검색 (심볼 + 근거 마크다운, 관련도 순)
+     * [GET] /api/journals/search/text?q=breakout&cursor=&size=20
+     */
+    @GetMapping("/search/text")
+    public ResponseEntity<JournalApiDto.CursorResponse<JournalApiDto.TextSearchHitResponse>> searchJournalsByText(
+            @RequestParam String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        String currentUserEmail = AuthUtils.getCurrentUserEmail();
+        Slice<JournalDto.TextSearchHit> hits = journalService.searchJournalsByText(
+                currentUserEmail, q, JournalDto.TextSearchCursor.decode(cursor), size);
+
+        String nextCursor = null;
+        if (hits.hasNext() && hits.hasContent()) {
+            JournalDto.TextSearchHit last = hits.getContent().get(hits.getNumberOfElements() - 1);
+            nextCursor = JournalDto.TextSearchCursor.of(last.getScore(), last.getJournal().getId()).encode();
+        }
+        return ResponseEntity.ok(new JournalApiDto.CursorResponse<>(
+                hits.map(JournalApiDto.TextSearchHitResponse::new), nextCursor));
+    }
+
     /**
      * 진행 중인 거래 조회
      * [GET] /api/journals/open
@@ -156,6 +300,22 @@ public class JournalController {
         return ResponseEntity.ok(new JournalApiDto.PagedResponse<>(responsesPage));
     }
 
+    /**
+     * 진행 중인 거래 조회 (커서 페이징)
+     * [GET] /api/journals/open?cursor=&size=20
+     */
+    @GetMapping(value = "/open", params = "cursor")
+    public ResponseEntity<JournalApiDto.CursorResponse<JournalApiDto.JournalSummaryResponse>> getOpenTradesByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        String currentUserEmail = AuthUtils.getCurrentUserEmail();
+        Slice<JournalDto.JournalSummary> journalSummaries =
+                journalService.getOpenTrades(currentUserEmail, JournalDto.Cursor.decode(cursor), size);
+
+        return ResponseEntity.ok(toCursorResponse(journalSummaries));
+    }
+
     /**
      * 종료된 거래 조회
      * [GET] /api/journals/closed
@@ -178,6 +338,51 @@ public class JournalController {
         return ResponseEntity.ok(new JournalApiDto.PagedResponse<>(responsesPage));
     }
 
+    /**
+     * 종료된 거래 조회 (커서 페이징)
+     * [GET] /api/journals/closed?cursor=&size=20
+     */
+    @GetMapping(value = "/closed", params = "cursor")
+    public ResponseEntity<JournalApiDto.CursorResponse<JournalApiDto.JournalSummaryResponse>> getClosedTradesByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        String currentUserEmail = AuthUtils.getCurrentUserEmail();
+        Slice<JournalDto.JournalSummary> journalSummaries =
+                journalService.getClosedTrades(currentUserEmail, JournalDto.Cursor.decode(cursor), size);
+
+        return ResponseEntity.ok(toCursorResponse(journalSummaries));
+    }
+
+    /**
+     * 매매일지 전체 내보내기 (CSV / NDJSON, 선택적 gzip)
+     * [GET] /api/journals/export?format=csv&gzip=false
+     * - DB 커서에서 읽은 행을 바로 응답 스트림에 기록하므로 이력 크기와 무관하게 메모리 사용량 일정
+     * - CSV 는 근거를 reasoning(마크다운) / images(이미지 URL, 줄바꿈 구분) 두 컬럼으로 출력
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportJournals(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "false") boolean gzip
+    ) {
+        String currentUserEmail = AuthUtils.getCurrentUserEmail();
+        JournalExportFormat exportFormat = JournalExportFormat.from(format);
+
+        String filename = "journals-" + LocalDate.now() + "." + exportFormat.getExtension() + (gzip ? ".gz" : "");
+        StreamingResponseBody body = outputStream -> {
+            try (JournalExportWriter writer = journalExportWriterFactory.create(
+                    exportFormat, StreamUtils.nonClosing(outputStream), gzip)) {
+                journalExportService.exportJournals(currentUserEmail, writer);
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(gzip ? MediaType.parseMediaType("application/gzip") : exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
     /**
      * 통계 정보 조회
      * [GET] /api/journals/statistics
@@ -190,4 +395,124 @@ public class JournalController {
 
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    /**
+     * 거래 달력 (일별 실현 손익 / 거래 수, 히트맵용)
+     * [GET] /api/journals/calendar?from=2020-01-01&to=2024-12-31
+     * - 일별 집계 행만 읽음 (거래가 없는 날짜는 제외), 미지정 시 오늘 기준 최근 1년
+     */
+    @GetMapping("/calendar")
+    public ResponseEntity<JournalApiDto.CalendarResponse> getCalendar(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        String currentUserEmail = AuthUtils.getCurrentUserEmail();
+        List<JournalDto.CalendarDay> days = journalDailyRollupService.getCalendar(currentUserEmail, from, to);
+
+        return ResponseEntity.ok(new JournalApiDto.CalendarResponse(days));
+    }
+
+    /**
+     * 손익 분석 (그룹별 손익/승률/거래 수)
+     * [GET] /api/journals/analytics?groupBy=SYMBOL|MARKET|TRADE_TYPE|MONTH|WEEKDAY|HOUR
+     * - 검색과 동일한 필터(market, symbol, tradeType, isClosed, startDate, endDate) 지원
+     */
+    @GetMapping("/analytics")
+    public ResponseEntity<JournalApiDto.AnalyticsResponse> getAnalytics(
+            @ModelAttribute JournalApiDto.SearchRequest searchRequest,
+            @RequestParam(defaultValue = "SYMBOL") String groupBy
+    ) {
+        String currentUserEmail = AuthUtils.getCurrentUserEmail();
+        JournalAnalyticsGroup group = JournalAnalyticsGroup.from(groupBy);
+
+        JournalDto.SearchCondition condition = searchRequest.toSearchCondition(currentUserEmail);
+        List<JournalDto.AnalyticsBucket> buckets = journalAnalyticsService.analyze(condition, group);
+
+        return ResponseEntity.ok(new JournalApiDto.AnalyticsResponse(group.name(), buckets));
+    }
+
+    /**
+     * 손익 곡선 / 최대 낙폭 / 낙폭·회복 기간 (종료 거래 기준)
+     * [GET] /api/journals/equity-curve?maxPoints=500
+     * - maxPoints 지정 시 곡선을 해당 포인트 수 이하로 다운샘플링 (미지정 시 전체)
+     * - 시간축(points[].createdAt, 낙폭 구간 시각)은 매매일지 생성 시각
+     */
+    @GetMapping("/equity-curve")
+    public ResponseEntity<JournalApiDto.EquityCurveResponse> getEquityCurve(
+            @RequestParam(required = false) Integer maxPoints
+    ) {
+        String currentUserEmail = AuthUtils.getCurrentUserEmail();
+        JournalDto.EquityCurve curve = journalAnalyticsService.getEquityCurve(currentUserEmail, maxPoints);
+
+        return ResponseEntity.ok(new JournalApiDto.EquityCurveResponse(curve));
+    }
+
+    /**
+     * 위험 지표 조회 (R 배수 / 기대값 / 손익비 / 샤프·소르티노 / 연승·연패)
+     * [GET] /api/journals/risk-metrics
+     */
+    @GetMapping("/risk-metrics")
+    public ResponseEntity<JournalApiDto.RiskMetricsResponse> getRiskMetrics() {
+        String currentUserEmail = AuthUtils.getCurrentUserEmail();
+        JournalDto.RiskMetrics metrics = journalAnalyticsService.getRiskMetrics(currentUserEmail);
+
+        return ResponseEntity.ok(new JournalApiDto.RiskMetricsResponse(metrics));
+    }
+
+    /**
+     * 청산 규칙별 리플레이 (종료 거래를 로컬 봉 데이터 위에서 다시 진행해 실제 손익과 비교)
+     * [POST] /api/journals/replay
+     * - 예: {"rules": [{"name": "stop", "respectStop": true}, {"name": "2R", "respectStop": true, "targetR": 2}]}
+     * - 조회 전용 (저장하지 않음), 봉 데이터가 없는 거래는 모든 규칙에서 실제 손익 유지
+     */
+    @PostMapping("/replay")
+    public ResponseEntity<JournalApiDto.ReplayResponse> replay(
+            @Valid @RequestBody JournalApiDto.ReplayRequest request
+    ) {
+        String currentUserEmail = AuthUtils.getCurrentUserEmail();
+        JournalDto.ReplayResult result = journalReplayService.replay(currentUserEmail, request.toRules());
+
+        return ResponseEntity.ok(new JournalApiDto.ReplayResponse(result));
+    }
+
+    /**
+     * 진행 중 거래 순포지션 조회 ((시장, 심볼)별 롱/숏 순수량, 평균 진입가, 손절 위험)
+     * [GET] /api/journals/positions
+     */
+    @GetMapping("/positions")
+    public ResponseEntity<JournalApiDto.PositionsResponse> getPositions() {
+        String currentUserEmail = AuthUtils.getCurrentUserEmail();
+        List<JournalDto.Position> positions = journalPositionService.getOpenPositions(currentUserEmail);
+
+        return ResponseEntity.ok(new JournalApiDto.PositionsResponse(positions));
+    }
+
+    /**
+     * 진행 중 거래 평가 손익 (가격 피드의 최신 시세 기준)
+     * [GET] /api/journals/unrealized
+     * - 시세에 따라 계속 바뀌므로 ETag(매매일지 버전) 대상이 아님
+     */
+    @GetMapping("/unrealized")
+    public ResponseEntity<JournalApiDto.UnrealizedPnLResponse> getUnrealizedPnL() {
+        String currentUserEmail = AuthUtils.getCurrentUserEmail();
+        JournalDto.UnrealizedPnL unrealized = markToMarketService.getUnrealizedPnL(currentUserEmail);
+
+        return ResponseEntity.ok(new JournalApiDto.UnrealizedPnLResponse(unrealized));
+    }
+
+    /**
+     * Slice -> 커서 응답 (마지막 행의 (createdAt, id)를 다음 커서로 사용)
+     */
+    private JournalApiDto.CursorResponse<JournalApiDto.JournalSummaryResponse> toCursorResponse(
+            Slice<JournalDto.JournalSummary> journalSummaries) {
+        String nextCursor = null;
+        if (journalSummaries.hasNext() && journalSummaries.hasContent()) {
+            JournalDto.JournalSummary last =
+                    journalSummaries.getContent().get(journalSummaries.getNumberOfElements() - 1);
+            nextCursor = JournalDto.Cursor.of(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return new JournalApiDto.CursorResponse<>(
+                journalSummaries.map(JournalApiDto.JournalSummaryResponse::new), nextCursor);
+    }
+}
@@ -5,11 +5,16 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.tbill.backendapi.domain.journal.dto.JournalDto;
 import io.tbill.backendapi.domain.journal.entity.MarketType;
 import io.tbill.backendapi.domain.journal.entity.TradeType;
+import io.tbill.backendapi.domain.journal.replay.ExitRule;
+import io.tbill.backendapi.domain.journal.service.JournalBulkService;
+import io.tbill.backendapi.domain.journal.service.JournalReplayService;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.springframework.data.domain.Page; // [추가]
+import org.springframework.data.domain.Slice;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -134,6 +139,83 @@ public class JournalApiDto {
         }
     }
 
+    /**
+     * 매매일지 일괄 종료 요청
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class BulkCloseRequest {
+        @NotEmpty(message = "종료할 매매일지는 1건 이상이어야 합니다")
+        @Size(max = JournalBulkService.MAX_BULK_SIZE, message = "한 번에 최대 500건까지 종료할 수 있습니다")
+        private List<@Valid @NotNull CloseItemRequest> items;
+
+        public List<JournalDto.CloseItem> toItems() {
+            return items.stream()
+                    .map(item -> new JournalDto.CloseItem(item.getJournalId(), item.getRealizedPnL()))
+                    .toList();
+        }
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class CloseItemRequest {
+        @NotNull(message = "매매일지 ID는 필수입니다")
+        private Long journalId;
+
+        @NotNull(message = "실현 손익은 필수입니다")
+        private BigDecimal realizedPnL;
+    }
+
+    /**
+     * 매매일지 일괄 삭제 요청
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class BulkDeleteRequest {
+        @NotEmpty(message = "삭제할 매매일지는 1건 이상이어야 합니다")
+        @Size(max = JournalBulkService.MAX_BULK_SIZE, message = "한 번에 최대 500건까지 삭제할 수 있습니다")
+        private List<@NotNull Long> journalIds;
+    }
+
+    /**
+     * 리플레이 요청 (청산 규칙 목록, 규칙 이름은 요청 안에서 유일)
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class ReplayRequest {
+        @NotEmpty(message = "청산 규칙은 1개 이상이어야 합니다")
+        @Size(max = JournalReplayService.MAX_RULES, message = "청산 규칙은 최대 32개까지 지정할 수 있습니다")
+        private List<@Valid @NotNull ExitRuleRequest> rules;
+
+        public List<ExitRule> toRules() {
+            return rules.stream()
+                    .map(rule -> new ExitRule(rule.getName(), Boolean.TRUE.equals(rule.getRespectStop()),
+                            rule.getTargetR(), rule.getMaxHoldBars() != null ? rule.getMaxHoldBars() : 0))
+                    .toList();
+        }
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class ExitRuleRequest {
+        @NotBlank(message = "청산 규칙 이름은 필수입니다")
+        @Size(max = ExitRule.MAX_NAME_LENGTH, message = "청산 규칙 이름은 50자 이하여야 합니다")
+        private String name;
+
+        private Boolean respectStop;
+
+        @Positive(message = "목표 R 배수는 0보다 커야 합니다")
+        private Double targetR;
+
+        @PositiveOrZero(message = "최대 보유 봉 수는 0 이상이어야 합니다")
+        private Integer maxHoldBars;
+    }
+
     /**
      * 매매일지 검색 요청
      */
@@ -232,6 +314,19 @@ public class JournalApiDto {
         }
     }
 
+    /**
+     * 전문 검색 결과 응답 (요약 + 관련도 점수)
+     */
+    @Getter
+    public static class TextSearchHitResponse extends JournalSummaryResponse {
+        private final long score;
+
+        public TextSearchHitResponse(JournalDto.TextSearchHit hit) {
+            super(hit.getJournal());
+            this.score = hit.getScore();
+        }
+    }
+
     /**
      * 통계 응답
      */
@@ -242,6 +337,10 @@ public class JournalApiDto {
         private final Long closedTrades;
         private final Long openTrades;
         private final BigDecimal winRate;
+        private final Long winningTrades;
+        private final Long losingTrades;
+        private final BigDecimal grossProfit;
+        private final BigDecimal grossLoss;
 
         public StatisticsResponse(JournalDto.Statistics statistics) {
             this.totalPnL = statistics.getTotalPnL();
@@ -249,6 +348,232 @@ public class JournalApiDto {
             this.closedTrades = statistics.getClosedTrades();
             this.openTrades = statistics.getOpenTrades();
             this.winRate = statistics.getWinRate();
+            this.winningTrades = statistics.getWinningTrades();
+            this.losingTrades = statistics.getLosingTrades();
+            this.grossProfit = statistics.getGrossProfit();
+            this.grossLoss = statistics.getGrossLoss();
+        }
+    }
+
+    /**
+     * 거래 달력 응답 (날짜 오름차순, 거래가 있는 날만)
+     */
+    @Getter
+    public static class CalendarResponse {
+        private final List<JournalDto.CalendarDay> days;
+
+        public CalendarResponse(List<JournalDto.CalendarDay> days) {
+            this.days = days;
+        }
+    }
+
+    /**
+     * 손익 분석 응답 (그룹 키 오름차순)
+     */
+    @Getter
+    public static class AnalyticsResponse {
+        private final String groupBy;
+        private final List<AnalyticsBucketResponse> buckets;
+
+        public AnalyticsResponse(String groupBy, List<JournalDto.AnalyticsBucket> buckets) {
+            this.groupBy = groupBy;
+            this.buckets = buckets.stream()
+                    .map(AnalyticsBucketResponse::new)
+                    .collect(Collectors.toList());
+        }
+    }
+
+    @Getter
+    public static class AnalyticsBucketResponse {
+        private final String key;
+        private final Long totalTrades;
+        private final Long closedTrades;
+        private final Long winningTrades;
+        private final Long losingTrades;
+        private final BigDecimal winRate;
+        private final BigDecimal totalPnL;
+        private final BigDecimal grossProfit;
+        private final BigDecimal grossLoss;
+
+        public AnalyticsBucketResponse(JournalDto.AnalyticsBucket bucket) {
+            JournalDto.Statistics statistics = bucket.getStatistics();
+            this.key = bucket.getKey();
+            this.totalTrades = statistics.getTotalTrades();
+            this.closedTrades = statistics.getClosedTrades();
+            this.winningTrades = statistics.getWinningTrades();
+            this.losingTrades = statistics.getLosingTrades();
+            this.winRate = statistics.getWinRate();
+            this.totalPnL = statistics.getTotalPnL();
+            this.grossProfit = statistics.getGrossProfit();
+            this.grossLoss = statistics.getGrossLoss();
+        }
+    }
+
+    /**
+     * 손익 곡선 / 낙폭 응답 (기간은 초 단위)
+     */
+    @Getter
+    public static class EquityCurveResponse {
+        private final int totalTrades;
+        private final double finalEquity;
+        private final double peakEquity;
+        private final double maxDrawdown;
+        private final double currentDrawdown;
+        private final long longestDrawdownSeconds;
+        private final long longestRecoverySeconds;
+        private final List<DrawdownResponse> drawdowns;
+        private final List<JournalDto.EquityPoint> points;
+
+        public EquityCurveResponse(JournalDto.EquityCurve curve) {
+            this.totalTrades = curve.getTotalTrades();
+            this.finalEquity = curve.getFinalEquity();
+            this.peakEquity = curve.getPeakEquity();
+            this.maxDrawdown = curve.getMaxDrawdown();
+            this.currentDrawdown = curve.getCurrentDrawdown();
+            this.longestDrawdownSeconds = curve.getLongestDrawdownDuration().toSeconds();
+            this.longestRecoverySeconds = curve.getLongestRecoveryDuration().toSeconds();
+            this.drawdowns = curve.getDrawdowns().stream()
+                    .map(DrawdownResponse::new)
+                    .collect(Collectors.toList());
+            this.points = curve.getPoints();
+        }
+    }
+
+    @Getter
+    public static class DrawdownResponse {
+        private final LocalDateTime startedAt;
+        private final LocalDateTime troughAt;
+        private final LocalDateTime recoveredAt;
+        private final double depth;
+        private final long durationSeconds;
+
+        public DrawdownResponse(JournalDto.DrawdownPeriod period) {
+            this.startedAt = period.getStartedAt();
+            this.troughAt = period.getTroughAt();
+            this.recoveredAt = period.getRecoveredAt();
+            this.depth = period.getDepth();
+            this.durationSeconds = period.getDuration().toSeconds();
+        }
+    }
+
+    /**
+     * 위험 지표 응답 (정의할 수 없는 비율은 null)
+     */
+    @Getter
+    public static class RiskMetricsResponse {
+        private final long closedTrades;
+        private final long winningTrades;
+        private final long losingTrades;
+        private final long riskDefinedTrades;
+        private final double totalR;
+        private final Double averageR;
+        private final Double expectancy;
+        private final Double averageWin;
+        private final Double averageLoss;
+        private final Double profitFactor;
+        private final Double payoffRatio;
+        private final Double sharpeRatio;
+        private final Double sortinoRatio;
+        private final int longestWinStreak;
+        private final int longestLossStreak;
+        private final int currentStreak;
+
+        public RiskMetricsResponse(JournalDto.RiskMetrics metrics) {
+            this.closedTrades = metrics.getClosedTrades();
+            this.winningTrades = metrics.getWinningTrades();
+            this.losingTrades = metrics.getLosingTrades();
+            this.riskDefinedTrades = metrics.getRiskDefinedTrades();
+            this.totalR = metrics.getTotalR();
+            this.averageR = metrics.getAverageR();
+            this.expectancy = metrics.getExpectancy();
+            this.averageWin = metrics.getAverageWin();
+            this.averageLoss = metrics.getAverageLoss();
+            this.profitFactor = metrics.getProfitFactor();
+            this.payoffRatio = metrics.getPayoffRatio();
+            this.sharpeRatio = metrics.getSharpeRatio();
+            this.sortinoRatio = metrics.getSortinoRatio();
+            this.longestWinStreak = metrics.getLongestWinStreak();
+            this.longestLossStreak = metrics.getLongestLossStreak();
+            this.currentStreak = metrics.getCurrentStreak();
+        }
+    }
+
+    /**
+     * 리플레이 응답 (청산 규칙별 결과는 요청 순서)
+     */
+    @Getter
+    public static class ReplayResponse {
+        private final int closedTrades;
+        private final int missingBarTrades;
+        private final List<JournalDto.ReplayVariant> variants;
+
+        public ReplayResponse(JournalDto.ReplayResult result) {
+            this.closedTrades = result.getClosedTrades();
+            this.missingBarTrades = result.getMissingBarTrades();
+            this.variants = result.getVariants();
+        }
+    }
+
+    /**
+     * 진행 중 거래 평가 손익 응답 (시세가 없는 심볼의 값은 null)
+     */
+    @Getter
+    public static class UnrealizedPnLResponse {
+        private final double totalUnrealizedPnL;
+        private final int openTrades;
+        private final int unpricedTrades;
+        private final List<JournalDto.UnrealizedPosition> positions;
+
+        public UnrealizedPnLResponse(JournalDto.UnrealizedPnL unrealized) {
+            this.totalUnrealizedPnL = unrealized.getTotalUnrealizedPnL();
+            this.openTrades = unrealized.getOpenTrades();
+            this.unpricedTrades = unrealized.getUnpricedTrades();
+            this.positions = unrealized.getPositions();
+        }
+    }
+
+    /**
+     * 순포지션 목록 응답
+     */
+    @Getter
+    public static class PositionsResponse {
+        private final List<PositionResponse> positions;
+
+        public PositionsResponse(List<JournalDto.Position> positions) {
+            this.positions = positions.stream()
+                    .map(PositionResponse::new)
+                    .collect(Collectors.toList());
+        }
+    }
+
+    @Getter
+    public static class PositionResponse {
+        private final MarketType market;
+        private final String symbol;
+        private final long openTrades;
+        private final BigDecimal longQuantity;
+        private final BigDecimal shortQuantity;
+        private final BigDecimal netQuantity;
+        private final TradeType direction;
+        private final BigDecimal longAverageEntryPrice;
+        private final BigDecimal shortAverageEntryPrice;
+        private final BigDecimal averageEntryPrice;
+        private final BigDecimal stopLossRisk;
+        private final BigDecimal unprotectedQuantity;
+
+        public PositionResponse(JournalDto.Position position) {
+            this.market = position.getMarket();
+            this.symbol = position.getSymbol();
+            this.openTrades = position.getOpenTrades();
+            this.longQuantity = position.getLongQuantity();
+            this.shortQuantity = position.getShortQuantity();
+            this.netQuantity = position.getNetQuantity();
+            this.direction = position.getDirection();
+            this.longAverageEntryPrice = position.getLongAverageEntryPrice();
+            this.shortAverageEntryPrice = position.getShortAverageEntryPrice();
+            this.averageEntryPrice = position.getAverageEntryPrice();
+            this.stopLossRisk = position.getStopLossRisk();
+            this.unprotectedQuantity = position.getUnprotectedQuantity();
         }
     }
 
@@ -273,4 +598,86 @@ public class JournalApiDto {
             this.isLast = page.isLast();
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 커서(Keyset) 페이징 응답 (COUNT 쿼리 없이 다음 페이지 존재 여부만 제공)
+     * - nextCursor를 다음 요청의 cursor 파라미터로 그대로 전달
+     */
+    @Getter
+    public static class CursorResponse<T> {
+        private final List<T> content;
+        private final int size;
+        private final boolean hasNext;
+        private final String nextCursor;
+
+        public CursorResponse(Slice<T> slice, String nextCursor) {
+            this.content = slice.getContent();
+            this.size = slice.getSize();
+            this.hasNext = slice.hasNext();
+            this.nextCursor = nextCursor;
+        }
+    }
+
+    /**
+     * 대량 가져오기 결과 응답
+     * - errors는 최대 1000건까지만 포함 (초과 시 errorsTruncated = true)
+     */
+    @Getter
+    public static class ImportResponse {
+        private final long totalRows;
+        private final long importedRows;
+        private final long failedRows;
+        private final List<ImportErrorResponse> errors;
+        private final boolean errorsTruncated;
+
+        public ImportResponse(JournalDto.ImportResult result) {
+            this.totalRows = result.getTotalRows();
+            this.importedRows = result.getImportedRows();
+            this.failedRows = result.getFailedRows();
+            this.errors = result.getErrors().stream()
+                    .map(ImportErrorResponse::new)
+                    .collect(Collectors.toList());
+            this.errorsTruncated = result.isErrorsTruncated();
+        }
+    }
+
+    /**
+     * 일괄 종료/삭제 결과 응답 (항목별 결과는 요청 순서)
+     */
+    @Getter
+    public static class BulkResponse {
+        private final long succeeded;
+        private final long failed;
+        private final List<BulkOutcomeResponse> results;
+
+        public BulkResponse(JournalDto.BulkResult result) {
+            this.succeeded = result.getSucceeded();
+            this.failed = result.getFailed();
+            this.results = result.getOutcomes().stream()
+                    .map(BulkOutcomeResponse::new)
+                    .collect(Collectors.toList());
+        }
+    }
+
+    @Getter
+    public static class BulkOutcomeResponse {
+        private final Long journalId;
+        private final JournalDto.BulkStatus status;
+
+        public BulkOutcomeResponse(JournalDto.BulkOutcome outcome) {
+            this.journalId = outcome.getJournalId();
+            this.status = outcome.getStatus();
+        }
+    }
+
+    @Getter
+    public static class ImportErrorResponse {
+        private final long rowNumber;
+        private final String message;
+
+        public ImportErrorResponse(JournalDto.ImportError error) {
+            this.rowNumber = error.getRowNumber();
+            this.message = error.getMessage();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package io.tbill.backendapi.presentation.journal.exporter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.tbill.backendapi.domain.journal.dto.JournalDto;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.util.StringJoiner;
+
+/**
+ * CSV(RFC 4180) 내보내기
+ * - 헤더는 가져오기(CsvJournalImportReader) 컬럼명과 동일하여 내보낸 파일을 그대로 다시 가져올 수 있음
+ * - reasoning은 마크다운 본문, images는 근거 이미지 URL을 줄바꿈으로 구분해 한 필드로 출력
+ */
+public class CsvJournalExportWriter extends JournalExportWriter {
+
+    private static final String HEADER = "id,authorEmail,market,symbol,tradeType,quantity,entryPrice," +
+            "stopLossPrice,realizedPnL,reasoning,images,createdAt,updatedAt";
+
+    private final ObjectMapper objectMapper;
+
+    public CsvJournalExportWriter(Writer writer, ObjectMapper objectMapper) {
+        super(writer);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void writeHeader() throws IOException {
+        writer.write(HEADER);
+        writer.write("\r\n");
+    }
+
+    @Override
+    protected void write(JournalDto.JournalInfo info) throws IOException {
+        writer.write(String.valueOf(info.getId()));
+        writeField(info.getAuthorEmail());
+        writeField(info.getMarket().name());
+        writeField(info.getSymbol());
+        writeField(info.getTradeType().name());
+        writeField(info.getQuantity());
+        writeField(info.getEntryPrice());
+        writeField(info.getStopLossPrice());
+        writeField(info.getRealizedPnL());
+        JsonNode reasoning = reasoning(info.getReasoning());
+        writeField(markdown(reasoning));
+        writeField(images(reasoning));
+        writeField(info.getCreatedAt() != null ? info.getCreatedAt().toString() : null);
+        writeField(info.getUpdatedAt() != null ? info.getUpdatedAt().toString() : null);
+        writer.write("\r\n");
+    }
+
+    private void writeField(BigDecimal value) throws IOException {
+        writeField(value != null ? value.toPlainString() : null);
+    }
+
+    private void writeField(String value) throws IOException {
+        writer.write(',');
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private JsonNode reasoning(String reasoningJson) {
+        if (reasoningJson == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(reasoningJson);
+        } catch (IOException e) {
+            return null; // 단건 조회 응답과 동일하게 파싱 불가한 reasoning은 비움
+        }
+    }
+
+    private String markdown(JsonNode reasoning) {
+        JsonNode markdown = reasoning != null ? reasoning.get("markdown") : null;
+        return markdown != null && !markdown.isNull() ? markdown.asText() : null;
+    }
+
+    private String images(JsonNode reasoning) {
+        JsonNode images = reasoning != null ? reasoning.get("images") : null;
+        if (images == null || !images.isArray() || images.isEmpty()) {
+            return null;
+        }
+        StringJoiner urls = new StringJoiner("\n");
+        images.forEach(image -> urls.add(image.asText()));
+        return urls.toString();
+    }
+}
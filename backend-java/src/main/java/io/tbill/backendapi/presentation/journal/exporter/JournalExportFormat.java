@@ -0,0 +1,29 @@
+package io.tbill.backendapi.presentation.journal.exporter;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+import java.util.Locale;
+
+/**
+ * 매매일지 내보내기 형식
+ */
+@Getter
+@RequiredArgsConstructor
+public enum JournalExportFormat {
+    CSV(MediaType.parseMediaType("text/csv;charset=UTF-8"), "csv"),
+    NDJSON(MediaType.parseMediaType("application/x-ndjson;charset=UTF-8"), "ndjson");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    public static JournalExportFormat from(String format) {
+        for (JournalExportFormat value : values()) {
+            if (value.name().equals(format.toUpperCase(Locale.ROOT))) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + format);
+    }
+}
@@ -0,0 +1,55 @@
+package io.tbill.backendapi.presentation.journal.exporter;
+
+import io.tbill.backendapi.domain.journal.dto.JournalDto;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.function.Consumer;
+
+/**
+ * 매매일지 내보내기 Writer
+ * - DB 커서에서 받은 행을 즉시 출력 스트림에 기록 (행을 모아두지 않음)
+ * - 필드 의미는 JournalDto.JournalInfo / 단건 조회 응답과 동일
+ */
+public abstract class JournalExportWriter implements Consumer<JournalDto.JournalInfo>, Closeable {
+
+    protected final Writer writer;
+    private boolean headerWritten;
+
+    protected JournalExportWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    protected void writeHeader() throws IOException {
+    }
+
+    protected abstract void write(JournalDto.JournalInfo info) throws IOException;
+
+    @Override
+    public void accept(JournalDto.JournalInfo info) {
+        try {
+            writeHeaderOnce();
+            write(info);
+        } catch (IOException e) {
+            throw new UncheckedIOException("매매일지 내보내기 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            writeHeaderOnce(); // 빈 이력도 헤더는 출력
+        } finally {
+            writer.close();
+        }
+    }
+
+    private void writeHeaderOnce() throws IOException {
+        if (!headerWritten) {
+            headerWritten = true;
+            writeHeader();
+        }
+    }
+}
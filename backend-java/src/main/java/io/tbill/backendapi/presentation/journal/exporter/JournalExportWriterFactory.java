@@ -0,0 +1,36 @@
+package io.tbill.backendapi.presentation.journal.exporter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 내보내기 형식에 맞는 Writer 생성
+ */
+@Component
+@RequiredArgsConstructor
+public class JournalExportWriterFactory {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ObjectMapper objectMapper;
+
+    public JournalExportWriter create(JournalExportFormat format, OutputStream outputStream, boolean gzip)
+            throws IOException {
+        OutputStream target = gzip ? new GZIPOutputStream(outputStream, BUFFER_SIZE) : outputStream;
+        BufferedWriter writer = new BufferedWriter(
+                new OutputStreamWriter(target, StandardCharsets.UTF_8), BUFFER_SIZE);
+
+        return switch (format) {
+            case CSV -> new CsvJournalExportWriter(writer, objectMapper);
+            case NDJSON -> new NdjsonJournalExportWriter(writer, objectMapper);
+        };
+    }
+}
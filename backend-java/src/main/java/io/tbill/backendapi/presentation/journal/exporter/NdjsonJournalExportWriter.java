@@ -0,0 +1,41 @@
+package io.tbill.backendapi.presentation.journal.exporter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.tbill.backendapi.domain.journal.dto.JournalDto;
+import io.tbill.backendapi.presentation.journal.dto.JournalApiDto;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * NDJSON 내보내기
+ * - 각 줄은 GET /api/journals/{journalId} 응답(JournalResponse)과 동일한 JSON
+ */
+public class NdjsonJournalExportWriter extends JournalExportWriter {
+
+    private final SequenceWriter sequenceWriter;
+
+    public NdjsonJournalExportWriter(Writer writer, ObjectMapper objectMapper) throws IOException {
+        super(writer);
+        this.sequenceWriter = objectMapper.writerFor(JournalApiDto.JournalResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE) // 행마다 flush 하지 않음
+                .withRootValueSeparator("\n")
+                .writeValues(writer);
+    }
+
+    @Override
+    protected void write(JournalDto.JournalInfo info) throws IOException {
+        sequenceWriter.write(new JournalApiDto.JournalResponse(info));
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            sequenceWriter.close();
+        } finally {
+            super.close();
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package io.tbill.backendapi.presentation.journal.importer;
+
+import io.tbill.backendapi.domain.journal.entity.MarketType;
+import io.tbill.backendapi.domain.journal.entity.TradeType;
+import io.tbill.backendapi.presentation.journal.dto.JournalApiDto;
+import jakarta.validation.Validator;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * CSV(RFC 4180) 가져오기 Reader
+ * - 첫 행은 헤더 (market, symbol, tradeType, quantity, entryPrice, stopLossPrice, realizedPnL, reasoning, images)
+ * - 헤더는 대소문자/언더스코어 무시 (trade_type == tradeType)
+ * - 따옴표로 감싼 필드 안의 쉼표/줄바꿈/이중 따옴표("") 지원
+ * - reasoning 컬럼은 마크다운 본문, images 컬럼은 줄바꿈으로 구분한 이미지 URL 목록으로 저장
+ */
+public class CsvJournalImportReader extends JournalImportReader<List<String>> {
+
+    private static final List<String> REQUIRED_COLUMNS =
+            List.of("market", "symbol", "tradetype", "quantity", "entryprice");
+
+    private Map<String, Integer> columnIndexes;
+
+    public CsvJournalImportReader(BufferedReader reader, String authorEmail, Validator validator) {
+        super(reader, authorEmail, validator);
+    }
+
+    @Override
+    protected List<String> readRecord() throws IOException {
+        if (columnIndexes == null) {
+            columnIndexes = readHeader();
+        }
+        List<String> record;
+        do {
+            record = readFields();
+        } while (record != null && isBlank(record));
+        return record;
+    }
+
+    @Override
+    protected JournalApiDto.CreateRequest toRequest(List<String> record) {
+        JournalApiDto.CreateRequest request = new JournalApiDto.CreateRequest();
+        request.setMarket(parseEnum(MarketType.class, "market", value(record, "market")));
+        request.setSymbol(value(record, "symbol"));
+        request.setTradeType(parseEnum(TradeType.class, "tradeType", value(record, "tradetype")));
+        request.setQuantity(parseDecimal("quantity", value(record, "quantity")));
+        request.setEntryPrice(parseDecimal("entryPrice", value(record, "entryprice")));
+        request.setStopLossPrice(parseDecimal("stopLossPrice", value(record, "stoplossprice")));
+        request.setRealizedPnL(parseDecimal("realizedPnL", value(record, "realizedpnl")));
+
+        String markdown = value(record, "reasoning");
+        List<String> images = images(value(record, "images"));
+        if (markdown != null || !images.isEmpty()) {
+            JournalApiDto.ReasoningDto reasoning = new JournalApiDto.ReasoningDto();
+            reasoning.setMarkdown(markdown);
+            reasoning.setImages(images.isEmpty() ? null : images);
+            request.setReasoning(reasoning);
+        }
+        return request;
+    }
+
+    private Map<String, Integer> readHeader() throws IOException {
+        List<String> header = readFields();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV 헤더가 없습니다.");
+        }
+
+        Map<String, Integer> indexes = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            indexes.put(normalize(header.get(i)), i);
+        }
+        for (String column : REQUIRED_COLUMNS) {
+            if (!indexes.containsKey(column)) {
+                throw new IllegalArgumentException("CSV 헤더에 필수 컬럼이 없습니다: " + column);
+            }
+        }
+        return indexes;
+    }
+
+    /**
+     * 레코드 하나 읽기 (따옴표 안의 줄바꿈은 같은 레코드로 처리)
+     */
+    private List<String> readFields() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        while (c != -1) {
+            char ch = (char) c;
+            if (quoted) {
+                if (ch == '"') {
+                    reader.mark(1);
+                    int peek = reader.read();
+                    if (peek == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        if (peek != -1) {
+                            reader.reset();
+                        }
+                    }
+                } else {
+                    field.append(ch);
+                }
+            } else if (ch == '"') {
+                quoted = true;
+            } else if (ch == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (ch == '\n') {
+                break;
+            } else if (ch != '\r') {
+                field.append(ch);
+            }
+            c = reader.read();
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private String value(List<String> record, String column) {
+        Integer index = columnIndexes.get(column);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private List<String> images(String value) {
+        if (value == null) {
+            return List.of();
+        }
+        return value.lines()
+                .map(String::trim)
+                .filter(url -> !url.isEmpty())
+                .toList();
+    }
+
+    private <E extends Enum<E>> E parseEnum(Class<E> type, String name, String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(name + ": 지원하지 않는 값입니다 (" + value + ")");
+        }
+    }
+
+    private BigDecimal parseDecimal(String name, String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + ": 숫자 형식이 아닙니다 (" + value + ")");
+        }
+    }
+
+    private boolean isBlank(List<String> record) {
+        return record.stream().allMatch(String::isBlank);
+    }
+
+    private String normalize(String column) {
+        return column.trim()
+                .replace("_", "")
+                .replace("\uFEFF", "") // UTF-8 BOM
+                .toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,105 @@
+package io.tbill.backendapi.presentation.journal.importer;
+
+import io.tbill.backendapi.domain.journal.dto.JournalDto;
+import io.tbill.backendapi.presentation.journal.dto.JournalApiDto;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 매매일지 가져오기 입력을 한 행씩 읽는 스트리밍 Reader
+ * - 파일 전체를 버퍼링하지 않고 요청 본문에서 필요한 만큼만 읽음
+ * - 각 행은 JournalApiDto.CreateRequest로 변환 후 동일한 Bean Validation 규칙으로 검증
+ *
+ * @param <R> 포맷별 원시 레코드 타입 (CSV: 필드 배열, NDJSON: 한 줄)
+ */
+public abstract class JournalImportReader<R> implements Iterator<JournalDto.ImportRow>, Closeable {
+
+    protected final BufferedReader reader;
+    private final String authorEmail;
+    private final Validator validator;
+
+    private JournalDto.ImportRow next;
+    private long rowNumber;
+    private boolean finished;
+
+    protected JournalImportReader(BufferedReader reader, String authorEmail, Validator validator) {
+        this.reader = reader;
+        this.authorEmail = authorEmail;
+        this.validator = validator;
+    }
+
+    /**
+     * 다음 원시 레코드 (입력 끝이면 null)
+     */
+    protected abstract R readRecord() throws IOException;
+
+    /**
+     * 원시 레코드 -> 생성 요청 (형식 오류는 IllegalArgumentException)
+     */
+    protected abstract JournalApiDto.CreateRequest toRequest(R record);
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !finished) {
+            next = readNext();
+        }
+        return next != null;
+    }
+
+    @Override
+    public JournalDto.ImportRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        JournalDto.ImportRow row = next;
+        next = null;
+        return row;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private JournalDto.ImportRow readNext() {
+        R record;
+        try {
+            record = readRecord();
+        } catch (IOException e) {
+            throw new UncheckedIOException("가져오기 입력을 읽는 중 오류가 발생했습니다.", e);
+        }
+        if (record == null) {
+            finished = true;
+            return null;
+        }
+        rowNumber++;
+
+        try {
+            JournalApiDto.CreateRequest request = toRequest(record);
+            Set<ConstraintViolation<JournalApiDto.CreateRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                return JournalDto.ImportRow.invalid(rowNumber, describe(violations));
+            }
+            return JournalDto.ImportRow.valid(rowNumber, request.toCommand(authorEmail));
+        } catch (IllegalArgumentException e) {
+            return JournalDto.ImportRow.invalid(rowNumber, e.getMessage());
+        }
+    }
+
+    private String describe(Set<ConstraintViolation<JournalApiDto.CreateRequest>> violations) {
+        return violations.stream()
+                .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .collect(Collectors.joining(", "));
+    }
+}
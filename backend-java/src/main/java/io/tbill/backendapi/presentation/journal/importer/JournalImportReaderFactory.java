@@ -0,0 +1,39 @@
+package io.tbill.backendapi.presentation.journal.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Content-Type에 맞는 가져오기 Reader 생성
+ */
+@Component
+@RequiredArgsConstructor
+public class JournalImportReaderFactory {
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    public JournalImportReader<?> create(MediaType contentType, InputStream body, String authorEmail) {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+
+        if (contentType.isCompatibleWith(MediaType.parseMediaType(TEXT_CSV_VALUE))) {
+            return new CsvJournalImportReader(reader, authorEmail, validator);
+        }
+        if (contentType.isCompatibleWith(MediaType.parseMediaType(APPLICATION_NDJSON_VALUE))
+                || contentType.isCompatibleWith(MediaType.APPLICATION_NDJSON)) {
+            return new NdjsonJournalImportReader(reader, authorEmail, validator, objectMapper);
+        }
+        throw new IllegalArgumentException("지원하지 않는 가져오기 형식입니다: " + contentType);
+    }
+}
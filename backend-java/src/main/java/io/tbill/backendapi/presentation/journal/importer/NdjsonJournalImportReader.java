@@ -0,0 +1,42 @@
+package io.tbill.backendapi.presentation.journal.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.tbill.backendapi.presentation.journal.dto.JournalApiDto;
+import jakarta.validation.Validator;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * NDJSON(한 줄에 JSON 객체 하나) 가져오기 Reader
+ * - 각 줄은 POST /api/journals 요청 본문과 동일한 형식
+ */
+public class NdjsonJournalImportReader extends JournalImportReader<String> {
+
+    private final ObjectMapper objectMapper;
+
+    public NdjsonJournalImportReader(BufferedReader reader, String authorEmail, Validator validator,
+                                     ObjectMapper objectMapper) {
+        super(reader, authorEmail, validator);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected String readRecord() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+        } while (line != null && line.isBlank());
+        return line;
+    }
+
+    @Override
+    protected JournalApiDto.CreateRequest toRequest(String line) {
+        try {
+            return objectMapper.readValue(line, JournalApiDto.CreateRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("JSON 형식 오류: " + e.getOriginalMessage());
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package io.tbill.backendapi.presentation.price.controller;
+
+import io.tbill.backendapi.domain.journal.entity.MarketType;
+import io.tbill.backendapi.domain.market.BarInterval;
+import io.tbill.backendapi.domain.market.TickPipeline;
+import io.tbill.backendapi.domain.market.dto.MarketDto;
+import io.tbill.backendapi.presentation.price.dto.PriceFeedApiDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 가격 피드로 집계한 OHLCV 봉 조회 (인스턴스 로컬, 재기동 시 비어 있음)
+ */
+@RestController
+@RequestMapping("/api/prices")
+@RequiredArgsConstructor
+public class PriceBarController {
+
+    private final TickPipeline tickPipeline;
+
+    /**
+     * 최근 마감 봉
+     * [GET] /api/prices/bars?market=STOCK&symbol=AAPL&interval=1m&limit=200
+     */
+    @GetMapping("/bars")
+    public ResponseEntity<PriceFeedApiDto.BarsResponse> getBars(
+            @RequestParam String market,
+            @RequestParam String symbol,
+            @RequestParam(defaultValue = "1m") String interval,
+            @RequestParam(defaultValue = "200") int limit
+    ) {
+        MarketType marketType = MarketType.valueOf(market.toUpperCase(Locale.ROOT));
+        BarInterval barInterval = BarInterval.from(interval);
+        List<MarketDto.Bar> bars = tickPipeline.recentBars(marketType, symbol, barInterval, limit);
+
+        return ResponseEntity.ok(new PriceFeedApiDto.BarsResponse(marketType, symbol, barInterval, bars));
+    }
+}
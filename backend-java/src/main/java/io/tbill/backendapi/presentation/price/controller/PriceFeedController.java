@@ -0,0 +1,108 @@
+package io.tbill.backendapi.presentation.price.controller;
+
+import io.tbill.backendapi.domain.journal.mark.PriceTick;
+import io.tbill.backendapi.domain.journal.mark.PriceTickParser;
+import io.tbill.backendapi.domain.journal.service.MarkToMarketService;
+import io.tbill.backendapi.domain.market.TickPipeline;
+import io.tbill.backendapi.presentation.price.dto.PriceFeedApiDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 가격 피드 수신 (시세 공급 프로세스 -> 이 인스턴스)
+ * - 사용자 JWT 대신 공유 토큰(X-Price-Feed-Token)으로 인증, 토큰이 설정되지 않으면 수신하지 않음 (403)
+ * - 본문은 한 줄에 한 틱 (market,symbol,price[,time[,volume]]), 스트리밍으로 읽어 CHUNK_SIZE 단위로 반영
+ * - 틱마다 봉 집계 파이프라인(TickPipeline)에도 발행, 평가 손익은 청크 단위로 반영
+ *   (파이프라인이 심볼 상한으로 버린 틱도 평가 손익에는 반영)
+ * - 피드는 인스턴스마다 보내야 함 (시세는 인스턴스 로컬)
+ */
+@RestController
+@RequestMapping("/internal/prices")
+public class PriceFeedController {
+
+    public static final String TOKEN_HEADER = "X-Price-Feed-Token";
+    static final int MAX_TICKS_PER_REQUEST = 1_000_000;
+    private static final int CHUNK_SIZE = 1_000;
+
+    private final MarkToMarketService markToMarketService;
+    private final TickPipeline tickPipeline;
+    private final byte[] token;
+
+    public PriceFeedController(MarkToMarketService markToMarketService,
+                               TickPipeline tickPipeline,
+                               @Value("${price-feed.token:}") String token) {
+        this.markToMarketService = markToMarketService;
+        this.tickPipeline = tickPipeline;
+        this.token = token.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 틱 일괄 수신
+     * [POST] /internal/prices/ticks
+     */
+    @PostMapping(value = "/ticks", consumes = {"text/csv", MediaType.TEXT_PLAIN_VALUE})
+    public ResponseEntity<PriceFeedApiDto.TickBatchResponse> receiveTicks(
+            @RequestHeader(value = TOKEN_HEADER, required = false) String requestToken,
+            InputStream body
+    ) throws IOException {
+        if (!authorized(requestToken)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        long received = 0;
+        long applied = 0;
+        long rejected = 0;
+        long barDropped = 0;
+        List<PriceTick> chunk = new ArrayList<>(CHUNK_SIZE);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (++received > MAX_TICKS_PER_REQUEST) {
+                    throw new IllegalArgumentException("한 번에 최대 " + MAX_TICKS_PER_REQUEST + "개 틱까지 보낼 수 있습니다.");
+                }
+                PriceTick tick;
+                try {
+                    tick = PriceTickParser.parse(line, PriceTickParser.now());
+                } catch (IllegalArgumentException e) {
+                    rejected++;
+                    continue;
+                }
+                chunk.add(tick);
+                if (!tickPipeline.publish(tick)) {
+                    barDropped++;
+                }
+                if (chunk.size() == CHUNK_SIZE) {
+                    applied += markToMarketService.ingest(chunk);
+                    chunk.clear();
+                }
+            }
+        }
+        applied += markToMarketService.ingest(chunk);
+
+        return ResponseEntity.ok(new PriceFeedApiDto.TickBatchResponse(
+                received, applied, received - applied - rejected, rejected, barDropped));
+    }
+
+    private boolean authorized(String requestToken) {
+        return token.length > 0 && requestToken != null
+                && MessageDigest.isEqual(token, requestToken.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,51 @@
+package io.tbill.backendapi.presentation.price.dto;
+
+import io.tbill.backendapi.domain.journal.entity.MarketType;
+import io.tbill.backendapi.domain.market.BarInterval;
+import io.tbill.backendapi.domain.market.dto.MarketDto;
+import lombok.Getter;
+
+import java.util.List;
+
+public class PriceFeedApiDto {
+
+    /**
+     * 틱 일괄 수신 결과
+     * - stale: 직전 시세보다 이전 시각이라 버린 틱, rejected: 형식 오류
+     * - barDropped: 평가 손익과 별개로 봉 집계 파이프라인이 최대 심볼 수 도달로 버린 틱
+     */
+    @Getter
+    public static class TickBatchResponse {
+        private final long received;
+        private final long applied;
+        private final long stale;
+        private final long rejected;
+        private final long barDropped;
+
+        public TickBatchResponse(long received, long applied, long stale, long rejected, long barDropped) {
+            this.received = received;
+            this.applied = applied;
+            this.stale = stale;
+            this.rejected = rejected;
+            this.barDropped = barDropped;
+        }
+    }
+
+    /**
+     * 최근 마감 봉 응답 (시작 시각 오름차순)
+     */
+    @Getter
+    public static class BarsResponse {
+        private final MarketType market;
+        private final String symbol;
+        private final String interval;
+        private final List<MarketDto.Bar> bars;
+
+        public BarsResponse(MarketType market, String symbol, BarInterval interval, List<MarketDto.Bar> bars) {
+            this.market = market;
+            this.symbol = symbol;
+            this.interval = interval.getCode();
+            this.bars = bars;
+        }
+    }
+}
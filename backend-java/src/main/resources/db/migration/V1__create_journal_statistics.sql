@@ -0,0 +1,15 @@
+-- 사용자별 매매일지 통계 집계 (JournalStatistics 엔티티)
+-- - 행은 사용자의 첫 매매일지 쓰기 때 upsert 로 생성 후 journal 기준으로 채움 (JournalStatisticsService)
+-- - 로컬(ddl-auto=update)에서 Hibernate 가 먼저 만든 경우를 위해 IF NOT EXISTS
+CREATE TABLE IF NOT EXISTS journal_statistics (
+    author_email   VARCHAR(255)   NOT NULL PRIMARY KEY,
+    total_trades   BIGINT         NOT NULL,
+    closed_trades  BIGINT         NOT NULL,
+    winning_trades BIGINT         NOT NULL,
+    losing_trades  BIGINT         NOT NULL,
+    total_pnl      NUMERIC(38, 2) NOT NULL,
+    gross_profit   NUMERIC(38, 2) NOT NULL,
+    gross_loss     NUMERIC(38, 2) NOT NULL,
+    created_at     TIMESTAMP(6),
+    updated_at     TIMESTAMP(6)
+);
@@ -0,0 +1,16 @@
+-- 매매일지 ID: IDENTITY -> 시퀀스(pooled, INCREMENT 50 = Journal @SequenceGenerator allocationSize) 전환
+-- - ddl-auto=validate 가 시퀀스 존재/증가값을 검증하므로 Hibernate 기동 이전에 생성
+-- - 기존 IDENTITY 로 발급된 ID 와 겹치지 않도록 시퀀스를 최대 ID 이후로 이동 (절대 되돌리지 않음)
+-- - journal 이 아직 없는 새 로컬 DB(ddl-auto=update 가 이후 생성)에서는 이동 생략
+CREATE SEQUENCE IF NOT EXISTS journal_seq INCREMENT BY 50;
+
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.tables
+               WHERE table_schema = current_schema() AND table_name = 'journal') THEN
+        PERFORM setval('journal_seq', GREATEST(
+                (SELECT last_value FROM journal_seq),
+                (SELECT COALESCE(MAX(journal_id), 0) + 1 FROM journal)));
+    END IF;
+END
+$$;
@@ -0,0 +1,27 @@
+-- 매매 근거: journal.reasoning(TEXT) -> journal_reasoning 분리 (수정/삭제 시 본문을 읽지 않도록)
+-- - JournalReasoning 엔티티 테이블이므로 ddl-auto=validate 이전에 생성
+-- - 기존 행은 PLAIN 으로 이관 (GZIP 압축은 이후 쓰기부터 적용), 이관 후 원본 컬럼 삭제
+-- - journal 이 아직 없거나 reasoning 컬럼이 이미 없으면 이관 생략
+CREATE TABLE IF NOT EXISTS journal_reasoning (
+    journal_id    BIGINT PRIMARY KEY,
+    encoding      VARCHAR(10) NOT NULL,
+    content       BYTEA       NOT NULL,
+    original_size INTEGER     NOT NULL,
+    content_hash  VARCHAR(64) NOT NULL
+);
+
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_schema = current_schema() AND table_name = 'journal' AND column_name = 'reasoning') THEN
+        INSERT INTO journal_reasoning (journal_id, encoding, content, original_size, content_hash)
+        SELECT journal_id, 'PLAIN', convert_to(reasoning, 'UTF8'), octet_length(reasoning),
+               encode(sha256(convert_to(reasoning, 'UTF8')), 'hex')
+        FROM journal
+        WHERE reasoning IS NOT NULL
+        ON CONFLICT (journal_id) DO NOTHING;
+
+        ALTER TABLE journal DROP COLUMN reasoning;
+    END IF;
+END
+$$;
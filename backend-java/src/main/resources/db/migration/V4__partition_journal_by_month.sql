@@ -0,0 +1,46 @@
+-- 매매일지 월별 Range 파티셔닝 (created_at) - 1회 변환
+-- - journal 이 일반 테이블이면 파티션 테이블로 변환
+--   이름 변경 -> 파티션 테이블 생성 -> 가장 오래된 행 ~ 3개월 후까지 월 파티션 생성 -> 데이터 이관 -> 구 테이블 삭제
+-- - PK 는 파티션 키를 포함해야 하므로 (journal_id, created_at). 엔티티 매핑(@Id journal_id)은 그대로
+-- - 범위를 벗어난 행은 journal_pdefault 로 (이후 월 파티션은 JournalPartitionMaintainer 가 미리 생성)
+-- - Flyway 잠금 아래에서 한 번만 실행되므로 여러 인스턴스가 동시에 기동해도 한 곳만 변환하고 나머지는 완료를 기다림
+-- - journal 이 아직 없는 새 로컬 DB(ddl-auto=update 가 이후 일반 테이블로 생성)에서는 건너뜀
+--
+-- 운영 적용 절차 (대용량 journal):
+-- - 이관 동안 journal 전체가 ACCESS EXCLUSIVE 로 잠기고 행 수에 비례해 오래 걸림 (수천만 행이면 수 분)
+-- - 애플리케이션 기동 중에 실행하면 liveness probe 가 기동을 중단시켜 롤백/재시도가 반복될 수 있으므로
+--   유지보수 시간에 애플리케이션을 내린 뒤 별도로 먼저 적용할 것 (예: flyway migrate / ./gradlew flywayMigrate 등
+--   애플리케이션과 같은 db/migration 위치를 사용하는 배포 전 작업)
+-- - 다른 세션이 journal 을 잡고 있으면 기다리지 않고 실패 (lock_timeout), 잠금 해제 후 다시 실행
+DO $$
+DECLARE
+    month_start DATE;
+    last_month  DATE;
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace
+               WHERE n.nspname = current_schema() AND c.relname = 'journal' AND c.relkind = 'r') THEN
+        SET LOCAL lock_timeout = '10s';
+        LOCK TABLE journal IN ACCESS EXCLUSIVE MODE;
+
+        ALTER TABLE journal RENAME TO journal_unpartitioned;
+        UPDATE journal_unpartitioned SET created_at = COALESCE(updated_at, now()) WHERE created_at IS NULL;
+
+        CREATE TABLE journal (LIKE journal_unpartitioned INCLUDING DEFAULTS) PARTITION BY RANGE (created_at);
+        ALTER TABLE journal ALTER COLUMN created_at SET NOT NULL;
+        ALTER TABLE journal ADD CONSTRAINT pk_journal PRIMARY KEY (journal_id, created_at);
+        CREATE TABLE journal_pdefault PARTITION OF journal DEFAULT;
+
+        month_start := date_trunc('month', COALESCE((SELECT MIN(created_at) FROM journal_unpartitioned), now()))::date;
+        last_month := (date_trunc('month', now()) + interval '3 months')::date;
+        WHILE month_start <= last_month LOOP
+            EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF journal FOR VALUES FROM (%L) TO (%L)',
+                    'journal_p' || to_char(month_start, 'YYYYMM'),
+                    month_start, (month_start + interval '1 month')::date);
+            month_start := (month_start + interval '1 month')::date;
+        END LOOP;
+
+        INSERT INTO journal SELECT * FROM journal_unpartitioned;
+        DROP TABLE journal_unpartitioned;
+    END IF;
+END
+$$;
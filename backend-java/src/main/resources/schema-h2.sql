@@ -0,0 +1,38 @@
+-- ========================================
+-- H2(테스트) 전용 스키마 보강
+-- - PostgreSQL tsvector 를 사용할 수 없으므로 전문 검색 색인을 역색인 테이블로 대체
+-- - 모든 구문은 재실행 가능(idempotent)해야 함
+-- ========================================
+
+-- 전문 검색 역색인 (JournalTextSearchRepository): 작성자 + 토큰 범위 조회
+CREATE TABLE IF NOT EXISTS journal_search_token (
+    author_email VARCHAR(255) NOT NULL,
+    token        VARCHAR(64)  NOT NULL,
+    journal_id   BIGINT       NOT NULL,
+    frequency    INTEGER      NOT NULL,
+    PRIMARY KEY (author_email, token, journal_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_journal_search_token_journal
+    ON journal_search_token (journal_id);
+
+-- 매매일지 변경 이벤트 Outbox (JournalOutboxRepository, schema-postgresql.sql 과 동일)
+CREATE TABLE IF NOT EXISTS journal_outbox (
+    event_id     BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    author_email VARCHAR(255) NOT NULL,
+    change_type  VARCHAR(10)  NOT NULL,
+    journal_ids  TEXT         NOT NULL,
+    created_at   TIMESTAMP    NOT NULL
+);
+
+-- 일별 손익 집계 (JournalDailyRollupRepository, schema-postgresql.sql 과 동일)
+CREATE TABLE IF NOT EXISTS journal_daily_rollup (
+    author_email   VARCHAR(255)   NOT NULL,
+    trade_date     DATE           NOT NULL,
+    total_trades   INTEGER        NOT NULL,
+    closed_trades  INTEGER        NOT NULL,
+    winning_trades INTEGER        NOT NULL,
+    losing_trades  INTEGER        NOT NULL,
+    realized_pnl   NUMERIC(38, 2) NOT NULL,
+    PRIMARY KEY (author_email, trade_date)
+);
@@ -0,0 +1,84 @@
+-- ========================================
+-- PostgreSQL 전용 스키마 보강 (JPA @Index로 표현할 수 없는 항목)
+-- - spring.sql.init (defer-datasource-initialization) 으로 Hibernate 스키마 생성 이후 매 기동 시 실행
+-- - 모든 구문은 재실행 가능(idempotent)해야 함 (IF NOT EXISTS DDL 만, 데이터 이관/테이블 변환은 db/migration)
+-- - ddl-auto=validate 검증 이후에 실행되므로 엔티티 매핑이 의존하는 테이블/시퀀스는 여기에 두지 말 것 (db/migration)
+-- ========================================
+
+-- 분리(detach)된 오래된 파티션 보관 스키마 (JournalPartitionRepository.detachAndArchive)
+CREATE SCHEMA IF NOT EXISTS journal_archive;
+
+-- 엔티티 @Index 와 동일 (ddl-auto=validate 환경 및 파티션 변환 후에도 보장, 파티션별로 자동 생성됨)
+CREATE INDEX IF NOT EXISTS idx_journal_author_created
+    ON journal (author_email, created_at DESC, journal_id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_journal_author_symbol
+    ON journal (author_email, symbol, created_at DESC, journal_id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_journal_author_market
+    ON journal (author_email, market, created_at DESC, journal_id DESC);
+
+-- 매매일지 검색: 진행 중 / 종료 거래 부분 인덱스
+CREATE INDEX IF NOT EXISTS idx_journal_open_author_created
+    ON journal (author_email, created_at DESC, journal_id DESC)
+    WHERE realized_pnl IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_journal_closed_author_created
+    ON journal (author_email, created_at DESC, journal_id DESC)
+    WHERE realized_pnl IS NOT NULL;
+
+-- 손익 곡선: 종료 거래를 시간순으로 (created_at, realized_pnl)만 읽으므로 realized_pnl 포함 (Index Only Scan)
+CREATE INDEX IF NOT EXISTS idx_journal_closed_equity
+    ON journal (author_email, created_at, journal_id) INCLUDE (realized_pnl)
+    WHERE realized_pnl IS NOT NULL;
+
+-- 순포지션: 진행 중 거래를 (시장, 심볼)별로 집계하는 컬럼을 모두 포함 (Index Only Scan + 정렬된 GROUP BY)
+CREATE INDEX IF NOT EXISTS idx_journal_open_positions
+    ON journal (author_email, market, symbol) INCLUDE (trade_type, quantity, entry_price, stop_loss_price)
+    WHERE realized_pnl IS NULL;
+
+-- 전문 검색 색인 (JournalTextSearchRepository): 심볼 + 근거 마크다운 토큰의 tsvector
+-- 근거는 GZIP 압축 저장되므로 애플리케이션이 쓰기 트랜잭션에서 토큰화한 문서로 갱신
+CREATE TABLE IF NOT EXISTS journal_search_vector (
+    journal_id    BIGINT PRIMARY KEY,
+    author_email  VARCHAR(255) NOT NULL,
+    search_vector TSVECTOR     NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_journal_search_vector
+    ON journal_search_vector USING GIN (search_vector);
+
+CREATE INDEX IF NOT EXISTS idx_journal_search_vector_author
+    ON journal_search_vector (author_email);
+
+-- 매매일지 변경 이벤트 Outbox (JournalOutboxRepository): 변경과 같은 트랜잭션에서 기록, 릴레이가 Kafka 발행 후 삭제
+CREATE TABLE IF NOT EXISTS journal_outbox (
+    event_id     BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    author_email VARCHAR(255) NOT NULL,
+    change_type  VARCHAR(10)  NOT NULL,
+    journal_ids  TEXT         NOT NULL,
+    created_at   TIMESTAMP    NOT NULL
+);
+
+-- 일별 손익 집계 (JournalDailyRollupRepository): 달력은 이 테이블만 읽음, 매매일지 쓰기 트랜잭션에서 증분 갱신
+-- trade_date = created_at 의 날짜. 테이블이 비어 있으면 (최초 생성) journal 기준으로 1회 적재
+CREATE TABLE IF NOT EXISTS journal_daily_rollup (
+    author_email   VARCHAR(255)   NOT NULL,
+    trade_date     DATE           NOT NULL,
+    total_trades   INTEGER        NOT NULL,
+    closed_trades  INTEGER        NOT NULL,
+    winning_trades INTEGER        NOT NULL,
+    losing_trades  INTEGER        NOT NULL,
+    realized_pnl   NUMERIC(38, 2) NOT NULL,
+    PRIMARY KEY (author_email, trade_date)
+);
+
+INSERT INTO journal_daily_rollup
+    (author_email, trade_date, total_trades, closed_trades, winning_trades, losing_trades, realized_pnl)
+SELECT author_email, CAST(created_at AS DATE), COUNT(*), COUNT(realized_pnl),
+       COUNT(*) FILTER (WHERE realized_pnl > 0), COUNT(*) FILTER (WHERE realized_pnl < 0),
+       COALESCE(SUM(realized_pnl), 0)
+FROM journal
+WHERE NOT EXISTS (SELECT 1 FROM journal_daily_rollup)
+GROUP BY author_email, CAST(created_at AS DATE)
+ON CONFLICT (author_email, trade_date) DO NOTHING;
@@ -0,0 +1,103 @@
+package io.tbill.backendapi.domain.common.vo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoneyTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0", "0.00", "123.45", "-98765.43", "0.00000001", "92233720368.54775807"})
+    @DisplayName("BigDecimal 왕복 변환은 값이 같음")
+    void roundTrip(String value) {
+        // given
+        BigDecimal decimal = new BigDecimal(value);
+
+        // when
+        Money money = Money.of(decimal);
+
+        // then
+        assertThat(money.toBigDecimal()).isEqualByComparingTo(decimal);
+    }
+
+    @Test
+    @DisplayName("소수 2자리 표기는 DB numeric(38,2) 값과 문자열까지 동일")
+    void toBigDecimalWithScale() {
+        // given
+        long units = Money.units(new BigDecimal("-40.00"));
+
+        // when
+        BigDecimal result = Money.toBigDecimal(units, 2);
+
+        // then
+        assertThat(result).isEqualTo(new BigDecimal("-40.00"));
+        assertThat(result.toString()).isEqualTo("-40.00");
+    }
+
+    @Test
+    @DisplayName("소수 8자리를 넘는 값 / long 범위를 넘는 값은 변환하지 않음")
+    void rejectsImpreciseConversion() {
+        assertThatThrownBy(() -> Money.of(new BigDecimal("0.000000001")))
+                .isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.of(new BigDecimal("92233720368.54775808")))
+                .isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.toBigDecimal(Money.units(new BigDecimal("0.001")), 2))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    @DisplayName("덧셈/뺄셈 범위 초과는 ArithmeticException")
+    void overflowChecked() {
+        Money max = Money.ofUnits(Long.MAX_VALUE);
+
+        assertThatThrownBy(() -> max.plus(Money.ofUnits(1L))).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.subtract(Long.MIN_VALUE, 1L)).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.ofUnits(Long.MIN_VALUE).negate()).isInstanceOf(ArithmeticException.class);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"10, 3", "-10, 3", "10, -3", "2.5, 2", "-2.5, 2", "0.00000005, 2", "-0.00000005, 2", "7, 7"})
+    @DisplayName("건수 나누기는 BigDecimal HALF_UP(소수 8자리)과 동일")
+    void dividedByMatchesBigDecimal(String value, long divisor) {
+        // given
+        BigDecimal decimal = new BigDecimal(value);
+        BigDecimal expected = decimal.divide(BigDecimal.valueOf(divisor), Money.SCALE, RoundingMode.HALF_UP);
+
+        // when
+        Money result = Money.of(decimal).dividedBy(divisor);
+
+        // then
+        assertThat(result.toBigDecimal()).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"10.00, 3", "-10.00, 3", "0.05, 2", "-0.05, 2", "1.005, 1", "12345.67, 89"})
+    @DisplayName("소수 자릿수를 지정한 나누기는 BigDecimal과 문자열까지 동일 (이중 반올림 없음)")
+    void dividedByWithScale(String value, long divisor) {
+        // given
+        BigDecimal decimal = new BigDecimal(value);
+        BigDecimal expected = decimal.divide(BigDecimal.valueOf(divisor), 2, RoundingMode.HALF_UP);
+
+        // when
+        BigDecimal result = Money.of(decimal).dividedBy(divisor, 2).toBigDecimal(2);
+
+        // then
+        assertThat(result.toString()).isEqualTo(expected.toString());
+    }
+
+    @Test
+    @DisplayName("같은 값이면 동등")
+    void equality() {
+        assertThat(Money.of(new BigDecimal("1.50"))).isEqualTo(Money.of(new BigDecimal("1.5")));
+        assertThat(Money.of(new BigDecimal("1.50"))).hasSameHashCodeAs(Money.of(new BigDecimal("1.5")));
+        assertThat(Money.of(new BigDecimal("-3")).abs()).isEqualTo(Money.of(new BigDecimal("3")));
+    }
+}
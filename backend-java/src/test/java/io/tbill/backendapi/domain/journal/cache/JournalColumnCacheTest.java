@@ -0,0 +1,204 @@
+package io.tbill.backendapi.domain.journal.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.tbill.backendapi.domain.journal.entity.MarketType;
+import io.tbill.backendapi.domain.journal.entity.TradeType;
+import io.tbill.backendapi.domain.journal.event.JournalChangedEvent;
+import io.tbill.backendapi.domain.journal.event.JournalVersionChangedEvent;
+import io.tbill.backendapi.domain.journal.repository.JournalColumnRepository;
+import io.tbill.backendapi.infrastructure.redis.service.JournalVersionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JournalColumnCacheTest {
+
+    private static final String TEST_EMAIL = "test@example.com";
+
+    @Mock
+    private JournalColumnRepository journalColumnRepository;
+
+    @Mock
+    private JournalVersionService journalVersionService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private JournalColumnCache journalColumnCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        journalColumnCache = new JournalColumnCache(journalColumnRepository, journalVersionService,
+                meterRegistry, true, DataSize.ofMegabytes(1));
+    }
+
+    @Test
+    @DisplayName("컬럼 캐시 - 같은 버전이면 DB 재적재 없이 적중")
+    void hitOnSameVersion() {
+        // given
+        when(journalVersionService.getVersion(TEST_EMAIL)).thenReturn(Optional.of(3L));
+        when(journalColumnRepository.load(TEST_EMAIL, 3L)).thenReturn(columns(3L, row(1L, 1_000L)));
+
+        // when
+        journalColumnCache.get(TEST_EMAIL);
+        Optional<JournalColumns> result = journalColumnCache.get(TEST_EMAIL);
+
+        // then
+        assertThat(result).isPresent();
+        verify(journalColumnRepository, times(1)).load(TEST_EMAIL, 3L);
+        assertThat(requests("hit")).isEqualTo(1.0);
+        assertThat(requests("miss")).isEqualTo(1.0);
+        assertThat(meterRegistry.get("journal.column.cache.size").gauge().value())
+                .isEqualTo((double) result.get().estimatedBytes());
+    }
+
+    @Test
+    @DisplayName("컬럼 캐시 - 버전이 바뀌었으면(다른 인스턴스 변경) 다시 적재")
+    void reloadOnVersionMismatch() {
+        // given
+        when(journalVersionService.getVersion(TEST_EMAIL)).thenReturn(Optional.of(3L), Optional.of(4L));
+        when(journalColumnRepository.load(TEST_EMAIL, 3L)).thenReturn(columns(3L, row(1L, 1_000L)));
+        when(journalColumnRepository.load(TEST_EMAIL, 4L)).thenReturn(columns(4L, row(1L, 1_000L), row(2L, 2_000L)));
+
+        // when
+        journalColumnCache.get(TEST_EMAIL);
+        Optional<JournalColumns> result = journalColumnCache.get(TEST_EMAIL);
+
+        // then
+        assertThat(result).get().extracting(JournalColumns::size).isEqualTo(2);
+        assertThat(requests("miss")).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("컬럼 캐시 - 버전 조회 실패(Redis 장애) 시 캐시 사용 안 함")
+    void bypassWhenVersionUnavailable() {
+        // given
+        when(journalVersionService.getVersion(TEST_EMAIL)).thenReturn(Optional.empty());
+
+        // when
+        Optional<JournalColumns> result = journalColumnCache.get(TEST_EMAIL);
+
+        // then
+        assertThat(result).isEmpty();
+        verify(journalColumnRepository, never()).load(anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("컬럼 캐시 - 전체 용량을 넘으면 가장 오래 사용하지 않은 사용자부터 제거")
+    void evictLeastRecentlyUsedByBytes() {
+        // given: 사용자당 약 0.4MB, 한도 1MB
+        when(journalVersionService.getVersion(anyString())).thenReturn(Optional.of(0L));
+        when(journalColumnRepository.load(anyString(), anyLong())).thenAnswer(invocation -> largeColumns(9_000));
+
+        // when
+        journalColumnCache.get("a@example.com");
+        journalColumnCache.get("b@example.com");
+        journalColumnCache.get("a@example.com"); // a 최근 사용
+        journalColumnCache.get("c@example.com"); // b 제거
+
+        // then
+        assertThat(journalColumnCache.userCount()).isEqualTo(2);
+        assertThat(journalColumnCache.totalBytes()).isLessThanOrEqualTo(DataSize.ofMegabytes(1).toBytes());
+        assertThat(meterRegistry.get("journal.column.cache.evictions").counter().count()).isEqualTo(1.0);
+
+        journalColumnCache.get("a@example.com");
+        assertThat(requests("hit")).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("컬럼 캐시 - 직전 버전 스냅샷이면 변경된 행만 반영")
+    void patchCreatedRows() {
+        // given
+        when(journalVersionService.getVersion(TEST_EMAIL)).thenReturn(Optional.of(3L), Optional.of(4L));
+        when(journalColumnRepository.load(TEST_EMAIL, 3L))
+                .thenReturn(columns(3L, row(1L, 1_000L), row(3L, 3_000L)));
+        when(journalColumnRepository.findRows(TEST_EMAIL, List.of(2L))).thenReturn(List.of(row(2L, 2_000L)));
+        journalColumnCache.get(TEST_EMAIL);
+
+        // when
+        journalColumnCache.onVersionChanged(new JournalVersionChangedEvent(
+                JournalChangedEvent.created(TEST_EMAIL, List.of(2L)), 4L));
+        JournalColumns result = journalColumnCache.get(TEST_EMAIL).orElseThrow();
+
+        // then
+        assertThat(result.version()).isEqualTo(4L);
+        assertThat(List.of(result.id(0), result.id(1), result.id(2))).containsExactly(1L, 2L, 3L);
+        verify(journalColumnRepository, times(1)).load(anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("컬럼 캐시 - 삭제 이벤트는 DB 조회 없이 행 제거")
+    void patchDeletedRow() {
+        // given
+        when(journalVersionService.getVersion(TEST_EMAIL)).thenReturn(Optional.of(3L));
+        when(journalColumnRepository.load(TEST_EMAIL, 3L))
+                .thenReturn(columns(3L, row(1L, 1_000L), row(2L, 2_000L)));
+        journalColumnCache.get(TEST_EMAIL);
+
+        // when
+        journalColumnCache.onVersionChanged(new JournalVersionChangedEvent(
+                JournalChangedEvent.deleted(TEST_EMAIL, 1L), 4L));
+
+        // then
+        when(journalVersionService.getVersion(TEST_EMAIL)).thenReturn(Optional.of(4L));
+        JournalColumns result = journalColumnCache.get(TEST_EMAIL).orElseThrow();
+        assertThat(result.size()).isEqualTo(1);
+        assertThat(result.id(0)).isEqualTo(2L);
+        verify(journalColumnRepository, never()).findRows(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("컬럼 캐시 - 중간 버전을 놓쳤거나 버전 증가 실패 시 제거")
+    void evictOnVersionGap() {
+        // given
+        when(journalVersionService.getVersion(TEST_EMAIL)).thenReturn(Optional.of(3L));
+        when(journalColumnRepository.load(TEST_EMAIL, 3L)).thenReturn(columns(3L, row(1L, 1_000L)));
+        journalColumnCache.get(TEST_EMAIL);
+
+        // when
+        journalColumnCache.onVersionChanged(new JournalVersionChangedEvent(
+                JournalChangedEvent.updated(TEST_EMAIL, 1L), 5L));
+
+        // then
+        assertThat(journalColumnCache.userCount()).isZero();
+        assertThat(journalColumnCache.totalBytes()).isZero();
+        verify(journalColumnRepository, never()).findRows(anyString(), any());
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("journal.column.cache.requests").tag("result", result).counter().count();
+    }
+
+    private static JournalColumns columns(long version, JournalColumns.Row... rows) {
+        JournalColumns.Builder builder = JournalColumns.builder(version);
+        for (JournalColumns.Row row : rows) {
+            builder.add(row);
+        }
+        return builder.build();
+    }
+
+    private static JournalColumns largeColumns(int size) {
+        JournalColumns.Builder builder = JournalColumns.builder(0L);
+        for (int i = 0; i < size; i++) {
+            builder.add(row(i, i * 1_000L));
+        }
+        return builder.build();
+    }
+
+    private static JournalColumns.Row row(long id, long createdAt) {
+        return new JournalColumns.Row(id, createdAt, MarketType.STOCK, "AAPL", TradeType.LONG,
+                100_000_000L, 10_000_000_000L, JournalColumns.NO_PRICE, JournalColumns.NO_PNL);
+    }
+}
@@ -6,8 +6,10 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class JournalDtoTest {
 
@@ -45,7 +47,6 @@ class JournalDtoTest {
                 .entryPrice(new BigDecimal("45000.00"))
                 .stopLossPrice(new BigDecimal("42000.00"))
                 .realizedPnL(new BigDecimal("1000.00"))
-                .reasoning("{\"markdown\":\"테스트\"}")
                 .build();
 
         // when
@@ -57,4 +58,29 @@ class JournalDtoTest {
         assertThat(info.getSymbol()).isEqualTo("BTC");
         assertThat(info.getRealizedPnL()).isEqualByComparingTo(new BigDecimal("1000.00"));
     }
+
+    @Test
+    @DisplayName("커서 인코딩/디코딩 왕복")
+    void cursorRoundTrip() {
+        // given
+        JournalDto.Cursor cursor = JournalDto.Cursor.of(
+                LocalDateTime.of(2024, 3, 15, 9, 30, 12, 123456000), 42L);
+
+        // when
+        JournalDto.Cursor decoded = JournalDto.Cursor.decode(cursor.encode());
+
+        // then
+        assertThat(decoded.getCreatedAt()).isEqualTo(cursor.getCreatedAt());
+        assertThat(decoded.getId()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("빈 커서는 첫 페이지, 잘못된 커서는 예외")
+    void cursorDecode_BlankAndInvalid() {
+        assertThat(JournalDto.Cursor.decode("")).isSameAs(JournalDto.Cursor.FIRST);
+        assertThat(JournalDto.Cursor.decode(null)).isSameAs(JournalDto.Cursor.FIRST);
+        assertThatThrownBy(() -> JournalDto.Cursor.decode("not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("유효하지 않은 커서");
+    }
 }
@@ -0,0 +1,55 @@
+package io.tbill.backendapi.domain.journal.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JournalReasoningTest {
+
+    @Test
+    @DisplayName("짧은 근거는 원문(PLAIN) 저장")
+    void smallReasoningIsPlain() {
+        // given
+        String text = "{\"markdown\":\"돌파 매매\",\"images\":[]}";
+
+        // when
+        JournalReasoning reasoning = JournalReasoning.of(1L, text);
+
+        // then
+        assertThat(reasoning.getEncoding()).isEqualTo(JournalReasoning.Encoding.PLAIN);
+        assertThat(reasoning.getOriginalSize()).isEqualTo(reasoning.getContent().length);
+        assertThat(reasoning.getText()).isEqualTo(text);
+        assertThat(reasoning.isNew()).isTrue();
+    }
+
+    @Test
+    @DisplayName("큰 근거는 GZIP 압축 저장 후 원문 복원")
+    void largeReasoningIsCompressed() {
+        // given
+        String text = "{\"markdown\":\"" + "추세 확인, 거래량 증가\\n".repeat(5_000) + "\",\"images\":[]}";
+
+        // when
+        JournalReasoning reasoning = JournalReasoning.of(1L, text);
+
+        // then
+        assertThat(reasoning.getEncoding()).isEqualTo(JournalReasoning.Encoding.GZIP);
+        assertThat(reasoning.getContent().length).isLessThan(reasoning.getOriginalSize() / 10);
+        assertThat(reasoning.getText()).isEqualTo(text);
+        assertThat(JournalReasoning.decode(reasoning.getEncoding(), reasoning.getContent())).isEqualTo(text);
+    }
+
+    @Test
+    @DisplayName("해시는 본문 기준 (인코딩과 무관)")
+    void hashDependsOnTextOnly() {
+        // given
+        String text = "근거".repeat(2_000);
+
+        // when
+        JournalReasoning reasoning = JournalReasoning.of(1L, text);
+
+        // then
+        assertThat(reasoning.getContentHash()).isEqualTo(JournalReasoning.hash(text)).hasSize(64);
+        assertThat(JournalReasoning.hash(text + " ")).isNotEqualTo(reasoning.getContentHash());
+    }
+}
@@ -0,0 +1,51 @@
+package io.tbill.backendapi.domain.journal.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JournalStatisticsTest {
+
+    @Test
+    @DisplayName("생성/종료/삭제 delta 반영")
+    void applyDeltas() {
+        // given
+        JournalStatistics statistics = JournalStatistics.empty("test@example.com");
+
+        // when
+        statistics.addTrade(null);                                  // 진행 중 거래
+        statistics.addTrade(new BigDecimal("500.00"));              // 수익 거래
+        statistics.changeRealizedPnL(null, new BigDecimal("-200.00")); // 진행 중 -> 손실 종료
+        statistics.removeTrade(new BigDecimal("500.00"));           // 수익 거래 삭제
+
+        // then
+        assertThat(statistics.getTotalTrades()).isEqualTo(1L);
+        assertThat(statistics.getClosedTrades()).isEqualTo(1L);
+        assertThat(statistics.getWinningTrades()).isZero();
+        assertThat(statistics.getLosingTrades()).isEqualTo(1L);
+        assertThat(statistics.getTotalPnL()).isEqualByComparingTo(new BigDecimal("-200.00"));
+        assertThat(statistics.getGrossProfit()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(statistics.getGrossLoss()).isEqualByComparingTo(new BigDecimal("200.00"));
+    }
+
+    @Test
+    @DisplayName("손익 정정 시 승/패 분류 이동")
+    void changeRealizedPnL_MovesBetweenWinAndLoss() {
+        // given
+        JournalStatistics statistics = JournalStatistics.empty("test@example.com");
+        statistics.addTrade(new BigDecimal("-100.00"));
+
+        // when
+        statistics.changeRealizedPnL(new BigDecimal("-100.00"), new BigDecimal("250.00"));
+
+        // then
+        assertThat(statistics.getClosedTrades()).isEqualTo(1L);
+        assertThat(statistics.getWinningTrades()).isEqualTo(1L);
+        assertThat(statistics.getLosingTrades()).isZero();
+        assertThat(statistics.getTotalPnL()).isEqualByComparingTo(new BigDecimal("250.00"));
+        assertThat(statistics.getGrossLoss()).isEqualByComparingTo(BigDecimal.ZERO);
+    }
+}
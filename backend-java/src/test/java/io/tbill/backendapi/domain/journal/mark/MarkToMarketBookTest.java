@@ -0,0 +1,145 @@
+package io.tbill.backendapi.domain.journal.mark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.tbill.backendapi.domain.journal.dto.JournalDto;
+import io.tbill.backendapi.domain.journal.entity.MarketType;
+import io.tbill.backendapi.domain.journal.entity.TradeType;
+import io.tbill.backendapi.domain.journal.repository.JournalPositionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class MarkToMarketBookTest {
+
+    private static final String TEST_EMAIL = "test@example.com";
+    private static final String OTHER_EMAIL = "other@example.com";
+
+    private final MarkToMarketBook book = new MarkToMarketBook(new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("평가 손익 - 틱은 해당 심볼 보유분만 갱신, 이전 시각 틱은 버림")
+    void ticksUpdateOnlyTheirSymbol() {
+        // given
+        book.track(TEST_EMAIL, 1L, List.of(
+                trade(1L, "AAPL", TradeType.LONG, "10", "100"),
+                trade(2L, "AAPL", TradeType.SHORT, "5", "110"),
+                trade(3L, "TSLA", TradeType.LONG, "2", "200")));
+        book.track(OTHER_EMAIL, 1L, List.of(trade(4L, "AAPL", TradeType.LONG, "1", "50")));
+
+        // when & then
+        assertThat(book.snapshot(TEST_EMAIL).get().getUnpricedTrades()).isEqualTo(3);
+
+        // 롱 (105 - 100) × 10 + 숏 (110 - 105) × 5
+        assertThat(book.onTick(tick("AAPL", 105, 1_000))).isTrue();
+        assertThat(total(TEST_EMAIL)).isCloseTo(75, within(1e-9));
+        assertThat(total(OTHER_EMAIL)).isCloseTo(55, within(1e-9));
+
+        assertThat(book.onTick(tick("TSLA", 190, 1_000))).isTrue();
+        assertThat(total(TEST_EMAIL)).isCloseTo(55, within(1e-9));
+        assertThat(total(OTHER_EMAIL)).isCloseTo(55, within(1e-9));
+
+        assertThat(book.onTick(tick("AAPL", 104, 999))).isFalse();
+        assertThat(book.onTick(tick("AAPL", 100, 2_000))).isTrue();
+        assertThat(total(TEST_EMAIL)).isCloseTo(30, within(1e-9));
+
+        JournalDto.UnrealizedPnL snapshot = book.snapshot(TEST_EMAIL).get();
+        assertThat(snapshot.getOpenTrades()).isEqualTo(3);
+        assertThat(snapshot.getUnpricedTrades()).isZero();
+        JournalDto.UnrealizedPosition aapl = snapshot.getPositions().get(0);
+        assertThat(aapl.getSymbol()).isEqualTo("AAPL");
+        assertThat(aapl.getPrice()).isEqualTo(100.0);
+        assertThat(aapl.getNetQuantity()).isEqualTo(5.0);
+        assertThat(aapl.getUnrealizedPnL()).isCloseTo(50, within(1e-9));
+        assertThat(aapl.getTrades()).extracting(JournalDto.UnrealizedTrade::getUnrealizedPnL)
+                .containsExactly(0.0, 50.0);
+    }
+
+    @Test
+    @DisplayName("평가 손익 - 보유분 교체 시 빠진 심볼은 색인에서 제거되고 합계는 현재 시세로 재계산")
+    void retrackReplacesHoldings() {
+        // given
+        book.onTick(tick("AAPL", 110, 1_000));
+        book.onTick(tick("TSLA", 210, 1_000));
+        book.track(TEST_EMAIL, 1L, List.of(
+                trade(1L, "AAPL", TradeType.LONG, "10", "100"),
+                trade(3L, "TSLA", TradeType.LONG, "2", "200")));
+        assertThat(total(TEST_EMAIL)).isCloseTo(120, within(1e-9));
+
+        // when: TSLA 종료
+        book.track(TEST_EMAIL, 2L, List.of(trade(1L, "AAPL", TradeType.LONG, "10", "100")));
+        book.onTick(tick("TSLA", 300, 2_000));
+
+        // then
+        assertThat(total(TEST_EMAIL)).isCloseTo(100, within(1e-9));
+        assertThat(book.trackedVersion(TEST_EMAIL)).contains(2L);
+
+        // 이전 버전 재적재는 무시
+        book.track(TEST_EMAIL, 1L, List.of());
+        assertThat(book.trackedVersion(TEST_EMAIL)).contains(2L);
+
+        book.untrack(TEST_EMAIL);
+        book.onTick(tick("AAPL", 120, 3_000));
+        assertThat(book.snapshot(TEST_EMAIL)).isEmpty();
+        assertThat(book.quote(MarketType.STOCK, "AAPL").get().price()).isEqualTo(120.0);
+    }
+
+    @Test
+    @DisplayName("평가 손익 - 여러 스레드가 서로 다른 심볼 틱을 동시에 반영해도 합계가 최종 시세와 일치")
+    void concurrentTicks() throws Exception {
+        // given
+        String[] symbols = {"AAPL", "TSLA", "MSFT", "NVDA"};
+        List<JournalPositionRepository.OpenTrade> trades = new ArrayList<>();
+        for (int i = 0; i < symbols.length; i++) {
+            trades.add(trade(i + 1, symbols[i], i % 2 == 0 ? TradeType.LONG : TradeType.SHORT, "3", "100"));
+        }
+        book.track(TEST_EMAIL, 1L, trades);
+        int ticksPerSymbol = 20_000;
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(symbols.length);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (String symbol : symbols) {
+                futures.add(executor.submit(() -> {
+                    for (int t = 1; t <= ticksPerSymbol; t++) {
+                        book.onTick(tick(symbol, 100 + (t % 7), t));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // then: 최종 가격 100 + (20000 % 7) = 101 -> 롱 +3 × 2, 숏 -3 × 2
+        assertThat(total(TEST_EMAIL)).isCloseTo(0, within(1e-6));
+        assertThat(book.snapshot(TEST_EMAIL).get().getPositions())
+                .extracting(JournalDto.UnrealizedPosition::getUnrealizedPnL)
+                .containsExactly(3.0, -3.0, 3.0, -3.0);
+    }
+
+    private double total(String email) {
+        return book.snapshot(email).get().getTotalUnrealizedPnL();
+    }
+
+    private static PriceTick tick(String symbol, double price, long epochMillis) {
+        return new PriceTick(MarketType.STOCK, symbol, price, epochMillis);
+    }
+
+    private static JournalPositionRepository.OpenTrade trade(long id, String symbol, TradeType tradeType,
+                                                             String quantity, String entryPrice) {
+        return new JournalPositionRepository.OpenTrade(id, MarketType.STOCK, symbol, tradeType,
+                new BigDecimal(quantity), new BigDecimal(entryPrice));
+    }
+}
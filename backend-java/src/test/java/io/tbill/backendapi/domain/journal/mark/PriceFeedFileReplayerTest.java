@@ -0,0 +1,50 @@
+package io.tbill.backendapi.domain.journal.mark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.tbill.backendapi.domain.journal.entity.MarketType;
+import io.tbill.backendapi.domain.market.TickPipeline;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PriceFeedFileReplayerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MarkToMarketBook markToMarketBook = new MarkToMarketBook(meterRegistry);
+    private final TickPipeline tickPipeline = new TickPipeline(meterRegistry, 1024, 1, 1, 10);
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        tickPipeline.destroy();
+    }
+
+    @Test
+    @DisplayName("틱 파일 재생 - 봉 집계가 심볼 상한으로 버린 틱도 평가 손익 시세에는 반영")
+    void markToMarketIgnoresPipelineSymbolLimit(@TempDir Path directory) throws IOException {
+        // given
+        Path file = directory.resolve("ticks.csv");
+        Files.writeString(file, """
+                market,symbol,price,time
+                STOCK,AAPL,190.25,2024-03-15 09:30:00
+                STOCK,TSLA,170.5,2024-03-15 09:30:01
+                STOCK,TSLA,abc
+                """);
+        PriceFeedFileReplayer replayer = new PriceFeedFileReplayer(markToMarketBook, tickPipeline, "");
+
+        // when
+        long applied = replayer.replay(file);
+
+        // then
+        assertThat(applied).isEqualTo(2);
+        assertThat(markToMarketBook.quote(MarketType.STOCK, "TSLA")).hasValueSatisfying(
+                quote -> assertThat(quote.price()).isEqualTo(170.5));
+        assertThat(meterRegistry.counter("tick_pipeline.dropped").count()).isEqualTo(1);
+    }
+}
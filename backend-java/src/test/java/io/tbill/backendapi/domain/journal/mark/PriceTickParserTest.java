@@ -0,0 +1,50 @@
+package io.tbill.backendapi.domain.journal.mark;
+
+import io.tbill.backendapi.domain.journal.entity.MarketType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PriceTickParserTest {
+
+    @Test
+    @DisplayName("틱 파싱 - 시각 생략 시 수신 시각, ISO 시각 지정")
+    void parse() {
+        // when
+        PriceTick received = PriceTickParser.parse("CRYPTO,BTC/USDT,43000.5", 123L);
+        PriceTick timed = PriceTickParser.parse("STOCK, AAPL ,190.25,2024-03-15 09:30:00", 123L);
+        PriceTick traded = PriceTickParser.parse("STOCK,AAPL,190.25,,300", 123L);
+
+        // then
+        assertThat(received.market()).isEqualTo(MarketType.CRYPTO);
+        assertThat(received.symbol()).isEqualTo("BTC/USDT");
+        assertThat(received.price()).isEqualTo(43000.5);
+        assertThat(received.epochMillis()).isEqualTo(123L);
+        assertThat(received.volume()).isZero();
+        assertThat(timed.symbol()).isEqualTo("AAPL");
+        assertThat(timed.epochMillis())
+                .isEqualTo(LocalDateTime.of(2024, 3, 15, 9, 30).toInstant(ZoneOffset.UTC).toEpochMilli());
+        assertThat(traded.epochMillis()).isEqualTo(123L);
+        assertThat(traded.volume()).isEqualTo(300);
+    }
+
+    @Test
+    @DisplayName("틱 파싱 - 컬럼 부족 / 알 수 없는 시장 / 0 이하 가격 / 음수 체결량은 거부")
+    void reject() {
+        assertThatThrownBy(() -> PriceTickParser.parse("STOCK,AAPL", 0L))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PriceTickParser.parse("BOND,AAPL,100", 0L))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PriceTickParser.parse("STOCK,AAPL,0", 0L))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PriceTickParser.parse("STOCK,AAPL,NaN", 0L))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PriceTickParser.parse("STOCK,AAPL,100,,-1", 0L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
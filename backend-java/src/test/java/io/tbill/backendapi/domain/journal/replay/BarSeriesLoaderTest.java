@@ -0,0 +1,65 @@
+package io.tbill.backendapi.domain.journal.replay;
+
+import io.tbill.backendapi.domain.journal.entity.MarketType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BarSeriesLoaderTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("봉 데이터 적재 - 헤더 건너뜀, 심볼의 '/'는 '_'로 파일명 변환, 같은 파일은 재사용")
+    void load() throws IOException {
+        // given
+        Files.createDirectories(directory.resolve("CRYPTO"));
+        Files.writeString(directory.resolve("CRYPTO/BTC_USDT.csv"), """
+                time,open,high,low,close,volume
+                2024-01-02T09:00:00,100,101,99,100.5,12.5
+                2024-01-02 10:00:00,100.5,103,100,102,8
+                """);
+        BarSeriesLoader loader = new BarSeriesLoader(directory, 16);
+
+        // when
+        Optional<BarSeries> series = loader.load(MarketType.CRYPTO, "BTC/USDT");
+
+        // then
+        assertThat(series).isPresent();
+        assertThat(series.get().size()).isEqualTo(2);
+        assertThat(series.get().openTime(1))
+                .isEqualTo(LocalDateTime.of(2024, 1, 2, 10, 0).toInstant(ZoneOffset.UTC).toEpochMilli());
+        assertThat(series.get().close(0)).isEqualTo(100.5);
+        assertThat(series.get().volume(0)).isEqualTo(12.5);
+        assertThat(series.get().indexAtOrAfter(
+                LocalDateTime.of(2024, 1, 2, 9, 30).toInstant(ZoneOffset.UTC).toEpochMilli())).isEqualTo(1);
+        assertThat(loader.load(MarketType.CRYPTO, "BTC/USDT").get()).isSameAs(series.get());
+    }
+
+    @Test
+    @DisplayName("봉 데이터 적재 - 파일 없음 / 시각 역순 / 디렉터리 밖 경로는 empty")
+    void loadRejected() throws IOException {
+        // given
+        Files.createDirectories(directory.resolve("STOCK"));
+        Files.writeString(directory.resolve("STOCK/AAPL.csv"), """
+                2024-01-03,100,101,99,100,1000
+                2024-01-02,100,101,99,100,1000
+                """);
+        BarSeriesLoader loader = new BarSeriesLoader(directory, 16);
+
+        // when & then
+        assertThat(loader.load(MarketType.STOCK, "MSFT")).isEmpty();
+        assertThat(loader.load(MarketType.STOCK, "AAPL")).isEmpty();
+        assertThat(loader.resolve(MarketType.STOCK, "../../etc/passwd")).isEmpty();
+    }
+}
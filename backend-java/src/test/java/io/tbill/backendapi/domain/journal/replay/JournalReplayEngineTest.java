@@ -0,0 +1,165 @@
+package io.tbill.backendapi.domain.journal.replay;
+
+import io.tbill.backendapi.domain.journal.cache.JournalColumns;
+import io.tbill.backendapi.domain.journal.dto.JournalDto;
+import io.tbill.backendapi.domain.journal.entity.MarketType;
+import io.tbill.backendapi.domain.journal.entity.TradeType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class JournalReplayEngineTest {
+
+    private static final long START = LocalDateTime.of(2024, 1, 2, 9, 0).toInstant(ZoneOffset.UTC).toEpochMilli();
+    private static final long HOUR = 3_600_000L;
+
+    // AAPL 1시간 봉: 1번 봉에서 95 이탈, 2번 봉에서 110 도달, 3번 봉에서 120 도달
+    private static final BarSeries AAPL = BarSeries.builder(4)
+            .add(START, 100, 101, 99, 100, 1_000)
+            .add(START + HOUR, 100, 102, 94, 96, 1_000)
+            .add(START + 2 * HOUR, 96, 112, 95, 110, 1_000)
+            .add(START + 3 * HOUR, 110, 121, 109, 120, 1_000)
+            .build();
+
+    private static final ExitRule ACTUAL = new ExitRule("actual", false, null, 0);
+    private static final ExitRule STOP = new ExitRule("stop", true, null, 0);
+    private static final ExitRule TARGET_2R = new ExitRule("2R", false, 2.0, 0);
+    private static final ExitRule TWO_BARS = new ExitRule("2bars", false, null, 2);
+
+    private final JournalReplayEngine engine = new JournalReplayEngine(4);
+
+    @AfterEach
+    void tearDown() {
+        engine.destroy();
+    }
+
+    @Test
+    @DisplayName("리플레이 - 실제 청산 / 손절 준수 / 2R 목표가 / 보유 기간 규칙별 손익과 낙폭")
+    void replayRules() {
+        // given
+        JournalColumns columns = JournalColumns.builder(1L)
+                // 롱 100, 손절 95, 10주, 실제 +200 (청산가 120)
+                .add(row(1L, START, "AAPL", TradeType.LONG, 10, 100, 95, 200.0))
+                // 봉 데이터 없는 심볼
+                .add(row(2L, START + HOUR, "MSFT", TradeType.SHORT, 5, 300, 310, -30.0))
+                // 손절가 없음, 실제 +10 (청산가 101)
+                .add(row(3L, START + 2 * HOUR, "AAPL", TradeType.LONG, 10, 100, null, 10.0))
+                // 진행 중 거래는 제외
+                .add(row(4L, START + 3 * HOUR, "AAPL", TradeType.LONG, 1, 110, 100, null))
+                .build();
+        JournalReplayEngine.Trades trades = JournalReplayEngine.Trades.of(columns, JournalReplayEngineTest::bars);
+
+        // when
+        JournalDto.ReplayResult result = engine.replay(trades, List.of(ACTUAL, STOP, TARGET_2R, TWO_BARS));
+
+        // then
+        assertThat(result.getClosedTrades()).isEqualTo(3);
+        assertThat(result.getMissingBarTrades()).isEqualTo(1);
+
+        JournalDto.ReplayVariant actual = result.getVariants().get(0);
+        assertThat(actual.getSimulatedPnL()).isCloseTo(180, within(1e-9));
+        assertThat(actual.getPnLDifference()).isCloseTo(0, within(1e-9));
+        assertThat(actual.getSimulatedTrades()).isEqualTo(2);
+        assertThat(actual.getSimulatedMaxDrawdown()).isCloseTo(30, within(1e-9));
+
+        JournalDto.ReplayVariant stop = result.getVariants().get(1);
+        assertThat(stop.getSimulatedPnL()).isCloseTo(-70, within(1e-9)); // -50, -30, +10
+        assertThat(stop.getActualPnL()).isCloseTo(180, within(1e-9));
+        assertThat(stop.getPnLDifference()).isCloseTo(-250, within(1e-9));
+        assertThat(stop.getStopExits()).isEqualTo(1);
+        assertThat(stop.getLosingTrades()).isEqualTo(2);
+        assertThat(stop.getSimulatedMaxDrawdown()).isCloseTo(80, within(1e-9));
+        assertThat(stop.getActualMaxDrawdown()).isCloseTo(30, within(1e-9));
+
+        JournalDto.ReplayVariant target = result.getVariants().get(2);
+        assertThat(target.getSimulatedPnL()).isCloseTo(80, within(1e-9)); // +100, -30, +10(손절가 없음)
+        assertThat(target.getTargetExits()).isEqualTo(1);
+        assertThat(target.getSimulatedTrades()).isEqualTo(1);
+
+        JournalDto.ReplayVariant twoBars = result.getVariants().get(3);
+        assertThat(twoBars.getSimulatedPnL()).isCloseTo(130, within(1e-9)); // -40, -30, +200
+        assertThat(twoBars.getTimeExits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("리플레이 - 숏 손절은 갭이면 시가 체결, 같은 봉에서 목표가와 함께 닿으면 손절 우선")
+    void shortStopGapAndStopFirst() {
+        // given
+        BarSeries bars = BarSeries.builder(2)
+                .add(START, 100, 101, 99, 100, 1_000)
+                .add(START + HOUR, 108, 109, 90, 95, 1_000)
+                .build();
+        JournalColumns columns = JournalColumns.builder(1L)
+                // 숏 100, 손절 105, 2R 목표 90 -> 1번 봉이 108 갭 상승 후 90까지 하락
+                .add(row(1L, START, "AAPL", TradeType.SHORT, 10, 100, 105, 50.0))
+                .build();
+        JournalReplayEngine.Trades trades = JournalReplayEngine.Trades.of(columns,
+                (market, symbol) -> Optional.of(bars));
+
+        // when
+        JournalDto.ReplayResult result = engine.replay(trades,
+                List.of(new ExitRule("stop+2R", true, 2.0, 0), TARGET_2R));
+
+        // then
+        assertThat(result.getVariants().get(0).getSimulatedPnL()).isCloseTo(-80, within(1e-9)); // 108 체결
+        assertThat(result.getVariants().get(0).getStopExits()).isEqualTo(1);
+        assertThat(result.getVariants().get(1).getSimulatedPnL()).isCloseTo(100, within(1e-9)); // 90 체결
+    }
+
+    @Test
+    @DisplayName("리플레이 - 병렬 분할 결과가 거래별 결과의 합과 같음")
+    void parallelMatchesPerTrade() {
+        // given
+        int count = 5_000;
+        JournalColumns.Builder builder = JournalColumns.builder(1L);
+        for (int i = 0; i < count; i++) {
+            builder.add(row(i + 1, START, "AAPL", TradeType.LONG, 10, 100, 95, 200.0));
+        }
+        JournalReplayEngine.Trades trades = JournalReplayEngine.Trades.of(builder.build(),
+                JournalReplayEngineTest::bars);
+
+        // when
+        JournalDto.ReplayResult result = engine.replay(trades, List.of(ACTUAL, STOP, TARGET_2R, TWO_BARS));
+
+        // then
+        assertThat(result.getVariants()).extracting(JournalDto.ReplayVariant::getSimulatedPnL)
+                .containsExactly(200.0 * count, -50.0 * count, 100.0 * count, -40.0 * count);
+    }
+
+    @Test
+    @DisplayName("청산 규칙 - 목표 R 배수와 보유 봉 수 범위 검증")
+    void exitRuleValidation() {
+        assertThatThrownBy(() -> new ExitRule("bad", true, 0.0, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ExitRule("bad", true, null, -1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ExitRule(" ", true, null, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Optional<BarSeries> bars(MarketType market, String symbol) {
+        return "AAPL".equals(symbol) ? Optional.of(AAPL) : Optional.empty();
+    }
+
+    private static JournalColumns.Row row(long id, long createdAt, String symbol, TradeType tradeType,
+                                          double quantity, double entryPrice, Integer stopLossPrice,
+                                          Double realizedPnL) {
+        return new JournalColumns.Row(id, createdAt, MarketType.STOCK, symbol, tradeType,
+                units(quantity), units(entryPrice),
+                stopLossPrice != null ? units(stopLossPrice) : JournalColumns.NO_PRICE,
+                realizedPnL != null ? units(realizedPnL) : JournalColumns.NO_PNL);
+    }
+
+    private static long units(double value) {
+        return Math.round(value * 100_000_000L);
+    }
+}
@@ -0,0 +1,166 @@
+package io.tbill.backendapi.domain.journal.repository;
+
+import io.tbill.backendapi.domain.journal.cache.JournalColumnAnalytics;
+import io.tbill.backendapi.domain.journal.dto.JournalDto;
+import io.tbill.backendapi.domain.journal.entity.Journal;
+import io.tbill.backendapi.domain.journal.entity.MarketType;
+import io.tbill.backendapi.domain.journal.entity.TradeType;
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE) // H2 사용
+@ActiveProfiles("test")
+@Import({JournalAnalyticsRepository.class, JournalColumnRepository.class})
+class JournalAnalyticsRepositoryTest {
+
+    private static final String TEST_EMAIL = "test@example.com";
+
+    @Autowired
+    private JournalRepository journalRepository;
+
+    @Autowired
+    private JournalAnalyticsRepository journalAnalyticsRepository;
+
+    @Autowired
+    private JournalColumnRepository journalColumnRepository;
+
+    @BeforeEach
+    void setUp() {
+        journalRepository.deleteAll();
+        journalRepository.saveAll(List.of(
+                journal(TEST_EMAIL, MarketType.STOCK, "AAPL", TradeType.LONG, "100"),
+                journal(TEST_EMAIL, MarketType.STOCK, "AAPL", TradeType.SHORT, "-40"),
+                journal(TEST_EMAIL, MarketType.STOCK, "AAPL", TradeType.LONG, null),
+                journal(TEST_EMAIL, MarketType.CRYPTO, "BTC", TradeType.LONG, "-10"),
+                journal("other@example.com", MarketType.STOCK, "AAPL", TradeType.LONG, "999")
+        ));
+        journalRepository.flush();
+    }
+
+    @Test
+    @DisplayName("손익 분석 - 심볼별 거래 수/승패/손익 합계")
+    void aggregateBySymbol() {
+        // when
+        List<JournalDto.GroupAggregate> result = journalAnalyticsRepository.aggregate(
+                JournalSearchQuery.forAuthor(TEST_EMAIL), JournalAnalyticsGroup.SYMBOL);
+
+        // then
+        assertThat(result).extracting(JournalDto.GroupAggregate::key)
+                .containsExactly("AAPL", "BTC");
+
+        JournalDto.GroupAggregate aapl = result.get(0);
+        assertThat(aapl.totalTrades()).isEqualTo(3);
+        assertThat(aapl.closedTrades()).isEqualTo(2);
+        assertThat(aapl.winningTrades()).isEqualTo(1);
+        assertThat(aapl.losingTrades()).isEqualTo(1);
+        assertThat(aapl.totalPnL()).isEqualByComparingTo("60");
+        assertThat(aapl.grossProfit()).isEqualByComparingTo("100");
+        assertThat(aapl.grossLoss()).isEqualByComparingTo("40");
+    }
+
+    @Test
+    @DisplayName("손익 분석 - 검색 조건 필터 적용")
+    void aggregateWithFilters() {
+        // when
+        List<JournalDto.GroupAggregate> result = journalAnalyticsRepository.aggregate(
+                JournalSearchQuery.forAuthor(TEST_EMAIL).market(MarketType.STOCK).closed(true),
+                JournalAnalyticsGroup.TRADE_TYPE);
+
+        // then
+        assertThat(result).extracting(JournalDto.GroupAggregate::key)
+                .containsExactly("LONG", "SHORT");
+        assertThat(result).extracting(JournalDto.GroupAggregate::totalTrades)
+                .containsExactly(1L, 1L);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @EnumSource(value = JournalAnalyticsGroup.class, names = {"MONTH", "WEEKDAY", "HOUR"})
+    @DisplayName("손익 분석 - 날짜 기준 그룹 라벨")
+    void aggregateByDate(JournalAnalyticsGroup group) {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        String expected = switch (group) {
+            case MONTH -> String.format("%04d-%02d", now.getYear(), now.getMonthValue());
+            case WEEKDAY -> DayOfWeek.from(now).name();
+            default -> String.format("%02d", now.getHour());
+        };
+
+        // when
+        List<JournalDto.GroupAggregate> result =
+                journalAnalyticsRepository.aggregate(JournalSearchQuery.forAuthor(TEST_EMAIL), group);
+
+        // then (테스트가 자정/정각 경계에 걸리는 경우만 2개 그룹)
+        assertThat(result).extracting(JournalDto.GroupAggregate::key).contains(expected);
+        assertThat(result.stream().mapToLong(JournalDto.GroupAggregate::totalTrades).sum())
+                .isEqualTo(4);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @EnumSource(JournalAnalyticsGroup.class)
+    @DisplayName("손익 분석 - 컬럼 캐시 집계는 SQL 집계와 동일")
+    void columnAggregateMatchesSql(JournalAnalyticsGroup group) {
+        // given
+        List<JournalDto.SearchCondition> conditions = List.of(
+                condition().build(),
+                condition().market(MarketType.STOCK).isClosed(true).build(),
+                condition().symbol("AAPL").tradeType(TradeType.LONG).build(),
+                condition().symbol("UNKNOWN").build(),
+                condition().startDate(LocalDateTime.now().minusDays(1)).endDate(LocalDateTime.now().plusDays(1)).build());
+
+        for (JournalDto.SearchCondition condition : conditions) {
+            // when
+            List<JournalDto.GroupAggregate> sql =
+                    journalAnalyticsRepository.aggregate(JournalSearchQuery.from(condition), group);
+            List<JournalDto.GroupAggregate> columns = JournalColumnAnalytics.aggregate(
+                    journalColumnRepository.load(TEST_EMAIL, 0L), condition, group);
+
+            // then
+            assertThat(columns)
+                    .usingRecursiveFieldByFieldElementComparator(RecursiveComparisonConfiguration.builder()
+                            .withComparatorForType(BigDecimal::compareTo, BigDecimal.class).build())
+                    .containsExactlyElementsOf(sql);
+        }
+    }
+
+    @Test
+    @DisplayName("손익 분석 - 지원하지 않는 그룹 기준은 예외")
+    void unsupportedGroup() {
+        assertThatThrownBy(() -> JournalAnalyticsGroup.from("reasoning"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("지원하지 않는 그룹 기준입니다");
+    }
+
+    private static JournalDto.SearchCondition.SearchConditionBuilder condition() {
+        return JournalDto.SearchCondition.builder().authorEmail(TEST_EMAIL);
+    }
+
+    private Journal journal(String email, MarketType market, String symbol, TradeType tradeType, String pnl) {
+        return Journal.builder()
+                .authorEmail(email)
+                .market(market)
+                .symbol(symbol)
+                .tradeType(tradeType)
+                .quantity(BigDecimal.ONE)
+                .entryPrice(new BigDecimal("100.00"))
+                .realizedPnL(pnl != null ? new BigDecimal(pnl) : null)
+                .build();
+    }
+}
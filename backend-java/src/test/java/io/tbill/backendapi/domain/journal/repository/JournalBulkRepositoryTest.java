@@ -0,0 +1,126 @@
+package io.tbill.backendapi.domain.journal.repository;
+
+import io.tbill.backendapi.domain.journal.entity.Journal;
+import io.tbill.backendapi.domain.journal.entity.MarketType;
+import io.tbill.backendapi.domain.journal.entity.TradeType;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE) // H2 사용
+@ActiveProfiles("test")
+@Import(JournalBulkRepository.class)
+class JournalBulkRepositoryTest {
+
+    private static final String TEST_EMAIL = "test@example.com";
+
+    @Autowired
+    private JournalRepository journalRepository;
+
+    @Autowired
+    private JournalBulkRepository journalBulkRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Journal open1;
+    private Journal open2;
+    private Journal closed;
+    private Journal otherUsers;
+
+    @BeforeEach
+    void setUp() {
+        journalRepository.deleteAll();
+        open1 = journalRepository.save(journal(TEST_EMAIL, null));
+        open2 = journalRepository.save(journal(TEST_EMAIL, null));
+        closed = journalRepository.save(journal(TEST_EMAIL, "10"));
+        otherUsers = journalRepository.save(journal("other@example.com", null));
+        journalRepository.flush();
+    }
+
+    @Test
+    @DisplayName("잠금 조회 - 본인 매매일지만 현재 실현 손익과 함께 반환")
+    void lockOwned() {
+        // when
+        List<JournalBulkRepository.LockedRow> rows = journalBulkRepository.lockOwned(TEST_EMAIL,
+                List.of(open1.getId(), closed.getId(), otherUsers.getId(), -1L));
+
+        // then
+        assertThat(rows).extracting(JournalBulkRepository.LockedRow::journalId)
+                .containsExactlyInAnyOrder(open1.getId(), closed.getId());
+        assertThat(rows).allSatisfy(row -> {
+            assertThat(row.createdAt()).isNotNull();
+            if (row.journalId().equals(closed.getId())) {
+                assertThat(row.realizedPnL()).isEqualByComparingTo("10");
+            } else {
+                assertThat(row.realizedPnL()).isNull();
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("일괄 종료 - 행마다 다른 실현 손익을 한 문장으로 반영, 종료된 거래/타인 매매일지는 변경하지 않음")
+    void close() {
+        // given
+        Map<Long, BigDecimal> realizedPnLs = new LinkedHashMap<>();
+        realizedPnLs.put(open1.getId(), new BigDecimal("15.50"));
+        realizedPnLs.put(open2.getId(), new BigDecimal("-7.25"));
+        realizedPnLs.put(closed.getId(), new BigDecimal("99"));
+        realizedPnLs.put(otherUsers.getId(), new BigDecimal("99"));
+
+        // when
+        int updated = journalBulkRepository.close(TEST_EMAIL, realizedPnLs, LocalDateTime.now());
+        entityManager.clear();
+
+        // then
+        assertThat(updated).isEqualTo(2);
+        assertThat(realizedPnL(open1)).isEqualByComparingTo("15.50");
+        assertThat(realizedPnL(open2)).isEqualByComparingTo("-7.25");
+        assertThat(realizedPnL(closed)).isEqualByComparingTo("10");
+        assertThat(realizedPnL(otherUsers)).isNull();
+    }
+
+    @Test
+    @DisplayName("일괄 삭제 - 본인 매매일지만 삭제")
+    void delete() {
+        // when
+        int deleted = journalBulkRepository.delete(TEST_EMAIL, List.of(open1.getId(), otherUsers.getId()));
+        entityManager.clear();
+
+        // then
+        assertThat(deleted).isEqualTo(1);
+        assertThat(journalRepository.findById(open1.getId())).isEmpty();
+        assertThat(journalRepository.findById(otherUsers.getId())).isPresent();
+    }
+
+    private BigDecimal realizedPnL(Journal journal) {
+        return journalRepository.findById(journal.getId()).orElseThrow().getRealizedPnL();
+    }
+
+    private Journal journal(String email, String pnl) {
+        return Journal.builder()
+                .authorEmail(email)
+                .market(MarketType.STOCK)
+                .symbol("AAPL")
+                .tradeType(TradeType.LONG)
+                .quantity(BigDecimal.ONE)
+                .entryPrice(new BigDecimal("100"))
+                .realizedPnL(pnl != null ? new BigDecimal(pnl) : null)
+                .build();
+    }
+}
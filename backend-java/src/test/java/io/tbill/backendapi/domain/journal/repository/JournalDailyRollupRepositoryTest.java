@@ -0,0 +1,175 @@
+package io.tbill.backendapi.domain.journal.repository;
+
+import io.tbill.backendapi.domain.journal.dto.JournalDto;
+import io.tbill.backendapi.domain.journal.entity.Journal;
+import io.tbill.backendapi.domain.journal.entity.MarketType;
+import io.tbill.backendapi.domain.journal.entity.TradeType;
+import io.tbill.backendapi.infrastructure.datasource.DatabasePlatform;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE) // H2 사용 (MERGE upsert)
+@ActiveProfiles("test")
+@Import({JournalDailyRollupRepository.class, DatabasePlatform.class})
+class JournalDailyRollupRepositoryTest {
+
+    private static final String TEST_EMAIL = "test@example.com";
+    private static final LocalDate DAY1 = LocalDate.of(2024, 3, 15);
+    private static final LocalDate DAY2 = LocalDate.of(2024, 3, 16);
+
+    @Autowired
+    private JournalRepository journalRepository;
+
+    @Autowired
+    private JournalDailyRollupRepository journalDailyRollupRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM journal_daily_rollup");
+        journalRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("증분 반영 - 같은 날짜는 변화량을 더하고, 다른 사용자 행은 분리")
+    void applyAccumulates() {
+        // given
+        journalDailyRollupRepository.apply(TEST_EMAIL, List.of(
+                delta(DAY1, 2, 1, 1, 0, "30.50"),
+                delta(DAY2, 1, 1, 0, 1, "-10")));
+        journalDailyRollupRepository.apply("other@example.com", List.of(delta(DAY1, 5, 5, 5, 0, "500")));
+
+        // when
+        journalDailyRollupRepository.apply(TEST_EMAIL, List.of(delta(DAY1, 0, 1, 0, 1, "-5.50")));
+
+        // then
+        List<JournalDto.CalendarDay> days = journalDailyRollupRepository.findRange(TEST_EMAIL, DAY1, DAY2);
+        assertThat(days).extracting(JournalDto.CalendarDay::getDate).containsExactly(DAY1, DAY2);
+        JournalDto.CalendarDay day1 = days.get(0);
+        assertThat(day1.getTotalTrades()).isEqualTo(2);
+        assertThat(day1.getClosedTrades()).isEqualTo(2);
+        assertThat(day1.getWinningTrades()).isEqualTo(1);
+        assertThat(day1.getLosingTrades()).isEqualTo(1);
+        assertThat(day1.getRealizedPnL()).isEqualByComparingTo("25.00");
+    }
+
+    @Test
+    @DisplayName("증분 반영 - 거래 수가 0 이 된 날짜 행은 삭제")
+    void applyDeletesEmptyDay() {
+        // given
+        journalDailyRollupRepository.apply(TEST_EMAIL, List.of(
+                delta(DAY1, 1, 1, 1, 0, "10"),
+                delta(DAY2, 1, 0, 0, 0, "0")));
+
+        // when
+        journalDailyRollupRepository.apply(TEST_EMAIL, List.of(delta(DAY1, -1, -1, -1, 0, "-10")));
+
+        // then
+        assertThat(journalDailyRollupRepository.findRange(TEST_EMAIL, DAY1, DAY2))
+                .extracting(JournalDto.CalendarDay::getDate)
+                .containsExactly(DAY2);
+    }
+
+    @Test
+    @DisplayName("기간 조회 - 범위 밖 날짜 제외")
+    void findRange() {
+        // given
+        journalDailyRollupRepository.apply(TEST_EMAIL, List.of(
+                delta(DAY1, 1, 0, 0, 0, "0"),
+                delta(DAY2, 1, 0, 0, 0, "0")));
+
+        // when
+        List<JournalDto.CalendarDay> days = journalDailyRollupRepository.findRange(TEST_EMAIL, DAY2, DAY2.plusDays(10));
+
+        // then
+        assertThat(days).extracting(JournalDto.CalendarDay::getDate).containsExactly(DAY2);
+    }
+
+    @Test
+    @DisplayName("재계산 - journal 테이블 기준으로 덮어쓰기, 매매일지가 없는 사용자 행 정리")
+    void rebuild() {
+        // given
+        journalRepository.saveAll(List.of(
+                journal(TEST_EMAIL, "100"),
+                journal(TEST_EMAIL, "-40"),
+                journal(TEST_EMAIL, null)));
+        journalRepository.flush();
+        journalDailyRollupRepository.apply(TEST_EMAIL, List.of(delta(DAY1, 9, 9, 9, 0, "999")));
+        journalDailyRollupRepository.apply("gone@example.com", List.of(delta(DAY1, 1, 0, 0, 0, "0")));
+
+        // when
+        int rows = journalDailyRollupRepository.rebuild(TEST_EMAIL);
+        int orphans = journalDailyRollupRepository.deleteOrphans();
+
+        // then
+        LocalDate today = LocalDate.now();
+        List<JournalDto.CalendarDay> days = journalDailyRollupRepository.findRange(
+                TEST_EMAIL, DAY1, today.plusDays(1));
+        assertThat(rows).isEqualTo(1);
+        assertThat(orphans).isEqualTo(1);
+        assertThat(days).hasSize(1);
+        JournalDto.CalendarDay day = days.get(0);
+        assertThat(day.getDate()).isIn(today, today.minusDays(1)); // 자정 경계
+        assertThat(day.getTotalTrades()).isEqualTo(3);
+        assertThat(day.getClosedTrades()).isEqualTo(2);
+        assertThat(day.getWinningTrades()).isEqualTo(1);
+        assertThat(day.getLosingTrades()).isEqualTo(1);
+        assertThat(day.getRealizedPnL()).isEqualByComparingTo("60");
+    }
+
+    @Test
+    @DisplayName("일치 확인 - 재계산 직후는 일치, 어긋난 날짜/누락/남는 행이 있으면 불일치")
+    void isConsistent() {
+        // given
+        journalRepository.saveAll(List.of(journal(TEST_EMAIL, "100"), journal(TEST_EMAIL, null)));
+        journalRepository.flush();
+        journalDailyRollupRepository.rebuild(TEST_EMAIL);
+
+        // when & then
+        assertThat(journalDailyRollupRepository.isConsistent(TEST_EMAIL)).isTrue();
+
+        journalDailyRollupRepository.apply(TEST_EMAIL, List.of(delta(DAY1, 1, 0, 0, 0, "0")));
+        assertThat(journalDailyRollupRepository.isConsistent(TEST_EMAIL)).isFalse();
+
+        journalDailyRollupRepository.rebuild(TEST_EMAIL);
+        jdbcTemplate.update("UPDATE journal_daily_rollup SET realized_pnl = realized_pnl + 1 WHERE author_email = ?",
+                TEST_EMAIL);
+        assertThat(journalDailyRollupRepository.isConsistent(TEST_EMAIL)).isFalse();
+
+        jdbcTemplate.update("DELETE FROM journal_daily_rollup WHERE author_email = ?", TEST_EMAIL);
+        assertThat(journalDailyRollupRepository.isConsistent(TEST_EMAIL)).isFalse();
+    }
+
+    private static JournalDailyRollupRepository.Delta delta(LocalDate date, int trades, int closed,
+                                                            int winning, int losing, String pnl) {
+        return new JournalDailyRollupRepository.Delta(date, trades, closed, winning, losing, new BigDecimal(pnl));
+    }
+
+    private static Journal journal(String email, String pnl) {
+        return Journal.builder()
+                .authorEmail(email)
+                .market(MarketType.STOCK)
+                .symbol("AAPL")
+                .tradeType(TradeType.LONG)
+                .quantity(BigDecimal.ONE)
+                .entryPrice(new BigDecimal("100"))
+                .realizedPnL(pnl != null ? new BigDecimal(pnl) : null)
+                .build();
+    }
+}
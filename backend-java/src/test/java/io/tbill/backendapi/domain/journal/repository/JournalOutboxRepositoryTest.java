@@ -0,0 +1,82 @@
+package io.tbill.backendapi.domain.journal.repository;
+
+import io.tbill.backendapi.domain.journal.event.JournalChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE) // H2 사용
+@ActiveProfiles("test")
+@Import(JournalOutboxRepository.class)
+class JournalOutboxRepositoryTest {
+
+    private static final String TEST_EMAIL = "test@example.com";
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+    @Autowired
+    private JournalOutboxRepository journalOutboxRepository;
+
+    @BeforeEach
+    void setUp() {
+        journalOutboxRepository.deleteByIds(journalOutboxRepository.lockBatch(Integer.MAX_VALUE).stream()
+                .map(JournalOutboxRepository.OutboxEvent::eventId)
+                .toList());
+    }
+
+    @Test
+    @DisplayName("Outbox - 기록 순서대로 배치 조회, 대상 ID 목록 왕복")
+    void insertAndLockBatchInOrder() {
+        // given
+        journalOutboxRepository.insert(new JournalChangedEvent(TEST_EMAIL,
+                JournalChangedEvent.ChangeType.CREATED, List.of(1L, 2L, 3L)), NOW);
+        journalOutboxRepository.insert(new JournalChangedEvent(TEST_EMAIL,
+                JournalChangedEvent.ChangeType.UPDATED, List.of(2L)), NOW.plusSeconds(1));
+        journalOutboxRepository.insert(new JournalChangedEvent("other@example.com",
+                JournalChangedEvent.ChangeType.DELETED, List.of(9L)), NOW.plusSeconds(2));
+
+        // when
+        List<JournalOutboxRepository.OutboxEvent> batch = journalOutboxRepository.lockBatch(2);
+
+        // then
+        assertThat(batch).hasSize(2);
+        assertThat(batch.get(0).eventId()).isLessThan(batch.get(1).eventId());
+        assertThat(batch).extracting(JournalOutboxRepository.OutboxEvent::changeType)
+                .containsExactly(JournalChangedEvent.ChangeType.CREATED, JournalChangedEvent.ChangeType.UPDATED);
+        assertThat(batch.get(0).journalIds()).containsExactly(1L, 2L, 3L);
+        assertThat(batch.get(0).authorEmail()).isEqualTo(TEST_EMAIL);
+        assertThat(batch.get(0).createdAt()).isEqualTo(NOW);
+    }
+
+    @Test
+    @DisplayName("Outbox - 발행 완료분 삭제 후 가장 오래된 대기 이벤트 시각")
+    void deleteAndFindOldest() {
+        // given
+        journalOutboxRepository.insert(new JournalChangedEvent(TEST_EMAIL,
+                JournalChangedEvent.ChangeType.CREATED, List.of(1L)), NOW);
+        journalOutboxRepository.insert(new JournalChangedEvent(TEST_EMAIL,
+                JournalChangedEvent.ChangeType.DELETED, List.of(1L)), NOW.plusMinutes(1));
+        long first = journalOutboxRepository.lockBatch(1).get(0).eventId();
+
+        // when
+        int deleted = journalOutboxRepository.deleteByIds(List.of(first));
+
+        // then
+        assertThat(deleted).isEqualTo(1);
+        assertThat(journalOutboxRepository.findOldestCreatedAt()).contains(NOW.plusMinutes(1));
+        journalOutboxRepository.deleteByIds(journalOutboxRepository.lockBatch(10).stream()
+                .map(JournalOutboxRepository.OutboxEvent::eventId)
+                .toList());
+        assertThat(journalOutboxRepository.findOldestCreatedAt()).isEmpty();
+    }
+}
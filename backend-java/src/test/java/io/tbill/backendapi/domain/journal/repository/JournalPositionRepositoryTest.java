@@ -0,0 +1,109 @@
+package io.tbill.backendapi.domain.journal.repository;
+
+import io.tbill.backendapi.domain.journal.dto.JournalDto;
+import io.tbill.backendapi.domain.journal.entity.Journal;
+import io.tbill.backendapi.domain.journal.entity.MarketType;
+import io.tbill.backendapi.domain.journal.entity.TradeType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE) // H2 사용
+@ActiveProfiles("test")
+@Import(JournalPositionRepository.class)
+class JournalPositionRepositoryTest {
+
+    private static final String TEST_EMAIL = "test@example.com";
+
+    @Autowired
+    private JournalRepository journalRepository;
+
+    @Autowired
+    private JournalPositionRepository journalPositionRepository;
+
+    @BeforeEach
+    void setUp() {
+        journalRepository.deleteAll();
+        journalRepository.saveAll(List.of(
+                journal(TEST_EMAIL, "AAPL", TradeType.LONG, "10", "100", "90", null),
+                journal(TEST_EMAIL, "AAPL", TradeType.LONG, "30", "120", null, null),
+                journal(TEST_EMAIL, "AAPL", TradeType.SHORT, "15", "130", "140", null),
+                journal(TEST_EMAIL, "AAPL", TradeType.LONG, "50", "80", "70", "25"), // 종료 거래 제외
+                journal(TEST_EMAIL, "TSLA", TradeType.SHORT, "5", "200", "210", null),
+                journal("other@example.com", "AAPL", TradeType.LONG, "99", "100", null, null)
+        ));
+        journalRepository.flush();
+    }
+
+    @Test
+    @DisplayName("순포지션 - (시장, 심볼)별 롱/숏 수량, 수량 가중 평균 진입가, 손절 위험")
+    void openPositions() {
+        // when
+        List<JournalDto.Position> positions = journalPositionRepository.findOpenPositions(TEST_EMAIL).stream()
+                .map(JournalDto.Position::from)
+                .toList();
+
+        // then
+        assertThat(positions).extracting(JournalDto.Position::getSymbol).containsExactly("AAPL", "TSLA");
+
+        JournalDto.Position aapl = positions.get(0);
+        assertThat(aapl.getOpenTrades()).isEqualTo(3);
+        assertThat(aapl.getLongQuantity()).isEqualByComparingTo("40");
+        assertThat(aapl.getShortQuantity()).isEqualByComparingTo("15");
+        assertThat(aapl.getNetQuantity()).isEqualByComparingTo("25");
+        assertThat(aapl.getDirection()).isEqualTo(TradeType.LONG);
+        // (10 × 100 + 30 × 120) / 40
+        assertThat(aapl.getLongAverageEntryPrice()).isEqualByComparingTo("115");
+        assertThat(aapl.getAverageEntryPrice()).isEqualByComparingTo("115");
+        assertThat(aapl.getShortAverageEntryPrice()).isEqualByComparingTo("130");
+        // 롱 (100 - 90) × 10 + 숏 (140 - 130) × 15
+        assertThat(aapl.getStopLossRisk()).isEqualByComparingTo("250");
+        assertThat(aapl.getUnprotectedQuantity()).isEqualByComparingTo("30");
+
+        JournalDto.Position tsla = positions.get(1);
+        assertThat(tsla.getDirection()).isEqualTo(TradeType.SHORT);
+        assertThat(tsla.getNetQuantity()).isEqualByComparingTo("-5");
+        assertThat(tsla.getLongAverageEntryPrice()).isNull();
+        assertThat(tsla.getAverageEntryPrice()).isEqualByComparingTo("200");
+    }
+
+    @Test
+    @DisplayName("진행 중 거래 목록 - 종료 거래/다른 사용자 제외, (시장, 심볼) 순")
+    void openTrades() {
+        // when
+        List<JournalPositionRepository.OpenTrade> trades = journalPositionRepository.findOpenTrades(TEST_EMAIL);
+
+        // then
+        assertThat(trades).extracting(JournalPositionRepository.OpenTrade::symbol)
+                .containsExactly("AAPL", "AAPL", "AAPL", "TSLA");
+        assertThat(trades).extracting(JournalPositionRepository.OpenTrade::tradeType)
+                .containsExactly(TradeType.LONG, TradeType.LONG, TradeType.SHORT, TradeType.SHORT);
+        assertThat(trades.get(3).quantity()).isEqualByComparingTo("5");
+        assertThat(trades.get(3).entryPrice()).isEqualByComparingTo("200");
+    }
+
+    private Journal journal(String email, String symbol, TradeType tradeType, String quantity,
+                            String entryPrice, String stopLossPrice, String pnl) {
+        return Journal.builder()
+                .authorEmail(email)
+                .market(MarketType.STOCK)
+                .symbol(symbol)
+                .tradeType(tradeType)
+                .quantity(new BigDecimal(quantity))
+                .entryPrice(new BigDecimal(entryPrice))
+                .stopLossPrice(stopLossPrice != null ? new BigDecimal(stopLossPrice) : null)
+                .realizedPnL(pnl != null ? new BigDecimal(pnl) : null)
+                .build();
+    }
+}
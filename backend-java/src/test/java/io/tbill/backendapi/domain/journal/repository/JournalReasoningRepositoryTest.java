@@ -0,0 +1,86 @@
+package io.tbill.backendapi.domain.journal.repository;
+
+import io.tbill.backendapi.domain.journal.entity.JournalReasoning;
+import io.tbill.backendapi.domain.journal.service.JournalReasoningService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE) // H2 사용
+@ActiveProfiles("test")
+@Import(JournalReasoningService.class)
+class JournalReasoningRepositoryTest {
+
+    private static final String LARGE = "{\"markdown\":\"" + "근거 ".repeat(10_000) + "\",\"images\":[]}";
+
+    @Autowired
+    private JournalReasoningRepository journalReasoningRepository;
+
+    @Autowired
+    private JournalReasoningService journalReasoningService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("근거 저장/조회 - 압축 본문 왕복")
+    void createAndFind() {
+        // when
+        journalReasoningService.create(1L, LARGE);
+        journalReasoningService.create(2L, null);
+        flushAndClear();
+
+        // then
+        assertThat(journalReasoningService.find(1L)).isEqualTo(LARGE);
+        assertThat(journalReasoningService.find(2L)).isNull();
+        assertThat(journalReasoningRepository.findById(1L))
+                .get().extracting(JournalReasoning::getEncoding).isEqualTo(JournalReasoning.Encoding.GZIP);
+    }
+
+    @Test
+    @DisplayName("근거 수정 - 동일 본문/미포함은 저장하지 않고, 변경 시에만 교체")
+    void replaceIfChanged() {
+        // given
+        journalReasoningService.create(1L, LARGE);
+        flushAndClear();
+
+        // when & then
+        assertThat(journalReasoningService.replaceIfChanged(1L, null)).isFalse();
+        assertThat(journalReasoningService.replaceIfChanged(1L, LARGE)).isFalse();
+        assertThat(journalReasoningService.replaceIfChanged(1L, "{\"markdown\":\"수정\"}")).isTrue();
+        assertThat(journalReasoningService.replaceIfChanged(3L, "{\"markdown\":\"신규\"}")).isTrue();
+        flushAndClear();
+
+        assertThat(journalReasoningService.find(1L)).isEqualTo("{\"markdown\":\"수정\"}");
+        assertThat(journalReasoningService.find(3L)).isEqualTo("{\"markdown\":\"신규\"}");
+        assertThat(journalReasoningRepository.findContentHashByJournalId(1L))
+                .contains(JournalReasoning.hash("{\"markdown\":\"수정\"}"));
+    }
+
+    @Test
+    @DisplayName("근거 삭제 - 조회 없이 삭제")
+    void delete() {
+        // given
+        journalReasoningService.create(1L, LARGE);
+        flushAndClear();
+
+        // when
+        journalReasoningService.delete(1L);
+
+        // then
+        assertThat(journalReasoningRepository.existsById(1L)).isFalse();
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
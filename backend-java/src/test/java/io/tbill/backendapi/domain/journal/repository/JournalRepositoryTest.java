@@ -8,9 +8,11 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
@@ -26,6 +28,12 @@ class JournalRepositoryTest {
     @Autowired
     private JournalRepository journalRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private String testEmail = "test@example.com";
 
     @BeforeEach
@@ -41,7 +49,6 @@ class JournalRepositoryTest {
                 .entryPrice(new BigDecimal("150.50"))
                 .stopLossPrice(new BigDecimal("145.00"))
                 .realizedPnL(new BigDecimal("500.00"))
-                .reasoning("테스트 매매 이유 1")
                 .build();
 
         Journal journal2 = Journal.builder()
@@ -50,7 +57,6 @@ class JournalRepositoryTest {
                 .symbol("BTC")
                 .entryPrice(new BigDecimal("45000.00"))
                 .stopLossPrice(new BigDecimal("42000.00"))
-                .reasoning("테스트 매매 이유 2")
                 .build();
 
         journalRepository.save(journal1);
@@ -87,58 +93,36 @@ class JournalRepositoryTest {
     }
 
     @Test
-    @DisplayName("종료된 거래만 조회 (realizedPnL이 있는 경우)")
-    void findClosedTradesByAuthorEmail() {
-        // given
-        Pageable pageable = PageRequest.of(0, 10);
-
-        // when
-        Page<Journal> result = journalRepository.findClosedTradesByAuthorEmail(
-                testEmail, pageable);
-
-        // then
-        assertThat(result.getContent()).hasSize(1);
-        assertThat(result.getContent().get(0).getRealizedPnL()).isNotNull();
-    }
-
-    @Test
-    @DisplayName("진행 중인 거래만 조회 (realizedPnL이 없는 경우)")
-    void findOpenTradesByAuthorEmail() {
+    @DisplayName("ID와 작성자 이메일로 조회 (권한 검증)")
+    void findByIdAndAuthorEmail() {
         // given
-        Pageable pageable = PageRequest.of(0, 10);
-
-        // when
-        Page<Journal> result = journalRepository.findOpenTradesByAuthorEmail(
-                testEmail, pageable);
-
-        // then
-        assertThat(result.getContent()).hasSize(1);
-        assertThat(result.getContent().get(0).getRealizedPnL()).isNull();
-    }
+        Journal saved = journalRepository.findAll().get(0);
 
-    @Test
-    @DisplayName("총 실현 손익 계산")
-    void getTotalPnLByAuthorEmail() {
         // when
-        Optional<BigDecimal> totalPnL = journalRepository.getTotalPnLByAuthorEmail(testEmail);
+        Optional<Journal> result = journalRepository.findByIdAndAuthorEmail(
+                saved.getId(), testEmail);
 
         // then
-        assertThat(totalPnL).isPresent();
-        assertThat(totalPnL.get()).isEqualByComparingTo(new BigDecimal("500.00"));
+        assertThat(result).isPresent();
+        assertThat(result.get().getAuthorEmail()).isEqualTo(testEmail);
     }
 
     @Test
-    @DisplayName("ID와 작성자 이메일로 조회 (권한 검증)")
-    void findByIdAndAuthorEmail() {
+    @DisplayName("수정/삭제용 잠금 조회 - DB 의 현재 값을 읽고 작성자가 다르면 조회되지 않음")
+    void findForUpdate() {
         // given
         Journal saved = journalRepository.findAll().get(0);
+        entityManager.flush();
+        jdbcTemplate.update("UPDATE journal SET realized_pnl = 777 WHERE journal_id = ?", saved.getId());
+        entityManager.clear();
 
         // when
-        Optional<Journal> result = journalRepository.findByIdAndAuthorEmail(
-                saved.getId(), testEmail);
+        Optional<Journal> result = journalRepository.findForUpdate(saved.getId(), testEmail);
+        Optional<Journal> otherAuthor = journalRepository.findForUpdate(saved.getId(), "other@example.com");
 
         // then
         assertThat(result).isPresent();
-        assertThat(result.get().getAuthorEmail()).isEqualTo(testEmail);
+        assertThat(result.get().getRealizedPnL()).isEqualByComparingTo(new BigDecimal("777"));
+        assertThat(otherAuthor).isEmpty();
     }
 }
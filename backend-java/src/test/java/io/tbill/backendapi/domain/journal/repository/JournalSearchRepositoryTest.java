@@ -0,0 +1,152 @@
+package io.tbill.backendapi.domain.journal.repository;
+
+import io.tbill.backendapi.domain.journal.dto.JournalDto;
+import io.tbill.backendapi.domain.journal.entity.Journal;
+import io.tbill.backendapi.domain.journal.entity.MarketType;
+import io.tbill.backendapi.domain.journal.entity.TradeType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE) // H2 사용
+@ActiveProfiles("test")
+@Import(JournalSearchRepository.class)
+class JournalSearchRepositoryTest {
+
+    private static final String TEST_EMAIL = "test@example.com";
+    private static final String[] SYMBOLS = {"AAPL", "BTC", "EURUSD", "ES", "TSLA"};
+
+    @Autowired
+    private JournalRepository journalRepository;
+
+    @Autowired
+    private JournalSearchRepository journalSearchRepository;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        journalRepository.deleteAll();
+
+        List<Journal> journals = new ArrayList<>();
+        for (String email : List.of(TEST_EMAIL, "other1@example.com", "other2@example.com")) {
+            for (int i = 0; i < 100; i++) {
+                journals.add(Journal.builder()
+                        .authorEmail(email)
+                        .market(MarketType.values()[i % MarketType.values().length])
+                        .symbol(SYMBOLS[i % SYMBOLS.length])
+                        .tradeType(i % 2 == 0 ? TradeType.LONG : TradeType.SHORT)
+                        .quantity(BigDecimal.ONE)
+                        .entryPrice(new BigDecimal("100.00"))
+                        .realizedPnL(i % 3 == 0 ? null : BigDecimal.valueOf(i - 50))
+                        .build());
+            }
+        }
+        journalRepository.saveAll(journals);
+        journalRepository.flush();
+
+        // 옵티마이저 통계 갱신
+        jdbcTemplate.getJdbcTemplate().execute("ANALYZE");
+    }
+
+    static Stream<Arguments> supportedCombinations() {
+        LocalDateTime from = LocalDateTime.now().minusDays(7);
+        LocalDateTime to = LocalDateTime.now().plusDays(1);
+        return Stream.of(
+                Arguments.of("작성자만", condition().build()),
+                Arguments.of("시장", condition().market(MarketType.CRYPTO).build()),
+                Arguments.of("심볼", condition().symbol("BTC").build()),
+                Arguments.of("거래유형", condition().tradeType(TradeType.SHORT).build()),
+                Arguments.of("종료 거래", condition().isClosed(true).build()),
+                Arguments.of("진행 중 거래", condition().isClosed(false).build()),
+                Arguments.of("기간", condition().startDate(from).endDate(to).build()),
+                Arguments.of("시장+심볼", condition().market(MarketType.CRYPTO).symbol("BTC").build()),
+                Arguments.of("심볼+진행 중", condition().symbol("BTC").isClosed(false).build()),
+                Arguments.of("시장+거래유형+종료", condition().market(MarketType.STOCK)
+                        .tradeType(TradeType.LONG).isClosed(true).build()),
+                Arguments.of("전체 조합", condition().market(MarketType.CRYPTO).symbol("BTC")
+                        .tradeType(TradeType.SHORT).isClosed(false).startDate(from).endDate(to).build())
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("supportedCombinations")
+    @DisplayName("지원하는 모든 필터 조합은 인덱스를 사용 (실행 계획 회귀 테스트)")
+    void everyCombinationUsesIndex(String name, JournalDto.SearchCondition condition) {
+        JournalSearchQuery query = JournalSearchQuery.from(condition);
+
+        assertUsesIndex(query.selectSql(20, 0), query);
+        assertUsesIndex(query.countSql(), query);
+        assertUsesIndex(JournalSearchQuery.from(condition).after(JournalDto.Cursor.FIRST).selectSql(21, 0),
+                JournalSearchQuery.from(condition).after(JournalDto.Cursor.FIRST));
+    }
+
+    @Test
+    @DisplayName("조합 필터는 모든 조건을 동시에 적용")
+    void combinedFiltersAreAllApplied() {
+        // given
+        JournalDto.SearchCondition searchCondition = condition()
+                .market(MarketType.CRYPTO)
+                .tradeType(TradeType.LONG)
+                .isClosed(true)
+                .build();
+
+        // when
+        Page<JournalDto.JournalSummary> result = journalSearchRepository.findPage(
+                JournalSearchQuery.from(searchCondition), PageRequest.of(0, 100));
+
+        // then
+        assertThat(result.getContent()).isNotEmpty();
+        assertThat(result.getContent()).allSatisfy(summary -> {
+            assertThat(summary.getMarket()).isEqualTo(MarketType.CRYPTO);
+            assertThat(summary.getTradeType()).isEqualTo(TradeType.LONG);
+            assertThat(summary.getIsClosed()).isTrue();
+        });
+    }
+
+    @Test
+    @DisplayName("화이트리스트 외 정렬 기준은 거부")
+    void rejectsUnknownSortProperty() {
+        assertThatThrownBy(() -> JournalSearchQuery.forAuthor(TEST_EMAIL)
+                .orderBy(Sort.by(Sort.Direction.DESC, "reasoning")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("지원하지 않는 정렬 기준");
+    }
+
+    private void assertUsesIndex(String sql, JournalSearchQuery query) {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, query.parameters(), String.class);
+
+        assertThat(plan).isNotNull();
+        assertThat(plan.toLowerCase())
+                .as("실행 계획: %s", plan)
+                .contains("idx_journal_")
+                .doesNotContain("tablescan");
+    }
+
+    private static JournalDto.SearchCondition.SearchConditionBuilder condition() {
+        return JournalDto.SearchCondition.builder().authorEmail(TEST_EMAIL);
+    }
+}
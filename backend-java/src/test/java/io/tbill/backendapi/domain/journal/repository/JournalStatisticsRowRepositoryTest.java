@@ -0,0 +1,47 @@
+package io.tbill.backendapi.domain.journal.repository;
+
+import io.tbill.backendapi.domain.journal.entity.JournalStatistics;
+import io.tbill.backendapi.infrastructure.datasource.DatabasePlatform;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE) // H2 사용 (MERGE)
+@ActiveProfiles("test")
+@Import({JournalStatisticsRowRepository.class, DatabasePlatform.class})
+class JournalStatisticsRowRepositoryTest {
+
+    private static final String TEST_EMAIL = "test@example.com";
+
+    @Autowired
+    private JournalStatisticsRowRepository journalStatisticsRowRepository;
+
+    @Autowired
+    private JournalStatisticsRepository journalStatisticsRepository;
+
+    @Test
+    @DisplayName("통계 행 생성 - 없으면 0으로 생성, 이미 있으면 기존 값 유지")
+    void insertIfAbsent() {
+        // when
+        boolean first = journalStatisticsRowRepository.insertIfAbsent(TEST_EMAIL);
+        JournalStatistics statistics = journalStatisticsRepository.findForUpdate(TEST_EMAIL).orElseThrow();
+        statistics.addTrade(new BigDecimal("100.00"));
+        journalStatisticsRepository.flush();
+        boolean second = journalStatisticsRowRepository.insertIfAbsent(TEST_EMAIL);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(journalStatisticsRepository.findById(TEST_EMAIL).orElseThrow().getTotalPnL())
+                .isEqualByComparingTo("100.00");
+    }
+}
@@ -0,0 +1,126 @@
+package io.tbill.backendapi.domain.journal.repository;
+
+import io.tbill.backendapi.domain.journal.dto.JournalDto;
+import io.tbill.backendapi.domain.journal.entity.Journal;
+import io.tbill.backendapi.domain.journal.entity.MarketType;
+import io.tbill.backendapi.domain.journal.entity.TradeType;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE) // H2 사용
+@ActiveProfiles("test")
+@Import(JournalSearchRepository.class)
+class JournalSummaryProjectionTest {
+
+    private static final String TEST_EMAIL = "test@example.com";
+
+    @Autowired
+    private JournalRepository journalRepository;
+
+    @Autowired
+    private JournalSearchRepository journalSearchRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        journalRepository.deleteAll();
+
+        List<Journal> journals = new ArrayList<>();
+        for (String email : List.of(TEST_EMAIL, "other@example.com")) {
+            for (int i = 0; i < 30; i++) {
+                journals.add(Journal.builder()
+                        .authorEmail(email)
+                        .market(MarketType.STOCK)
+                        .symbol("AAPL")
+                        .tradeType(TradeType.LONG)
+                        .quantity(BigDecimal.ONE)
+                        .entryPrice(new BigDecimal("100.00"))
+                        .realizedPnL(i % 3 == 0 ? null : BigDecimal.valueOf(i))
+                        .build());
+            }
+        }
+        journalRepository.saveAll(journals);
+        journalRepository.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("목록 Projection - 엔티티를 영속성 컨텍스트에 올리지 않음")
+    void summariesAreNotManaged() {
+        // given
+        PageRequest pageable = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+        // when
+        Page<JournalDto.JournalSummary> result = journalSearchRepository.findPage(
+                JournalSearchQuery.forAuthor(TEST_EMAIL).orderBy(pageable.getSort()), pageable);
+
+        // then
+        assertThat(result.getContent()).hasSize(20);
+        assertThat(result.getTotalElements()).isEqualTo(30);
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("목록 Projection - 진행 중/종료 거래 필터와 COUNT")
+    void openAndClosedSummaries() {
+        // given
+        PageRequest pageable = PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+        // when
+        Page<JournalDto.JournalSummary> open =
+                journalSearchRepository.findPage(JournalSearchQuery.forAuthor(TEST_EMAIL).closed(false), pageable);
+        Page<JournalDto.JournalSummary> closed =
+                journalSearchRepository.findPage(JournalSearchQuery.forAuthor(TEST_EMAIL).closed(true), pageable);
+
+        // then
+        assertThat(open.getTotalElements()).isEqualTo(10);
+        assertThat(open.getContent()).allMatch(summary -> !summary.getIsClosed());
+        assertThat(closed.getTotalElements()).isEqualTo(20);
+        assertThat(closed.getContent()).allMatch(JournalDto.JournalSummary::getIsClosed);
+    }
+
+    @Test
+    @DisplayName("목록 Projection - 커서 페이징으로 전체 순회 시 중복/누락 없음")
+    void cursorSummaries() {
+        // given
+        List<Long> ids = new ArrayList<>();
+        JournalDto.Cursor cursor = JournalDto.Cursor.FIRST;
+
+        // when
+        Slice<JournalDto.JournalSummary> slice;
+        do {
+            slice = journalSearchRepository.findSlice(
+                    JournalSearchQuery.forAuthor(TEST_EMAIL).after(cursor), 7);
+            slice.forEach(summary -> ids.add(summary.getId()));
+            if (slice.hasContent()) {
+                JournalDto.JournalSummary last = slice.getContent().get(slice.getNumberOfElements() - 1);
+                cursor = JournalDto.Cursor.of(last.getCreatedAt(), last.getId());
+            }
+        } while (slice.hasNext());
+
+        // then
+        assertThat(ids).hasSize(30).doesNotHaveDuplicates();
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+}
@@ -0,0 +1,153 @@
+package io.tbill.backendapi.domain.journal.repository;
+
+import io.tbill.backendapi.domain.journal.dto.JournalDto;
+import io.tbill.backendapi.domain.journal.entity.Journal;
+import io.tbill.backendapi.domain.journal.entity.JournalReasoning;
+import io.tbill.backendapi.domain.journal.entity.MarketType;
+import io.tbill.backendapi.domain.journal.entity.TradeType;
+import io.tbill.backendapi.infrastructure.datasource.DatabasePlatform;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE) // H2 사용 (역색인 테이블 엔진)
+@ActiveProfiles("test")
+@Import({JournalTextSearchRepository.class, DatabasePlatform.class})
+class JournalTextSearchRepositoryTest {
+
+    private static final String TEST_EMAIL = "test@example.com";
+
+    @Autowired
+    private JournalRepository journalRepository;
+
+    @Autowired
+    private JournalReasoningRepository journalReasoningRepository;
+
+    @Autowired
+    private JournalTextSearchRepository journalTextSearchRepository;
+
+    private Journal breakout;
+    private Journal fomc;
+    private Journal breakoutFomc;
+
+    @BeforeEach
+    void setUp() {
+        journalRepository.deleteAll();
+        breakout = journal(TEST_EMAIL, "AAPL");
+        fomc = journal(TEST_EMAIL, "BTC");
+        breakoutFomc = journal(TEST_EMAIL, "TSLA");
+        Journal other = journal("other@example.com", "AAPL");
+        journalRepository.saveAll(List.of(breakout, fomc, breakoutFomc, other));
+        journalRepository.flush();
+
+        journalTextSearchRepository.save(List.of(
+                entry(breakout, "AAPL 박스권 Breakout, 거래량 증가. breakout 확인"),
+                entry(fomc, "BTC FOMC 발표 전 진입"),
+                entry(breakoutFomc, "TSLA FOMC 이후 breakout"),
+                entry(other, "AAPL breakout")));
+    }
+
+    @Test
+    @DisplayName("전문 검색 - 작성자 범위 + 빈도 기준 관련도 순")
+    void searchRankedWithinAuthor() {
+        // when
+        List<JournalDto.TextSearchHit> hits = journalTextSearchRepository.search(
+                TEST_EMAIL, JournalSearchTokenizer.terms("BREAKOUT"), JournalDto.TextSearchCursor.FIRST, 10);
+
+        // then
+        assertThat(hits).extracting(hit -> hit.getJournal().getId())
+                .containsExactly(breakout.getId(), breakoutFomc.getId());
+        assertThat(hits.get(0).getScore()).isGreaterThan(hits.get(1).getScore());
+        assertThat(hits.get(0).getJournal().getSymbol()).isEqualTo("AAPL");
+    }
+
+    @Test
+    @DisplayName("전문 검색 - 모든 검색어를 포함하는 문서만 매칭 (심볼 포함)")
+    void searchMatchesAllTerms() {
+        // when
+        List<JournalDto.TextSearchHit> both = journalTextSearchRepository.search(
+                TEST_EMAIL, JournalSearchTokenizer.terms("fomc breakout"), JournalDto.TextSearchCursor.FIRST, 10);
+        List<JournalDto.TextSearchHit> symbol = journalTextSearchRepository.search(
+                TEST_EMAIL, JournalSearchTokenizer.terms("btc"), JournalDto.TextSearchCursor.FIRST, 10);
+
+        // then
+        assertThat(both).extracting(hit -> hit.getJournal().getId()).containsExactly(breakoutFomc.getId());
+        assertThat(symbol).extracting(hit -> hit.getJournal().getId()).containsExactly(fomc.getId());
+    }
+
+    @Test
+    @DisplayName("전문 검색 - (score, id) 커서로 다음 페이지 조회")
+    void searchKeysetPaging() {
+        // given
+        List<String> terms = JournalSearchTokenizer.terms("fomc");
+        List<JournalDto.TextSearchHit> first = journalTextSearchRepository.search(
+                TEST_EMAIL, terms, JournalDto.TextSearchCursor.FIRST, 1);
+        JournalDto.TextSearchHit last = first.get(0);
+
+        // when
+        List<JournalDto.TextSearchHit> second = journalTextSearchRepository.search(TEST_EMAIL, terms,
+                JournalDto.TextSearchCursor.decode(
+                        JournalDto.TextSearchCursor.of(last.getScore(), last.getJournal().getId()).encode()), 10);
+
+        // then (점수가 같으면 id 역순)
+        assertThat(first).extracting(hit -> hit.getJournal().getId()).containsExactly(breakoutFomc.getId());
+        assertThat(second).extracting(hit -> hit.getJournal().getId()).containsExactly(fomc.getId());
+    }
+
+    @Test
+    @DisplayName("전문 검색 - 색인 교체/삭제 및 누락분 조회")
+    void replaceDeleteAndFindUnindexed() {
+        // given
+        journalTextSearchRepository.save(List.of(entry(breakout, "AAPL 눌림목")));
+        journalTextSearchRepository.delete(List.of(fomc.getId()));
+        journalReasoningRepository.save(JournalReasoning.of(fomc.getId(), "{\"markdown\":\"FOMC\"}"));
+
+        // when
+        List<JournalDto.TextSearchHit> hits = journalTextSearchRepository.search(
+                TEST_EMAIL, JournalSearchTokenizer.terms("breakout"), JournalDto.TextSearchCursor.FIRST, 10);
+        List<JournalTextSearchRepository.IndexSource> unindexed = journalTextSearchRepository.findUnindexed(0, 10);
+
+        // then
+        assertThat(hits).extracting(hit -> hit.getJournal().getId()).containsExactly(breakoutFomc.getId());
+        assertThat(unindexed).extracting(JournalTextSearchRepository.IndexSource::journalId)
+                .containsExactly(fomc.getId());
+        assertThat(unindexed.get(0).reasoning()).isEqualTo("{\"markdown\":\"FOMC\"}");
+    }
+
+    @Test
+    @DisplayName("검색어 토큰화 - 소문자/구두점 분리/중복 제거, 빈 검색어는 예외")
+    void terms() {
+        assertThat(JournalSearchTokenizer.terms("FOMC, 돌파-매매 fomc")).containsExactly("fomc", "돌파", "매매");
+        assertThatThrownBy(() -> JournalSearchTokenizer.terms(" ,. "))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("검색어를 입력해주세요");
+    }
+
+    private JournalTextSearchRepository.IndexEntry entry(Journal journal, String document) {
+        return new JournalTextSearchRepository.IndexEntry(
+                journal.getId(), journal.getAuthorEmail(), JournalSearchTokenizer.tokenize(document));
+    }
+
+    private Journal journal(String email, String symbol) {
+        return Journal.builder()
+                .authorEmail(email)
+                .market(MarketType.STOCK)
+                .symbol(symbol)
+                .tradeType(TradeType.LONG)
+                .quantity(BigDecimal.ONE)
+                .entryPrice(new BigDecimal("100.00"))
+                .build();
+    }
+}
@@ -0,0 +1,120 @@
+package io.tbill.backendapi.domain.journal.service;
+
+import io.tbill.backendapi.domain.journal.dto.JournalDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EquityCurveCalculatorTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+    @Test
+    @DisplayName("손익 곡선 - 최대 낙폭 / 낙폭 기간 / 회복 기간 계산")
+    void drawdownAndRecovery() {
+        // given
+        EquityCurveCalculator calculator = new EquityCurveCalculator();
+        double[] pnls = {100, -30, -50, 60, 40, -10};
+        for (int i = 0; i < pnls.length; i++) {
+            calculator.add(START.plusHours(i), pnls[i]);
+        }
+
+        // when
+        JournalDto.EquityCurve curve = calculator.result(null);
+
+        // then
+        assertThat(curve.getTotalTrades()).isEqualTo(6);
+        assertThat(curve.getFinalEquity()).isEqualTo(110);
+        assertThat(curve.getPeakEquity()).isEqualTo(120);
+        assertThat(curve.getMaxDrawdown()).isEqualTo(80);
+        assertThat(curve.getCurrentDrawdown()).isEqualTo(10);
+        assertThat(curve.getLongestDrawdownDuration()).isEqualTo(Duration.ofHours(4));
+        assertThat(curve.getLongestRecoveryDuration()).isEqualTo(Duration.ofHours(2));
+
+        List<JournalDto.DrawdownPeriod> drawdowns = curve.getDrawdowns();
+        assertThat(drawdowns).hasSize(2);
+        assertThat(drawdowns.get(0).getStartedAt()).isEqualTo(START);
+        assertThat(drawdowns.get(0).getTroughAt()).isEqualTo(START.plusHours(2));
+        assertThat(drawdowns.get(0).getRecoveredAt()).isEqualTo(START.plusHours(4));
+        assertThat(drawdowns.get(1).getDepth()).isEqualTo(10);
+        assertThat(drawdowns.get(1).getRecoveredAt()).isNull();
+
+        assertThat(curve.getPoints()).extracting(JournalDto.EquityPoint::getEquity)
+                .containsExactly(100.0, 70.0, 20.0, 80.0, 120.0, 110.0);
+        assertThat(curve.getPoints()).extracting(JournalDto.EquityPoint::getDrawdown)
+                .containsExactly(0.0, 30.0, 80.0, 20.0, 0.0, 10.0);
+    }
+
+    @Test
+    @DisplayName("손익 곡선 - 첫 거래부터 손실이면 시작 자산(0) 대비 낙폭")
+    void drawdownFromStart() {
+        // given
+        EquityCurveCalculator calculator = new EquityCurveCalculator();
+        calculator.add(START, -20);
+        calculator.add(START.plusHours(1), 5);
+
+        // when
+        JournalDto.EquityCurve curve = calculator.result(null);
+
+        // then
+        assertThat(curve.getPeakEquity()).isZero();
+        assertThat(curve.getMaxDrawdown()).isEqualTo(20);
+        assertThat(curve.getDrawdowns().get(0).getStartedAt()).isEqualTo(START);
+        assertThat(curve.getLongestDrawdownDuration()).isEqualTo(Duration.ofHours(1));
+    }
+
+    @Test
+    @DisplayName("손익 곡선 - 종료 거래가 없으면 빈 결과")
+    void empty() {
+        // when
+        JournalDto.EquityCurve curve = new EquityCurveCalculator().result(100);
+
+        // then
+        assertThat(curve.getTotalTrades()).isZero();
+        assertThat(curve.getMaxDrawdown()).isZero();
+        assertThat(curve.getPoints()).isEmpty();
+        assertThat(curve.getDrawdowns()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("손익 곡선 - 다운샘플링 시 포인트 수 제한, 첫/마지막 포인트 유지")
+    void downsampling() {
+        // given
+        EquityCurveCalculator calculator = new EquityCurveCalculator();
+        int trades = 50_000;
+        for (int i = 0; i < trades; i++) {
+            calculator.add(START.plusMinutes(i), Math.sin(i / 500.0) * 10);
+        }
+
+        // when
+        JournalDto.EquityCurve curve = calculator.result(500);
+
+        // then
+        List<JournalDto.EquityPoint> points = curve.getPoints();
+        assertThat(curve.getTotalTrades()).isEqualTo(trades);
+        assertThat(points).hasSize(500);
+        assertThat(points.get(0).getTimestamp()).isEqualTo(START);
+        assertThat(points.get(points.size() - 1).getTimestamp()).isEqualTo(START.plusMinutes(trades - 1));
+        assertThat(points).extracting(JournalDto.EquityPoint::getCreatedAt).isSorted();
+    }
+
+    @Test
+    @DisplayName("손익 곡선 - 다운샘플링 포인트 수가 너무 작으면 예외")
+    void invalidMaxPoints() {
+        // given
+        EquityCurveCalculator calculator = new EquityCurveCalculator();
+        for (int i = 0; i < 10; i++) {
+            calculator.add(START.plusHours(i), 1);
+        }
+
+        // when & then
+        assertThatThrownBy(() -> calculator.result(2))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
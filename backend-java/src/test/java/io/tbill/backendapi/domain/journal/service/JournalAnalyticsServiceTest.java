@@ -0,0 +1,134 @@
+package io.tbill.backendapi.domain.journal.service;
+
+import io.tbill.backendapi.domain.common.vo.Money;
+import io.tbill.backendapi.domain.journal.cache.JournalColumnCache;
+import io.tbill.backendapi.domain.journal.cache.JournalColumns;
+import io.tbill.backendapi.domain.journal.dto.JournalDto;
+import io.tbill.backendapi.domain.journal.entity.MarketType;
+import io.tbill.backendapi.domain.journal.entity.TradeType;
+import io.tbill.backendapi.domain.journal.repository.JournalAnalyticsGroup;
+import io.tbill.backendapi.domain.journal.repository.JournalAnalyticsRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JournalAnalyticsServiceTest {
+
+    private static final String TEST_EMAIL = "test@example.com";
+
+    @Mock
+    private JournalAnalyticsRepository journalAnalyticsRepository;
+
+    @Mock
+    private JournalColumnCache journalColumnCache;
+
+    @InjectMocks
+    private JournalAnalyticsService journalAnalyticsService;
+
+    private final JournalDto.SearchCondition condition =
+            JournalDto.SearchCondition.builder().authorEmail(TEST_EMAIL).build();
+
+    private final List<JournalDto.GroupAggregate> aggregates = List.of(
+            new JournalDto.GroupAggregate("AAPL", 4, 3, 2, 1,
+                    new BigDecimal("150"), new BigDecimal("200"), new BigDecimal("50")));
+
+    @Test
+    @DisplayName("손익 분석 - 컬럼 캐시가 있으면 집계 쿼리 생략")
+    void analyzeFromColumnCache() {
+        // given
+        JournalColumns columns = JournalColumns.builder(7L)
+                .add(row(1L, 1_000L, "120"))
+                .add(row(2L, 2_000L, "80"))
+                .add(row(3L, 3_000L, "-50"))
+                .add(row(4L, 4_000L, null))
+                .build();
+        when(journalColumnCache.get(TEST_EMAIL)).thenReturn(Optional.of(columns));
+
+        // when
+        List<JournalDto.AnalyticsBucket> result = journalAnalyticsService.analyze(condition, JournalAnalyticsGroup.SYMBOL);
+
+        // then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getKey()).isEqualTo("AAPL");
+        assertThat(result.get(0).getStatistics().getTotalPnL()).isEqualByComparingTo("150");
+        assertThat(result.get(0).getStatistics().getWinRate()).isEqualByComparingTo("66.67");
+        assertThat(result.get(0).getStatistics().getOpenTrades()).isEqualTo(1L);
+        verify(journalAnalyticsRepository, never()).aggregate(any(), any());
+    }
+
+    @Test
+    @DisplayName("손익 분석 - 컬럼 캐시를 쓸 수 없으면(Redis 장애 등) SQL 집계")
+    void analyzeWithoutColumnCache() {
+        // given
+        when(journalColumnCache.get(TEST_EMAIL)).thenReturn(Optional.empty());
+        when(journalAnalyticsRepository.aggregate(any(), any())).thenReturn(aggregates);
+
+        // when
+        List<JournalDto.AnalyticsBucket> result = journalAnalyticsService.analyze(condition, JournalAnalyticsGroup.SYMBOL);
+
+        // then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getStatistics().getWinRate()).isEqualByComparingTo("66.67");
+    }
+
+    @Test
+    @DisplayName("손익 곡선 - 컬럼 캐시의 종료 거래만 사용")
+    void equityCurveFromColumnCache() {
+        // given
+        JournalColumns columns = JournalColumns.builder(7L)
+                .add(row(1L, 1_000L, "100"))
+                .add(row(2L, 2_000L, null))
+                .add(row(3L, 3_000L, "-30"))
+                .build();
+        when(journalColumnCache.get(TEST_EMAIL)).thenReturn(Optional.of(columns));
+
+        // when
+        JournalDto.EquityCurve result = journalAnalyticsService.getEquityCurve(TEST_EMAIL, null);
+
+        // then
+        assertThat(result.getTotalTrades()).isEqualTo(2);
+        assertThat(result.getFinalEquity()).isEqualTo(70.0);
+        assertThat(result.getMaxDrawdown()).isEqualTo(30.0);
+        verify(journalAnalyticsRepository, never()).streamClosedTrades(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("위험 지표 - 같은 스냅샷이면 계산 결과 재사용")
+    void riskMetricsCachedPerSnapshot() {
+        // given
+        JournalColumns columns = JournalColumns.builder(7L)
+                .add(row(1L, 1_000L, "100"))
+                .add(row(2L, 2_000L, "-30"))
+                .build();
+        when(journalColumnCache.get(TEST_EMAIL)).thenReturn(Optional.of(columns));
+
+        // when
+        JournalDto.RiskMetrics first = journalAnalyticsService.getRiskMetrics(TEST_EMAIL);
+        JournalDto.RiskMetrics second = journalAnalyticsService.getRiskMetrics(TEST_EMAIL);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(first.getClosedTrades()).isEqualTo(2);
+        assertThat(first.getProfitFactor()).isEqualTo(100.0 / 30.0);
+        verify(journalAnalyticsRepository, never()).streamClosedTradeRisks(anyString(), any());
+    }
+
+    private static JournalColumns.Row row(long id, long createdAt, String pnl) {
+        return new JournalColumns.Row(id, createdAt, MarketType.STOCK, "AAPL", TradeType.LONG,
+                Money.units(BigDecimal.ONE), Money.units(new BigDecimal("100")), JournalColumns.NO_PRICE,
+                pnl != null ? Money.units(new BigDecimal(pnl)) : JournalColumns.NO_PNL);
+    }
+}
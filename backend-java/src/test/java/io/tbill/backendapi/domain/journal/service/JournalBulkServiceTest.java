@@ -0,0 +1,214 @@
+package io.tbill.backendapi.domain.journal.service;
+
+import io.tbill.backendapi.domain.journal.dto.JournalDto;
+import io.tbill.backendapi.domain.journal.entity.Journal;
+import io.tbill.backendapi.domain.journal.event.JournalChangedEvent;
+import io.tbill.backendapi.domain.journal.repository.JournalBulkRepository;
+import io.tbill.backendapi.infrastructure.cache.SecondLevelCacheInvalidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class JournalBulkServiceTest {
+
+    private static final String TEST_EMAIL = "test@example.com";
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 3, 15, 9, 30);
+
+    @Mock
+    private JournalBulkRepository journalBulkRepository;
+
+    @Mock
+    private JournalStatisticsService journalStatisticsService;
+
+    @Mock
+    private JournalDailyRollupService journalDailyRollupService;
+
+    @Mock
+    private JournalReasoningService journalReasoningService;
+
+    @Mock
+    private JournalSearchIndexer journalSearchIndexer;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ObjectProvider<SecondLevelCacheInvalidator> secondLevelCacheInvalidatorProvider;
+
+    @Mock
+    private SecondLevelCacheInvalidator secondLevelCacheInvalidator;
+
+    private JournalBulkService journalBulkService;
+
+    @BeforeEach
+    void setUp() {
+        journalBulkService = new JournalBulkService(journalBulkRepository, journalStatisticsService, journalDailyRollupService,
+                journalReasoningService, journalSearchIndexer, eventPublisher, secondLevelCacheInvalidatorProvider);
+        lenient().doAnswer(invocation -> {
+            Consumer<SecondLevelCacheInvalidator> consumer = invocation.getArgument(0);
+            consumer.accept(secondLevelCacheInvalidator);
+            return null;
+        }).when(secondLevelCacheInvalidatorProvider).ifAvailable(any());
+    }
+
+    @Test
+    @DisplayName("일괄 종료 - 진행 중 거래만 종료, 이미 종료/없는 ID 는 항목별 결과로 보고")
+    void closeAll_MixedOutcomes() {
+        // given
+        given(journalBulkRepository.lockOwned(eq(TEST_EMAIL), anyCollection())).willReturn(List.of(
+                new JournalBulkRepository.LockedRow(1L, null, CREATED_AT),
+                new JournalBulkRepository.LockedRow(2L, new BigDecimal("30"), CREATED_AT)));
+        List<JournalDto.CloseItem> items = List.of(
+                new JournalDto.CloseItem(1L, new BigDecimal("10")),
+                new JournalDto.CloseItem(2L, new BigDecimal("20")),
+                new JournalDto.CloseItem(3L, new BigDecimal("40")),
+                new JournalDto.CloseItem(1L, new BigDecimal("99"))); // 중복 -> 첫 항목 사용
+
+        // when
+        JournalDto.BulkResult result = journalBulkService.closeAll(TEST_EMAIL, items);
+
+        // then
+        assertThat(result.getOutcomes())
+                .extracting(JournalDto.BulkOutcome::getJournalId, JournalDto.BulkOutcome::getStatus)
+                .containsExactly(
+                        tuple(1L, JournalDto.BulkStatus.CLOSED),
+                        tuple(2L, JournalDto.BulkStatus.ALREADY_CLOSED),
+                        tuple(3L, JournalDto.BulkStatus.NOT_FOUND));
+        assertThat(result.getSucceeded()).isEqualTo(1);
+        assertThat(result.getFailed()).isEqualTo(2);
+
+        ArgumentCaptor<Map<Long, BigDecimal>> closed = ArgumentCaptor.captor();
+        verify(journalBulkRepository).close(eq(TEST_EMAIL), closed.capture(), any());
+        assertThat(closed.getValue()).containsExactly(Map.entry(1L, new BigDecimal("10")));
+
+        ArgumentCaptor<Collection<BigDecimal>> pnls = ArgumentCaptor.captor();
+        verify(journalStatisticsService).onClosed(eq(TEST_EMAIL), pnls.capture());
+        assertThat(pnls.getValue()).containsExactly(new BigDecimal("10"));
+        verify(journalDailyRollupService).apply(TEST_EMAIL, List.of(
+                JournalDailyRollupService.Change.closed(CREATED_AT.toLocalDate(), new BigDecimal("10"))));
+
+        verify(secondLevelCacheInvalidator).evict(Journal.class, List.of(1L));
+        ArgumentCaptor<JournalChangedEvent> event = ArgumentCaptor.forClass(JournalChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue()).isEqualTo(JournalChangedEvent.updated(TEST_EMAIL, List.of(1L)));
+    }
+
+    @Test
+    @DisplayName("일괄 종료 - 통계 행을 매매일지 행보다 먼저 잠금 (단건 변경과 같은 잠금 순서)")
+    void closeAll_LockOrder() {
+        // given
+        given(journalBulkRepository.lockOwned(eq(TEST_EMAIL), anyCollection()))
+                .willReturn(List.of(new JournalBulkRepository.LockedRow(1L, null, CREATED_AT)));
+
+        // when
+        journalBulkService.closeAll(TEST_EMAIL, List.of(new JournalDto.CloseItem(1L, BigDecimal.ONE)));
+
+        // then
+        InOrder inOrder = inOrder(journalStatisticsService, journalBulkRepository);
+        inOrder.verify(journalStatisticsService).lock(TEST_EMAIL);
+        inOrder.verify(journalBulkRepository).lockOwned(eq(TEST_EMAIL), anyCollection());
+        inOrder.verify(journalBulkRepository).close(eq(TEST_EMAIL), anyMap(), any());
+    }
+
+    @Test
+    @DisplayName("일괄 종료 - 대상이 없으면 변경/통계/이벤트 없음")
+    void closeAll_NothingToClose() {
+        // given
+        given(journalBulkRepository.lockOwned(eq(TEST_EMAIL), anyCollection())).willReturn(List.of());
+
+        // when
+        JournalDto.BulkResult result = journalBulkService.closeAll(TEST_EMAIL,
+                List.of(new JournalDto.CloseItem(1L, BigDecimal.ONE)));
+
+        // then
+        assertThat(result.getSucceeded()).isZero();
+        verify(journalBulkRepository, never()).close(anyString(), anyMap(), any());
+        verify(journalStatisticsService, never()).onClosed(anyString(), anyCollection());
+        verifyNoInteractions(eventPublisher, secondLevelCacheInvalidator);
+    }
+
+    @Test
+    @DisplayName("일괄 종료 실패 - 실현 손익 누락")
+    void closeAll_MissingRealizedPnL() {
+        // when & then
+        assertThatThrownBy(() -> journalBulkService.closeAll(TEST_EMAIL,
+                List.of(new JournalDto.CloseItem(1L, null))))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(journalBulkRepository, journalStatisticsService);
+    }
+
+    @Test
+    @DisplayName("일괄 삭제 - 본인 매매일지만 삭제하고 근거/색인/통계(진행 중 거래 포함)를 함께 반영")
+    void deleteAll() {
+        // given
+        given(journalBulkRepository.lockOwned(eq(TEST_EMAIL), anyCollection())).willReturn(List.of(
+                new JournalBulkRepository.LockedRow(1L, new BigDecimal("10"), CREATED_AT),
+                new JournalBulkRepository.LockedRow(2L, null, CREATED_AT)));
+
+        // when
+        JournalDto.BulkResult result = journalBulkService.deleteAll(TEST_EMAIL, List.of(1L, 2L, 3L, 2L));
+
+        // then
+        assertThat(result.getOutcomes())
+                .extracting(JournalDto.BulkOutcome::getStatus)
+                .containsExactly(JournalDto.BulkStatus.DELETED, JournalDto.BulkStatus.DELETED,
+                        JournalDto.BulkStatus.NOT_FOUND);
+        assertThat(result.getSucceeded()).isEqualTo(2);
+        assertThat(result.getFailed()).isEqualTo(1);
+
+        List<Long> deleted = List.of(1L, 2L);
+        verify(journalBulkRepository).delete(TEST_EMAIL, deleted);
+        verify(journalReasoningService).deleteAll(deleted);
+        verify(journalSearchIndexer).deleteAll(deleted);
+        verify(journalStatisticsService).onDeleted(TEST_EMAIL, Arrays.asList(new BigDecimal("10"), null));
+        verify(journalDailyRollupService).apply(TEST_EMAIL, List.of(
+                JournalDailyRollupService.Change.deleted(CREATED_AT.toLocalDate(), new BigDecimal("10")),
+                JournalDailyRollupService.Change.deleted(CREATED_AT.toLocalDate(), null)));
+        verify(secondLevelCacheInvalidator).evict(Journal.class, deleted);
+        verify(eventPublisher).publishEvent(JournalChangedEvent.deleted(TEST_EMAIL, deleted));
+    }
+
+    @Test
+    @DisplayName("일괄 삭제 실패 - 최대 건수 초과")
+    void deleteAll_TooMany() {
+        // given
+        List<Long> journalIds = LongStream.rangeClosed(1, JournalBulkService.MAX_BULK_SIZE + 1).boxed().toList();
+
+        // when & then
+        assertThatThrownBy(() -> journalBulkService.deleteAll(TEST_EMAIL, journalIds))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(journalBulkRepository, journalStatisticsService, eventPublisher);
+    }
+}
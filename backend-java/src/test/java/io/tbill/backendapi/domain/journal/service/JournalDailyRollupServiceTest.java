@@ -0,0 +1,132 @@
+package io.tbill.backendapi.domain.journal.service;
+
+import io.tbill.backendapi.domain.journal.repository.JournalDailyRollupRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JournalDailyRollupServiceTest {
+
+    private static final String TEST_EMAIL = "test@example.com";
+    private static final LocalDate DAY1 = LocalDate.of(2024, 3, 15);
+    private static final LocalDate DAY2 = LocalDate.of(2024, 3, 16);
+
+    @Mock
+    private JournalDailyRollupRepository journalDailyRollupRepository;
+
+    @Mock
+    private JournalStatisticsService journalStatisticsService;
+
+    @InjectMocks
+    private JournalDailyRollupService journalDailyRollupService;
+
+    @Test
+    @DisplayName("증분 반영 - 변경을 날짜별 변화량 1건으로 합산 (종료/삭제/정정)")
+    void applyGroupsByDate() {
+        // given
+        List<JournalDailyRollupService.Change> changes = List.of(
+                JournalDailyRollupService.Change.closed(DAY1, new BigDecimal("50")),
+                JournalDailyRollupService.Change.deleted(DAY1, new BigDecimal("-20")),
+                JournalDailyRollupService.Change.deleted(DAY2, null),
+                new JournalDailyRollupService.Change(DAY2, 0, new BigDecimal("10"), new BigDecimal("-5")));
+
+        // when
+        journalDailyRollupService.apply(TEST_EMAIL, changes);
+
+        // then
+        assertThat(captureDeltas()).containsExactly(
+                new JournalDailyRollupRepository.Delta(DAY1, -1, 0, 1, -1, new BigDecimal("70")),
+                new JournalDailyRollupRepository.Delta(DAY2, -1, 0, -1, 1, new BigDecimal("-15")));
+    }
+
+    @Test
+    @DisplayName("증분 반영 - 변화가 없는 날짜(실현 손익 동일 정정)는 갱신하지 않음")
+    void applySkipsEmptyDelta() {
+        // given
+        List<JournalDailyRollupService.Change> changes = List.of(
+                new JournalDailyRollupService.Change(DAY1, 0, new BigDecimal("10"), new BigDecimal("10.00")),
+                new JournalDailyRollupService.Change(DAY2, 0, null, null));
+
+        // when
+        journalDailyRollupService.apply(TEST_EMAIL, changes);
+
+        // then
+        assertThat(captureDeltas()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("달력 조회 - 지정한 기간의 집계 행만 조회")
+    void getCalendar() {
+        // when
+        journalDailyRollupService.getCalendar(TEST_EMAIL, DAY1, DAY2);
+
+        // then
+        verify(journalDailyRollupRepository).findRange(TEST_EMAIL, DAY1, DAY2);
+    }
+
+    @Test
+    @DisplayName("달력 조회 실패 - 시작일이 종료일보다 늦거나 최대 기간 초과")
+    void getCalendar_InvalidRange() {
+        // when & then
+        assertThatThrownBy(() -> journalDailyRollupService.getCalendar(TEST_EMAIL, DAY2, DAY1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> journalDailyRollupService.getCalendar(TEST_EMAIL,
+                DAY1.minusDays(JournalDailyRollupService.MAX_CALENDAR_DAYS), DAY1))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(journalDailyRollupRepository);
+    }
+
+    @Test
+    @DisplayName("재계산 - 통계 행을 먼저 잠근 뒤 재계산 (매매일지 쓰기와 직렬화)")
+    void rebuildLocksStatisticsFirst() {
+        // when
+        boolean changed = journalDailyRollupService.rebuild(TEST_EMAIL);
+
+        // then
+        InOrder inOrder = inOrder(journalStatisticsService, journalDailyRollupRepository);
+        inOrder.verify(journalStatisticsService).lock(TEST_EMAIL);
+        inOrder.verify(journalDailyRollupRepository).isConsistent(TEST_EMAIL);
+        inOrder.verify(journalDailyRollupRepository).rebuild(TEST_EMAIL);
+        assertThat(changed).isTrue();
+    }
+
+    @Test
+    @DisplayName("재계산 - 집계가 이미 같으면 다시 쓰지 않고 변경 없음")
+    void rebuildSkipsConsistentRollup() {
+        // given
+        when(journalDailyRollupRepository.isConsistent(TEST_EMAIL)).thenReturn(true);
+
+        // when
+        boolean changed = journalDailyRollupService.rebuild(TEST_EMAIL);
+
+        // then
+        assertThat(changed).isFalse();
+        verify(journalDailyRollupRepository, never()).rebuild(TEST_EMAIL);
+    }
+
+    private Collection<JournalDailyRollupRepository.Delta> captureDeltas() {
+        ArgumentCaptor<Collection<JournalDailyRollupRepository.Delta>> deltas = ArgumentCaptor.captor();
+        verify(journalDailyRollupRepository).apply(eq(TEST_EMAIL), deltas.capture());
+        return deltas.getValue();
+    }
+}
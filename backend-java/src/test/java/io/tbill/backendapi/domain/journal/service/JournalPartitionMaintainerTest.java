@@ -0,0 +1,119 @@
+package io.tbill.backendapi.domain.journal.service;
+
+import io.tbill.backendapi.domain.journal.repository.JournalPartitionRepository;
+import io.tbill.backendapi.infrastructure.datasource.DatabasePlatform;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JournalPartitionMaintainerTest {
+
+    private static final YearMonth NOW = YearMonth.of(2024, 11);
+
+    @Mock
+    private JournalPartitionRepository journalPartitionRepository;
+
+    @Mock
+    private DatabasePlatform databasePlatform;
+
+    @Test
+    @DisplayName("파티션 계획 - 이번 달부터 premake 개월 후까지 없는 파티션만 생성 (연도 경계 포함)")
+    void planCreatesMissingFutureMonths() {
+        // given
+        JournalPartitionMaintainer maintainer = new JournalPartitionMaintainer(journalPartitionRepository, databasePlatform, 3, 0);
+
+        // when
+        JournalPartitionMaintainer.Plan plan = maintainer.plan(
+                List.of("journal_pdefault", "journal_p202410", "journal_p202411", "journal_p202412"), NOW);
+
+        // then
+        assertThat(plan.toCreate()).containsExactly(YearMonth.of(2025, 1), YearMonth.of(2025, 2));
+        assertThat(plan.toArchive()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("파티션 계획 - 보관 기간이 지난 월 파티션만 분리 (기본 파티션 제외)")
+    void planArchivesExpiredMonths() {
+        // given
+        JournalPartitionMaintainer maintainer = new JournalPartitionMaintainer(journalPartitionRepository, databasePlatform, 1, 12);
+
+        // when
+        JournalPartitionMaintainer.Plan plan = maintainer.plan(List.of(
+                "journal_pdefault", "journal_p202309", "journal_p202310", "journal_p202311",
+                "journal_p202411", "journal_p202412"), NOW);
+
+        // then (2023-11 은 보관 기간 경계 -> 유지)
+        assertThat(plan.toArchive()).containsExactly(YearMonth.of(2023, 9), YearMonth.of(2023, 10));
+        assertThat(plan.toCreate()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("파티션 유지보수 - 생성 실패해도 나머지 작업 계속")
+    void maintainContinuesOnFailure() {
+        // given
+        JournalPartitionMaintainer maintainer = new JournalPartitionMaintainer(journalPartitionRepository, databasePlatform, 2, 0);
+        when(databasePlatform.isPostgreSQL()).thenReturn(true);
+        when(journalPartitionRepository.findPartitionNames()).thenReturn(List.of("journal_pdefault"));
+        doThrow(new IllegalStateException("default partition contains rows"))
+                .doNothing()
+                .when(journalPartitionRepository).createMonthly(any());
+
+        // when
+        maintainer.maintain();
+
+        // then
+        verify(journalPartitionRepository, times(3)).createMonthly(any());
+        verify(journalPartitionRepository, never()).detachAndArchive(any());
+    }
+
+    @Test
+    @DisplayName("파티션 유지보수 - journal 이 파티션 테이블이 아니면 아무 작업도 하지 않음")
+    void maintainSkipsWhenNotPartitioned() {
+        // given
+        JournalPartitionMaintainer maintainer = new JournalPartitionMaintainer(journalPartitionRepository, databasePlatform, 2, 12);
+        when(databasePlatform.isPostgreSQL()).thenReturn(true);
+        when(journalPartitionRepository.findPartitionNames()).thenReturn(List.of());
+
+        // when
+        maintainer.maintain();
+
+        // then
+        verify(journalPartitionRepository, never()).createMonthly(any());
+        verify(journalPartitionRepository, never()).detachAndArchive(any());
+    }
+
+    @Test
+    @DisplayName("파티션 유지보수 - PostgreSQL 이 아니면 파티션 조회도 하지 않음")
+    void maintainSkipsOnOtherDatabase() {
+        // given
+        JournalPartitionMaintainer maintainer = new JournalPartitionMaintainer(journalPartitionRepository, databasePlatform, 2, 12);
+        when(databasePlatform.isPostgreSQL()).thenReturn(false);
+
+        // when
+        maintainer.maintain();
+
+        // then
+        verifyNoInteractions(journalPartitionRepository);
+    }
+
+    @Test
+    @DisplayName("파티션 이름 <-> 월 변환")
+    void partitionNameRoundTrip() {
+        assertThat(JournalPartitionRepository.partitionName(YearMonth.of(2024, 1))).isEqualTo("journal_p202401");
+        assertThat(JournalPartitionRepository.monthOf("journal_p202401")).contains(YearMonth.of(2024, 1));
+        assertThat(JournalPartitionRepository.monthOf("journal_pdefault")).isEmpty();
+        assertThatThrownBy(() -> new JournalPartitionMaintainer(journalPartitionRepository, databasePlatform, 0, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -2,18 +2,26 @@ package io.tbill.backendapi.domain.journal.service;
 
 import io.tbill.backendapi.domain.journal.dto.JournalDto;
 import io.tbill.backendapi.domain.journal.entity.Journal;
+import io.tbill.backendapi.domain.journal.entity.JournalStatistics;
 import io.tbill.backendapi.domain.journal.entity.MarketType;
+import io.tbill.backendapi.domain.journal.event.JournalChangedEvent;
 import io.tbill.backendapi.domain.journal.repository.JournalRepository;
+import io.tbill.backendapi.domain.journal.repository.JournalSearchRepository;
+import io.tbill.backendapi.domain.journal.repository.JournalStatisticsRepository;
+import io.tbill.backendapi.domain.journal.repository.JournalTextSearchRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -30,6 +38,30 @@ class JournalServiceImplTest {
     @Mock
     private JournalRepository journalRepository;
 
+    @Mock
+    private JournalSearchRepository journalSearchRepository;
+
+    @Mock
+    private JournalStatisticsRepository journalStatisticsRepository;
+
+    @Mock
+    private JournalStatisticsService journalStatisticsService;
+
+    @Mock
+    private JournalDailyRollupService journalDailyRollupService;
+
+    @Mock
+    private JournalReasoningService journalReasoningService;
+
+    @Mock
+    private JournalSearchIndexer journalSearchIndexer;
+
+    @Mock
+    private JournalTextSearchRepository journalTextSearchRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private JournalServiceImpl journalService;
 
@@ -55,7 +87,116 @@ class JournalServiceImplTest {
         // then
         assertThat(result.getSymbol()).isEqualTo("AAPL");
         assertThat(result.getAuthorEmail()).isEqualTo("test@example.com");
+        assertThat(result.getReasoning()).isEqualTo("{\"markdown\":\"테스트\"}");
         verify(journalRepository, times(1)).save(any(Journal.class));
+        verify(journalReasoningService, times(1)).create(savedJournal.getId(), "{\"markdown\":\"테스트\"}");
+        verify(journalSearchIndexer, times(1)).index(savedJournal, "{\"markdown\":\"테스트\"}");
+        verify(journalStatisticsService, times(1)).onCreated(savedJournal);
+        verify(journalDailyRollupService, times(1)).onCreated(savedJournal);
+        verify(eventPublisher, times(1)).publishEvent(any(JournalChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("매매일지 수정 - 실현 손익 변경분을 통계에 반영")
+    void updateJournal_AppliesStatisticsDelta() {
+        // given
+        Journal journal = Journal.builder()
+                .authorEmail("test@example.com")
+                .market(MarketType.STOCK)
+                .symbol("AAPL")
+                .entryPrice(new BigDecimal("150.00"))
+                .build();
+        when(journalRepository.findForUpdate(1L, "test@example.com"))
+                .thenReturn(Optional.of(journal));
+
+        JournalDto.UpdateCommand command = JournalDto.UpdateCommand.builder()
+                .id(1L)
+                .authorEmail("test@example.com")
+                .realizedPnL(new BigDecimal("300.00"))
+                .build();
+
+        // when
+        journalService.updateJournal(command);
+
+        // then (통계 행 잠금 -> journal 행 잠금 조회 순서)
+        InOrder inOrder = inOrder(journalStatisticsService, journalRepository);
+        inOrder.verify(journalStatisticsService).lock("test@example.com");
+        inOrder.verify(journalRepository).findForUpdate(1L, "test@example.com");
+        verify(journalStatisticsService, times(1)).onUpdated(journal, null);
+        verify(journalDailyRollupService, times(1)).onUpdated(journal, null);
+        assertThat(journal.getRealizedPnL()).isEqualByComparingTo(new BigDecimal("300.00"));
+    }
+
+    @Test
+    @DisplayName("매매일지 수정 - 근거 미포함 시 근거를 조회/저장하지 않음")
+    void updateJournal_WithoutReasoning() {
+        // given
+        Journal journal = Journal.builder()
+                .authorEmail("test@example.com")
+                .market(MarketType.STOCK)
+                .symbol("AAPL")
+                .entryPrice(new BigDecimal("150.00"))
+                .build();
+        when(journalRepository.findForUpdate(1L, "test@example.com"))
+                .thenReturn(Optional.of(journal));
+
+        JournalDto.UpdateCommand command = JournalDto.UpdateCommand.builder()
+                .id(1L)
+                .authorEmail("test@example.com")
+                .stopLossPrice(new BigDecimal("140.00"))
+                .build();
+
+        // when
+        JournalDto.JournalInfo result = journalService.updateJournal(command);
+
+        // then
+        verify(journalReasoningService, times(1)).replaceIfChanged(journal.getId(), null);
+        verify(journalReasoningService, never()).find(any());
+        verify(journalSearchIndexer, never()).index(any(), any());
+        assertThat(result.getReasoning()).isNull();
+    }
+
+    @Test
+    @DisplayName("매매일지 상세 조회 - 근거는 별도 조회")
+    void getJournalById_LoadsReasoning() {
+        // given
+        Journal journal = Journal.builder()
+                .authorEmail("test@example.com")
+                .market(MarketType.STOCK)
+                .symbol("AAPL")
+                .entryPrice(new BigDecimal("150.00"))
+                .build();
+        when(journalRepository.findByIdAndAuthorEmail(1L, "test@example.com"))
+                .thenReturn(Optional.of(journal));
+        when(journalReasoningService.find(1L)).thenReturn("{\"markdown\":\"테스트\"}");
+
+        // when
+        JournalDto.JournalInfo result = journalService.getJournalById(1L, "test@example.com");
+
+        // then
+        assertThat(result.getReasoning()).isEqualTo("{\"markdown\":\"테스트\"}");
+    }
+
+    @Test
+    @DisplayName("매매일지 삭제 - 근거도 함께 삭제")
+    void deleteJournal_DeletesReasoning() {
+        // given
+        Journal journal = Journal.builder()
+                .authorEmail("test@example.com")
+                .market(MarketType.STOCK)
+                .symbol("AAPL")
+                .entryPrice(new BigDecimal("150.00"))
+                .build();
+        when(journalRepository.findForUpdate(1L, "test@example.com"))
+                .thenReturn(Optional.of(journal));
+
+        // when
+        journalService.deleteJournal(1L, "test@example.com");
+
+        // then
+        verify(journalRepository, times(1)).delete(journal);
+        verify(journalReasoningService, times(1)).delete(1L);
+        verify(journalSearchIndexer, times(1)).delete(1L);
     }
 
     @Test
@@ -64,7 +205,7 @@ class JournalServiceImplTest {
         // given
         Long journalId = 1L;
         String authorEmail = "wrong@example.com";
-        when(journalRepository.findByIdAndAuthorEmail(journalId, authorEmail))
+        when(journalRepository.findForUpdate(journalId, authorEmail))
                 .thenReturn(Optional.empty());
 
         // when & then
@@ -74,24 +215,48 @@ class JournalServiceImplTest {
     }
 
     @Test
-    @DisplayName("통계 정보 조회")
+    @DisplayName("전문 검색 - size + 1건 조회로 다음 페이지 여부 판단")
+    void searchJournalsByText() {
+        // given
+        List<JournalDto.TextSearchHit> rows = List.of(hit(3L, 30), hit(2L, 20), hit(1L, 10));
+        when(journalTextSearchRepository.search("test@example.com", List.of("fomc", "breakout"),
+                JournalDto.TextSearchCursor.FIRST, 3)).thenReturn(rows);
+
+        // when
+        Slice<JournalDto.TextSearchHit> result = journalService.searchJournalsByText(
+                "test@example.com", "FOMC breakout", JournalDto.TextSearchCursor.FIRST, 2);
+
+        // then
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.getContent()).extracting(JournalDto.TextSearchHit::getScore).containsExactly(30L, 20L);
+    }
+
+    @Test
+    @DisplayName("통계 정보 조회 - 통계 집계 행 PK 조회")
     void getStatistics() {
         // given
         String authorEmail = "test@example.com";
-        when(journalRepository.getTotalPnLByAuthorEmail(authorEmail))
-                .thenReturn(Optional.of(new BigDecimal("5000.00")));
-        when(journalRepository.countByAuthorEmail(authorEmail)).thenReturn(10L);
-        when(journalRepository.countByAuthorEmailAndRealizedPnLIsNotNull(authorEmail)).thenReturn(7L);
-        when(journalRepository.countByAuthorEmailAndRealizedPnLGreaterThan(authorEmail, BigDecimal.ZERO))
-                .thenReturn(5L);
+        JournalStatistics journalStatistics = JournalStatistics.empty(authorEmail);
+        journalStatistics.addTrade(new BigDecimal("3000.00"));
+        journalStatistics.addTrade(new BigDecimal("2500.00"));
+        journalStatistics.addTrade(new BigDecimal("-500.00"));
+        journalStatistics.addTrade(null);
+        when(journalStatisticsRepository.findById(authorEmail)).thenReturn(Optional.of(journalStatistics));
 
         // when
         JournalDto.Statistics statistics = journalService.getStatistics(authorEmail);
 
         // then
         assertThat(statistics.getTotalPnL()).isEqualByComparingTo(new BigDecimal("5000.00"));
-        assertThat(statistics.getTotalTrades()).isEqualTo(10L);
-        assertThat(statistics.getClosedTrades()).isEqualTo(7L);
-        assertThat(statistics.getOpenTrades()).isEqualTo(3L);
+        assertThat(statistics.getTotalTrades()).isEqualTo(4L);
+        assertThat(statistics.getClosedTrades()).isEqualTo(3L);
+        assertThat(statistics.getOpenTrades()).isEqualTo(1L);
+        assertThat(statistics.getWinRate()).isEqualByComparingTo(new BigDecimal("66.67"));
+        verify(journalRepository, never()).aggregateStatistics(any());
+    }
+
+    private JournalDto.TextSearchHit hit(Long id, long score) {
+        return new JournalDto.TextSearchHit(new JournalDto.JournalSummary(
+                id, MarketType.STOCK, "AAPL", null, BigDecimal.ONE, BigDecimal.TEN, null, null), score);
     }
 }
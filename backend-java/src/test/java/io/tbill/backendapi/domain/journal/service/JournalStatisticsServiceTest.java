@@ -0,0 +1,102 @@
+package io.tbill.backendapi.domain.journal.service;
+
+import io.tbill.backendapi.domain.journal.entity.JournalStatistics;
+import io.tbill.backendapi.domain.journal.repository.JournalRepository;
+import io.tbill.backendapi.domain.journal.repository.JournalStatisticsRepository;
+import io.tbill.backendapi.domain.journal.repository.JournalStatisticsRowRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class JournalStatisticsServiceTest {
+
+    private static final String TEST_EMAIL = "test@example.com";
+
+    @Mock
+    private JournalStatisticsRepository journalStatisticsRepository;
+
+    @Mock
+    private JournalStatisticsRowRepository journalStatisticsRowRepository;
+
+    @Mock
+    private JournalRepository journalRepository;
+
+    @InjectMocks
+    private JournalStatisticsService journalStatisticsService;
+
+    @Test
+    @DisplayName("통계 행 선잠금 - 행이 없으면 생성 후 재계산하고 잠금")
+    void lockCreatesMissingRow() {
+        // given
+        given(journalStatisticsRowRepository.insertIfAbsent(TEST_EMAIL)).willReturn(true);
+        given(journalStatisticsRepository.findForUpdate(TEST_EMAIL))
+                .willReturn(Optional.of(JournalStatistics.empty(TEST_EMAIL)));
+
+        // when
+        journalStatisticsService.lock(TEST_EMAIL);
+
+        // then
+        InOrder inOrder = inOrder(journalStatisticsRowRepository, journalStatisticsRepository, journalRepository);
+        inOrder.verify(journalStatisticsRowRepository).insertIfAbsent(TEST_EMAIL);
+        inOrder.verify(journalStatisticsRepository).findForUpdate(TEST_EMAIL);
+        inOrder.verify(journalRepository).aggregateStatistics(TEST_EMAIL);
+    }
+
+    @Test
+    @DisplayName("통계 행 선잠금 - 이미 있는 행은 재계산 없이 잠금만")
+    void lockExistingRow() {
+        // given
+        given(journalStatisticsRowRepository.insertIfAbsent(TEST_EMAIL)).willReturn(false);
+        given(journalStatisticsRepository.findForUpdate(TEST_EMAIL))
+                .willReturn(Optional.of(JournalStatistics.empty(TEST_EMAIL)));
+
+        // when
+        journalStatisticsService.lock(TEST_EMAIL);
+
+        // then
+        verify(journalStatisticsRepository).findForUpdate(TEST_EMAIL);
+        verify(journalRepository, never()).aggregateStatistics(TEST_EMAIL);
+    }
+
+    @Test
+    @DisplayName("재계산 - journal 기준 값과 같으면 변경 없음, 다르면 덮어쓰고 변경 있음")
+    void rebuildReportsChange() {
+        // given
+        JournalStatistics statistics = JournalStatistics.empty(TEST_EMAIL);
+        JournalRepository.StatisticsAggregate aggregate = mock(JournalRepository.StatisticsAggregate.class);
+        given(aggregate.getTotalTrades()).willReturn(1L);
+        given(aggregate.getClosedTrades()).willReturn(1L);
+        given(aggregate.getWinningTrades()).willReturn(1L);
+        given(aggregate.getLosingTrades()).willReturn(0L);
+        given(aggregate.getTotalPnL()).willReturn(new BigDecimal("100.00"));
+        given(aggregate.getGrossProfit()).willReturn(new BigDecimal("100.00"));
+        given(aggregate.getGrossLoss()).willReturn(BigDecimal.ZERO);
+        given(journalStatisticsRowRepository.insertIfAbsent(TEST_EMAIL)).willReturn(false);
+        given(journalStatisticsRepository.findForUpdate(TEST_EMAIL)).willReturn(Optional.of(statistics));
+        given(journalRepository.aggregateStatistics(TEST_EMAIL)).willReturn(Optional.of(aggregate));
+
+        // when
+        boolean first = journalStatisticsService.rebuild(TEST_EMAIL);
+        boolean second = journalStatisticsService.rebuild(TEST_EMAIL);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(statistics.getTotalPnL()).isEqualByComparingTo("100");
+    }
+}
@@ -0,0 +1,122 @@
+package io.tbill.backendapi.domain.journal.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.tbill.backendapi.domain.journal.dto.JournalDto;
+import io.tbill.backendapi.domain.journal.entity.MarketType;
+import io.tbill.backendapi.domain.journal.entity.TradeType;
+import io.tbill.backendapi.domain.journal.event.JournalChangedEvent;
+import io.tbill.backendapi.domain.journal.event.JournalVersionChangedEvent;
+import io.tbill.backendapi.domain.journal.mark.MarkToMarketBook;
+import io.tbill.backendapi.domain.journal.mark.PriceTick;
+import io.tbill.backendapi.domain.journal.repository.JournalPositionRepository;
+import io.tbill.backendapi.infrastructure.redis.service.JournalVersionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class MarkToMarketServiceTest {
+
+    private static final String TEST_EMAIL = "test@example.com";
+
+    @Mock
+    private JournalPositionRepository journalPositionRepository;
+
+    @Mock
+    private JournalVersionService journalVersionService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private MarkToMarketBook markToMarketBook;
+    private MarkToMarketService markToMarketService;
+
+    @BeforeEach
+    void setUp() {
+        markToMarketBook = new MarkToMarketBook(new SimpleMeterRegistry());
+        markToMarketService = new MarkToMarketService(markToMarketBook, journalPositionRepository,
+                journalVersionService, transactionManager, Duration.ofMinutes(30));
+    }
+
+    @Test
+    @DisplayName("평가 손익 조회 - 버전이 같으면 다시 적재하지 않고 틱으로 갱신된 값 반환")
+    void reuseTrackedHoldings() {
+        // given
+        given(journalVersionService.getVersion(TEST_EMAIL)).willReturn(Optional.of(3L));
+        given(journalPositionRepository.findOpenTrades(TEST_EMAIL)).willReturn(List.of(longAapl()));
+
+        // when
+        markToMarketService.getUnrealizedPnL(TEST_EMAIL);
+        int applied = markToMarketService.ingest(List.of(
+                new PriceTick(MarketType.STOCK, "AAPL", 110, 1_000),
+                new PriceTick(MarketType.STOCK, "AAPL", 90, 500)));
+        JournalDto.UnrealizedPnL result = markToMarketService.getUnrealizedPnL(TEST_EMAIL);
+
+        // then
+        assertThat(applied).isEqualTo(1);
+        assertThat(result.getTotalUnrealizedPnL()).isCloseTo(100, within(1e-9));
+        verify(journalPositionRepository, times(1)).findOpenTrades(TEST_EMAIL);
+    }
+
+    @Test
+    @DisplayName("평가 손익 조회 - 버전이 바뀌었거나 Redis 장애로 모르면 다시 적재")
+    void reloadWhenVersionChanged() {
+        // given
+        given(journalVersionService.getVersion(TEST_EMAIL))
+                .willReturn(Optional.of(3L), Optional.of(4L), Optional.empty());
+        given(journalPositionRepository.findOpenTrades(TEST_EMAIL)).willReturn(List.of(longAapl()));
+
+        // when
+        markToMarketService.getUnrealizedPnL(TEST_EMAIL);
+        markToMarketService.getUnrealizedPnL(TEST_EMAIL);
+        markToMarketService.getUnrealizedPnL(TEST_EMAIL);
+
+        // then
+        verify(journalPositionRepository, times(3)).findOpenTrades(TEST_EMAIL);
+    }
+
+    @Test
+    @DisplayName("매매일지 변경 - 추적 중인 사용자만 다시 적재")
+    void reloadOnVersionChangedOnlyWhenTracked() {
+        // given
+        JournalVersionChangedEvent event =
+                new JournalVersionChangedEvent(JournalChangedEvent.deleted(TEST_EMAIL, 1L), 5L);
+
+        // when
+        markToMarketService.onVersionChanged(event);
+
+        // then
+        verify(journalPositionRepository, never()).findOpenTrades(TEST_EMAIL);
+
+        // given
+        markToMarketBook.track(TEST_EMAIL, 4L, List.of(longAapl()));
+
+        // when
+        markToMarketService.onVersionChanged(event);
+
+        // then
+        verify(journalPositionRepository).findOpenTrades(TEST_EMAIL);
+        assertThat(markToMarketBook.trackedVersion(TEST_EMAIL)).contains(5L);
+    }
+
+    private static JournalPositionRepository.OpenTrade longAapl() {
+        return new JournalPositionRepository.OpenTrade(1L, MarketType.STOCK, "AAPL", TradeType.LONG,
+                new BigDecimal("10"), new BigDecimal("100"));
+    }
+}
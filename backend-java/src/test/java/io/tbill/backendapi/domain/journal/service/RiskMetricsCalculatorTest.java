@@ -0,0 +1,75 @@
+package io.tbill.backendapi.domain.journal.service;
+
+import io.tbill.backendapi.domain.journal.dto.JournalDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class RiskMetricsCalculatorTest {
+
+    @Test
+    @DisplayName("위험 지표 - R 배수 / 기대값 / 손익비 / 샤프·소르티노 / 연승·연패")
+    void riskMetrics() {
+        // given: 진입가 100, 수량 1
+        RiskMetricsCalculator calculator = new RiskMetricsCalculator();
+        calculator.add(100, 90, 1, 20);          // 2R
+        calculator.add(100, Double.NaN, 1, 10);  // 손절가 없음 -> R 제외
+        calculator.add(100, 95, 1, -5);          // -1R
+        calculator.add(100, 110, 1, -10);        // 숏, -1R
+        calculator.add(100, 90, 1, 0);           // 0R, 연승/연패 끊김
+        calculator.add(100, 90, 1, 30);          // 3R
+
+        // when
+        JournalDto.RiskMetrics metrics = calculator.result();
+
+        // then
+        assertThat(metrics.getClosedTrades()).isEqualTo(6);
+        assertThat(metrics.getWinningTrades()).isEqualTo(3);
+        assertThat(metrics.getLosingTrades()).isEqualTo(2);
+        assertThat(metrics.getRiskDefinedTrades()).isEqualTo(5);
+        assertThat(metrics.getTotalR()).isEqualTo(3.0);
+        assertThat(metrics.getAverageR()).isEqualTo(0.6, within(1e-9));
+        assertThat(metrics.getExpectancy()).isEqualTo(7.5);
+        assertThat(metrics.getAverageWin()).isEqualTo(20.0);
+        assertThat(metrics.getAverageLoss()).isEqualTo(7.5);
+        assertThat(metrics.getProfitFactor()).isEqualTo(4.0);
+        assertThat(metrics.getPayoffRatio()).isEqualTo(20.0 / 7.5, within(1e-9));
+        assertThat(metrics.getSharpeRatio()).isEqualTo(0.486664, within(1e-6));
+        assertThat(metrics.getSortinoRatio()).isEqualTo(1.643168, within(1e-6));
+        assertThat(metrics.getLongestWinStreak()).isEqualTo(2);
+        assertThat(metrics.getLongestLossStreak()).isEqualTo(2);
+        assertThat(metrics.getCurrentStreak()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("위험 지표 - 손실/손절가가 없으면 정의할 수 없는 비율은 null")
+    void undefinedRatios() {
+        // given
+        RiskMetricsCalculator calculator = new RiskMetricsCalculator();
+        calculator.add(100, Double.NaN, 1, 10);
+
+        // when
+        JournalDto.RiskMetrics metrics = calculator.result();
+
+        // then
+        assertThat(metrics.getAverageR()).isNull();
+        assertThat(metrics.getProfitFactor()).isNull();
+        assertThat(metrics.getPayoffRatio()).isNull();
+        assertThat(metrics.getSharpeRatio()).isNull();
+        assertThat(metrics.getSortinoRatio()).isNull();
+        assertThat(metrics.getExpectancy()).isEqualTo(10.0);
+        assertThat(metrics.getCurrentStreak()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("위험 지표 - 종료 거래가 없으면 모두 0 / null")
+    void empty() {
+        JournalDto.RiskMetrics metrics = new RiskMetricsCalculator().result();
+
+        assertThat(metrics.getClosedTrades()).isZero();
+        assertThat(metrics.getExpectancy()).isNull();
+        assertThat(metrics.getLongestWinStreak()).isZero();
+    }
+}
@@ -0,0 +1,109 @@
+package io.tbill.backendapi.domain.market;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BarAggregatorTest {
+
+    private final List<Bar> bars = new ArrayList<>();
+    private final BarAggregator aggregator = new BarAggregator(4, 0, 1, List.of(
+            (symbolId, interval, openTime, open, high, low, close, volume) ->
+                    bars.add(new Bar(symbolId, interval, openTime, open, high, low, close, volume))));
+
+    @Test
+    @DisplayName("봉 집계 - 다음 주기 틱이 오면 진행 중 봉을 마감, 이전 시각 틱은 버림")
+    void closeOnNextBucket() {
+        // given
+        tick(0, "09:00:10", 100, 1);
+        tick(0, "09:00:40", 105, 2);
+        tick(0, "09:00:50", 98, 1);
+        tick(0, "09:00:45", 120, 9);
+        assertThat(bars).isEmpty();
+
+        // when
+        tick(0, "09:01:05", 101, 3);
+
+        // then
+        assertThat(bars).containsExactly(new Bar(0, BarInterval.ONE_MINUTE, at("09:00:00"), 100, 105, 98, 98, 4));
+        assertThat(aggregator.lateTicks()).isEqualTo(1);
+
+        // when (5분 경계)
+        tick(0, "09:05:00", 102, 1);
+
+        // then
+        assertThat(bars).contains(new Bar(0, BarInterval.FIVE_MINUTES, at("09:00:00"), 100, 105, 98, 101, 7));
+        assertThat(bars).filteredOn(bar -> bar.interval() == BarInterval.ONE_HOUR).isEmpty();
+    }
+
+    @Test
+    @DisplayName("봉 집계 - 시계 이벤트로 끝난 봉을 한 번만 마감, 같은 주기에 늦게 온 틱은 반영하지 않음")
+    void closeOnClock() {
+        // given
+        tick(1, "09:01:05", 101, 3);
+
+        // when
+        clock("09:01:59");
+        clock("09:02:00");
+        clock("09:02:01");
+        tick(1, "09:01:30", 99, 1);
+        tick(1, "09:02:10", 97, 1);
+
+        // then
+        assertThat(bars).containsExactly(new Bar(1, BarInterval.ONE_MINUTE, at("09:01:00"), 101, 101, 101, 101, 3));
+
+        // when
+        tick(1, "09:05:00", 96, 1);
+
+        // then (5분 봉에는 늦게 온 틱도 반영)
+        assertThat(bars).contains(new Bar(1, BarInterval.ONE_MINUTE, at("09:02:00"), 97, 97, 97, 97, 1));
+        assertThat(bars).contains(new Bar(1, BarInterval.FIVE_MINUTES, at("09:00:00"), 101, 101, 97, 97, 5));
+    }
+
+    @Test
+    @DisplayName("봉 집계 - 자기 파티션 심볼만 처리")
+    void partition() {
+        // given
+        List<Bar> partitionBars = new ArrayList<>();
+        BarAggregator second = new BarAggregator(4, 1, 2, List.of(
+                (symbolId, interval, openTime, open, high, low, close, volume) ->
+                        partitionBars.add(new Bar(symbolId, interval, openTime, open, high, low, close, volume))));
+
+        // when
+        for (int symbolId = 0; symbolId < 4; symbolId++) {
+            second.onEvent(event(symbolId, "09:00:00", 100, 1), 0, true);
+            second.onEvent(event(symbolId, "09:01:00", 100, 1), 0, true);
+        }
+
+        // then
+        assertThat(partitionBars).extracting(Bar::symbolId).containsExactly(1, 3);
+    }
+
+    private void tick(int symbolId, String time, double price, double volume) {
+        aggregator.onEvent(event(symbolId, time, price, volume), 0, true);
+    }
+
+    private void clock(String time) {
+        aggregator.onEvent(event(TickEvent.CLOCK, time, 0, 0), 0, true);
+    }
+
+    private static TickEvent event(int symbolId, String time, double price, double volume) {
+        TickEvent event = new TickEvent();
+        event.set(symbolId, price, volume, at(time));
+        return event;
+    }
+
+    private static long at(String time) {
+        return LocalDateTime.parse("2024-03-15T" + time).toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private record Bar(int symbolId, BarInterval interval, long openTime,
+                       double open, double high, double low, double close, double volume) {
+    }
+}
@@ -0,0 +1,79 @@
+package io.tbill.backendapi.domain.market;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.tbill.backendapi.domain.journal.entity.MarketType;
+import io.tbill.backendapi.domain.market.dto.MarketDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TickPipelineTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TickPipeline pipeline = new TickPipeline(meterRegistry, 1024, 2, 2, 10);
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        pipeline.destroy();
+    }
+
+    @Test
+    @DisplayName("틱 파이프라인 - 발행한 틱이 심볼별 최근 봉으로 조회됨")
+    void publishToRecentBars() throws InterruptedException {
+        // given
+        pipeline.publish(MarketType.STOCK, "AAPL", 100, 1, at("09:00:10"));
+        pipeline.publish(MarketType.CRYPTO, "BTC/USDT", 40_000, 1, at("09:00:20"));
+        pipeline.publish(MarketType.STOCK, "AAPL", 104, 2, at("09:00:30"));
+        pipeline.publish(MarketType.STOCK, "AAPL", 103, 1, at("09:01:00"));
+
+        // when
+        List<MarketDto.Bar> bars = awaitBars(MarketType.STOCK, "AAPL");
+
+        // then
+        assertThat(bars).hasSize(1);
+        assertThat(bars.get(0).getOpenTime()).isEqualTo(LocalDateTime.parse("2024-03-15T09:00:00"));
+        assertThat(bars.get(0).getHigh()).isEqualTo(104);
+        assertThat(bars.get(0).getClose()).isEqualTo(104);
+        assertThat(bars.get(0).getVolume()).isEqualTo(3);
+        assertThat(pipeline.recentBars(MarketType.STOCK, "TSLA", BarInterval.ONE_MINUTE, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("틱 파이프라인 - 최대 심볼 수 도달 후 새 심볼은 drop 으로 집계 / 보관 수보다 큰 limit 은 거부")
+    void reject() {
+        // given
+        pipeline.publish(MarketType.STOCK, "AAPL", 100, 1, at("09:00:00"));
+        pipeline.publish(MarketType.STOCK, "TSLA", 200, 1, at("09:00:00"));
+
+        // when
+        boolean published = pipeline.publish(MarketType.STOCK, "MSFT", 300, 1, at("09:00:00"));
+
+        // then
+        assertThat(published).isFalse();
+        assertThat(pipeline.publish(MarketType.STOCK, "AAPL", 101, 1, at("09:00:01"))).isTrue();
+        assertThat(meterRegistry.counter("tick_pipeline.dropped").count()).isEqualTo(1);
+        assertThatThrownBy(() -> pipeline.recentBars(MarketType.STOCK, "AAPL", BarInterval.ONE_MINUTE, 11))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<MarketDto.Bar> awaitBars(MarketType market, String symbol) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        List<MarketDto.Bar> bars = List.of();
+        while (bars.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            bars = pipeline.recentBars(market, symbol, BarInterval.ONE_MINUTE, 10);
+        }
+        return bars;
+    }
+
+    private static long at(String time) {
+        return LocalDateTime.parse("2024-03-15T" + time).toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}
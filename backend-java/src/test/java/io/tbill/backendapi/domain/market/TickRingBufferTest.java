@@ -0,0 +1,75 @@
+package io.tbill.backendapi.domain.market;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TickRingBufferTest {
+
+    @Test
+    @DisplayName("링 버퍼 - 모든 소비자가 모든 이벤트를 발행 순서대로 받음 (버퍼보다 많이 발행해도 덮어쓰지 않음)")
+    void broadcastInOrder() throws Exception {
+        // given
+        int events = 100_000;
+        RecordingHandler fast = new RecordingHandler(events, 0);
+        RecordingHandler slow = new RecordingHandler(events, 1);
+        TickRingBuffer ringBuffer = new TickRingBuffer(8, List.of(fast, slow), "test-tick");
+        ringBuffer.start();
+
+        // when
+        for (int i = 0; i < events; i++) {
+            long sequence = ringBuffer.next();
+            ringBuffer.get(sequence).set(i, i, 0, i);
+            ringBuffer.publish(sequence);
+        }
+
+        // then
+        assertThat(fast.done.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(slow.done.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(fast.outOfOrder).isZero();
+        assertThat(slow.outOfOrder).isZero();
+        assertThat(ringBuffer.backlog()).isZero();
+        ringBuffer.halt(1_000);
+    }
+
+    @Test
+    @DisplayName("링 버퍼 - 크기는 2의 거듭제곱, 소비자 하나 이상")
+    void validate() {
+        assertThatThrownBy(() -> new TickRingBuffer(6, List.of(new RecordingHandler(1, 0)), "test-tick"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TickRingBuffer(8, List.of(), "test-tick"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static final class RecordingHandler implements TickRingBuffer.Handler {
+        private final CountDownLatch done = new CountDownLatch(1);
+        private final int expected;
+        private final int spinPerEvent;
+        private int received;
+        private volatile int outOfOrder;
+
+        private RecordingHandler(int expected, int spinPerEvent) {
+            this.expected = expected;
+            this.spinPerEvent = spinPerEvent;
+        }
+
+        @Override
+        public void onEvent(TickEvent event, long sequence, boolean endOfBatch) {
+            for (int i = 0; i < spinPerEvent; i++) {
+                Thread.onSpinWait();
+            }
+            if (event.symbolId() != received || sequence != received) {
+                outOfOrder++;
+            }
+            if (++received == expected) {
+                done.countDown();
+            }
+        }
+    }
+}
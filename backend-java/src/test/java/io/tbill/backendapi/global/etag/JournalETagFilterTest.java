@@ -0,0 +1,188 @@
+package io.tbill.backendapi.global.etag;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.tbill.backendapi.infrastructure.redis.service.JournalVersionService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class JournalETagFilterTest {
+
+    private static final String RESPONSE = "{\"totalTrades\":3}";
+
+    @Mock
+    private JournalVersionService journalVersionService;
+
+    private JournalETagFilter journalETagFilter;
+
+    private final AtomicInteger handled = new AtomicInteger();
+
+    // 통계를 조회해 응답하는 컨트롤러 역할
+    private final FilterChain okChain = (request, response) -> {
+        handled.incrementAndGet();
+        ((HttpServletResponse) response).setStatus(200);
+        response.setContentType("application/json");
+        response.getOutputStream().write(RESPONSE.getBytes(StandardCharsets.UTF_8));
+    };
+
+    @BeforeEach
+    void setUp() {
+        journalETagFilter = new JournalETagFilter(journalVersionService, new SimpleMeterRegistry(), true);
+    }
+
+    @Test
+    @DisplayName("ETag - 첫 요청은 처리 후 ETag, 같은 버전으로 재요청하면 컨트롤러 호출 없이 304")
+    void notModifiedWithoutHandling() throws Exception {
+        // given
+        given(journalVersionService.getVersion(anyString())).willReturn(Optional.of(7L));
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        journalETagFilter.doFilter(request("/api/journals/statistics"), first, okChain);
+        String etag = first.getHeader(HttpHeaders.ETAG);
+
+        MockHttpServletRequest conditional = request("/api/journals/statistics");
+        conditional.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        MockHttpServletResponse second = new MockHttpServletResponse();
+
+        // when
+        journalETagFilter.doFilter(conditional, second, okChain);
+
+        // then
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(etag).matches("\"[0-9a-f]{32}\"");
+        assertThat(first.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("private, no-cache");
+        assertThat(second.getStatus()).isEqualTo(304);
+        assertThat(second.getHeader(HttpHeaders.ETAG)).isEqualTo(etag);
+        assertThat(second.getContentAsByteArray()).isEmpty();
+        assertThat(handled.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("ETag - 버전이 바뀌면 이전 ETag 로 요청해도 새로 처리")
+    void modifiedAfterVersionChange() throws Exception {
+        // given
+        given(journalVersionService.getVersion(anyString())).willReturn(Optional.of(7L), Optional.of(8L));
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        journalETagFilter.doFilter(request("/api/journals"), first, okChain);
+
+        MockHttpServletRequest conditional = request("/api/journals");
+        conditional.addHeader(HttpHeaders.IF_NONE_MATCH, first.getHeader(HttpHeaders.ETAG));
+        MockHttpServletResponse second = new MockHttpServletResponse();
+
+        // when
+        journalETagFilter.doFilter(conditional, second, okChain);
+
+        // then
+        assertThat(second.getStatus()).isEqualTo(200);
+        assertThat(second.getHeader(HttpHeaders.ETAG)).isNotEqualTo(first.getHeader(HttpHeaders.ETAG));
+        assertThat(handled.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("ETag - 쿼리 파라미터가 다르면 다른 ETag")
+    void etagDependsOnQuery() throws Exception {
+        // given
+        given(journalVersionService.getVersion(anyString())).willReturn(Optional.of(1L));
+        MockHttpServletRequest page0 = request("/api/journals/open");
+        page0.setQueryString("page=0&size=20");
+        MockHttpServletRequest page1 = request("/api/journals/open");
+        page1.setQueryString("page=1&size=20");
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        MockHttpServletResponse second = new MockHttpServletResponse();
+
+        // when
+        journalETagFilter.doFilter(page0, first, okChain);
+        journalETagFilter.doFilter(page1, second, okChain);
+
+        // then
+        assertThat(first.getHeader(HttpHeaders.ETAG)).isNotEqualTo(second.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    @DisplayName("ETag - 오류 응답에는 ETag 를 붙이지 않음")
+    void noETagOnError() throws Exception {
+        // given
+        given(journalVersionService.getVersion(anyString())).willReturn(Optional.of(1L));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        journalETagFilter.doFilter(request("/api/journals/99"), response, (req, res) -> {
+            ((HttpServletResponse) res).setStatus(400);
+            res.getOutputStream().write("{}".getBytes(StandardCharsets.UTF_8));
+        });
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(400);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNull();
+    }
+
+    @Test
+    @DisplayName("ETag - 버전 조회 실패(Redis 장애) 시 ETag 없이 처리")
+    void passThroughWithoutVersion() throws Exception {
+        // given
+        given(journalVersionService.getVersion(anyString())).willReturn(Optional.empty());
+        MockHttpServletRequest conditional = request("/api/journals/statistics");
+        conditional.addHeader(HttpHeaders.IF_NONE_MATCH, "*");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        journalETagFilter.doFilter(conditional, response, okChain);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNull();
+        assertThat(handled.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("ETag - 대상이 아닌 API(검색, 쓰기)는 버전 조회 없이 통과")
+    void passThroughNonTargets() throws Exception {
+        // given
+        MockHttpServletRequest search = request("/api/journals/search");
+        MockHttpServletRequest create = request("/api/journals");
+        create.setMethod("POST");
+
+        // when
+        journalETagFilter.doFilter(search, new MockHttpServletResponse(), okChain);
+        journalETagFilter.doFilter(create, new MockHttpServletResponse(), okChain);
+
+        // then
+        assertThat(handled.get()).isEqualTo(2);
+        verifyNoInteractions(journalVersionService);
+    }
+
+    @Test
+    @DisplayName("If-None-Match 비교 - 여러 값, 약한 ETag, * 허용")
+    void matches() {
+        // given
+        String etag = "\"abc\"";
+
+        // when & then
+        assertThat(JournalETagFilter.matches("\"x\", \"abc\"", etag)).isTrue();
+        assertThat(JournalETagFilter.matches("W/\"abc\"", etag)).isTrue();
+        assertThat(JournalETagFilter.matches("*", etag)).isTrue();
+        assertThat(JournalETagFilter.matches("\"abcd\"", etag)).isFalse();
+        assertThat(JournalETagFilter.matches(null, etag)).isFalse();
+    }
+
+    private static MockHttpServletRequest request(String uri) {
+        return new MockHttpServletRequest("GET", uri);
+    }
+}
@@ -0,0 +1,277 @@
+package io.tbill.backendapi.global.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.tbill.backendapi.infrastructure.redis.service.IdempotencyStore;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyKeyFilterTest {
+
+    private static final String BODY = "{\"symbol\":\"AAPL\"}";
+    private static final String RESPONSE = "{\"id\":1,\"symbol\":\"AAPL\"}";
+
+    @Mock
+    private IdempotencyStore idempotencyStore;
+
+    private IdempotencyKeyFilter idempotencyKeyFilter;
+
+    private final AtomicInteger handled = new AtomicInteger();
+
+    // 본문을 다시 읽어 그대로 반영하는 컨트롤러 역할
+    private final FilterChain createChain = (request, response) -> {
+        handled.incrementAndGet();
+        String body = new String(request.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        assertThat(body).isEqualTo(BODY);
+        ((HttpServletResponse) response).setStatus(201);
+        response.setContentType("application/json");
+        response.getOutputStream().write(RESPONSE.getBytes(StandardCharsets.UTF_8));
+    };
+
+    @BeforeEach
+    void setUp() {
+        idempotencyKeyFilter = new IdempotencyKeyFilter(idempotencyStore, new ObjectMapper(),
+                Duration.ofHours(24), Duration.ofSeconds(30), Duration.ofSeconds(5), 10_000, DataSize.ofBytes(64));
+    }
+
+    @Test
+    @DisplayName("Idempotency-Key - 헤더가 없거나 대상 API 가 아니면 Redis 조회 없이 통과")
+    void passThroughWithoutKey() throws Exception {
+        // given
+        MockHttpServletRequest withoutKey = new MockHttpServletRequest("POST", "/api/journals");
+        withoutKey.setContent(BODY.getBytes(StandardCharsets.UTF_8));
+        MockHttpServletRequest otherApi = request("key-1", BODY);
+        otherApi.setMethod("DELETE");
+        otherApi.setRequestURI("/api/journals/1");
+
+        // when
+        idempotencyKeyFilter.doFilter(withoutKey, new MockHttpServletResponse(), createChain);
+        idempotencyKeyFilter.doFilter(otherApi, new MockHttpServletResponse(), (req, res) -> handled.incrementAndGet());
+
+        // then
+        assertThat(handled.get()).isEqualTo(2);
+        verifyNoInteractions(idempotencyStore);
+    }
+
+    @Test
+    @DisplayName("Idempotency-Key - 신규 키는 처리 후 응답 저장")
+    void firstRequestStoresResponse() throws Exception {
+        // given
+        when(idempotencyStore.reserve(anyString(), anyString(), any()))
+                .thenReturn(IdempotencyStore.Reservation.ACQUIRED);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        idempotencyKeyFilter.doFilter(request("key-1", BODY), response, createChain);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(201);
+        assertThat(response.getContentAsString()).isEqualTo(RESPONSE);
+        ArgumentCaptor<IdempotencyStore.Entry> stored = ArgumentCaptor.forClass(IdempotencyStore.Entry.class);
+        verify(idempotencyStore).complete(eq("anonymous@example.com:key-1"), stored.capture(), eq(Duration.ofHours(24)));
+        assertThat(stored.getValue().status()).isEqualTo(201);
+        assertThat(stored.getValue().body()).isEqualTo(RESPONSE);
+    }
+
+    @Test
+    @DisplayName("Idempotency-Key - 완료된 키는 처리 없이 저장된 응답으로 재응답")
+    void replayCompletedResponse() throws Exception {
+        // given
+        IdempotencyStore.Entry completed = completedEntry();
+        when(idempotencyStore.reserve(anyString(), anyString(), any()))
+                .thenReturn(new IdempotencyStore.Reservation(false, completed));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        idempotencyKeyFilter.doFilter(request("key-1", BODY), response, createChain);
+
+        // then
+        assertThat(handled.get()).isZero();
+        assertThat(response.getStatus()).isEqualTo(201);
+        assertThat(response.getContentAsString()).isEqualTo(RESPONSE);
+        assertThat(response.getHeader(IdempotencyKeyFilter.REPLAYED_HEADER)).isEqualTo("true");
+    }
+
+    @Test
+    @DisplayName("Idempotency-Key - 같은 키로 다른 본문을 보내면 422")
+    void rejectReusedKeyWithDifferentBody() throws Exception {
+        // given
+        IdempotencyStore.Entry completed = completedEntry();
+        when(idempotencyStore.reserve(anyString(), anyString(), any()))
+                .thenReturn(new IdempotencyStore.Reservation(false, completed));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        idempotencyKeyFilter.doFilter(request("key-1", "{\"symbol\":\"TSLA\"}"), response, createChain);
+
+        // then
+        assertThat(handled.get()).isZero();
+        assertThat(response.getStatus()).isEqualTo(422);
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).contains("IDEMPOTENCY_KEY_REUSED");
+    }
+
+    @Test
+    @DisplayName("Idempotency-Key - 형식이 잘못된 키는 400")
+    void rejectInvalidKey() throws Exception {
+        // given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        idempotencyKeyFilter.doFilter(request("key with space", BODY), response, createChain);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(400);
+        assertThat(handled.get()).isZero();
+        verifyNoInteractions(idempotencyStore);
+    }
+
+    @Test
+    @DisplayName("Idempotency-Key - 본문이 최대 크기를 넘으면 처리/선점 없이 413")
+    void rejectOversizedBody() throws Exception {
+        // given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        idempotencyKeyFilter.doFilter(request("key-1", "{\"symbol\":\"" + "A".repeat(64) + "\"}"), response, createChain);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(413);
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).contains("PAYLOAD_TOO_LARGE");
+        assertThat(handled.get()).isZero();
+        verifyNoInteractions(idempotencyStore);
+    }
+
+    @Test
+    @DisplayName("Idempotency-Key - 처리 중인 선점만 만료 시간 연장")
+    void refreshReservationsWhileProcessing() throws Exception {
+        // given
+        when(idempotencyStore.reserve(anyString(), anyString(), any()))
+                .thenReturn(IdempotencyStore.Reservation.ACQUIRED);
+        FilterChain refreshingChain = (request, response) -> {
+            idempotencyKeyFilter.refreshReservations();
+            createChain.doFilter(request, response);
+        };
+
+        // when
+        idempotencyKeyFilter.doFilter(request("key-1", BODY), new MockHttpServletResponse(), refreshingChain);
+        idempotencyKeyFilter.refreshReservations();
+
+        // then (완료 후에는 연장하지 않음)
+        verify(idempotencyStore, times(1))
+                .extend(eq("anonymous@example.com:key-1"), anyString(), eq(Duration.ofSeconds(30)));
+    }
+
+    @Test
+    @DisplayName("Idempotency-Key - 5xx 응답은 저장하지 않고 선점 해제")
+    void releaseOnServerError() throws Exception {
+        // given
+        when(idempotencyStore.reserve(anyString(), anyString(), any()))
+                .thenReturn(IdempotencyStore.Reservation.ACQUIRED);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        idempotencyKeyFilter.doFilter(request("key-1", BODY), response,
+                (req, res) -> ((HttpServletResponse) res).setStatus(500));
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(500);
+        verify(idempotencyStore).release("anonymous@example.com:key-1");
+        verify(idempotencyStore, never()).complete(anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Idempotency-Key - 동시 중복 요청은 한 번만 처리하고 같은 응답을 공유")
+    void coalesceConcurrentDuplicates() throws Exception {
+        // given
+        when(idempotencyStore.reserve(anyString(), anyString(), any()))
+                .thenReturn(IdempotencyStore.Reservation.ACQUIRED);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+        FilterChain slowChain = (request, response) -> {
+            entered.countDown();
+            try {
+                proceed.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            createChain.doFilter(request, response);
+        };
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        MockHttpServletResponse second = new MockHttpServletResponse();
+
+        // when
+        Thread leader = new Thread(() -> filter(request("key-1", BODY), first, slowChain));
+        leader.start();
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread follower = new Thread(() -> filter(request("key-1", BODY), second, slowChain));
+        follower.start();
+        awaitWaiting(follower);
+        proceed.countDown();
+        leader.join(5_000);
+        follower.join(5_000);
+
+        // then
+        assertThat(handled.get()).isEqualTo(1);
+        verify(idempotencyStore, times(1)).reserve(anyString(), anyString(), any());
+        assertThat(first.getContentAsString()).isEqualTo(RESPONSE);
+        assertThat(second.getStatus()).isEqualTo(201);
+        assertThat(second.getContentAsString()).isEqualTo(RESPONSE);
+        assertThat(second.getHeader(IdempotencyKeyFilter.REPLAYED_HEADER)).isEqualTo("true");
+    }
+
+    private void filter(MockHttpServletRequest request, MockHttpServletResponse response, FilterChain chain) {
+        try {
+            idempotencyKeyFilter.doFilter(request, response, chain);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void awaitWaiting(Thread thread) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (thread.getState() != Thread.State.TIMED_WAITING && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    private IdempotencyStore.Entry completedEntry() throws Exception {
+        // 같은 요청을 한 번 처리하여 지문이 일치하는 저장 항목을 만듦
+        when(idempotencyStore.reserve(anyString(), anyString(), any()))
+                .thenReturn(IdempotencyStore.Reservation.ACQUIRED);
+        idempotencyKeyFilter.doFilter(request("key-1", BODY), new MockHttpServletResponse(), createChain);
+        ArgumentCaptor<IdempotencyStore.Entry> stored = ArgumentCaptor.forClass(IdempotencyStore.Entry.class);
+        verify(idempotencyStore).complete(anyString(), stored.capture(), any());
+        handled.set(0);
+        return stored.getValue();
+    }
+
+    private MockHttpServletRequest request(String key, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/journals");
+        request.addHeader(IdempotencyKeyFilter.IDEMPOTENCY_KEY_HEADER, key);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
@@ -0,0 +1,203 @@
+package io.tbill.backendapi.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.tbill.backendapi.domain.common.entity.CacheRegions;
+import io.tbill.backendapi.domain.content.entity.Comment;
+import io.tbill.backendapi.domain.content.entity.Content;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.persister.entity.EntityPersister;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class SecondLevelCacheInvalidatorTest {
+
+    private static final String CHANNEL = "cache:second-level:invalidate";
+    private static final String CONTENT = Content.class.getName();
+    private static final String COMMENT = Comment.class.getName();
+
+    private final SessionFactoryImplementor sessionFactory = mock(SessionFactoryImplementor.class, RETURNS_DEEP_STUBS);
+    private final Cache cache = mock(Cache.class);
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private SecondLevelCacheInvalidator invalidator;
+
+    @BeforeEach
+    void setUp() {
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        when(entityManagerFactory.unwrap(SessionFactoryImplementor.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class))
+                .thenReturn(mock(EventListenerRegistry.class));
+        when(sessionFactory.getCache()).thenReturn(cache);
+        stubPersister(CONTENT, CacheRegions.CONTENT);
+        stubPersister(COMMENT, CacheRegions.COMMENT);
+
+        invalidator = new SecondLevelCacheInvalidator(entityManagerFactory, stringRedisTemplate, objectMapper, CHANNEL);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private void stubPersister(String entityName, String region) {
+        EntityPersister persister = mock(EntityPersister.class, RETURNS_DEEP_STUBS);
+        when(persister.canWriteToCache()).thenReturn(true);
+        when(persister.getCacheAccessStrategy().getRegion().getName()).thenReturn(region);
+        when(sessionFactory.getMappingMetamodel().findEntityDescriptor(entityName)).thenReturn(persister);
+    }
+
+    private SecondLevelCacheInvalidator.Invalidation publishedInvalidation() throws Exception {
+        ArgumentCaptor<String> json = ArgumentCaptor.forClass(String.class);
+        verify(stringRedisTemplate).convertAndSend(eq(CHANNEL), json.capture());
+        return objectMapper.readValue(json.getValue(), SecondLevelCacheInvalidator.Invalidation.class);
+    }
+
+    private static DefaultMessage message(String json) {
+        return new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8), json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 직접 무효화하면 로컬 캐시를 비우고 즉시 발행한다")
+    void evict_outsideTransaction() throws Exception {
+        // when
+        invalidator.evict(Content.class, List.of(1L, 2L));
+
+        // then
+        verify(cache).evictEntityData(CONTENT, 1L);
+        verify(cache).evictEntityData(CONTENT, 2L);
+        verify(cache).evictQueryRegion(CacheRegions.CONTENT_QUERY);
+
+        SecondLevelCacheInvalidator.Invalidation invalidation = publishedInvalidation();
+        assertThat(invalidation.ids()).containsEntry(CONTENT, Set.of(1L, 2L));
+        assertThat(invalidation.entities()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 변경은 모아서 커밋 후 1회 발행한다")
+    void evict_insideTransaction_publishesOnceAfterCommit() throws Exception {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        invalidator.evict(Content.class, List.of(1L));
+        invalidator.evict(Comment.class, List.of(10L, 11L));
+
+        // then (커밋 전에는 발행하지 않음)
+        verify(stringRedisTemplate, never()).convertAndSend(anyString(), anyString());
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        SecondLevelCacheInvalidator.Invalidation invalidation = publishedInvalidation();
+        assertThat(invalidation.ids())
+                .containsEntry(CONTENT, Set.of(1L))
+                .containsEntry(COMMENT, Set.of(10L, 11L));
+        // 로컬 캐시는 커밋 전 + 커밋 후 제거
+        verify(cache, times(2)).evictEntityData(CONTENT, 1L);
+    }
+
+    @Test
+    @DisplayName("롤백된 트랜잭션의 변경은 발행하지 않는다")
+    void evict_rollback_doesNotPublish() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        invalidator.evict(Content.class, List.of(1L));
+
+        // when
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // then
+        verify(stringRedisTemplate, never()).convertAndSend(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("엔티티당 변경 건수가 상한을 넘으면 리전 전체 무효화로 축약한다")
+    void evict_tooManyIds_collapsesToEntity() throws Exception {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        List<Long> ids = LongStream.rangeClosed(1, SecondLevelCacheInvalidator.MAX_IDS_PER_ENTITY + 1)
+                .boxed()
+                .toList();
+
+        // when
+        invalidator.evict(Comment.class, ids);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // then
+        SecondLevelCacheInvalidator.Invalidation invalidation = publishedInvalidation();
+        assertThat(invalidation.ids()).doesNotContainKey(COMMENT);
+        assertThat(invalidation.entities()).containsExactly(COMMENT);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 메시지를 받으면 엔티티 항목과 연관 쿼리 리전을 비운다")
+    void onMessage_fromOtherInstance_evicts() throws Exception {
+        // given
+        String json = objectMapper.writeValueAsString(new SecondLevelCacheInvalidator.Invalidation(
+                "other-instance", Map.of(COMMENT, Set.of(7L)), Set.of(CONTENT)));
+
+        // when
+        invalidator.onMessage(message(json), null);
+
+        // then
+        verify(cache).evictEntityData(COMMENT, 7L);
+        verify(cache).evictEntityData(CONTENT);
+        verify(cache).evictQueryRegion(CacheRegions.CONTENT_QUERY);
+    }
+
+    @Test
+    @DisplayName("자신이 발행한 메시지는 무시한다")
+    void onMessage_fromSelf_ignored() throws Exception {
+        // given
+        invalidator.evict(Content.class, List.of(1L));
+        ArgumentCaptor<String> json = ArgumentCaptor.forClass(String.class);
+        verify(stringRedisTemplate).convertAndSend(eq(CHANNEL), json.capture());
+        clearInvocations(cache);
+
+        // when
+        invalidator.onMessage(message(json.getValue()), null);
+
+        // then
+        verifyNoInteractions(cache);
+    }
+
+    @Test
+    @DisplayName("Redis 발행이 실패해도 예외를 던지지 않는다")
+    void evict_redisFailure_swallowed() {
+        // given
+        doThrow(new RuntimeException("connection refused"))
+                .when(stringRedisTemplate).convertAndSend(anyString(), anyString());
+
+        // when
+        invalidator.evict(Content.class, List.of(1L));
+
+        // then
+        verify(cache).evictEntityData(CONTENT, 1L);
+    }
+}
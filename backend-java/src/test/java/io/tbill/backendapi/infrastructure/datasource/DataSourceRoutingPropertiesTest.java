@@ -0,0 +1,33 @@
+package io.tbill.backendapi.infrastructure.datasource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DataSourceRoutingPropertiesTest {
+
+    @Test
+    @DisplayName("설정 검증 - sticky-window 가 max-lag + 점검 주기 이하이면 기동 실패")
+    void rejectsStickyWindowWithinLagAndCheckInterval() {
+        // given
+        DataSourceRoutingProperties properties = new DataSourceRoutingProperties();
+        properties.setMaxLag(Duration.ofSeconds(5));
+        properties.setHealthCheckIntervalMs(2000);
+        properties.setStickyWindow(Duration.ofSeconds(7));
+
+        // when & then
+        assertThatThrownBy(properties::validate)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("sticky-window");
+    }
+
+    @Test
+    @DisplayName("설정 검증 - 기본값은 통과")
+    void acceptsDefaults() {
+        assertThatCode(new DataSourceRoutingProperties()::validate).doesNotThrowAnyException();
+    }
+}
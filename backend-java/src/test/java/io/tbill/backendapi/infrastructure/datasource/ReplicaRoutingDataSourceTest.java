@@ -0,0 +1,163 @@
+package io.tbill.backendapi.infrastructure.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 주 DB 1개 + 복제본 2개를 각각 별도 H2 메모리 DB 로 구성하여 라우팅 검증
+ * (각 DB 의 node 테이블에 자기 이름을 저장해 어느 DB 로 갔는지 확인)
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private static final String LAG_QUERY = "SELECT lag_seconds FROM replica_status";
+
+    private HikariDataSource primary;
+    private HikariDataSource replicaA;
+    private HikariDataSource replicaB;
+
+    private ReplicaBalancer replicaBalancer;
+    private JdbcTemplate jdbcTemplate;
+    private DataSourceTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        replicaA = database("replica-a");
+        replicaB = database("replica-b");
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        primary.close();
+        replicaBalancer.destroy();
+    }
+
+    @Test
+    @DisplayName("라우팅 - 읽기 전용 트랜잭션은 복제본(라운드 로빈), 쓰기 트랜잭션은 주 DB")
+    void routeByReadOnly() {
+        // given
+        route(DataSourceRoutingProperties.Balancing.ROUND_ROBIN);
+
+        // when & then
+        assertThat(List.of(readNode(true), readNode(true), readNode(true)))
+                .containsExactly("replica-a", "replica-b", "replica-a");
+        assertThat(readNode(false)).isEqualTo("primary");
+        assertThat(jdbcTemplate.queryForObject("SELECT name FROM node", String.class)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("라우팅 - 지연 초과/장애 복제본은 제외, 모두 제외되면 주 DB")
+    void failOverToPrimary() {
+        // given
+        route(DataSourceRoutingProperties.Balancing.ROUND_ROBIN);
+        new JdbcTemplate(replicaA).update("UPDATE replica_status SET lag_seconds = 10");
+
+        // when
+        replicaBalancer.checkHealth();
+
+        // then
+        assertThat(List.of(readNode(true), readNode(true))).containsOnly("replica-b");
+
+        // when (남은 복제본도 장애)
+        replicaB.close();
+        replicaBalancer.checkHealth();
+
+        // then
+        assertThat(readNode(true)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("라우팅 - 쓰기 커밋 직후 같은 사용자의 읽기는 주 DB (read-your-writes)")
+    void stickyAfterWrite() {
+        // given
+        route(DataSourceRoutingProperties.Balancing.ROUND_ROBIN);
+        login("writer@example.com");
+        readNode(false);
+
+        // when & then
+        assertThat(readNode(true)).isEqualTo("primary");
+
+        login("reader@example.com");
+        assertThat(readNode(true)).startsWith("replica-");
+    }
+
+    @Test
+    @DisplayName("라우팅 - LEAST_CONNECTIONS 는 활성 커넥션이 적은 복제본 선택")
+    void leastConnections() throws Exception {
+        // given
+        route(DataSourceRoutingProperties.Balancing.LEAST_CONNECTIONS);
+
+        // when & then
+        try (Connection busy = replicaA.getConnection()) {
+            assertThat(readNode(true)).isEqualTo("replica-b");
+            assertThat(readNode(true)).isEqualTo("replica-b");
+        }
+    }
+
+    private void route(DataSourceRoutingProperties.Balancing balancing) {
+        Map<String, HikariDataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-a", replicaA);
+        replicas.put("replica-b", replicaB);
+        replicaBalancer = new ReplicaBalancer(replicas, balancing, Duration.ofSeconds(5), LAG_QUERY,
+                new SimpleMeterRegistry());
+        replicaBalancer.checkHealth();
+
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(primary, replicaBalancer,
+                new ReadYourWritesTracker(mock(StringRedisTemplate.class), Duration.ofSeconds(5)));
+        routingDataSource.afterPropertiesSet();
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+    }
+
+    private String readNode(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status ->
+                jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+    }
+
+    private void login(String email) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(email, null, List.of()));
+    }
+
+    private HikariDataSource database(String name) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl("jdbc:h2:mem:routing-" + name + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+        dataSource.setPassword("");
+
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20))");
+        template.execute("CREATE TABLE IF NOT EXISTS replica_status (lag_seconds DOUBLE PRECISION)");
+        template.update("DELETE FROM node");
+        template.update("DELETE FROM replica_status");
+        template.update("INSERT INTO node VALUES (?)", name);
+        template.update("INSERT INTO replica_status VALUES (0)");
+        return dataSource;
+    }
+}
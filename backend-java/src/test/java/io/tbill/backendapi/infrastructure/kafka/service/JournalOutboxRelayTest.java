@@ -0,0 +1,163 @@
+package io.tbill.backendapi.infrastructure.kafka.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.tbill.backendapi.domain.journal.event.JournalChangedEvent;
+import io.tbill.backendapi.domain.journal.repository.JournalOutboxRepository;
+import io.tbill.backendapi.infrastructure.kafka.KafkaTopics;
+import io.tbill.backendapi.infrastructure.redis.service.JournalVersionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JournalOutboxRelayTest {
+
+    private static final int MAX_BATCH_SIZE = 2;
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+    @Mock
+    private JournalOutboxRepository journalOutboxRepository;
+
+    @Mock
+    private JournalVersionService journalVersionService;
+
+    @Mock
+    private KafkaTemplate<String, String> kafkaTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private JournalOutboxRelay journalOutboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        journalOutboxRelay = new JournalOutboxRelay(journalOutboxRepository, journalVersionService, kafkaTemplate, objectMapper,
+                transactionTemplate, meterRegistry, MAX_BATCH_SIZE, Duration.ofSeconds(1));
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("릴레이 - 순서대로 작성자 Key로 전송, ack 후 삭제")
+    void relayBatchPublishesInOrderThenDeletes() throws Exception {
+        // given
+        when(journalOutboxRepository.lockBatch(MAX_BATCH_SIZE)).thenReturn(List.of(
+                event(10L, "a@example.com", JournalChangedEvent.ChangeType.CREATED, List.of(1L, 2L)),
+                event(11L, "b@example.com", JournalChangedEvent.ChangeType.DELETED, List.of(3L))));
+        when(kafkaTemplate.send(anyString(), anyString(), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        int published = journalOutboxRelay.relayBatch();
+
+        // then
+        assertThat(published).isEqualTo(2);
+        ArgumentCaptor<String> keys = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<String> values = ArgumentCaptor.forClass(String.class);
+        InOrder inOrder = inOrder(kafkaTemplate, journalVersionService, journalOutboxRepository);
+        inOrder.verify(kafkaTemplate, times(2)).send(eq(KafkaTopics.JOURNAL_EVENTS_TOPIC), keys.capture(), values.capture());
+        inOrder.verify(journalVersionService).incrementRelayed(List.of(
+                JournalChangedEvent.created("a@example.com", List.of(1L, 2L)),
+                JournalChangedEvent.deleted("b@example.com", List.of(3L))));
+        inOrder.verify(journalOutboxRepository).deleteByIds(List.of(10L, 11L));
+
+        assertThat(keys.getAllValues()).containsExactly("a@example.com", "b@example.com");
+        JsonNode first = objectMapper.readTree(values.getAllValues().get(0));
+        assertThat(first.get("eventId").asLong()).isEqualTo(10L);
+        assertThat(first.get("changeType").asText()).isEqualTo("CREATED");
+        assertThat(first.get("journalIds")).hasSize(2);
+        assertThat(meterRegistry.get("journal.outbox.relay.events").tag("result", "published").counter().count())
+                .isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("릴레이 - 전송 실패 시 삭제하지 않고 예외 (트랜잭션 롤백 후 재전송)")
+    void relayBatchKeepsEventsOnFailure() {
+        // given
+        when(journalOutboxRepository.lockBatch(MAX_BATCH_SIZE)).thenReturn(List.of(
+                event(10L, "a@example.com", JournalChangedEvent.ChangeType.CREATED, List.of(1L))));
+        when(kafkaTemplate.send(anyString(), anyString(), anyString()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        // when & then
+        assertThatThrownBy(() -> journalOutboxRelay.relayBatch())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("전송 실패");
+        verify(journalOutboxRepository, never()).deleteByIds(anyCollection());
+        assertThat(meterRegistry.get("journal.outbox.relay.events").tag("result", "failed").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("릴레이 - 버전 증가 실패 시 삭제하지 않고 예외 (다음 주기에 재전송하며 버전 증가 재시도)")
+    void relayBatchKeepsEventsWhenVersionBumpFails() {
+        // given
+        when(journalOutboxRepository.lockBatch(MAX_BATCH_SIZE)).thenReturn(List.of(
+                event(10L, "a@example.com", JournalChangedEvent.ChangeType.UPDATED, List.of(1L))));
+        when(kafkaTemplate.send(anyString(), anyString(), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        doThrow(new IllegalStateException("redis down")).when(journalVersionService).incrementRelayed(any());
+
+        // when & then
+        assertThatThrownBy(() -> journalOutboxRelay.relayBatch())
+                .isInstanceOf(IllegalStateException.class);
+        verify(journalOutboxRepository, never()).deleteByIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("릴레이 - 배치가 가득 차면 연속 처리, 남은 이벤트 대기 시간을 lag 게이지로 기록")
+    void relayDrainsFullBatchesAndRecordsLag() {
+        // given
+        when(journalOutboxRepository.lockBatch(MAX_BATCH_SIZE)).thenReturn(
+                List.of(event(1L, "a@example.com", JournalChangedEvent.ChangeType.CREATED, List.of(1L)),
+                        event(2L, "a@example.com", JournalChangedEvent.ChangeType.UPDATED, List.of(1L))),
+                List.of(event(3L, "a@example.com", JournalChangedEvent.ChangeType.DELETED, List.of(1L))));
+        when(kafkaTemplate.send(anyString(), anyString(), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        when(journalOutboxRepository.findOldestCreatedAt())
+                .thenReturn(Optional.of(LocalDateTime.now().minusSeconds(30)));
+
+        // when
+        journalOutboxRelay.relay();
+
+        // then
+        verify(journalOutboxRepository, times(2)).lockBatch(anyInt());
+        assertThat(meterRegistry.get("journal.outbox.relay.events").tag("result", "published").counter().count())
+                .isEqualTo(3.0);
+        assertThat(meterRegistry.get("journal.outbox.relay.lag").gauge().value()).isGreaterThanOrEqualTo(30.0);
+    }
+
+    private JournalOutboxRepository.OutboxEvent event(long eventId, String authorEmail,
+                                                      JournalChangedEvent.ChangeType changeType, List<Long> journalIds) {
+        return new JournalOutboxRepository.OutboxEvent(eventId, authorEmail, changeType, journalIds, CREATED_AT);
+    }
+}
@@ -0,0 +1,126 @@
+package io.tbill.backendapi.infrastructure.redis.service;
+
+import io.tbill.backendapi.domain.journal.event.JournalChangedEvent;
+import io.tbill.backendapi.domain.journal.event.JournalVersionChangedEvent;
+import io.tbill.backendapi.infrastructure.datasource.ReadYourWritesTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class JournalVersionServiceTest {
+
+    private static final String TEST_EMAIL = "test@example.com";
+    private static final String KEY = "journal:version:" + TEST_EMAIL;
+
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final ReadYourWritesTracker readYourWritesTracker = mock(ReadYourWritesTracker.class);
+    @SuppressWarnings("unchecked")
+    private final ObjectProvider<ReadYourWritesTracker> trackerProvider = mock(ObjectProvider.class);
+
+    private JournalVersionService journalVersionService;
+
+    @BeforeEach
+    void setUp() {
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        doAnswer(invocation -> {
+            invocation.<Consumer<ReadYourWritesTracker>>getArgument(0).accept(readYourWritesTracker);
+            return null;
+        }).when(trackerProvider).ifAvailable(any());
+        journalVersionService = new JournalVersionService(stringRedisTemplate, eventPublisher, trackerProvider);
+    }
+
+    @Test
+    @DisplayName("버전 증가 실패 - 재시도로 증가할 때까지 버전을 알 수 없음으로 응답 (오래된 ETag 304 방지)")
+    void staleUntilRetrySucceeds() {
+        // given
+        when(valueOperations.get(KEY)).thenReturn("3");
+        when(valueOperations.increment(KEY))
+                .thenThrow(new RedisConnectionFailureException("down"))
+                .thenThrow(new RedisConnectionFailureException("down"))
+                .thenReturn(4L);
+
+        // when & then
+        journalVersionService.onJournalChanged(JournalChangedEvent.updated(TEST_EMAIL, 1L));
+        assertThat(journalVersionService.getVersion(TEST_EMAIL)).isEmpty();
+
+        journalVersionService.retryStale();
+        assertThat(journalVersionService.getVersion(TEST_EMAIL)).isEmpty();
+
+        when(valueOperations.get(KEY)).thenReturn("4");
+        journalVersionService.retryStale();
+        assertThat(journalVersionService.getVersion(TEST_EMAIL)).contains(4L);
+
+        // 재시도 성공도 증가 이벤트 발행 (로컬 캐시가 새 버전을 알 수 있도록)
+        ArgumentCaptor<JournalVersionChangedEvent> captor = ArgumentCaptor.forClass(JournalVersionChangedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(captor.capture());
+        assertThat(captor.getAllValues()).extracting(JournalVersionChangedEvent::version).containsExactly(null, 4L);
+    }
+
+    @Test
+    @DisplayName("Outbox 릴레이 버전 증가 - 변경마다 증가 후 이벤트 발행, stale 표시 해제")
+    void incrementRelayed() {
+        // given
+        when(valueOperations.increment(KEY)).thenThrow(new RedisConnectionFailureException("down"));
+        journalVersionService.onJournalChanged(JournalChangedEvent.updated(TEST_EMAIL, 1L));
+        reset(eventPublisher);
+        doReturn(5L, 6L).when(valueOperations).increment(KEY);
+        when(valueOperations.get(KEY)).thenReturn("6");
+
+        // when
+        journalVersionService.incrementRelayed(List.of(
+                JournalChangedEvent.updated(TEST_EMAIL, 1L), JournalChangedEvent.deleted(TEST_EMAIL, 2L)));
+
+        // then
+        ArgumentCaptor<JournalVersionChangedEvent> captor = ArgumentCaptor.forClass(JournalVersionChangedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(captor.capture());
+        assertThat(captor.getAllValues()).extracting(JournalVersionChangedEvent::version).containsExactly(5L, 6L);
+        assertThat(journalVersionService.getVersion(TEST_EMAIL)).contains(6L);
+    }
+
+    @Test
+    @DisplayName("버전 증가 전 read-your-writes 기록 - 인증 사용자 없는 복구 작업의 증가도 다음 읽기는 주 DB 로")
+    void marksWriteBeforeIncrement() {
+        // given
+        when(valueOperations.increment(KEY)).thenReturn(2L);
+
+        // when
+        journalVersionService.bump(TEST_EMAIL);
+
+        // then
+        InOrder inOrder = inOrder(readYourWritesTracker, valueOperations);
+        inOrder.verify(readYourWritesTracker).markWrite(TEST_EMAIL);
+        inOrder.verify(valueOperations).increment(KEY);
+    }
+
+    @Test
+    @DisplayName("파생 데이터 복구 후 버전 증가 - 변경 행 없는 이벤트로 발행")
+    void bump() {
+        // given
+        when(valueOperations.increment(KEY)).thenReturn(8L);
+
+        // when
+        journalVersionService.bump(TEST_EMAIL);
+
+        // then
+        ArgumentCaptor<JournalVersionChangedEvent> captor = ArgumentCaptor.forClass(JournalVersionChangedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().version()).isEqualTo(8L);
+        assertThat(captor.getValue().change().journalIds()).isEqualTo(List.of());
+    }
+}
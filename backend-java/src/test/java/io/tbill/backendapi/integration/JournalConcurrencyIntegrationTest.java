@@ -0,0 +1,96 @@
+package io.tbill.backendapi.integration;
+
+import io.tbill.backendapi.domain.journal.dto.JournalDto;
+import io.tbill.backendapi.domain.journal.entity.JournalStatistics;
+import io.tbill.backendapi.domain.journal.entity.MarketType;
+import io.tbill.backendapi.domain.journal.repository.JournalRepository;
+import io.tbill.backendapi.domain.journal.repository.JournalStatisticsRepository;
+import io.tbill.backendapi.domain.journal.service.JournalService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(
+        properties = {
+                "spring.kafka.enabled=false",
+                "spring.data.redis.repositories.enabled=false"
+        }
+)
+@ActiveProfiles("test")
+@DisplayName("매매일지 동시 수정 통합 테스트")
+class JournalConcurrencyIntegrationTest {
+
+    private static final String TEST_EMAIL = "test@example.com";
+
+    @Autowired
+    private JournalService journalService;
+
+    @Autowired
+    private JournalRepository journalRepository;
+
+    @Autowired
+    private JournalStatisticsRepository journalStatisticsRepository;
+
+    @BeforeEach
+    void setUp() {
+        journalRepository.deleteAll();
+        journalStatisticsRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("같은 거래를 동시에 종료해도 통계에 한 번만 반영")
+    void concurrentCloseCountsOnce() throws Exception {
+        // given
+        Long journalId = journalService.createJournal(JournalDto.CreateCommand.builder()
+                .authorEmail(TEST_EMAIL)
+                .market(MarketType.STOCK)
+                .symbol("AAPL")
+                .entryPrice(new BigDecimal("150.00"))
+                .stopLossPrice(new BigDecimal("145.00"))
+                .build()).getId();
+        List<BigDecimal> realizedPnLs = List.of(
+                new BigDecimal("100.00"), new BigDecimal("200.00"), new BigDecimal("-50.00"), new BigDecimal("300.00"));
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(realizedPnLs.size());
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = realizedPnLs.stream()
+                    .<Future<?>>map(pnl -> executor.submit(() -> {
+                        start.await();
+                        return journalService.updateJournal(JournalDto.UpdateCommand.builder()
+                                .id(journalId)
+                                .authorEmail(TEST_EMAIL)
+                                .realizedPnL(pnl)
+                                .build());
+                    }))
+                    .toList();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then (마지막으로 커밋된 손익만 한 번 반영)
+        BigDecimal finalPnL = journalRepository.findById(journalId).orElseThrow().getRealizedPnL();
+        JournalStatistics statistics = journalStatisticsRepository.findById(TEST_EMAIL).orElseThrow();
+        assertThat(statistics.getTotalTrades()).isEqualTo(1);
+        assertThat(statistics.getClosedTrades()).isEqualTo(1);
+        assertThat(statistics.getWinningTrades() + statistics.getLosingTrades()).isEqualTo(1);
+        assertThat(statistics.getTotalPnL()).isEqualByComparingTo(finalPnL);
+    }
+}
@@ -0,0 +1,94 @@
+package io.tbill.backendapi.presentation.journal.exporter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.tbill.backendapi.domain.journal.dto.JournalDto;
+import io.tbill.backendapi.domain.journal.entity.MarketType;
+import io.tbill.backendapi.domain.journal.entity.TradeType;
+import io.tbill.backendapi.presentation.journal.importer.CsvJournalImportReader;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvJournalExportWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("CSV 내보내기 - 헤더와 특수문자 필드 이스케이프")
+    void writeEscapedFields() throws IOException {
+        // given
+        StringWriter out = new StringWriter();
+        JournalDto.JournalInfo info = journalInfo("{\"markdown\":\"돌파, \\\"추세\\\"\\n확인\"}");
+
+        // when
+        try (CsvJournalExportWriter writer = new CsvJournalExportWriter(out, objectMapper)) {
+            writer.accept(info);
+        }
+
+        // then
+        String[] lines = out.toString().split("\r\n");
+        assertThat(lines[0]).isEqualTo("id,authorEmail,market,symbol,tradeType,quantity,entryPrice," +
+                "stopLossPrice,realizedPnL,reasoning,images,createdAt,updatedAt");
+        assertThat(lines[1]).isEqualTo("1,test@example.com,STOCK,AAPL,LONG,10,150.50,,-12.3," +
+                "\"돌파, \"\"추세\"\"\n확인\",,2024-01-02T09:30,2024-01-02T09:30");
+    }
+
+    @Test
+    @DisplayName("CSV 내보내기 - 이력이 없어도 헤더 출력")
+    void writeHeaderWhenEmpty() throws IOException {
+        // given
+        StringWriter out = new StringWriter();
+
+        // when
+        new CsvJournalExportWriter(out, objectMapper).close();
+
+        // then
+        assertThat(out.toString()).startsWith("id,authorEmail,market").endsWith("\r\n");
+    }
+
+    @Test
+    @DisplayName("CSV 내보내기 - 내보낸 파일을 그대로 다시 가져올 수 있음")
+    void roundTripWithImport() throws IOException {
+        // given
+        StringWriter out = new StringWriter();
+        try (CsvJournalExportWriter writer = new CsvJournalExportWriter(out, objectMapper)) {
+            writer.accept(journalInfo("{\"markdown\":\"여러 줄\\n근거\",\"images\":" +
+                    "[\"https://img.example.com/a.png\",\"https://img.example.com/b.png\"]}"));
+        }
+
+        // when
+        CsvJournalImportReader reader = new CsvJournalImportReader(
+                new BufferedReader(new StringReader(out.toString())), "other@example.com",
+                Validation.buildDefaultValidatorFactory().getValidator());
+        List<JournalDto.ImportRow> rows = new ArrayList<>();
+        reader.forEachRemaining(rows::add);
+
+        // then
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).isValid()).isTrue();
+        JournalDto.CreateCommand command = rows.get(0).getCommand();
+        assertThat(command.getSymbol()).isEqualTo("AAPL");
+        assertThat(command.getEntryPrice()).isEqualByComparingTo("150.50");
+        assertThat(command.getRealizedPnL()).isEqualByComparingTo("-12.3");
+        assertThat(command.getReasoning()).contains("여러 줄\\n근거")
+                .contains("\"images\":[\"https://img.example.com/a.png\",\"https://img.example.com/b.png\"]");
+    }
+
+    private JournalDto.JournalInfo journalInfo(String reasoning) {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 2, 9, 30);
+        return new JournalDto.JournalInfo(1L, "test@example.com", MarketType.STOCK, "AAPL", TradeType.LONG,
+                new BigDecimal("10"), new BigDecimal("150.50"), null, new BigDecimal("-12.3"),
+                reasoning, createdAt, createdAt);
+    }
+}
@@ -0,0 +1,111 @@
+package io.tbill.backendapi.presentation.journal.importer;
+
+import io.tbill.backendapi.domain.journal.dto.JournalDto;
+import io.tbill.backendapi.domain.journal.entity.MarketType;
+import io.tbill.backendapi.domain.journal.entity.TradeType;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvJournalImportReaderTest {
+
+    private static final String EMAIL = "test@example.com";
+
+    private static Validator validator;
+
+    @BeforeAll
+    static void setUp() {
+        validator = Validation.buildDefaultValidatorFactory().getValidator();
+    }
+
+    @Test
+    @DisplayName("CSV 가져오기 - 따옴표 필드(쉼표, 줄바꿈, 이중 따옴표) 파싱")
+    void readQuotedFields() {
+        // given
+        String csv = "market,symbol,trade_type,quantity,entry_price,realized_pnl,reasoning\r\n" +
+                "STOCK,AAPL,LONG,10,150.5,,\"돌파 매매, 거래량 증가\n\"\"추세\"\" 확인\"\r\n" +
+                "crypto,BTC,short,0.5,60000,-120.25,\r\n";
+
+        // when
+        List<JournalDto.ImportRow> rows = readAll(csv);
+
+        // then
+        assertThat(rows).hasSize(2);
+        assertThat(rows).allMatch(JournalDto.ImportRow::isValid);
+
+        JournalDto.CreateCommand first = rows.get(0).getCommand();
+        assertThat(first.getAuthorEmail()).isEqualTo(EMAIL);
+        assertThat(first.getMarket()).isEqualTo(MarketType.STOCK);
+        assertThat(first.getTradeType()).isEqualTo(TradeType.LONG);
+        assertThat(first.getRealizedPnL()).isNull();
+        assertThat(first.getReasoning()).contains("돌파 매매, 거래량 증가\\n\\\"추세\\\" 확인");
+
+        JournalDto.CreateCommand second = rows.get(1).getCommand();
+        assertThat(second.getMarket()).isEqualTo(MarketType.CRYPTO);
+        assertThat(second.getTradeType()).isEqualTo(TradeType.SHORT);
+        assertThat(second.getRealizedPnL()).isEqualByComparingTo(new BigDecimal("-120.25"));
+        assertThat(second.getReasoning()).isNull();
+    }
+
+    @Test
+    @DisplayName("CSV 가져오기 - 잘못된 행은 행 번호와 함께 오류로 반환")
+    void invalidRowsReported() {
+        // given
+        String csv = "market,symbol,tradeType,quantity,entryPrice\n" +
+                "STOCK,AAPL,LONG,10,150\n" +
+                "STOCK,,LONG,10,150\n" +
+                "STOCK,TSLA,LONG,abc,150\n" +
+                "\n" +
+                "BOND,KR10Y,LONG,1,98.5\n";
+
+        // when
+        List<JournalDto.ImportRow> rows = readAll(csv);
+
+        // then
+        assertThat(rows).hasSize(4);
+        assertThat(rows.get(0).isValid()).isTrue();
+
+        assertThat(rows.get(1).isValid()).isFalse();
+        assertThat(rows.get(1).getRowNumber()).isEqualTo(2);
+        assertThat(rows.get(1).getError()).contains("symbol");
+
+        assertThat(rows.get(2).isValid()).isFalse();
+        assertThat(rows.get(2).getRowNumber()).isEqualTo(3);
+        assertThat(rows.get(2).getError()).contains("quantity");
+
+        assertThat(rows.get(3).isValid()).isFalse();
+        assertThat(rows.get(3).getRowNumber()).isEqualTo(4);
+        assertThat(rows.get(3).getError()).contains("market");
+    }
+
+    @Test
+    @DisplayName("CSV 가져오기 - 필수 헤더 누락 시 예외")
+    void missingHeaderColumn() {
+        // given
+        String csv = "market,symbol,quantity,entryPrice\nSTOCK,AAPL,10,150\n";
+
+        // when & then
+        assertThatThrownBy(() -> readAll(csv))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("tradetype");
+    }
+
+    private List<JournalDto.ImportRow> readAll(String csv) {
+        CsvJournalImportReader reader =
+                new CsvJournalImportReader(new BufferedReader(new StringReader(csv)), EMAIL, validator);
+        List<JournalDto.ImportRow> rows = new ArrayList<>();
+        reader.forEachRemaining(rows::add);
+        return rows;
+    }
+}